@@ -10,6 +10,7 @@ import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurat
 import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
 import com.github.toolarium.enumeration.configuration.util.CIDRUtil;
 import com.github.toolarium.enumeration.configuration.util.EnumKeyValueConfigurationBinaryObjectParser;
+import com.github.toolarium.enumeration.configuration.util.RegExpUtil;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Instant;
@@ -231,6 +232,11 @@ public abstract class AbstractStringTypeConverter implements IStringTypeConverte
             return null;
         }
 
+        // a cached pattern passed the guards already
+        if (RegExpUtil.getInstance().getCachedPattern(value) != null) {
+            return value;
+        }
+
         // Guard against ReDoS: reject patterns exceeding a reasonable length
         if (value.length() > getMaxRegExpLength()) {
             throw new PatternSyntaxException("Pattern too long, maximum length is " + getMaxRegExpLength(), value, -1);
@@ -241,7 +247,8 @@ public abstract class AbstractStringTypeConverter implements IStringTypeConverte
             throw new PatternSyntaxException("Potentially unsafe pattern with nested quantifiers", value, -1);
         }
 
-        Pattern.compile(value);
+        // only a pattern which passed the guards is cached
+        RegExpUtil.getInstance().putPattern(value, Pattern.compile(value));
         return value;
     }
 
@@ -5,6 +5,7 @@
  */
 package com.github.toolarium.enumeration.configuration.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.github.toolarium.enumeration.configuration.util.DateUtil;
 import java.io.Serializable;
 import java.time.Instant;
@@ -22,6 +23,7 @@ public abstract class AbstractEnumConfiguration implements Serializable {
     private String description;
     private Instant validFrom;
     private Instant validTill;
+    private transient volatile long modificationCount;
 
     
     /**
@@ -34,6 +36,18 @@ public abstract class AbstractEnumConfiguration implements Serializable {
     }
 
     
+    /**
+     * Constructor for AbstractEnumConfiguration, it copies the given configuration
+     * 
+     * @param enumConfiguration the configuration to copy
+     */
+    public AbstractEnumConfiguration(AbstractEnumConfiguration enumConfiguration) {
+        description = enumConfiguration.getDescription();
+        validFrom = enumConfiguration.getValidFrom();
+        validTill = enumConfiguration.getValidTill();
+    }
+
+    
     /**
      * Get the configuration description
      *
@@ -51,6 +65,7 @@ public abstract class AbstractEnumConfiguration implements Serializable {
      */
     public void setDescription(String description) {
         this.description = description;
+        resetCachedData();
     }
 
 
@@ -71,6 +86,7 @@ public abstract class AbstractEnumConfiguration implements Serializable {
      */
     public void setValidFrom(Instant validFrom) {
         this.validFrom = validFrom;
+        resetCachedData();
     }
 
 
@@ -91,6 +107,27 @@ public abstract class AbstractEnumConfiguration implements Serializable {
      */
     public void setValidTill(Instant validTill) {
         this.validTill = validTill;
+        resetCachedData();
+    }
+
+
+    /**
+     * Get the modification count, it changes on every change of this configuration. Data which is derived from this configuration,
+     * e.g. a read plan, is cached outside and bound to it.
+     *
+     * @return the modification count
+     */
+    @JsonIgnore
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+
+    /**
+     * Reset the data which is derived from this configuration, it is called on every change and changes the modification count.
+     */
+    protected void resetCachedData() {
+        modificationCount = ModificationCounter.next();
     }
 
 
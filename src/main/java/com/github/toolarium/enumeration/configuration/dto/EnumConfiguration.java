@@ -8,9 +8,12 @@ package com.github.toolarium.enumeration.configuration.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 
@@ -37,6 +40,8 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
     private String tag;
 
     private Map<String, T> keyList;
+    private transient Map<String, T> keyIgnoreCaseIndex;
+    private transient Set<T> keyListSnapshot;
     private Set<String> interfaceList;
     
     @JsonInclude(Include.NON_NULL)
@@ -51,6 +56,7 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
         name = null;
         tag = null;
         keyList = new LinkedHashMap<String, T>();
+        keyIgnoreCaseIndex = new HashMap<String, T>();
         interfaceList = new LinkedHashSet<String>();
         markerInterfaceList = null;
     }
@@ -65,6 +71,31 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
         this();
         setName(name);
     }
+
+    
+    /**
+     * Constructor, it copies the given enum configuration including the key configurations.
+     * 
+     * @param enumConfiguration the enum configuration to copy
+     */
+    @SuppressWarnings("unchecked")
+    public EnumConfiguration(EnumConfiguration<? extends T> enumConfiguration) {
+        super(enumConfiguration);
+        name = enumConfiguration.getName();
+        tag = enumConfiguration.getTag();
+        keyList = new LinkedHashMap<String, T>();
+        keyIgnoreCaseIndex = new HashMap<String, T>();
+        interfaceList = copySet(enumConfiguration.getInterfaceList());
+        markerInterfaceList = copySet(enumConfiguration.getMarkerInterfaceList());
+        
+        for (T enumKeyConfiguration : enumConfiguration.keyList.values()) {
+            if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+                add((T) new EnumKeyValueConfiguration((EnumKeyValueConfiguration) enumKeyConfiguration));
+            } else {
+                add((T) new EnumKeyConfiguration(enumKeyConfiguration));
+            }
+        }
+    }
     
     
     /**
@@ -117,6 +148,8 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
     @JsonDeserialize(as = LinkedHashSet.class)
     public <K extends EnumKeyConfiguration> void setKeyList(Set<K> keyList) {
         this.keyList = new LinkedHashMap<String, T>();
+        this.keyIgnoreCaseIndex = new HashMap<String, T>();
+        this.keyListSnapshot = null;
         
         if (keyList != null) {
             for (K k : keyList) {
@@ -127,20 +160,51 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
 
     
     /**
-     * Get the key list
+     * Get the key list. The returned list is an unmodifiable snapshot which is shared until a key is added.
      * 
      * @return the key list
      */
     public Set<T> getKeyList() {
-        Set<T> result = new LinkedHashSet<T>();
-        for (Map.Entry<String, T> e : keyList.entrySet()) {
-            result.add(e.getValue());
+        Set<T> result = keyListSnapshot;
+        if (result == null) {
+            result = Collections.unmodifiableSet(new LinkedHashSet<T>(keyList.values()));
+            keyListSnapshot = result;
         }
         
         return result;
     }
 
     
+    /**
+     * Get a key configuration
+     * 
+     * @param key the key
+     * @return the key configuration or null
+     */
+    public T get(String key) {
+        if (key == null) {
+            return null;
+        }
+        
+        return keyList.get(key.trim());
+    }
+
+    
+    /**
+     * Get a key configuration, the key is compared case insensitive
+     * 
+     * @param key the key
+     * @return the key configuration or null
+     */
+    public T getIgnoreCase(String key) {
+        if (key == null) {
+            return null;
+        }
+        
+        return getKeyIgnoreCaseIndex().get(key.trim().toLowerCase(Locale.ROOT));
+    }
+
+    
     /**
      * Set the interface list
      * 
@@ -205,6 +269,8 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
         String key = enumKeyConfiguration.getKey().trim();
         if (!keyList.containsKey(key)) {
             this.keyList.put(key, enumKeyConfiguration);
+            this.keyListSnapshot = null;
+            getKeyIgnoreCaseIndex().putIfAbsent(key.toLowerCase(Locale.ROOT), enumKeyConfiguration);
             return enumKeyConfiguration;
         }
         
@@ -367,6 +433,25 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
     }
 
 
+    /**
+     * Get the case insensitive key index, it is rebuilt in case it is not available (e.g. after deserialization).
+     *
+     * @return the key index
+     */
+    private Map<String, T> getKeyIgnoreCaseIndex() {
+        if (keyIgnoreCaseIndex == null) {
+            Map<String, T> index = new HashMap<String, T>();
+            for (Map.Entry<String, T> e : keyList.entrySet()) {
+                index.putIfAbsent(e.getKey().toLowerCase(Locale.ROOT), e.getValue());
+            }
+            
+            keyIgnoreCaseIndex = index;
+        }
+        
+        return keyIgnoreCaseIndex;
+    }
+
+    
     /**
      * Compare
      *
@@ -385,9 +470,19 @@ public class EnumConfiguration<T extends EnumKeyConfiguration> extends AbstractE
         
         return new HashSet<>(set1).equals(new HashSet<>(set2));
     }
-}
 
 
-/****************************************************************************/
-/* EOF                                                                      */
-/****************************************************************************/
+    /**
+     * Copy a set
+     *
+     * @param set the set to copy
+     * @return the copy or null if the set is null
+     */
+    private static Set<String> copySet(Set<String> set) {
+        if (set == null) {
+            return null;
+        }
+        
+        return new LinkedHashSet<String>(set);
+    }
+}
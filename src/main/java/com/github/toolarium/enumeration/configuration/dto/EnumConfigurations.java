@@ -8,8 +8,11 @@ package com.github.toolarium.enumeration.configuration.dto;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.github.toolarium.enumeration.configuration.Version;
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
@@ -25,6 +28,8 @@ public class EnumConfigurations implements Serializable {
     private String name;
     private String version;
     private Map<String, EnumConfiguration<? extends EnumKeyConfiguration>> enumConfigurationContentMap;
+    private transient Map<String, EnumConfiguration<? extends EnumKeyConfiguration>> enumConfigurationIgnoreCaseIndex;
+    private transient Set<EnumConfiguration<? extends EnumKeyConfiguration>> enumConfigurationListSnapshot;
 
     
     /**
@@ -34,6 +39,7 @@ public class EnumConfigurations implements Serializable {
         name = Version.PROJECT_NAME;
         version = Version.VERSION;
         enumConfigurationContentMap = new LinkedHashMap<>();
+        enumConfigurationIgnoreCaseIndex = new HashMap<>();
     }
 
     
@@ -92,14 +98,30 @@ public class EnumConfigurations implements Serializable {
     
     
     /**
-     * Gets the enumeration configuration content list
+     * Get a {@link EnumConfiguration}, the name is compared case insensitive.
+     * @param name the name
+     * @return the {@link EnumConfiguration}.
+     */    
+    public EnumConfiguration<? extends EnumKeyConfiguration> getIgnoreCase(String name) {
+        if (name == null) {
+            return null;
+        }
+        
+        return getEnumConfigurationIgnoreCaseIndex().get(name.trim().toLowerCase(Locale.ROOT));
+    }
+    
+    
+    /**
+     * Gets the enumeration configuration content list. The returned list is an unmodifiable snapshot which is shared until 
+     * an enumeration configuration is added.
      * 
      * @return the enumeration configuration list
      */
     public Set<EnumConfiguration<? extends EnumKeyConfiguration>> getEnumConfigurationList() {
-        Set<EnumConfiguration<? extends EnumKeyConfiguration>> result = new LinkedHashSet<EnumConfiguration<? extends EnumKeyConfiguration>>();
-        for (Map.Entry<String, EnumConfiguration<? extends EnumKeyConfiguration>> e : enumConfigurationContentMap.entrySet()) {
-            result.add(e.getValue());
+        Set<EnumConfiguration<? extends EnumKeyConfiguration>> result = enumConfigurationListSnapshot;
+        if (result == null) {
+            result = Collections.unmodifiableSet(new LinkedHashSet<EnumConfiguration<? extends EnumKeyConfiguration>>(enumConfigurationContentMap.values()));
+            enumConfigurationListSnapshot = result;
         }
         
         return result;
@@ -136,6 +158,8 @@ public class EnumConfigurations implements Serializable {
     @JsonDeserialize(as = LinkedHashSet.class)
     public void setEnumConfigurationList(Set<EnumConfiguration<? extends EnumKeyConfiguration>> list) {
         enumConfigurationContentMap = new LinkedHashMap<String, EnumConfiguration<? extends EnumKeyConfiguration>>();
+        enumConfigurationIgnoreCaseIndex = new HashMap<String, EnumConfiguration<? extends EnumKeyConfiguration>>();
+        enumConfigurationListSnapshot = null;
         
         for (EnumConfiguration<? extends EnumKeyConfiguration> e : list) {
             add(e);
@@ -159,6 +183,8 @@ public class EnumConfigurations implements Serializable {
         String name = enumConfiguration.getName().trim();
         if (!enumConfigurationContentMap.containsKey(name)) {
             this.enumConfigurationContentMap.put(name, enumConfiguration);
+            this.enumConfigurationListSnapshot = null;
+            getEnumConfigurationIgnoreCaseIndex().putIfAbsent(name.toLowerCase(Locale.ROOT), enumConfiguration);
             return enumConfiguration;
         }
 
@@ -239,6 +265,25 @@ public class EnumConfigurations implements Serializable {
     }
 
 
+    /**
+     * Get the case insensitive name index, it is rebuilt in case it is not available (e.g. after deserialization).
+     *
+     * @return the name index
+     */
+    private Map<String, EnumConfiguration<? extends EnumKeyConfiguration>> getEnumConfigurationIgnoreCaseIndex() {
+        if (enumConfigurationIgnoreCaseIndex == null) {
+            Map<String, EnumConfiguration<? extends EnumKeyConfiguration>> index = new HashMap<>();
+            for (Map.Entry<String, EnumConfiguration<? extends EnumKeyConfiguration>> e : enumConfigurationContentMap.entrySet()) {
+                index.putIfAbsent(e.getKey().toLowerCase(Locale.ROOT), e.getValue());
+            }
+            
+            enumConfigurationIgnoreCaseIndex = index;
+        }
+        
+        return enumConfigurationIgnoreCaseIndex;
+    }
+
+    
     /**
      * @see java.lang.Object#hashCode()
      */
@@ -33,6 +33,18 @@ public class EnumKeyConfiguration extends AbstractEnumConfiguration {
         key = null;
         isConfidential = false;
     }
+
+    
+    /**
+     * Constructor for EnumKeyConfiguration, it copies the given key configuration
+     * 
+     * @param enumKeyConfiguration the key configuration to copy
+     */
+    public EnumKeyConfiguration(EnumKeyConfiguration enumKeyConfiguration) {
+        super(enumKeyConfiguration);
+        key = enumKeyConfiguration.getKey();
+        isConfidential = enumKeyConfiguration.isConfidential();
+    }
     
     
     /**
@@ -52,6 +64,7 @@ public class EnumKeyConfiguration extends AbstractEnumConfiguration {
      */
     public void setKey(String key) {
         this.key = key;
+        resetCachedData();
     }
 
     
@@ -72,6 +85,7 @@ public class EnumKeyConfiguration extends AbstractEnumConfiguration {
      */
     public void setConfidential(boolean isConfidential) {
         this.isConfidential = isConfidential;
+        resetCachedData();
     }
 
 
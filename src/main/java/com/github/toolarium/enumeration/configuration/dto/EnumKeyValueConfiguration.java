@@ -38,6 +38,24 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
         cardinality = new EnumKeyValueConfigurationSizing<Integer>(1, 1);
         isUniqueness = false;
     }
+
+    
+    /**
+     * Constructor for EnumKeyValueConfiguration, it copies the given key value configuration. The sizings are copied as well,
+     * the cached data is not copied.
+     * 
+     * @param enumKeyValueConfiguration the key value configuration to copy
+     */
+    public EnumKeyValueConfiguration(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+        super(enumKeyValueConfiguration);
+        dataType = enumKeyValueConfiguration.getDataType();
+        defaultValue = enumKeyValueConfiguration.getDefaultValue();
+        exampleValue = enumKeyValueConfiguration.getExampleValue();
+        enumerationValue = enumKeyValueConfiguration.getEnumerationValue();
+        valueSize = EnumKeyValueConfigurationSizing.copy(enumKeyValueConfiguration.getValueSize());
+        cardinality = EnumKeyValueConfigurationSizing.copy(enumKeyValueConfiguration.getCardinality());
+        isUniqueness = enumKeyValueConfiguration.isUniqueness();
+    }
     
         
     /**
@@ -57,6 +75,7 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setDataType(EnumKeyValueConfigurationDataType dataType) {
         this.dataType = dataType;
+        resetCachedData();
     }
 
     
@@ -77,6 +96,7 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setDefaultValue(String defaultValue) {
         this.defaultValue = defaultValue;
+        resetCachedData();
     }
 
     
@@ -108,6 +128,7 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setExampleValue(String exampleValue) {
         this.exampleValue = exampleValue;
+        resetCachedData();
     }
 
     
@@ -128,6 +149,7 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setEnumerationValue(String enumerationValue) {
         this.enumerationValue = enumerationValue;
+        resetCachedData();
     }
     
     
@@ -148,6 +170,7 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setValueSize(EnumKeyValueConfigurationSizing<?> valueSize) {
         this.valueSize = valueSize;
+        resetCachedData();
     }
 
     
@@ -168,6 +191,7 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setCardinality(EnumKeyValueConfigurationSizing<Integer> cardinality) {
         this.cardinality = cardinality;
+        resetCachedData();
     }
 
     
@@ -199,6 +223,28 @@ public class EnumKeyValueConfiguration extends EnumKeyConfiguration {
      */
     public void setUniqueness(boolean isUniqueness) {
         this.isUniqueness = isUniqueness;
+        resetCachedData();
+    }
+
+    
+    /**
+     * Get the modification count, it changes on every change of this configuration or its sizings.
+     *
+     * @see com.github.toolarium.enumeration.configuration.dto.AbstractEnumConfiguration#getModificationCount()
+     */
+    @Override
+    @JsonIgnore
+    public long getModificationCount() {
+        long result = super.getModificationCount();
+        if (valueSize != null) {
+            result = Math.max(result, valueSize.getModificationCount());
+        }
+
+        if (cardinality != null) {
+            result = Math.max(result, cardinality.getModificationCount());
+        }
+
+        return result;
     }
 
     
@@ -5,12 +5,17 @@
  */
 package com.github.toolarium.enumeration.configuration.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.toolarium.enumeration.configuration.util.Base64Util;
 import com.github.toolarium.enumeration.configuration.util.EnumKeyValueConfigurationBinaryObjectParser;
 import java.io.Serializable;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 
 /**
- * Defines the binary object
+ * Defines the binary object. The decoded content is cached on the heap by a soft reference as long as the data is not changed. It is never
+ * held in a direct buffer: the memory outside of the heap is not taken into account by the garbage collector to clear a soft reference.
  * 
  * @author patrick
  */
@@ -21,6 +26,7 @@ public class EnumKeyValueConfigurationBinaryObject implements IEnumKeyValueConfi
     private Instant timestamp;
     private String mimetype;
     private String data;
+    private transient volatile SoftReference<DecodedContent> decodedContent;
     
     
     /**
@@ -164,6 +170,34 @@ public class EnumKeyValueConfigurationBinaryObject implements IEnumKeyValueConfi
     }
 
 
+    /**
+     * Get the decoded data. The data is decoded on first access and cached until the data is changed or the memory is needed.
+     * 
+     * @see com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject#getContent()
+     */
+    @JsonIgnore
+    @Override
+    public ByteBuffer getContent() {
+        String currentData = data;
+        if (currentData == null || currentData.isBlank()) {
+            return null;
+        }
+        
+        SoftReference<DecodedContent> reference = decodedContent;
+        DecodedContent content = null;
+        if (reference != null) {
+            content = reference.get();
+        }
+        
+        if (content == null || content.data != currentData) {
+            content = new DecodedContent(currentData, Base64Util.getInstance().decode(currentData, false).asReadOnlyBuffer());
+            decodedContent = new SoftReference<DecodedContent>(content);
+        }
+        
+        return content.content.duplicate();
+    }
+
+    
     /**
      * @see java.lang.Object#hashCode()
      */
@@ -303,4 +337,25 @@ public class EnumKeyValueConfigurationBinaryObject implements IEnumKeyValueConfi
                 + mimetype + ", dataHash=" + dataHash + "]";
                 */
     }
+
+
+    /**
+     * Defines the decoded content of the data
+     */
+    private static final class DecodedContent {
+        private final String data;
+        private final ByteBuffer content;
+
+        
+        /**
+         * Constructor for DecodedContent
+         *
+         * @param data the data
+         * @param content the read-only decoded content
+         */
+        DecodedContent(String data, ByteBuffer content) {
+            this.data = data;
+            this.content = content;
+        }
+    }
 }
@@ -23,6 +23,7 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
     private T minSize;
     private String maxSizeAsString;
     private T maxSize;
+    private transient volatile long modificationCount;
 
     
     /**
@@ -73,6 +74,22 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
     }
 
 
+    /**
+     * Copy a sizing, the min and max size are immutable values and therefore shared.
+     *
+     * @param <T> the generic size type
+     * @param sizing the sizing to copy
+     * @return the copy or null if the sizing is null
+     */
+    public static <T> EnumKeyValueConfigurationSizing<T> copy(EnumKeyValueConfigurationSizing<T> sizing) {
+        if (sizing == null) {
+            return null;
+        }
+        
+        return new EnumKeyValueConfigurationSizing<T>(sizing.getMinSizeAsString(), sizing.getMinSize(), sizing.getMaxSizeAsString(), sizing.getMaxSize());
+    }
+
+
     /**
      * Gets the min size as string.
      *
@@ -102,6 +119,7 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
     @JsonIgnore
     public void setMinSizeAsString(String minSizeAsString) {
         this.minSizeAsString = minSizeAsString;
+        modified();
     }
 
 
@@ -112,6 +130,7 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
      */
     public void setMinSize(T minSize) {
         this.minSize = minSize;
+        modified();
 
         if (minSizeAsString == null && minSize != null) {
             setMinSizeAsString(minSize.toString());
@@ -148,6 +167,7 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
     @JsonIgnore
     public void setMaxSizeAsString(String maxSizeAsString) {
         this.maxSizeAsString = maxSizeAsString;
+        modified();
     }
 
 
@@ -158,6 +178,7 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
      */
     public void setMaxSize(T maxSize) {
         this.maxSize = maxSize;
+        modified();
 
         if (maxSizeAsString == null && maxSize != null) {
             setMaxSizeAsString(maxSize.toString());
@@ -165,6 +186,26 @@ public class EnumKeyValueConfigurationSizing<T> implements Serializable {
     }
 
 
+    /**
+     * Get the modification count, it changes on every change of this sizing. Data which is derived from this sizing is cached outside
+     * and bound to it.
+     *
+     * @return the modification count
+     */
+    @JsonIgnore
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+
+    /**
+     * Called on every change of this sizing
+     */
+    private void modified() {
+        modificationCount = ModificationCounter.next();
+    }
+
+
     /**
      * @see java.lang.Object#hashCode()
      */
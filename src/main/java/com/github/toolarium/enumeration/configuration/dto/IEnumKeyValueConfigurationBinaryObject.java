@@ -5,6 +5,11 @@
  */
 package com.github.toolarium.enumeration.configuration.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.github.toolarium.enumeration.configuration.util.Base64Util;
+import com.github.toolarium.enumeration.configuration.util.ByteBufferInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.time.Instant;
 
 /**
@@ -44,6 +49,41 @@ public interface IEnumKeyValueConfigurationBinaryObject {
      * @return the data
      */
     String getData();
+
+    
+    /**
+     * Get the decoded data
+     *
+     * @return the decoded data as read-only buffer or null if there is no data
+     * @throws IllegalArgumentException In case the data is not valid Base64 encoded
+     */
+    @JsonIgnore
+    default ByteBuffer getContent() {
+        String data = getData();
+        if (data == null || data.isBlank()) {
+            return null;
+        }
+        
+        return Base64Util.getInstance().decode(data, false).asReadOnlyBuffer();
+    }
+
+    
+    /**
+     * Get the decoded data as stream
+     *
+     * @return the decoded data or null if there is no data
+     * @throws IllegalArgumentException In case the data is not valid Base64 encoded
+     */
+    @JsonIgnore
+    default InputStream getContentStream() {
+        ByteBuffer content = getContent();
+        if (content == null) {
+            return null;
+        }
+        
+        return new ByteBufferInputStream(content);
+    }
+
     
     
     /**
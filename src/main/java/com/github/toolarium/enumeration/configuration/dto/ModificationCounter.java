@@ -0,0 +1,37 @@
+/*
+ * ModificationCounter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.dto;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Defines the counter of the modifications of the configurations and sizings. The counter is shared, therefore the highest modification
+ * count of a configuration and its sizings changes on every modification of one of them.
+ *
+ * @author patrick
+ */
+final class ModificationCounter {
+    private static final AtomicLong COUNTER = new AtomicLong();
+
+
+    /**
+     * Constructor for ModificationCounter
+     */
+    private ModificationCounter() {
+        // NOP
+    }
+
+
+    /**
+     * Get the next modification count
+     *
+     * @return the next modification count
+     */
+    static long next() {
+        return COUNTER.incrementAndGet();
+    }
+}
@@ -10,6 +10,8 @@ import com.github.toolarium.enumeration.configuration.annotation.EnumKeyConfigur
 import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.SortedProperties;
+import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationRegistryFactory;
 import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationResourceFactory;
 import com.github.toolarium.enumeration.configuration.util.AnnotationConvertUtil;
 import com.github.toolarium.enumeration.configuration.util.ClassPathUtil;
@@ -23,6 +25,7 @@ import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyVa
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -32,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeMap;
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
@@ -40,12 +44,14 @@ import javax.lang.model.SourceVersion;
 import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeMirror;
 import javax.tools.Diagnostic;
 import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
 import javax.tools.StandardLocation;
 
 
@@ -60,7 +66,7 @@ import javax.tools.StandardLocation;
  * @link https://maxexplode.medium.com/creating-annotation-processor-to-generate-getters-and-setters-7b7964c72b3e
  * @link https://github.com/sockeqwe/annotationprocessing101/blob/master/factory/processor/src/main/java/com/hannesdorfmann/annotationprocessing101/factory/processor/FactoryProcessor.java
  */
-@SupportedOptions(value = "enumconfiguration.validate.strict")
+@SupportedOptions(value = { "enumconfiguration.validate.strict", EnumConfigurationProcessor.GENERATE_REGISTRY_OPTION })
 public class EnumConfigurationProcessor extends AbstractProcessor {
     public static final String TOOLARIUM_ENUM_CONFIGURATION_INTERFACE_VALIDATORS_FILENAME = "toolarium-enum-configuration-validators.properties";
 
@@ -79,10 +85,28 @@ public class EnumConfigurationProcessor extends AbstractProcessor {
     /** Defines the output file path */
     public static final String TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE = TOOLARIUM_ENUM_CONFIGURATION_JSON_PATH + TOOLARIUM_ENUM_CONFIGURATION_JSON_FILENAME;
 
+    /** Defines the binary output filename */
+    public static final String TOOLARIUM_ENUM_CONFIGURATION_BINARY_FILENAME = "toolarium-enum-configuration.bin";
+
+    /** Defines the binary output file path */
+    public static final String TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE = TOOLARIUM_ENUM_CONFIGURATION_JSON_PATH + TOOLARIUM_ENUM_CONFIGURATION_BINARY_FILENAME;
+
+    /** Defines the path of the enum configuration resources, one resource per enum configuration */
+    public static final String TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_PATH = TOOLARIUM_ENUM_CONFIGURATION_JSON_PATH + "toolarium-enum-configuration/";
+
+    /** Defines the index file of the enum configuration resources, it maps the enum configuration name to the resource */
+    public static final String TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE = TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_PATH + "toolarium-enum-configuration-index.properties";
+
+    /** Defines the option to disable the generation of the enum configuration registry classes, e.g. -Aenumconfiguration.generate.registry=false */
+    public static final String GENERATE_REGISTRY_OPTION = "enumconfiguration.generate.registry";
+
     
     
     private List<Class<? extends Annotation>> annoationClassList;
     private List<String> warnList;
+    private Map<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> enumConfigurationContentMap;
+    private Map<String, TypeElement> enumConfigurationElementMap;
+    private Set<String> generatedRegistrySet;
     
     
     /**
@@ -124,6 +148,9 @@ public class EnumConfigurationProcessor extends AbstractProcessor {
         
         annoationClassList = Arrays.asList(EnumConfiguration.class, EnumKeyConfiguration.class, EnumKeyValueConfiguration.class);
         warnList = new ArrayList<String>();
+        enumConfigurationContentMap = new LinkedHashMap<>();
+        enumConfigurationElementMap = new LinkedHashMap<>();
+        generatedRegistrySet = new HashSet<String>();
         
         initializeInterfaceValidators(processingEnv);
     }
@@ -136,6 +163,7 @@ public class EnumConfigurationProcessor extends AbstractProcessor {
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
         if (roundEnv.processingOver()) {
             //processingEnv.getMessager().printMessage(Diagnostic.Kind.OTHER, "Processing is over");
+            generateAggregatedResources();
             return false;        
         }
 
@@ -143,85 +171,96 @@ public class EnumConfigurationProcessor extends AbstractProcessor {
             return true;
         }
 
-        //String parameter = processingEnv.getOptions().get(VALIDATE_STRICT);
-        Map<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> enumConfigurationContentMap = new LinkedHashMap<>();
         for (Element element : roundEnv.getElementsAnnotatedWith(EnumConfiguration.class)) {
             com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration = processEnumConfigurationElement((TypeElement)element);
             
             String name = enumConfiguration.getName().trim();
             if (!enumConfigurationContentMap.containsKey(name)) {
                 enumConfigurationContentMap.put(name, enumConfiguration);
+                enumConfigurationElementMap.put(name, (TypeElement)element);
             }            
         }
 
-        Set<? extends Element> enumKeyValueConfigurationSet = roundEnv.getElementsAnnotatedWith(EnumKeyConfiguration.class);
-        if (enumKeyValueConfigurationSet != null && !enumKeyValueConfigurationSet.isEmpty()) {
-            for (Element element : roundEnv.getElementsAnnotatedWith(EnumKeyConfiguration.class)) {
-                //String enumName = "" + typeElement.getSimpleName();
-                String fullQualifiedName = "" + element.getEnclosingElement();
-                
-                com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration = enumConfigurationContentMap.get(fullQualifiedName);
-                if (enumConfiguration == null) {
-                    if (!warnList.contains(fullQualifiedName)) {
-                        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Missing EnumConfiguration reference on enum in " + fullQualifiedName);
-                        warnList.add(fullQualifiedName);
-                    }
-                } else { 
-                    com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration enumKeyConfiguration = processEnumKeyConfigurationElement(enumConfiguration.getInterfaceList(), element);
-                    if (enumKeyConfiguration != null) {
-                        enumConfiguration.add(enumKeyConfiguration);
-                    }
+        for (Element element : roundEnv.getElementsAnnotatedWith(EnumKeyConfiguration.class)) {
+            com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration = getEnumConfiguration(element);
+            if (enumConfiguration != null) {
+                com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration enumKeyConfiguration = processEnumKeyConfigurationElement(enumConfiguration.getInterfaceList(), element);
+                if (enumKeyConfiguration != null) {
+                    enumConfiguration.add(enumKeyConfiguration);
                 }
             }
         }
 
-        enumKeyValueConfigurationSet = roundEnv.getElementsAnnotatedWith(EnumKeyValueConfiguration.class);
-        if (enumKeyValueConfigurationSet != null && !enumKeyValueConfigurationSet.isEmpty()) {
-            for (Element element : roundEnv.getElementsAnnotatedWith(EnumKeyValueConfiguration.class)) {
-                //String enumName = "" + typeElement.getSimpleName();
-                String fullQualifiedName = "" + element.getEnclosingElement();
-                   
-                com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration = enumConfigurationContentMap.get(fullQualifiedName);
-                if (enumConfiguration == null) {
-                    if (!warnList.contains(fullQualifiedName)) {
-                        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Missing EnumConfiguration reference on enum in " + fullQualifiedName);
-                        warnList.add(fullQualifiedName);
-                    }
-                } else { 
-                    com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration enumKeyValueConfiguration = processEnumKeyValueConfigurationElement(enumConfiguration.getInterfaceList(), element);
-                    if (enumKeyValueConfiguration != null) {
-                        enumConfiguration.add(enumKeyValueConfiguration);
-                    }
+        for (Element element : roundEnv.getElementsAnnotatedWith(EnumKeyValueConfiguration.class)) {
+            com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration = getEnumConfiguration(element);
+            if (enumConfiguration != null) {
+                com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration enumKeyValueConfiguration = processEnumKeyValueConfigurationElement(enumConfiguration.getInterfaceList(), element);
+                if (enumKeyValueConfiguration != null) {
+                    enumConfiguration.add(enumKeyValueConfiguration);
+                }
+            }
+        }
+
+        // the registry classes are generated in the round of the enum, generated sources of the last round would not be compiled
+        if (!"false".equalsIgnoreCase(("" + processingEnv.getOptions().get(GENERATE_REGISTRY_OPTION)).trim())) {
+            for (Map.Entry<String, TypeElement> e : enumConfigurationElementMap.entrySet()) {
+                if (generatedRegistrySet.add(e.getKey())) {
+                    generateRegistry(e.getValue(), enumConfigurationContentMap.get(e.getKey()));
                 }
             }
         }
 
+        return false;
+    }
+
+    
+    /**
+     * Get the enum configuration of an annotated enum constant
+     *
+     * @param element the enum constant element
+     * @return the enum configuration or null
+     */
+    private com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> getEnumConfiguration(Element element) {
+        String fullQualifiedName = "" + element.getEnclosingElement();
+        com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration = enumConfigurationContentMap.get(fullQualifiedName);
+        if (enumConfiguration == null && !warnList.contains(fullQualifiedName)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Missing EnumConfiguration reference on enum in " + fullQualifiedName);
+            warnList.add(fullQualifiedName);
+        }
+        
+        return enumConfiguration;
+    }
+
+    
+    /**
+     * Generate the aggregated resources of all rounds. The enum configurations are sorted by name, therefore the content doesn't 
+     * depend on the order in which the enums are processed, e.g. in case only some of them are recompiled by an incremental build. 
+     */
+    private void generateAggregatedResources() {
+        if (enumConfigurationContentMap.isEmpty()) {
+            return;
+        }
+        
+        Map<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> sortedEnumConfigurationContentMap = new TreeMap<>(enumConfigurationContentMap);
         EnumConfigurations enumConfigurations = new EnumConfigurations();
-        for (Map.Entry<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> e : enumConfigurationContentMap.entrySet()) {
+        for (Map.Entry<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> e : sortedEnumConfigurationContentMap.entrySet()) {
             enumConfigurations.add(e.getValue());
         }
 
-        if (enumConfigurations.getEnumConfigurationList() != null && !enumConfigurations.getEnumConfigurationList().isEmpty()) {
-            try {
-                //processingEnv.getOptions();
-                FileObject jsonResource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE);
-                generateFileContent(TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE, enumConfigurations, jsonResource.openOutputStream());
-                
-                /*
-                FileObject resource = processingEnv.getFiler().createResource(StandardLocation.SOURCE_OUTPUT, "com", "content.txt");
-                try (Writer writer = resource.openWriter()) {
-                    
-                    for (EnumConfiguration enumConfiguration : enumConfigurationMap.values()) {
-                        writer.write(enumConfiguration + "\n");
-                    }
-                }
-                */
-            } catch (IOException e) {
-                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+        Element[] originatingElements = enumConfigurationElementMap.values().toArray(new Element[0]);
+        try {
+            FileObject jsonResource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE, originatingElements);
+            generateFileContent(TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE, enumConfigurations, jsonResource.openOutputStream());
+
+            FileObject binaryResource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE, originatingElements);
+            try (OutputStream outputStream = binaryResource.openOutputStream()) {
+                generateBinaryFileContent(TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE, enumConfigurations, outputStream);
             }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage());
         }
-
-        return false;
+        
+        generateResources(sortedEnumConfigurationContentMap, enumConfigurationElementMap);
     }
 
     
@@ -236,7 +275,112 @@ public class EnumConfigurationProcessor extends AbstractProcessor {
     protected void generateFileContent(String name, EnumConfigurations enumConfigurations, OutputStream stream) throws IOException {
         EnumConfigurationResourceFactory.getInstance().store(enumConfigurations, stream);
     }
+
     
+    /**
+     * Generate the binary file content
+     *
+     * @param name the name
+     * @param enumConfigurations the enum-configuration
+     * @param stream the stream
+     * @throws IOException In case of a stream exception
+     */
+    protected void generateBinaryFileContent(String name, EnumConfigurations enumConfigurations, OutputStream stream) throws IOException {
+        EnumConfigurationResourceFactory.getInstance().storeBinary(enumConfigurations, stream);
+    }
+    
+    
+    /**
+     * Generate one resource per enum configuration and the index of the resources. This allows to load only the enum configurations
+     * which are used instead of the whole {@link #TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE}. 
+     *
+     * @param enumConfigurationContentMap the enum configurations by name
+     * @param enumConfigurationElementMap the enum elements by name
+     */
+    private void generateResources(Map<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> enumConfigurationContentMap, 
+                                   Map<String, TypeElement> enumConfigurationElementMap) {
+        Properties index = new SortedProperties();
+        for (Map.Entry<String, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>> e : enumConfigurationContentMap.entrySet()) {
+            EnumConfigurations enumConfigurations = new EnumConfigurations();
+            enumConfigurations.add(e.getValue());
+
+            String resourceName = EnumConfigurationResourceFactory.getInstance().getResourceName(e.getKey());
+            try {
+                FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resourceName, enumConfigurationElementMap.get(e.getKey()));
+                try (OutputStream outputStream = resource.openOutputStream()) {
+                    EnumConfigurationResourceFactory.getInstance().store(enumConfigurations, outputStream);
+                }
+                
+                index.setProperty(e.getKey(), resourceName);
+            } catch (IOException ex) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate the enum configuration resource " + resourceName + ": " + ex.getMessage());
+            }
+        }
+        
+        if (index.isEmpty()) {
+            return;
+        }
+        
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE, enumConfigurationElementMap.values().toArray(new Element[0]));
+            try (OutputStream outputStream = resource.openOutputStream()) {
+                index.store(outputStream, "enum configuration resources");
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate the enum configuration index " + TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE + ": " + ex.getMessage());
+        }
+    }
+
+    
+    /**
+     * Generate the registry source content
+     *
+     * @param registryClassName the full qualified registry class name
+     * @param enumClassName the full qualified enum class name
+     * @param enumConfiguration the enum-configuration
+     * @param enumConstantNames the names of the enum constants in the order of the ordinal
+     * @param writer the writer
+     * @throws IOException In case of a stream exception
+     */
+    protected void generateRegistryFileContent(String registryClassName, String enumClassName, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? extends com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration, 
+                                               List<String> enumConstantNames, Writer writer) throws IOException {
+        writer.write(new EnumConfigurationRegistryGenerator().generate(registryClassName, enumClassName, enumConfiguration, enumConstantNames));
+    }
+
+    
+    /**
+     * Generate the registry of an enum configuration, it holds the parsed configuration of the enum constants by the ordinal.
+     *
+     * @param typeElement the enum element
+     * @param enumConfiguration the enum-configuration
+     */
+    @SuppressWarnings("unchecked")
+    private void generateRegistry(TypeElement typeElement, com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? super com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration> enumConfiguration) {
+        if (typeElement == null || enumConfiguration == null || typeElement.getKind() != ElementKind.ENUM) {
+            return;
+        }
+        
+        List<String> enumConstantNames = new ArrayList<String>();
+        for (Element element : typeElement.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.ENUM_CONSTANT) {
+                enumConstantNames.add("" + element.getSimpleName());
+            }
+        }
+
+        String enumClassName = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+        String registryClassName = EnumConfigurationRegistryFactory.getInstance().getRegistryClassName(enumClassName);
+        try {
+            JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(registryClassName, typeElement);
+            try (Writer writer = sourceFile.openWriter()) {
+                generateRegistryFileContent(registryClassName, enumClassName, 
+                                            (com.github.toolarium.enumeration.configuration.dto.EnumConfiguration<? extends com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration>) enumConfiguration, 
+                                            enumConstantNames, writer);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Could not generate the enum configuration registry " + registryClassName + ": " + e.getMessage());
+        }
+    }
+
     
     /**
      * Process the enumeration configuration element annotation.
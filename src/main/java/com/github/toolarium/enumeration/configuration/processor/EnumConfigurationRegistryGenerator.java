@@ -0,0 +1,270 @@
+/*
+ * EnumConfigurationRegistryGenerator.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.processor;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import java.time.Instant;
+import java.util.List;
+
+
+/**
+ * Generates the source of the {@link com.github.toolarium.enumeration.configuration.resource.IEnumConfigurationRegistry} of an enum.
+ * The generated registry creates the already parsed configuration of all enum constants once when the class is initialized.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationRegistryGenerator {
+    private static final String NL = "\n";
+    private static final String INDENT = "    ";
+    private static final String CONFIGURATION_VARIABLE = "enumKeyConfiguration";
+
+
+    /**
+     * Generate the source of the registry
+     *
+     * @param registryClassName the full qualified registry class name
+     * @param enumClassName the full qualified enum class name
+     * @param enumConfiguration the enum configuration
+     * @param enumConstantNames the names of the enum constants in the order of the ordinal
+     * @return the source of the registry
+     */
+    public String generate(String registryClassName, String enumClassName, EnumConfiguration<? extends EnumKeyConfiguration> enumConfiguration, List<String> enumConstantNames) {
+        String packageName = "";
+        String simpleClassName = registryClassName;
+        int idx = registryClassName.lastIndexOf('.');
+        if (idx >= 0) {
+            packageName = registryClassName.substring(0, idx);
+            simpleClassName = registryClassName.substring(idx + 1);
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append("/*").append(NL);
+        source.append(" * ").append(simpleClassName).append(".java").append(NL);
+        source.append(" *").append(NL);
+        source.append(" * Generated by the ").append(EnumConfigurationProcessor.class.getSimpleName()).append(", do not modify.").append(NL);
+        source.append(" */").append(NL);
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";").append(NL).append(NL);
+        }
+
+        source.append("import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;").append(NL);
+        source.append("import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;").append(NL);
+        source.append("import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;").append(NL);
+        source.append("import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;").append(NL);
+        source.append("import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;").append(NL);
+        source.append("import com.github.toolarium.enumeration.configuration.resource.AbstractEnumConfigurationRegistry;").append(NL);
+        source.append("import java.time.Instant;").append(NL);
+        source.append("import java.util.LinkedHashSet;").append(NL).append(NL).append(NL);
+
+        source.append("/**").append(NL);
+        source.append(" * Defines the parsed enum configuration of {@link ").append(enumClassName.replace('$', '.')).append("}.").append(NL);
+        source.append(" */").append(NL);
+        source.append("public final class ").append(simpleClassName).append(" extends AbstractEnumConfigurationRegistry {").append(NL);
+        source.append(INDENT).append("private static final EnumConfiguration<EnumKeyConfiguration> ENUM_CONFIGURATION = new EnumConfiguration<EnumKeyConfiguration>(")
+              .append(toLiteral(enumConfiguration.getName())).append(");").append(NL);
+        source.append(INDENT).append("private static final EnumKeyConfiguration[] ENUM_KEY_CONFIGURATIONS = new EnumKeyConfiguration[").append(enumConstantNames.size()).append("];").append(NL).append(NL);
+
+        source.append(INDENT).append("static {").append(NL);
+        appendConfiguration(source, INDENT + INDENT, "ENUM_CONFIGURATION", enumConfiguration.getDescription(), enumConfiguration.getValidFrom(), enumConfiguration.getValidTill());
+        if (enumConfiguration.getTag() != null) {
+            source.append(INDENT).append(INDENT).append("ENUM_CONFIGURATION.setTag(").append(toLiteral(enumConfiguration.getTag())).append(");").append(NL);
+        }
+
+        if (enumConfiguration.getInterfaceList() != null) {
+            for (String interfaceName : enumConfiguration.getInterfaceList()) {
+                source.append(INDENT).append(INDENT).append("ENUM_CONFIGURATION.getInterfaceList().add(").append(toLiteral(interfaceName)).append(");").append(NL);
+            }
+        }
+
+        if (enumConfiguration.getMarkerInterfaceList() != null) {
+            source.append(INDENT).append(INDENT).append("ENUM_CONFIGURATION.setMarkerInterfaceList(new LinkedHashSet<String>());").append(NL);
+            for (String markerInterfaceName : enumConfiguration.getMarkerInterfaceList()) {
+                source.append(INDENT).append(INDENT).append("ENUM_CONFIGURATION.getMarkerInterfaceList().add(").append(toLiteral(markerInterfaceName)).append(");").append(NL);
+            }
+        }
+
+        for (int ordinal = 0; ordinal < enumConstantNames.size(); ordinal++) {
+            if (enumConfiguration.get(enumConstantNames.get(ordinal)) != null) {
+                source.append(INDENT).append(INDENT).append("ENUM_KEY_CONFIGURATIONS[").append(ordinal).append("] = ENUM_CONFIGURATION.add(createEnumKeyConfiguration").append(ordinal).append("());").append(NL);
+            }
+        }
+
+        source.append(INDENT).append("}").append(NL).append(NL).append(NL);
+
+        source.append(INDENT).append("/**").append(NL);
+        source.append(INDENT).append(" * Constructor for ").append(simpleClassName).append(NL);
+        source.append(INDENT).append(" */").append(NL);
+        source.append(INDENT).append("public ").append(simpleClassName).append("() {").append(NL);
+        source.append(INDENT).append(INDENT).append("super(ENUM_CONFIGURATION, ENUM_KEY_CONFIGURATIONS);").append(NL);
+        source.append(INDENT).append("}").append(NL);
+
+        for (int ordinal = 0; ordinal < enumConstantNames.size(); ordinal++) {
+            EnumKeyConfiguration enumKeyConfiguration = enumConfiguration.get(enumConstantNames.get(ordinal));
+            if (enumKeyConfiguration != null) {
+                appendEnumKeyConfiguration(source, ordinal, enumKeyConfiguration);
+            }
+        }
+
+        source.append("}").append(NL);
+        return source.toString();
+    }
+
+
+    /**
+     * Append the creation method of an enum key configuration
+     *
+     * @param source the source
+     * @param ordinal the ordinal of the enum constant
+     * @param enumKeyConfiguration the enum key configuration
+     */
+    private void appendEnumKeyConfiguration(StringBuilder source, int ordinal, EnumKeyConfiguration enumKeyConfiguration) {
+        String indent = INDENT + INDENT;
+        String type = EnumKeyConfiguration.class.getSimpleName();
+        if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+            type = EnumKeyValueConfiguration.class.getSimpleName();
+        }
+
+        source.append(NL).append(NL);
+        source.append(INDENT).append("/**").append(NL);
+        source.append(INDENT).append(" * Create the configuration of ").append(enumKeyConfiguration.getKey()).append(NL);
+        source.append(INDENT).append(" *").append(NL);
+        source.append(INDENT).append(" * @return the configuration").append(NL);
+        source.append(INDENT).append(" */").append(NL);
+        source.append(INDENT).append("private static EnumKeyConfiguration createEnumKeyConfiguration").append(ordinal).append("() {").append(NL);
+        source.append(indent).append(type).append(' ').append(CONFIGURATION_VARIABLE).append(" = new ").append(type).append("();").append(NL);
+        source.append(indent).append(CONFIGURATION_VARIABLE).append(".setKey(").append(toLiteral(enumKeyConfiguration.getKey())).append(");").append(NL);
+        appendConfiguration(source, indent, CONFIGURATION_VARIABLE, enumKeyConfiguration.getDescription(), enumKeyConfiguration.getValidFrom(), enumKeyConfiguration.getValidTill());
+        source.append(indent).append(CONFIGURATION_VARIABLE).append(".setConfidential(").append(enumKeyConfiguration.isConfidential()).append(");").append(NL);
+
+        if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+            EnumKeyValueConfiguration enumKeyValueConfiguration = (EnumKeyValueConfiguration) enumKeyConfiguration;
+            if (enumKeyValueConfiguration.getDataType() != null) {
+                source.append(indent).append(CONFIGURATION_VARIABLE).append(".setDataType(EnumKeyValueConfigurationDataType.").append(enumKeyValueConfiguration.getDataType().name()).append(");").append(NL);
+            }
+
+            source.append(indent).append(CONFIGURATION_VARIABLE).append(".setDefaultValue(").append(toLiteral(enumKeyValueConfiguration.getDefaultValue())).append(");").append(NL);
+            source.append(indent).append(CONFIGURATION_VARIABLE).append(".setExampleValue(").append(toLiteral(enumKeyValueConfiguration.getExampleValue())).append(");").append(NL);
+            source.append(indent).append(CONFIGURATION_VARIABLE).append(".setEnumerationValue(").append(toLiteral(enumKeyValueConfiguration.getEnumerationValue())).append(");").append(NL);
+
+            EnumKeyValueConfigurationSizing<?> valueSize = enumKeyValueConfiguration.getValueSize();
+            if (valueSize != null && enumKeyValueConfiguration.getDataType() != null) {
+                source.append(indent).append(CONFIGURATION_VARIABLE).append(".setValueSize(createValueSize(EnumKeyValueConfigurationDataType.").append(enumKeyValueConfiguration.getDataType().name()).append(", ")
+                      .append(toLiteral(valueSize.getMinSizeAsString())).append(", ").append(toLiteral(valueSize.getMaxSizeAsString())).append("));").append(NL);
+            }
+
+            EnumKeyValueConfigurationSizing<Integer> cardinality = enumKeyValueConfiguration.getCardinality();
+            source.append(indent).append(CONFIGURATION_VARIABLE).append(".setCardinality(");
+            if (cardinality == null) {
+                source.append("null");
+            } else {
+                source.append("new EnumKeyValueConfigurationSizing<Integer>(").append(toLiteral(cardinality.getMinSizeAsString())).append(", ").append(toLiteral(cardinality.getMinSize())).append(", ")
+                      .append(toLiteral(cardinality.getMaxSizeAsString())).append(", ").append(toLiteral(cardinality.getMaxSize())).append(")");
+            }
+            source.append(");").append(NL);
+            source.append(indent).append(CONFIGURATION_VARIABLE).append(".setUniqueness(").append(enumKeyValueConfiguration.isUniqueness()).append(");").append(NL);
+        }
+
+        source.append(indent).append("return ").append(CONFIGURATION_VARIABLE).append(";").append(NL);
+        source.append(INDENT).append("}").append(NL);
+    }
+
+
+    /**
+     * Append the common configuration
+     *
+     * @param source the source
+     * @param indent the indent
+     * @param variable the variable name
+     * @param description the description
+     * @param validFrom the valid from
+     * @param validTill the valid till
+     */
+    private void appendConfiguration(StringBuilder source, String indent, String variable, String description, Instant validFrom, Instant validTill) {
+        if (description != null) {
+            source.append(indent).append(variable).append(".setDescription(").append(toLiteral(description)).append(");").append(NL);
+        }
+
+        if (validFrom != null) {
+            source.append(indent).append(variable).append(".setValidFrom(").append(toLiteral(validFrom)).append(");").append(NL);
+        }
+
+        if (validTill != null) {
+            source.append(indent).append(variable).append(".setValidTill(").append(toLiteral(validTill)).append(");").append(NL);
+        }
+    }
+
+
+    /**
+     * Convert an instant into a java expression
+     *
+     * @param instant the instant
+     * @return the java expression
+     */
+    private String toLiteral(Instant instant) {
+        return "Instant.ofEpochSecond(" + instant.getEpochSecond() + "L, " + instant.getNano() + "L)";
+    }
+
+
+    /**
+     * Convert an integer into a java expression
+     *
+     * @param value the value
+     * @return the java expression
+     */
+    private String toLiteral(Integer value) {
+        if (value == null) {
+            return "null";
+        }
+
+        return "Integer.valueOf(" + value + ")";
+    }
+
+
+    /**
+     * Convert a string into a java string literal
+     *
+     * @param value the value
+     * @return the java string literal
+     */
+    private String toLiteral(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+
+        return result.append('"').toString();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * AbstractEnumConfigurationRegistry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyValueConfigurationValueValidatorFactory;
+
+
+/**
+ * Implements the base of the generated {@link IEnumConfigurationRegistry}. The parsed configuration is kept private, 
+ * the caller gets always a copy.
+ *
+ * @author patrick
+ */
+public abstract class AbstractEnumConfigurationRegistry implements IEnumConfigurationRegistry {
+    private final EnumConfiguration<EnumKeyConfiguration> enumConfiguration;
+    private final EnumKeyConfiguration[] enumKeyConfigurations;
+
+
+    /**
+     * Constructor for AbstractEnumConfigurationRegistry
+     *
+     * @param enumConfiguration the enum configuration
+     * @param enumKeyConfigurations the enum key configurations indexed by the ordinal
+     */
+    protected AbstractEnumConfigurationRegistry(EnumConfiguration<EnumKeyConfiguration> enumConfiguration, EnumKeyConfiguration[] enumKeyConfigurations) {
+        this.enumConfiguration = enumConfiguration;
+        this.enumKeyConfigurations = enumKeyConfigurations;
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.resource.IEnumConfigurationRegistry#getEnumConfiguration()
+     */
+    @Override
+    public EnumConfiguration<EnumKeyConfiguration> getEnumConfiguration() {
+        return new EnumConfiguration<EnumKeyConfiguration>(enumConfiguration);
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.resource.IEnumConfigurationRegistry#getEnumKeyConfiguration(int)
+     */
+    @Override
+    public EnumKeyConfiguration getEnumKeyConfiguration(int ordinal) {
+        if (ordinal < 0 || ordinal >= enumKeyConfigurations.length) {
+            return null;
+        }
+
+        EnumKeyConfiguration enumKeyConfiguration = enumKeyConfigurations[ordinal];
+        if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+            return new EnumKeyValueConfiguration((EnumKeyValueConfiguration) enumKeyConfiguration);
+        } else if (enumKeyConfiguration != null) {
+            return new EnumKeyConfiguration(enumKeyConfiguration);
+        }
+
+        return null;
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.resource.IEnumConfigurationRegistry#getEnumKeyValueConfiguration(int)
+     */
+    @Override
+    public EnumKeyValueConfiguration getEnumKeyValueConfiguration(int ordinal) {
+        EnumKeyConfiguration enumKeyConfiguration = getEnumKeyConfiguration(ordinal);
+        if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+            return (EnumKeyValueConfiguration) enumKeyConfiguration;
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Create the value size. The type of the size depends on the value validator of the data type, therefore it is
+     * created once when the registry is initialized.
+     *
+     * @param <T> the generic size type
+     * @param dataType the data type
+     * @param minValue the min value
+     * @param maxValue the max value
+     * @return the value size
+     * @throws IllegalArgumentException In case of an invalid size
+     */
+    protected static <T> EnumKeyValueConfigurationSizing<T> createValueSize(EnumKeyValueConfigurationDataType dataType, String minValue, String maxValue) {
+        try {
+            return EnumKeyValueConfigurationValueValidatorFactory.getInstance().createEnumKeyValueConfigurationSizing(dataType, minValue, maxValue);
+        } catch (ValidationException ex) {
+            throw new IllegalArgumentException("Invalid value size of data type " + dataType + ": " + ex.getMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * EnumConfigurationBinaryFormat.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+
+/**
+ * Defines the layout of the binary enum configuration format. All numbers are stored in big endian order:
+ * <pre>
+ * header:        int magic, short version, short reserved, int name, int version, int string count, int configuration count
+ * string index:  int offset per string, each string is stored as int length followed by the UTF-8 bytes
+ * index:         int name, int offset per enum configuration
+ * configuration: int name, int description, int tag, timestamp valid from, timestamp valid till,
+ *                int interface count, int interface..., int marker interface count, int marker interface..., int key count,
+ *                key record...
+ * key record:    fixed width record, see {@link #KEY_RECORD_SIZE}
+ * </pre>
+ * Strings are referenced by their position in the string index, {@link #NULL_REFERENCE} stands for null. The fixed width of
+ * the records allows to access the enum configurations and keys by offset without decoding the preceding content.
+ *
+ * @author patrick
+ */
+final class EnumConfigurationBinaryFormat {
+    /** The magic number of the binary format: TECB */
+    static final int MAGIC = 0x54454342;
+
+    /** The version of the binary format */
+    static final short VERSION = 1;
+
+    /** The reference of a null value */
+    static final int NULL_REFERENCE = -1;
+
+    /** The header size */
+    static final int HEADER_SIZE = 4 + 2 + 2 + 4 + 4 + 4 + 4;
+
+    /** The size of an index entry */
+    static final int INDEX_ENTRY_SIZE = 4 + 4;
+
+    /** The size of a timestamp: byte present, long seconds, int nanos */
+    static final int TIMESTAMP_SIZE = 1 + 8 + 4;
+
+    /** The size of a typed value: byte type, long value, int value */
+    static final int VALUE_SIZE = 1 + 8 + 4;
+
+    /** The size of a sizing: byte present, int min as string, value min, int max as string, value max */
+    static final int SIZING_SIZE = 1 + 4 + VALUE_SIZE + 4 + VALUE_SIZE;
+
+    /** The size of a key record: byte kind, byte confidential, byte uniqueness, byte data type, int key, int description, valid from, valid till, int default, int example, int enumeration, value size, cardinality */
+    static final int KEY_RECORD_SIZE = 1 + 1 + 1 + 1 + 4 + 4 + TIMESTAMP_SIZE + TIMESTAMP_SIZE + 4 + 4 + 4 + SIZING_SIZE + SIZING_SIZE;
+
+    /** The key record kind of an enum key configuration */
+    static final byte KIND_KEY = 0;
+
+    /** The key record kind of an enum key value configuration */
+    static final byte KIND_KEY_VALUE = 1;
+
+    /** The data type of a key record without data type */
+    static final byte NO_DATA_TYPE = -1;
+
+    /** The value type of a null value */
+    static final byte TYPE_NULL = 0;
+
+    /** The value type of an integer */
+    static final byte TYPE_INTEGER = 1;
+
+    /** The value type of a long */
+    static final byte TYPE_LONG = 2;
+
+    /** The value type of a double */
+    static final byte TYPE_DOUBLE = 3;
+
+    /** The value type of a boolean */
+    static final byte TYPE_BOOLEAN = 4;
+
+    /** The value type of a local date, stored as epoch day */
+    static final byte TYPE_LOCAL_DATE = 5;
+
+    /** The value type of a local time, stored as nano of day */
+    static final byte TYPE_LOCAL_TIME = 6;
+
+    /** The value type of an instant */
+    static final byte TYPE_INSTANT = 7;
+
+    /** The value type of a big integer, stored as string */
+    static final byte TYPE_BIG_INTEGER = 8;
+
+    /** The value type of a big decimal, stored as string */
+    static final byte TYPE_BIG_DECIMAL = 9;
+
+    /** The value type of any other value, stored as string */
+    static final byte TYPE_STRING = 10;
+
+
+    /**
+     * Constructor
+     */
+    private EnumConfigurationBinaryFormat() {
+        // NOP
+    }
+}
@@ -0,0 +1,482 @@
+/*
+ * EnumConfigurationBinaryReader.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Reads {@link EnumConfigurations} in the binary format, see {@link EnumConfigurationBinaryFormat}. Only the header and the index
+ * are read when the reader is created, the strings and the enum configurations are decoded on first access. The buffer can be a
+ * memory mapped file, it is only accessed by absolute positions and therefore the reader can be shared between threads. The decoded
+ * enum configurations are cached, a copy is returned since they are mutable.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationBinaryReader {
+    private static final EnumKeyValueConfigurationDataType[] DATA_TYPES = EnumKeyValueConfigurationDataType.values();
+    private final ByteBuffer buffer;
+    private final int nameReference;
+    private final int versionReference;
+    private final int stringCount;
+    private final int configurationCount;
+    private final int indexOffset;
+    private final String[] stringCache;
+    private final EnumConfiguration<EnumKeyConfiguration>[] enumConfigurationCache;
+    private volatile Map<String, Integer> nameIndex;
+    private volatile Map<String, Integer> nameIgnoreCaseIndex;
+
+
+    /**
+     * Constructor for EnumConfigurationBinaryReader
+     *
+     * @param buffer the buffer which contains the binary enum configurations
+     * @throws IOException In case the buffer doesn't contain a supported binary format
+     */
+    public EnumConfigurationBinaryReader(ByteBuffer buffer) throws IOException {
+        if (!isBinaryFormat(buffer)) {
+            throw new IOException("Invalid binary enum configuration format!");
+        }
+
+        this.buffer = buffer.slice().order(ByteOrder.BIG_ENDIAN);
+        short version = this.buffer.getShort(4);
+        if (version != EnumConfigurationBinaryFormat.VERSION) {
+            throw new IOException("Unsupported binary enum configuration format version " + version + "!");
+        }
+
+        nameReference = this.buffer.getInt(8);
+        versionReference = this.buffer.getInt(12);
+        stringCount = this.buffer.getInt(16);
+        configurationCount = this.buffer.getInt(20);
+        if (stringCount < 0 || configurationCount < 0) {
+            throw new IOException("Invalid binary enum configuration format!");
+        }
+
+        indexOffset = getIndexOffset();
+        stringCache = new String[stringCount];
+        enumConfigurationCache = newEnumConfigurationArray(configurationCount);
+        nameIndex = null;
+        nameIgnoreCaseIndex = null;
+    }
+
+
+    /**
+     * Check if the buffer starts with the binary format. The position of the buffer is not changed.
+     *
+     * @param buffer the buffer
+     * @return true if the buffer contains the binary format
+     */
+    public static boolean isBinaryFormat(ByteBuffer buffer) {
+        if (buffer == null || buffer.remaining() < EnumConfigurationBinaryFormat.HEADER_SIZE) {
+            return false;
+        }
+
+        return buffer.duplicate().order(ByteOrder.BIG_ENDIAN).getInt() == EnumConfigurationBinaryFormat.MAGIC;
+    }
+
+
+    /**
+     * Get the name
+     *
+     * @return the name
+     */
+    public String getName() {
+        return getString(nameReference);
+    }
+
+
+    /**
+     * Get the version
+     *
+     * @return the version
+     */
+    public String getVersion() {
+        return getString(versionReference);
+    }
+
+
+    /**
+     * Get the number of enum configurations
+     *
+     * @return the number of enum configurations
+     */
+    public int size() {
+        return configurationCount;
+    }
+
+
+    /**
+     * Get the names of the enum configurations, the enum configurations are not decoded.
+     *
+     * @return the names of the enum configurations
+     */
+    public Set<String> getEnumConfigurationNames() {
+        return Collections.unmodifiableSet(getNameIndex().keySet());
+    }
+
+
+    /**
+     * Get a copy of an enum configuration, it is decoded on first access.
+     *
+     * @param name the name of the enum configuration
+     * @return the enum configuration or null
+     */
+    public EnumConfiguration<EnumKeyConfiguration> getEnumConfiguration(String name) {
+        return getEnumConfiguration(name, false);
+    }
+
+
+    /**
+     * Get a copy of an enum configuration, it is decoded on first access.
+     *
+     * @param name the name of the enum configuration
+     * @param ignoreCase true to compare the name case insensitive
+     * @return the enum configuration or null
+     */
+    public EnumConfiguration<EnumKeyConfiguration> getEnumConfiguration(String name, boolean ignoreCase) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+
+        getNameIndex();
+        Integer index;
+        if (ignoreCase) {
+            index = nameIgnoreCaseIndex.get(name.trim().toLowerCase(Locale.ROOT));
+        } else {
+            index = nameIndex.get(name.trim());
+        }
+
+        if (index == null) {
+            return null;
+        }
+
+        return new EnumConfiguration<EnumKeyConfiguration>(getEnumConfiguration(index));
+    }
+
+
+    /**
+     * Read a copy of all enum configurations
+     *
+     * @return the enum configurations
+     */
+    public EnumConfigurations readEnumConfigurations() {
+        EnumConfigurations enumConfigurations = new EnumConfigurations();
+        enumConfigurations.setName(getName());
+        enumConfigurations.setVersion(getVersion());
+        for (int i = 0; i < configurationCount; i++) {
+            enumConfigurations.add(new EnumConfiguration<EnumKeyConfiguration>(getEnumConfiguration(i)));
+        }
+
+        return enumConfigurations;
+    }
+
+
+    /**
+     * Get an enum configuration by its position in the index
+     *
+     * @param index the position in the index
+     * @return the enum configuration
+     */
+    private synchronized EnumConfiguration<EnumKeyConfiguration> getEnumConfiguration(int index) {
+        EnumConfiguration<EnumKeyConfiguration> enumConfiguration = enumConfigurationCache[index];
+        if (enumConfiguration == null) {
+            enumConfiguration = readEnumConfiguration(buffer.getInt(indexOffset + index * EnumConfigurationBinaryFormat.INDEX_ENTRY_SIZE + 4));
+            enumConfigurationCache[index] = enumConfiguration;
+        }
+
+        return enumConfiguration;
+    }
+
+
+    /**
+     * Create the array of the decoded enum configurations
+     *
+     * @param size the size
+     * @return the array
+     */
+    @SuppressWarnings("unchecked")
+    private static EnumConfiguration<EnumKeyConfiguration>[] newEnumConfigurationArray(int size) {
+        // a generic array can't be created, the array only contains the decoded enum configurations of this reader
+        return (EnumConfiguration<EnumKeyConfiguration>[]) new EnumConfiguration<?>[size];
+    }
+
+
+    /**
+     * Read an enum configuration record
+     *
+     * @param recordOffset the offset of the record
+     * @return the enum configuration
+     */
+    private EnumConfiguration<EnumKeyConfiguration> readEnumConfiguration(int recordOffset) {
+        int offset = recordOffset;
+        EnumConfiguration<EnumKeyConfiguration> enumConfiguration = new EnumConfiguration<EnumKeyConfiguration>();
+        enumConfiguration.setName(getString(buffer.getInt(offset)));
+        enumConfiguration.setDescription(getString(buffer.getInt(offset + 4)));
+        enumConfiguration.setTag(getString(buffer.getInt(offset + 8)));
+        offset += 12;
+        enumConfiguration.setValidFrom(readTimestamp(offset));
+        offset += EnumConfigurationBinaryFormat.TIMESTAMP_SIZE;
+        enumConfiguration.setValidTill(readTimestamp(offset));
+        offset += EnumConfigurationBinaryFormat.TIMESTAMP_SIZE;
+
+        int size = buffer.getInt(offset);
+        enumConfiguration.setInterfaceList(readStringSet(offset));
+        offset += 4 + Math.max(0, size) * 4;
+
+        size = buffer.getInt(offset);
+        enumConfiguration.setMarkerInterfaceList(readStringSet(offset));
+        offset += 4 + Math.max(0, size) * 4;
+
+        int keyCount = buffer.getInt(offset);
+        offset += 4;
+        for (int i = 0; i < keyCount; i++) {
+            enumConfiguration.add(readEnumKeyConfiguration(offset + i * EnumConfigurationBinaryFormat.KEY_RECORD_SIZE));
+        }
+
+        return enumConfiguration;
+    }
+
+
+    /**
+     * Read a fixed width key record
+     *
+     * @param recordOffset the offset of the record
+     * @return the enum key configuration
+     */
+    private EnumKeyConfiguration readEnumKeyConfiguration(int recordOffset) {
+        byte kind = buffer.get(recordOffset);
+        EnumKeyConfiguration enumKeyConfiguration;
+        EnumKeyValueConfiguration enumKeyValueConfiguration = null;
+        if (kind == EnumConfigurationBinaryFormat.KIND_KEY_VALUE) {
+            enumKeyValueConfiguration = new EnumKeyValueConfiguration();
+            enumKeyConfiguration = enumKeyValueConfiguration;
+        } else {
+            enumKeyConfiguration = new EnumKeyConfiguration();
+        }
+
+        enumKeyConfiguration.setConfidential(buffer.get(recordOffset + 1) != 0);
+        enumKeyConfiguration.setKey(getString(buffer.getInt(recordOffset + 4)));
+        enumKeyConfiguration.setDescription(getString(buffer.getInt(recordOffset + 8)));
+        int offset = recordOffset + 12;
+        enumKeyConfiguration.setValidFrom(readTimestamp(offset));
+        offset += EnumConfigurationBinaryFormat.TIMESTAMP_SIZE;
+        enumKeyConfiguration.setValidTill(readTimestamp(offset));
+        offset += EnumConfigurationBinaryFormat.TIMESTAMP_SIZE;
+
+        if (enumKeyValueConfiguration != null) {
+            enumKeyValueConfiguration.setUniqueness(buffer.get(recordOffset + 2) != 0);
+            byte dataType = buffer.get(recordOffset + 3);
+            if (dataType >= 0 && dataType < DATA_TYPES.length) {
+                enumKeyValueConfiguration.setDataType(DATA_TYPES[dataType]);
+            } else {
+                enumKeyValueConfiguration.setDataType(null);
+            }
+
+            enumKeyValueConfiguration.setDefaultValue(getString(buffer.getInt(offset)));
+            enumKeyValueConfiguration.setExampleValue(getString(buffer.getInt(offset + 4)));
+            enumKeyValueConfiguration.setEnumerationValue(getString(buffer.getInt(offset + 8)));
+            offset += 12;
+            enumKeyValueConfiguration.setValueSize(readSizing(offset));
+            offset += EnumConfigurationBinaryFormat.SIZING_SIZE;
+            enumKeyValueConfiguration.setCardinality(readSizing(offset));
+        }
+
+        return enumKeyConfiguration;
+    }
+
+
+    /**
+     * Read a sizing
+     *
+     * @param <T> the generic size type
+     * @param offset the offset
+     * @return the sizing or null
+     */
+    @SuppressWarnings("unchecked")
+    private <T> EnumKeyValueConfigurationSizing<T> readSizing(int offset) {
+        if (buffer.get(offset) == 0) {
+            return null;
+        }
+
+        String minSizeAsString = getString(buffer.getInt(offset + 1));
+        T minSize = (T) readValue(offset + 5);
+        String maxSizeAsString = getString(buffer.getInt(offset + 5 + EnumConfigurationBinaryFormat.VALUE_SIZE));
+        T maxSize = (T) readValue(offset + 9 + EnumConfigurationBinaryFormat.VALUE_SIZE);
+        return new EnumKeyValueConfigurationSizing<T>(minSizeAsString, minSize, maxSizeAsString, maxSize);
+    }
+
+
+    /**
+     * Read a typed value
+     *
+     * @param offset the offset
+     * @return the value or null
+     */
+    private Object readValue(int offset) {
+        byte type = buffer.get(offset);
+        long longValue = buffer.getLong(offset + 1);
+        int intValue = buffer.getInt(offset + 9);
+        switch (type) {
+            case EnumConfigurationBinaryFormat.TYPE_INTEGER:
+                return intValue;
+            case EnumConfigurationBinaryFormat.TYPE_LONG:
+                return longValue;
+            case EnumConfigurationBinaryFormat.TYPE_DOUBLE:
+                return Double.longBitsToDouble(longValue);
+            case EnumConfigurationBinaryFormat.TYPE_BOOLEAN:
+                return intValue != 0;
+            case EnumConfigurationBinaryFormat.TYPE_LOCAL_DATE:
+                return LocalDate.ofEpochDay(longValue);
+            case EnumConfigurationBinaryFormat.TYPE_LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(longValue);
+            case EnumConfigurationBinaryFormat.TYPE_INSTANT:
+                return Instant.ofEpochSecond(longValue, intValue);
+            case EnumConfigurationBinaryFormat.TYPE_BIG_INTEGER:
+                return new BigInteger(getString(intValue));
+            case EnumConfigurationBinaryFormat.TYPE_BIG_DECIMAL:
+                return new BigDecimal(getString(intValue));
+            case EnumConfigurationBinaryFormat.TYPE_STRING:
+                return getString(intValue);
+            default:
+                return null;
+        }
+    }
+
+
+    /**
+     * Read a timestamp
+     *
+     * @param offset the offset
+     * @return the timestamp or null
+     */
+    private Instant readTimestamp(int offset) {
+        if (buffer.get(offset) == 0) {
+            return null;
+        }
+
+        return Instant.ofEpochSecond(buffer.getLong(offset + 1), buffer.getInt(offset + 9));
+    }
+
+
+    /**
+     * Read a string set
+     *
+     * @param offset the offset
+     * @return the string set or null
+     */
+    private Set<String> readStringSet(int offset) {
+        int size = buffer.getInt(offset);
+        if (size < 0) {
+            return null;
+        }
+
+        Set<String> result = new LinkedHashSet<String>();
+        for (int i = 0; i < size; i++) {
+            result.add(getString(buffer.getInt(offset + 4 + i * 4)));
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get a string of the string table, it is decoded on first access
+     *
+     * @param reference the reference
+     * @return the string or null
+     */
+    private String getString(int reference) {
+        if (reference < 0 || reference >= stringCount) {
+            return null;
+        }
+
+        String result = stringCache[reference];
+        if (result == null) {
+            int offset = buffer.getInt(EnumConfigurationBinaryFormat.HEADER_SIZE + reference * 4);
+            byte[] content = new byte[buffer.getInt(offset)];
+            ByteBuffer stringBuffer = buffer.duplicate();
+            stringBuffer.position(offset + 4);
+            stringBuffer.get(content);
+            result = new String(content, StandardCharsets.UTF_8);
+            stringCache[reference] = result;
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the name index, only the names are decoded
+     *
+     * @return the name index
+     */
+    private Map<String, Integer> getNameIndex() {
+        Map<String, Integer> result = nameIndex;
+        if (result == null) {
+            synchronized (this) {
+                result = nameIndex;
+                if (result == null) {
+                    result = new LinkedHashMap<String, Integer>();
+                    Map<String, Integer> ignoreCaseIndex = new HashMap<String, Integer>();
+                    for (int i = 0; i < configurationCount; i++) {
+                        String name = getString(buffer.getInt(indexOffset + i * EnumConfigurationBinaryFormat.INDEX_ENTRY_SIZE));
+                        if (name != null) {
+                            result.putIfAbsent(name, i);
+                            ignoreCaseIndex.putIfAbsent(name.toLowerCase(Locale.ROOT), i);
+                        }
+                    }
+
+                    nameIgnoreCaseIndex = ignoreCaseIndex;
+                    nameIndex = result;
+                }
+            }
+        }
+
+        return result;
+    }
+
+
+    /**
+     * Get the offset of the index, it follows the string table
+     *
+     * @return the offset of the index
+     * @throws IOException In case of an invalid format
+     */
+    private int getIndexOffset() throws IOException {
+        try {
+            if (stringCount == 0) {
+                return EnumConfigurationBinaryFormat.HEADER_SIZE;
+            }
+
+            int lastStringOffset = buffer.getInt(EnumConfigurationBinaryFormat.HEADER_SIZE + (stringCount - 1) * 4);
+            return lastStringOffset + 4 + buffer.getInt(lastStringOffset);
+        } catch (IndexOutOfBoundsException | BufferUnderflowException e) {
+            throw new IOException("Invalid binary enum configuration format!", e);
+        }
+    }
+}
@@ -0,0 +1,325 @@
+/*
+ * EnumConfigurationBinaryWriter.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Writes {@link EnumConfigurations} in the binary format, see {@link EnumConfigurationBinaryFormat}.
+ *
+ * @author patrick
+ */
+class EnumConfigurationBinaryWriter {
+    private final Map<String, Integer> stringReferenceMap;
+    private final List<String> stringList;
+
+
+    /**
+     * Constructor for EnumConfigurationBinaryWriter
+     */
+    EnumConfigurationBinaryWriter() {
+        stringReferenceMap = new HashMap<String, Integer>();
+        stringList = new ArrayList<String>();
+    }
+
+
+    /**
+     * Write the enum configurations
+     *
+     * @param enumConfigurations the enum configurations
+     * @param outputStream the output stream
+     * @throws IOException In case of an error
+     */
+    void write(EnumConfigurations enumConfigurations, OutputStream outputStream) throws IOException {
+        stringReferenceMap.clear();
+        stringList.clear();
+
+        // the records are written first to collect the strings
+        Set<EnumConfiguration<? extends EnumKeyConfiguration>> enumConfigurationList = enumConfigurations.getEnumConfigurationList();
+        int[] nameReferences = new int[enumConfigurationList.size()];
+        int[] recordOffsets = new int[enumConfigurationList.size()];
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordOutput = new DataOutputStream(records);
+        int i = 0;
+        for (EnumConfiguration<? extends EnumKeyConfiguration> enumConfiguration : enumConfigurationList) {
+            nameReferences[i] = reference(enumConfiguration.getName());
+            recordOffsets[i] = recordOutput.size();
+            writeEnumConfiguration(recordOutput, enumConfiguration);
+            i++;
+        }
+        recordOutput.flush();
+
+        int nameReference = reference(enumConfigurations.getName());
+        int versionReference = reference(enumConfigurations.getVersion());
+        byte[][] encodedStrings = new byte[stringList.size()][];
+        int stringOffset = EnumConfigurationBinaryFormat.HEADER_SIZE + 4 * stringList.size();
+        int[] stringOffsets = new int[stringList.size()];
+        for (int j = 0; j < encodedStrings.length; j++) {
+            encodedStrings[j] = stringList.get(j).getBytes(StandardCharsets.UTF_8);
+            stringOffsets[j] = stringOffset;
+            stringOffset += 4 + encodedStrings[j].length;
+        }
+
+        int recordBase = stringOffset + EnumConfigurationBinaryFormat.INDEX_ENTRY_SIZE * nameReferences.length;
+
+        DataOutputStream output = new DataOutputStream(outputStream);
+        output.writeInt(EnumConfigurationBinaryFormat.MAGIC);
+        output.writeShort(EnumConfigurationBinaryFormat.VERSION);
+        output.writeShort(0);
+        output.writeInt(nameReference);
+        output.writeInt(versionReference);
+        output.writeInt(encodedStrings.length);
+        output.writeInt(nameReferences.length);
+
+        for (int offset : stringOffsets) {
+            output.writeInt(offset);
+        }
+
+        for (byte[] encodedString : encodedStrings) {
+            output.writeInt(encodedString.length);
+            output.write(encodedString);
+        }
+
+        for (int j = 0; j < nameReferences.length; j++) {
+            output.writeInt(nameReferences[j]);
+            output.writeInt(recordBase + recordOffsets[j]);
+        }
+
+        records.writeTo(output);
+        output.flush();
+    }
+
+
+    /**
+     * Write an enum configuration record
+     *
+     * @param output the output
+     * @param enumConfiguration the enum configuration
+     * @throws IOException In case of an error
+     */
+    private void writeEnumConfiguration(DataOutputStream output, EnumConfiguration<? extends EnumKeyConfiguration> enumConfiguration) throws IOException {
+        output.writeInt(reference(enumConfiguration.getName()));
+        output.writeInt(reference(enumConfiguration.getDescription()));
+        output.writeInt(reference(enumConfiguration.getTag()));
+        writeTimestamp(output, enumConfiguration.getValidFrom());
+        writeTimestamp(output, enumConfiguration.getValidTill());
+        writeStringSet(output, enumConfiguration.getInterfaceList());
+        writeStringSet(output, enumConfiguration.getMarkerInterfaceList());
+
+        Set<? extends EnumKeyConfiguration> keyList = enumConfiguration.getKeyList();
+        output.writeInt(keyList.size());
+        for (EnumKeyConfiguration enumKeyConfiguration : keyList) {
+            writeEnumKeyConfiguration(output, enumKeyConfiguration);
+        }
+    }
+
+
+    /**
+     * Write a fixed width key record
+     *
+     * @param output the output
+     * @param enumKeyConfiguration the enum key configuration
+     * @throws IOException In case of an error
+     */
+    private void writeEnumKeyConfiguration(DataOutputStream output, EnumKeyConfiguration enumKeyConfiguration) throws IOException {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = null;
+        if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+            enumKeyValueConfiguration = (EnumKeyValueConfiguration) enumKeyConfiguration;
+        }
+
+        if (enumKeyValueConfiguration == null) {
+            output.writeByte(EnumConfigurationBinaryFormat.KIND_KEY);
+        } else {
+            output.writeByte(EnumConfigurationBinaryFormat.KIND_KEY_VALUE);
+        }
+
+        output.writeBoolean(enumKeyConfiguration.isConfidential());
+        output.writeBoolean(enumKeyValueConfiguration != null && enumKeyValueConfiguration.isUniqueness());
+        if (enumKeyValueConfiguration == null || enumKeyValueConfiguration.getDataType() == null) {
+            output.writeByte(EnumConfigurationBinaryFormat.NO_DATA_TYPE);
+        } else {
+            output.writeByte(enumKeyValueConfiguration.getDataType().ordinal());
+        }
+
+        output.writeInt(reference(enumKeyConfiguration.getKey()));
+        output.writeInt(reference(enumKeyConfiguration.getDescription()));
+        writeTimestamp(output, enumKeyConfiguration.getValidFrom());
+        writeTimestamp(output, enumKeyConfiguration.getValidTill());
+
+        if (enumKeyValueConfiguration == null) {
+            output.writeInt(EnumConfigurationBinaryFormat.NULL_REFERENCE);
+            output.writeInt(EnumConfigurationBinaryFormat.NULL_REFERENCE);
+            output.writeInt(EnumConfigurationBinaryFormat.NULL_REFERENCE);
+            writeSizing(output, null);
+            writeSizing(output, null);
+        } else {
+            output.writeInt(reference(enumKeyValueConfiguration.getDefaultValue()));
+            output.writeInt(reference(enumKeyValueConfiguration.getExampleValue()));
+            output.writeInt(reference(enumKeyValueConfiguration.getEnumerationValue()));
+            writeSizing(output, enumKeyValueConfiguration.getValueSize());
+            writeSizing(output, enumKeyValueConfiguration.getCardinality());
+        }
+    }
+
+
+    /**
+     * Write a sizing
+     *
+     * @param output the output
+     * @param sizing the sizing or null
+     * @throws IOException In case of an error
+     */
+    private void writeSizing(DataOutputStream output, EnumKeyValueConfigurationSizing<?> sizing) throws IOException {
+        if (sizing == null) {
+            output.writeBoolean(false);
+            output.writeInt(EnumConfigurationBinaryFormat.NULL_REFERENCE);
+            writeValue(output, null);
+            output.writeInt(EnumConfigurationBinaryFormat.NULL_REFERENCE);
+            writeValue(output, null);
+            return;
+        }
+
+        output.writeBoolean(true);
+        output.writeInt(reference(sizing.getMinSizeAsString()));
+        writeValue(output, sizing.getMinSize());
+        output.writeInt(reference(sizing.getMaxSizeAsString()));
+        writeValue(output, sizing.getMaxSize());
+    }
+
+
+    /**
+     * Write a typed value, the type is kept to get an equal value back
+     *
+     * @param output the output
+     * @param value the value or null
+     * @throws IOException In case of an error
+     */
+    private void writeValue(DataOutputStream output, Object value) throws IOException {
+        byte type;
+        long longValue = 0;
+        int intValue = 0;
+        if (value == null) {
+            type = EnumConfigurationBinaryFormat.TYPE_NULL;
+        } else if (value instanceof Integer) {
+            type = EnumConfigurationBinaryFormat.TYPE_INTEGER;
+            intValue = (Integer) value;
+        } else if (value instanceof Long) {
+            type = EnumConfigurationBinaryFormat.TYPE_LONG;
+            longValue = (Long) value;
+        } else if (value instanceof Double) {
+            type = EnumConfigurationBinaryFormat.TYPE_DOUBLE;
+            longValue = Double.doubleToRawLongBits((Double) value);
+        } else if (value instanceof Boolean) {
+            type = EnumConfigurationBinaryFormat.TYPE_BOOLEAN;
+            intValue = ((Boolean) value) ? 1 : 0;
+        } else if (value instanceof LocalDate) {
+            type = EnumConfigurationBinaryFormat.TYPE_LOCAL_DATE;
+            longValue = ((LocalDate) value).toEpochDay();
+        } else if (value instanceof LocalTime) {
+            type = EnumConfigurationBinaryFormat.TYPE_LOCAL_TIME;
+            longValue = ((LocalTime) value).toNanoOfDay();
+        } else if (value instanceof Instant) {
+            type = EnumConfigurationBinaryFormat.TYPE_INSTANT;
+            longValue = ((Instant) value).getEpochSecond();
+            intValue = ((Instant) value).getNano();
+        } else if (value instanceof BigInteger) {
+            type = EnumConfigurationBinaryFormat.TYPE_BIG_INTEGER;
+            intValue = reference(value.toString());
+        } else if (value instanceof BigDecimal) {
+            type = EnumConfigurationBinaryFormat.TYPE_BIG_DECIMAL;
+            intValue = reference(value.toString());
+        } else {
+            type = EnumConfigurationBinaryFormat.TYPE_STRING;
+            intValue = reference(value.toString());
+        }
+
+        output.writeByte(type);
+        output.writeLong(longValue);
+        output.writeInt(intValue);
+    }
+
+
+    /**
+     * Write a timestamp
+     *
+     * @param output the output
+     * @param timestamp the timestamp or null
+     * @throws IOException In case of an error
+     */
+    private void writeTimestamp(DataOutputStream output, Instant timestamp) throws IOException {
+        if (timestamp == null) {
+            output.writeBoolean(false);
+            output.writeLong(0);
+            output.writeInt(0);
+        } else {
+            output.writeBoolean(true);
+            output.writeLong(timestamp.getEpochSecond());
+            output.writeInt(timestamp.getNano());
+        }
+    }
+
+
+    /**
+     * Write a string set, a null set is written with a negative size
+     *
+     * @param output the output
+     * @param stringSet the string set or null
+     * @throws IOException In case of an error
+     */
+    private void writeStringSet(DataOutputStream output, Set<String> stringSet) throws IOException {
+        if (stringSet == null) {
+            output.writeInt(-1);
+            return;
+        }
+
+        output.writeInt(stringSet.size());
+        for (String s : stringSet) {
+            output.writeInt(reference(s));
+        }
+    }
+
+
+    /**
+     * Get the reference of a string in the string table, each string is stored only once
+     *
+     * @param value the string or null
+     * @return the reference
+     */
+    private int reference(String value) {
+        if (value == null) {
+            return EnumConfigurationBinaryFormat.NULL_REFERENCE;
+        }
+
+        Integer reference = stringReferenceMap.get(value);
+        if (reference == null) {
+            reference = stringList.size();
+            stringList.add(value);
+            stringReferenceMap.put(value, reference);
+        }
+
+        return reference;
+    }
+}
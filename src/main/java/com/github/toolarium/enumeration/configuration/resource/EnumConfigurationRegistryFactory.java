@@ -0,0 +1,136 @@
+/*
+ * EnumConfigurationRegistryFactory.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Defines the factory to resolve the {@link IEnumConfigurationRegistry} which is generated by the annotation processor
+ * for an enum. The registry class is placed in the package of the enum and named by the escaped enum class name, see
+ * {@link #getRegistryClassName(String)}: an underscore is doubled and the separator of a nested enum ($) becomes _0.
+ *
+ * @author patrick
+ */
+public final class EnumConfigurationRegistryFactory {
+    /** Defines the suffix of the generated registry class name */
+    public static final String REGISTRY_CLASS_NAME_SUFFIX = "EnumConfigurationRegistry";
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnumConfigurationRegistryFactory.class);
+    private final ClassValue<IEnumConfigurationRegistry> registryIndex;
+
+
+    /**
+     * Private class, the only instance of the singleton which will be created by accessing the holder class.
+     */
+    private static final class HOLDER {
+        static final EnumConfigurationRegistryFactory INSTANCE = new EnumConfigurationRegistryFactory();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private EnumConfigurationRegistryFactory() {
+        registryIndex = new ClassValue<IEnumConfigurationRegistry>() {
+            /**
+             * @see java.lang.ClassValue#computeValue(java.lang.Class)
+             */
+            @Override
+            protected IEnumConfigurationRegistry computeValue(Class<?> type) {
+                return loadRegistry(type);
+            }
+        };
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static EnumConfigurationRegistryFactory getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Get the generated registry of an enum. The registry is resolved only once per enum class.
+     *
+     * @param enumClass the enum class
+     * @return the registry or null if there is no generated registry
+     */
+    public IEnumConfigurationRegistry getRegistry(Class<?> enumClass) {
+        if (enumClass == null || !enumClass.isEnum()) {
+            return null;
+        }
+
+        return registryIndex.get(enumClass);
+    }
+
+
+    /**
+     * Get the full qualified registry class name of an enum. The registry is a top level class in the package of the enum, 
+     * therefore the class name is escaped: an underscore is doubled and the separator of a nested class ($) becomes _0. 
+     * Like this the registry of a nested enum can't collide with the registry of a top level enum.
+     *
+     * @param enumBinaryName the binary name of the enum class, e.g. my.sample.Outer$SampleEnum
+     * @return the full qualified registry class name, e.g. my.sample.Outer_0SampleEnumEnumConfigurationRegistry
+     */
+    public String getRegistryClassName(String enumBinaryName) {
+        if (enumBinaryName == null || enumBinaryName.isBlank()) {
+            return null;
+        }
+
+        String name = enumBinaryName.trim();
+        int idx = name.lastIndexOf('.') + 1;
+        StringBuilder result = new StringBuilder(name.length() + REGISTRY_CLASS_NAME_SUFFIX.length() + 4).append(name, 0, idx);
+        for (int i = idx; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '_') {
+                result.append("__");
+            } else if (c == '$') {
+                result.append("_0");
+            } else {
+                result.append(c);
+            }
+        }
+
+        return result.append(REGISTRY_CLASS_NAME_SUFFIX).toString();
+    }
+
+
+    /**
+     * Load the registry of an enum
+     *
+     * @param enumClass the enum class
+     * @return the registry or null if there is no generated registry
+     */
+    private IEnumConfigurationRegistry loadRegistry(Class<?> enumClass) {
+        ClassLoader classLoader = enumClass.getClassLoader();
+        if (classLoader == null) {
+            return null;
+        }
+
+        String registryClassName = getRegistryClassName(enumClass.getName());
+        try {
+            Class<?> registryClass = Class.forName(registryClassName, true, classLoader);
+            if (!IEnumConfigurationRegistry.class.isAssignableFrom(registryClass)) {
+                LOG.warn("Class " + registryClassName + " does not implement IEnumConfigurationRegistry, ignore it.");
+                return null;
+            }
+
+            return (IEnumConfigurationRegistry) registryClass.getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException ex) {
+            LOG.debug("No enum configuration registry found for " + enumClass.getName() + ".");
+        } catch (Exception | LinkageError ex) {
+            LOG.warn("Could not initialize enum configuration registry " + registryClassName + ": " + ex.getMessage(), ex);
+        }
+
+        return null;
+    }
+}
@@ -10,12 +10,16 @@ import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
 import com.github.toolarium.enumeration.configuration.processor.EnumConfigurationProcessor;
 import com.github.toolarium.enumeration.configuration.util.JSONUtil;
-import java.io.FileInputStream;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 
 /**
@@ -24,7 +28,9 @@ import java.nio.file.Paths;
  * @author patrick
  */
 public final class EnumConfigurationResourceFactory {
-    
+    private static final int BINARY_FORMAT_HEADER_SIZE = EnumConfigurationBinaryFormat.HEADER_SIZE;
+
+
     /**
      * Private class, the only instance of the singleton which will be created by accessing the holder class.
      */
@@ -74,49 +80,150 @@ public final class EnumConfigurationResourceFactory {
      * @throws IOException In case of an error
      */
     public  <T extends EnumKeyConfiguration> EnumConfigurations load(String inputFilePath, String inputFileName) throws IOException {
-        String filePath = inputFilePath;
-        if (filePath == null || filePath.isBlank()) {
-            filePath = EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_JSON_PATH;
+        Path resolved = resolvePath(inputFilePath, inputFileName, EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_JSON_FILENAME);
+        try (FileChannel fileChannel = FileChannel.open(resolved, StandardOpenOption.READ)) {
+            if (fileChannel.size() >= BINARY_FORMAT_HEADER_SIZE) {
+                ByteBuffer header = readHeader(fileChannel);
+                if (EnumConfigurationBinaryReader.isBinaryFormat(header)) {
+                    return new EnumConfigurationBinaryReader(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size())).readEnumConfigurations();
+                }
+            }
+
+            // the JSON is read from the already opened file
+            fileChannel.position(0);
+            return JSONUtil.getInstance().read(EnumConfigurations.class, Channels.newInputStream(fileChannel));
         }
-        
-        if (!filePath.endsWith("/")) {
-            filePath += "/";
+    }
+
+    
+    /**
+     * Read the header of the binary format, a read can return less bytes than requested therefore it reads until the header is complete.
+     * 
+     * @param fileChannel the file channel
+     * @return the header, ready to read
+     * @throws IOException In case of an error or in case the file ends before the header is complete
+     */
+    private ByteBuffer readHeader(FileChannel fileChannel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(BINARY_FORMAT_HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (fileChannel.read(header, header.position()) < 0) {
+                throw new IOException("Incomplete header, the file ends after " + header.position() + " bytes!");
+            }
         }
+        
+        header.flip();
+        return header;
+    }
 
-        String fileName = inputFileName; 
-        if (inputFileName == null || inputFileName.isBlank()) {
-            fileName = EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_JSON_FILENAME;
+    
+    /**
+     * Load a collection of {@link EnumConfiguration}, the input stream can contain the JSON or the binary format.
+     * 
+     * @param <T> The generic type
+     * @param inputstream the input stream
+     * @return the collection
+     * @throws IOException In case of an error
+     */
+    public  <T extends EnumKeyConfiguration> EnumConfigurations load(InputStream inputstream) throws IOException {
+        if (inputstream == null) {
+            return null;
         }
         
-        Path basePath = Paths.get(filePath).normalize();
-        Path resolved = Paths.get(filePath, fileName).normalize();
-        if (!resolved.startsWith(basePath)) {
-            throw new IOException("Invalid file path: path traversal detected.");
+        InputStream stream = inputstream;
+        if (!stream.markSupported()) {
+            stream = new BufferedInputStream(stream);
         }
-
-        try (InputStream stream = new FileInputStream(resolved.toFile())) {
-            return load(stream);
+        
+        if (isBinaryFormat(stream)) {
+            return load(ByteBuffer.wrap(stream.readAllBytes()));
         }
+        
+        return JSONUtil.getInstance().read(EnumConfigurations.class, stream);
     }
 
     
     /**
-     * Load a collection of {@link EnumConfiguration}.
+     * Check if an input stream starts with the binary format. The input stream has to support mark, it is reset after the check.
      * 
-     * @param <T> The generic type
      * @param inputstream the input stream
+     * @return true if the input stream contains the binary format
+     * @throws IOException In case of an error
+     */
+    public boolean isBinaryFormat(InputStream inputstream) throws IOException {
+        if (inputstream == null || !inputstream.markSupported()) {
+            return false;
+        }
+        
+        inputstream.mark(BINARY_FORMAT_HEADER_SIZE);
+        byte[] header = inputstream.readNBytes(BINARY_FORMAT_HEADER_SIZE);
+        inputstream.reset();
+        return EnumConfigurationBinaryReader.isBinaryFormat(ByteBuffer.wrap(header));
+    }
+
+    
+    /**
+     * Load a collection of {@link EnumConfiguration} from the binary format.
+     * 
+     * @param buffer the buffer
      * @return the collection
      * @throws IOException In case of an error
      */
-    public  <T extends EnumKeyConfiguration> EnumConfigurations load(InputStream inputstream) throws IOException {
+    public EnumConfigurations load(ByteBuffer buffer) throws IOException {
+        if (buffer == null) {
+            return null;
+        }
+        
+        return new EnumConfigurationBinaryReader(buffer).readEnumConfigurations();
+    }
+
+    
+    /**
+     * Open a file in the binary format. The file is memory mapped and the enum configurations are decoded on first access.
+     * 
+     * @param inputFilePath the file path
+     * @param inputFileName the file name
+     * @return the reader
+     * @throws IOException In case of an error
+     */
+    public EnumConfigurationBinaryReader openBinary(String inputFilePath, String inputFileName) throws IOException {
+        Path resolved = resolvePath(inputFilePath, inputFileName, EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_FILENAME);
+        try (FileChannel fileChannel = FileChannel.open(resolved, StandardOpenOption.READ)) {
+            return new EnumConfigurationBinaryReader(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+        }
+    }
+    
+
+    /**
+     * Open an input stream in the binary format. The content is read into the heap and the enum configurations are decoded on first access.
+     * 
+     * @param inputstream the input stream
+     * @return the reader or null
+     * @throws IOException In case of an error or in case the input stream doesn't contain the binary format
+     */
+    public EnumConfigurationBinaryReader openBinary(InputStream inputstream) throws IOException {
         if (inputstream == null) {
             return null;
         }
         
-        return JSONUtil.getInstance().read(EnumConfigurations.class, inputstream);
+        return new EnumConfigurationBinaryReader(ByteBuffer.wrap(inputstream.readAllBytes()));
     }
     
 
+    /**
+     * Get the name of the resource which contains only the given enum configuration.
+     * 
+     * @param configurationName the configuration name, e.g. my.sample.SampleEnum
+     * @return the resource name, e.g. META-INF/toolarium-enum-configuration/my.sample.SampleEnum.json
+     */
+    public String getResourceName(String configurationName) {
+        if (configurationName == null || configurationName.isBlank()) {
+            return null;
+        }
+        
+        return EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_PATH + configurationName.trim() + ".json";
+    }
+
+    
     /**
      * Store a collection of {@link EnumConfiguration}.
      * 
@@ -131,4 +238,55 @@ public final class EnumConfigurationResourceFactory {
 
         JSONUtil.getInstance().write(enumConfigurations, outputStream);
     }
+
+    
+    /**
+     * Store a collection of {@link EnumConfiguration} in the binary format.
+     * 
+     * @param enumConfigurations the collection
+     * @param outputStream the output stream
+     * @throws IOException In case of an error
+     */
+    public void storeBinary(EnumConfigurations enumConfigurations, OutputStream outputStream) throws IOException {
+        if (outputStream == null || enumConfigurations == null || enumConfigurations.getEnumConfigurationList() == null || enumConfigurations.getEnumConfigurationList().isEmpty()) {
+            return;
+        }
+
+        new EnumConfigurationBinaryWriter().write(enumConfigurations, outputStream);
+    }
+
+    
+    /**
+     * Resolve the path of a file
+     * 
+     * @param inputFilePath the file path
+     * @param inputFileName the file name
+     * @param defaultFileName the default file name
+     * @return the resolved path
+     * @throws IOException In case of a path traversal
+     */
+    private Path resolvePath(String inputFilePath, String inputFileName, String defaultFileName) throws IOException {
+        String filePath = inputFilePath;
+        if (filePath == null || filePath.isBlank()) {
+            filePath = EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_JSON_PATH;
+        }
+        
+        if (!filePath.endsWith("/")) {
+            filePath += "/";
+        }
+
+        String fileName = inputFileName; 
+        if (inputFileName == null || inputFileName.isBlank()) {
+            fileName = defaultFileName;
+        }
+        
+        Path basePath = Paths.get(filePath).normalize();
+        Path resolved = Paths.get(filePath, fileName).normalize();
+        if (!resolved.startsWith(basePath)) {
+            throw new IOException("Invalid file path: path traversal detected.");
+        }
+        
+        return resolved;
+    }
 }
+
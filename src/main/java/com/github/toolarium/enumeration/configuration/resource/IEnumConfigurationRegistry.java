@@ -0,0 +1,46 @@
+/*
+ * IEnumConfigurationRegistry.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+
+
+/**
+ * Defines the registry of an enum configuration. The registry is generated by the annotation processor for each annotated
+ * enum and holds the already parsed configuration of the enum constants indexed by the ordinal. The returned instances
+ * are copies, a modification doesn't change the registry.
+ *
+ * @author patrick
+ */
+public interface IEnumConfigurationRegistry {
+
+    /**
+     * Get the enum configuration
+     *
+     * @return a copy of the enum configuration
+     */
+    EnumConfiguration<EnumKeyConfiguration> getEnumConfiguration();
+
+
+    /**
+     * Get the {@link EnumKeyConfiguration} of an enum constant
+     *
+     * @param ordinal the ordinal of the enum constant
+     * @return a copy of the enum key configuration or null if the enum constant is not annotated
+     */
+    EnumKeyConfiguration getEnumKeyConfiguration(int ordinal);
+
+
+    /**
+     * Get the {@link EnumKeyValueConfiguration} of an enum constant
+     *
+     * @param ordinal the ordinal of the enum constant
+     * @return a copy of the enum key value configuration or null if the enum constant is not annotated as key / value
+     */
+    EnumKeyValueConfiguration getEnumKeyValueConfiguration(int ordinal);
+}
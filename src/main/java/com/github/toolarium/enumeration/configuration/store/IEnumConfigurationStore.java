@@ -6,6 +6,8 @@
 package com.github.toolarium.enumeration.configuration.store;
 
 import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Properties;
 
 
@@ -163,6 +165,80 @@ public interface IEnumConfigurationStore {
     <T extends Enum<T>> Properties readConfigurationValueListIgnoreDefault(T[] configurationKeys) throws EnumConfigurationStoreException;   
 
 
+    /**
+     * Read the configuration values of a list of keys in one pass, the values are loaded in bulk from the store.
+     * In case of missing value a possible defined default value from the enum configuration annotation will be returned. 
+     *
+     * @param <D> the configuration value type
+     * @param <T> the generic configuration name  
+     * @param configurationKeys the configuration keys
+     * @return the read configuration values, keys without a value are not contained
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be accessed 
+     */
+    <D, T extends Enum<T>> Map<T, IEnumConfigurationValue<D>> readConfigurationValues(Collection<T> configurationKeys) throws EnumConfigurationStoreException;   
+
+    
+    /**
+     * Read the configuration values of a list of keys in one pass, the values are loaded in bulk from the store.
+     * In case of missing the value a possible defined default value in the enum configuration will be ignored.
+     *
+     * @param <D> the configuration value type
+     * @param <T> the generic configuration name  
+     * @param configurationKeys the configuration keys
+     * @return the read configuration values, keys without a value are not contained
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be accessed 
+     */
+    <D, T extends Enum<T>> Map<T, IEnumConfigurationValue<D>> readConfigurationValuesIgnoreDefault(Collection<T> configurationKeys) throws EnumConfigurationStoreException;   
+
+
+    /**
+     * Read the value of a NUMBER configuration as primitive long. In case of a list it will be the first element.
+     * In case of missing value a possible defined default value from the enum configuration annotation will be returned. 
+     *
+     * @param <T> the generic configuration name
+     * @param configurationKey the configuration key
+     * @return the value
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be accessed, there is no value or it's not a number
+     */
+    <T extends Enum<T>> long readLong(T configurationKey) throws EnumConfigurationStoreException;   
+
+
+    /**
+     * Read the value of a DOUBLE or NUMBER configuration as primitive double. In case of a list it will be the first element.
+     * In case of missing value a possible defined default value from the enum configuration annotation will be returned. 
+     *
+     * @param <T> the generic configuration name
+     * @param configurationKey the configuration key
+     * @return the value
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be accessed, there is no value or it's not a number
+     */
+    <T extends Enum<T>> double readDouble(T configurationKey) throws EnumConfigurationStoreException;   
+
+
+    /**
+     * Read the value of a BOOLEAN configuration as primitive boolean.
+     * In case of missing value a possible defined default value from the enum configuration annotation will be returned. 
+     *
+     * @param <T> the generic configuration name
+     * @param configurationKey the configuration key
+     * @return the value
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be accessed, there is no value or it's not a boolean
+     */
+    <T extends Enum<T>> boolean readBoolean(T configurationKey) throws EnumConfigurationStoreException;   
+
+
+    /**
+     * Read the values of a NUMBER configuration as primitive long array.
+     * In case of missing value a possible defined default value from the enum configuration annotation will be returned. 
+     *
+     * @param <T> the generic configuration name
+     * @param configurationKey the configuration key
+     * @return the values, an empty array in case there is no value
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be accessed or it's not a number
+     */
+    <T extends Enum<T>> long[] readLongArray(T configurationKey) throws EnumConfigurationStoreException;   
+
+    
     /**
      * Write a list of configuration values. All other values in the store are not touched. 
      *
@@ -5,7 +5,20 @@
  */
 package com.github.toolarium.enumeration.configuration.store;
 
+import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.util.CertificateChain;
+import com.github.toolarium.enumeration.configuration.util.CertificateUtil;
+import com.github.toolarium.enumeration.configuration.util.CronSchedule;
+import com.github.toolarium.enumeration.configuration.util.CronUtil;
+import com.github.toolarium.enumeration.configuration.util.RegExpUtil;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import java.security.cert.CertificateException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 /**
  * Defines the enum configuration value
@@ -32,6 +45,155 @@ public interface IEnumConfigurationValue<P> {
     <D> Collection<D> getValueList();
     
     
+    /**
+     * Get the value as compiled pattern, e.g. of a REGEXP configuration. In case of a list it will be the first element.
+     * The expression is validated as REGEXP and the patterns are compiled once and cached, see {@link RegExpUtil}.
+     *
+     * @return the compiled pattern or null
+     * @throws PatternSyntaxException In case of an invalid or unsafe expression
+     */
+    default Pattern getPattern() throws PatternSyntaxException {
+        Collection<Object> valueList = getValueList();
+        if (valueList == null || valueList.isEmpty()) {
+            return null;
+        }
+
+        Object value = valueList.iterator().next();
+        if (value == null) {
+            return null;
+        }
+        
+        return getValidatedPattern(value.toString());
+    }
+
+
+    /**
+     * Get the values as compiled patterns, e.g. of a REGEXP configuration. The expressions are validated as REGEXP and the 
+     * patterns are compiled once and cached, see {@link RegExpUtil}.
+     *
+     * @return the compiled patterns
+     * @throws PatternSyntaxException In case of an invalid or unsafe expression
+     */
+    default List<Pattern> getPatternList() throws PatternSyntaxException {
+        List<Pattern> result = new ArrayList<Pattern>();
+        Collection<Object> valueList = getValueList();
+        if (valueList != null) {
+            for (Object value : valueList) {
+                if (value != null) {
+                    result.add(getValidatedPattern(value.toString()));
+                }
+            }
+        }
+        
+        return result;
+    }
+
+
+    /**
+     * Get the value as compiled schedule of a CRON configuration. In case of a list it will be the first element.
+     * The expression is validated as CRON before the schedule is compiled once and cached, see {@link CronUtil}.
+     *
+     * @return the compiled schedule or null
+     * @throws IllegalArgumentException In case of an invalid expression or it is not supported by {@link CronSchedule}
+     */
+    default CronSchedule getCronSchedule() throws IllegalArgumentException {
+        Collection<Object> valueList = getValueList();
+        if (valueList == null || valueList.isEmpty()) {
+            return null;
+        }
+
+        Object value = valueList.iterator().next();
+        if (value == null) {
+            return null;
+        }
+        
+        // a cached schedule passed the validation already
+        CronSchedule schedule = CronUtil.getInstance().getCachedSchedule(value.toString());
+        if (schedule != null) {
+            return schedule;
+        }
+
+        // the schedule is compiled from the converted (trimmed) expression
+        String expression;
+        try {
+            expression = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.CRON, value.toString());
+        } catch (ValidationException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+
+        return CronUtil.getInstance().putSchedule(expression, CronUtil.getInstance().getSchedule(expression));
+    }
+
+
+    /**
+     * Get the value as parsed certificates of a CERTIFICATE configuration. In case of a list it will be the first element.
+     * The certificates are parsed once and cached by the fingerprint of the content, see {@link CertificateUtil}.
+     *
+     * @return the certificate chain or null
+     * @throws CertificateException In case of an invalid certificate
+     */
+    default CertificateChain getCertificateChain() throws CertificateException {
+        Collection<Object> valueList = getValueList();
+        if (valueList == null || valueList.isEmpty()) {
+            return null;
+        }
+
+        Object value = valueList.iterator().next();
+        if (value == null) {
+            return null;
+        }
+        
+        return CertificateUtil.getInstance().getCertificateChain(value.toString());
+    }
+
+
+    /**
+     * Get the values as parsed certificates, e.g. of a CERTIFICATE configuration. The certificates are parsed once and cached 
+     * by the fingerprint of the content, see {@link CertificateUtil}.
+     *
+     * @return the certificate chains
+     * @throws CertificateException In case of an invalid certificate
+     */
+    default List<CertificateChain> getCertificateChainList() throws CertificateException {
+        List<CertificateChain> result = new ArrayList<CertificateChain>();
+        Collection<Object> valueList = getValueList();
+        if (valueList != null) {
+            for (Object value : valueList) {
+                if (value != null) {
+                    result.add(CertificateUtil.getInstance().getCertificateChain(value.toString()));
+                }
+            }
+        }
+        
+        return result;
+    }
+
+
+    /**
+     * Get the compiled pattern of an expression, a cached pattern passed the REGEXP validation of the string type converter already.
+     * Otherwise the expression is validated, which adds the pattern to the cache.
+     *
+     * @param expression the expression
+     * @return the compiled pattern
+     * @throws PatternSyntaxException In case of an invalid or unsafe expression
+     */
+    private static Pattern getValidatedPattern(String expression) throws PatternSyntaxException {
+        Pattern pattern = RegExpUtil.getInstance().getCachedPattern(expression);
+        if (pattern != null) {
+            return pattern;
+        }
+
+        String regExp;
+        try {
+            regExp = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.REGEXP, expression);
+        } catch (ValidationException e) {
+            throw new PatternSyntaxException(e.getMessage(), expression, -1);
+        }
+
+        return RegExpUtil.getInstance().getPattern(regExp);
+    }
+
+
     /**
      * Get the string representation
      *
@@ -77,6 +77,24 @@ public class EnumConfigurationStoreException extends RuntimeException {
     }
 
     
+    /**
+     * Add the invalid configurations of another exception
+     *
+     * @param exception the exception
+     */
+    public void addAll(EnumConfigurationStoreException exception) {
+        if (exception == null || exception.invalidConfigurationValueMap == null) {
+            return;
+        }
+        
+        if (invalidConfigurationValueMap == null) {
+            invalidConfigurationValueMap = new HashMap<>();            
+        }
+
+        invalidConfigurationValueMap.putAll(exception.invalidConfigurationValueMap);
+    }
+
+    
     /**
      * Get the key set of the invalid configurations
      *
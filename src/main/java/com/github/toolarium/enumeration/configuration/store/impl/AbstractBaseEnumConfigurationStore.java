@@ -7,19 +7,27 @@ package com.github.toolarium.enumeration.configuration.store.impl;
 
 import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import com.github.toolarium.enumeration.configuration.dto.SortedProperties;
 import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationKeyResolver;
 import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore;
 import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationValue;
 import com.github.toolarium.enumeration.configuration.store.dto.EnumConfigurationValue;
 import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
-import com.github.toolarium.enumeration.configuration.util.EnumKeyValueConfigurationBinaryObjectParser;
+import com.github.toolarium.enumeration.configuration.util.DerivedDataCache;
+import com.github.toolarium.enumeration.configuration.util.EnumKeyValueConfigurationBinaryDefaultValue;
 import com.github.toolarium.enumeration.configuration.util.JSONUtil;
 import com.github.toolarium.enumeration.configuration.validation.EnumConfigurationValidatorFactory;
+import com.github.toolarium.enumeration.configuration.validation.IEnumConfigurationValueValidator;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import com.github.toolarium.enumeration.configuration.validation.impl.AbstractEnumConfigurationValidator;
+import com.github.toolarium.enumeration.configuration.validation.impl.EnumKeyValueConfigurationReadPlan;
+import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyValueConfigurationValueValidatorFactory;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -38,6 +46,8 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
     private static final String INVALID_INPUT_CONFIGURATION_KEY_NAME = "Invalid input configuration key name!";
     
     private volatile IEnumConfigurationKeyResolver enumConfigurationKeyResolver;
+    private final DerivedDataCache<EnumKeyValueConfiguration, EnumKeyValueConfigurationReadPlan> readPlanCache;
+    private final DerivedDataCache<EnumKeyValueConfiguration, EnumKeyValueConfigurationBinaryDefaultValue> binaryDefaultValueCache;
 
     
     /**
@@ -45,6 +55,8 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
      */
     public AbstractBaseEnumConfigurationStore() {
         enumConfigurationKeyResolver = new EnumConfigurationKeyResolver();
+        readPlanCache = new DerivedDataCache<EnumKeyValueConfiguration, EnumKeyValueConfigurationReadPlan>();
+        binaryDefaultValueCache = new DerivedDataCache<EnumKeyValueConfiguration, EnumKeyValueConfigurationBinaryDefaultValue>();
     }
 
 
@@ -107,6 +119,7 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
         String configurationKeyName = inputConfigurationKeyName.trim();
         validate(configurationKeyName, value);
         writeConfiguration(configurationKeyName, value);
+        configurationChanged(configurationKeyName);
     }
 
 
@@ -124,6 +137,7 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
         String value = convertObjectToString(configurationKeyName, getEnumKeyValueConfiguration(configurationKeyName), configurationValue);
         validate(configurationKeyName, value);
         writeConfiguration(configurationKeyName, value);
+        configurationChanged(configurationKeyName);
     }
 
 
@@ -199,27 +213,50 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
             return new SortedProperties();
         }
 
-        Set<String> keySetToDelete = null;
-        if (removeEntriesWithMissingKey) {
-            keySetToDelete = readKeys();
-        }
-
+        // validate all entries before anything is written
+        Map<String, String> configurationMap = new LinkedHashMap<String, String>();
+        List<EnumConfigurationStoreException> exceptionList = null;
         for (Map.Entry<Object, Object> e: configuration.entrySet()) {
             String configurationKeyName = ("" + e.getKey()).trim();
             if (configurationKeyName != null && !configurationKeyName.isBlank()) {
 
                 String valueStr = "" + e.getValue();
                 if (valueStr != null && !valueStr.isEmpty()) {
-                    // remove the updated key from set
-                    if (removeEntriesWithMissingKey && keySetToDelete != null) {
-                        keySetToDelete.remove(configurationKeyName);
+                    try {
+                        validate(configurationKeyName, valueStr);
+                        configurationMap.put(configurationKeyName, valueStr);
+                    } catch (EnumConfigurationStoreException ex) {
+                        if (exceptionList == null) {
+                            exceptionList = new ArrayList<EnumConfigurationStoreException>();
+                        }
+                        
+                        exceptionList.add(ex);
                     }
-                    
-                    writeConfigurationValue(configurationKeyName, valueStr);
                 } 
             }
         }
 
+        if (exceptionList != null) {
+            throw prepareException(exceptionList);
+        }
+        
+        Set<String> keySetToDelete = null;
+        if (removeEntriesWithMissingKey) {
+            keySetToDelete = readKeys();
+            if (keySetToDelete != null) {
+                keySetToDelete.removeAll(configurationMap.keySet());
+            }
+        }
+
+        try {
+            writeConfigurations(configurationMap);
+        } finally {
+            // a failed write may have committed a part of the entries
+            for (String configurationKeyName : configurationMap.keySet()) {
+                configurationChanged(configurationKeyName);
+            }
+        }
+        
         if (!removeEntriesWithMissingKey || keySetToDelete == null || keySetToDelete.isEmpty()) {
             return new SortedProperties();
         }
@@ -241,6 +278,7 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
 
         IEnumConfigurationValue<D> result = readConfigurationValueIgnoreDefault(inputConfigurationKeyName);
         deleteConfiguration(inputConfigurationKeyName.trim());
+        configurationChanged(inputConfigurationKeyName.trim());
         return result;
     }
 
@@ -262,6 +300,7 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
                 if (inputConfigurationKeyName != null && !inputConfigurationKeyName.isBlank()) {
                     String configurationKeyName = inputConfigurationKeyName.trim();
                     result.setProperty(configurationKeyName, handlingNullObject(deleteConfiguration(configurationKeyName)));
+                    configurationChanged(configurationKeyName);
                 }
             }
         }
@@ -305,17 +344,39 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
         }
 
         // special handling for binary types
-        try {
-            value = EnumKeyValueConfigurationBinaryObjectParser.getInstance().mergeDefaultValues(enumKeyValueConfiguration, value);
-        } catch (EnumConfigurationStoreException ex) {
-            LOG.debug(ex.getMessage());
-            throw ex;
+        if (value != null && enumKeyValueConfiguration != null && EnumKeyValueConfigurationDataType.BINARY.equals(enumKeyValueConfiguration.getDataType())) {
+            try {
+                value = getBinaryDefaultValue(enumKeyValueConfiguration).merge(value);
+            } catch (EnumConfigurationStoreException ex) {
+                LOG.debug(ex.getMessage());
+                throw ex;
+            }
         }
         
         return value;
     }
 
     
+    /**
+     * Get the binary default value of an {@link EnumKeyValueConfiguration}. It is created once per configuration and kept by the
+     * store until the configuration changes, see {@link EnumKeyValueConfiguration#getModificationCount()}.
+     *
+     * @param enumKeyValueConfiguration the enum key value configuration
+     * @return the binary default value
+     */
+    protected EnumKeyValueConfigurationBinaryDefaultValue getBinaryDefaultValue(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+        long modificationCount = enumKeyValueConfiguration.getModificationCount();
+        EnumKeyValueConfigurationBinaryDefaultValue binaryDefaultValue = binaryDefaultValueCache.get(enumKeyValueConfiguration, modificationCount);
+        if (binaryDefaultValue != null) {
+            return binaryDefaultValue;
+        }
+        
+        binaryDefaultValue = new EnumKeyValueConfigurationBinaryDefaultValue(enumKeyValueConfiguration);
+        binaryDefaultValueCache.put(enumKeyValueConfiguration, modificationCount, binaryDefaultValue);
+        return binaryDefaultValue;
+    }
+
+    
     /**
      * Validate the configuration value
      *
@@ -335,7 +396,7 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
         
         try {
             EnumKeyValueConfiguration enumKeyValueConfiguration = getEnumKeyValueConfiguration(configurationKeyName);
-            Collection<D> valueList = EnumConfigurationValidatorFactory.getInstance().getValueValidator().validate(enumKeyValueConfiguration, value);
+            Collection<D> valueList = validateValue(enumKeyValueConfiguration, value);
             return prepareResult(value, valueList);
         } catch (ValidationException ex) {
             String msg = "Invalid configuration found for key [" + configurationKeyName + "]: " + ex.getMessage();
@@ -347,6 +408,65 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
     }
 
     
+    /**
+     * Validate a value against the read plan of an {@link EnumKeyValueConfiguration}. In case the current value validator 
+     * doesn't support read plans the value validator is called directly. 
+     *
+     * @param <D> the configuration value type
+     * @param enumKeyValueConfiguration the enum key value configuration
+     * @param value the value
+     * @return the validated values
+     * @throws ValidationException In case of a validation error
+     */
+    protected <D> Collection<D> validateValue(EnumKeyValueConfiguration enumKeyValueConfiguration, String value) throws ValidationException {
+        IEnumConfigurationValueValidator valueValidator = EnumConfigurationValidatorFactory.getInstance().getValueValidator();
+        if (enumKeyValueConfiguration == null || !(valueValidator instanceof AbstractEnumConfigurationValidator)) {
+            return valueValidator.validate(enumKeyValueConfiguration, value);
+        }
+
+        return getReadPlan((AbstractEnumConfigurationValidator)valueValidator, enumKeyValueConfiguration).validate(value);
+    }
+
+    
+    /**
+     * Get the read plan of an {@link EnumKeyValueConfiguration}. The plan is created once per configuration and validator and kept
+     * by the store until the configuration changes, see {@link EnumKeyValueConfiguration#getModificationCount()}.
+     *
+     * @param enumConfigurationValidator the enum configuration validator
+     * @param enumKeyValueConfiguration the enum key value configuration
+     * @return the read plan
+     * @throws ValidationException In case of an invalid enum key value configuration
+     */
+    protected EnumKeyValueConfigurationReadPlan getReadPlan(AbstractEnumConfigurationValidator enumConfigurationValidator, EnumKeyValueConfiguration enumKeyValueConfiguration) throws ValidationException {
+        long modificationCount = enumKeyValueConfiguration.getModificationCount();
+        EnumKeyValueConfigurationReadPlan readPlan = readPlanCache.get(enumKeyValueConfiguration, modificationCount);
+        if (readPlan != null
+            && readPlan.getEnumConfigurationValidator() == enumConfigurationValidator
+            && readPlan.getValueValidator() == EnumKeyValueConfigurationValueValidatorFactory.getInstance().getEnumKeyValueConfigurationValueValidator(readPlan.getDataType())) {
+            return readPlan;
+        }
+        
+        readPlan = enumConfigurationValidator.createReadPlan(enumKeyValueConfiguration);
+        readPlanCache.put(enumKeyValueConfiguration, modificationCount, readPlan);
+        return readPlan;
+    }
+
+
+    /**
+     * Get the already created read plan of an {@link EnumKeyValueConfiguration}, see {@link #getReadPlan(AbstractEnumConfigurationValidator, EnumKeyValueConfiguration)}.
+     *
+     * @param enumKeyValueConfiguration the enum key value configuration
+     * @return the read plan or null if there is no read plan of the current configuration
+     */
+    protected EnumKeyValueConfigurationReadPlan getCachedReadPlan(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+        if (enumKeyValueConfiguration == null) {
+            return null;
+        }
+        
+        return readPlanCache.get(enumKeyValueConfiguration, enumKeyValueConfiguration.getModificationCount());
+    }
+
+    
     /**
      * Prepare result
      * 
@@ -360,6 +480,45 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
     }
    
 
+    /**
+     * Prepare one exception of a list of validation exceptions
+     *
+     * @param exceptionList the exception list
+     * @return the exception which contains all invalid configurations
+     */
+    protected EnumConfigurationStoreException prepareException(List<EnumConfigurationStoreException> exceptionList) {
+        if (exceptionList.size() == 1) {
+            return exceptionList.get(0);
+        }
+
+        StringBuilder msg = new StringBuilder("Invalid configurations found (" + exceptionList.size() + "): ");
+        for (int i = 0; i < exceptionList.size(); i++) {
+            if (i > 0) {
+                msg.append(" / ");
+            }
+            
+            msg.append(exceptionList.get(i).getMessage());
+        }
+        
+        EnumConfigurationStoreException result = new EnumConfigurationStoreException(msg.toString(), exceptionList.get(0));
+        for (EnumConfigurationStoreException e : exceptionList) {
+            result.addAll(e);
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * Notification after a configuration was written or deleted. It can be used to invalidate cached values.
+     *
+     * @param configurationKeyName the unique configuration key
+     */
+    protected void configurationChanged(String configurationKeyName) {
+        // NOP
+    }
+
+
     /**
      * Load the configuration from a source. The configurationKeyName and the value are pure string based.
      * 
@@ -370,6 +529,31 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
     protected abstract String loadConfiguration(String configurationKeyName) throws EnumConfigurationStoreException;
 
     
+    /**
+     * Load the configurations of a set of keys from a source. By default each configuration is loaded by 
+     * {@link #loadConfiguration(String)}, a store can overwrite it to load all values in one round trip.
+     * 
+     * @param configurationKeyNames the unique configuration keys
+     * @return the configurations, keys without a value are not contained
+     * @throws EnumConfigurationStoreException In case of a load exception
+     */
+    protected Map<String, String> loadConfigurations(Set<String> configurationKeyNames) throws EnumConfigurationStoreException {
+        Map<String, String> result = new HashMap<String, String>();
+        if (configurationKeyNames == null) {
+            return result;
+        }
+
+        for (String configurationKeyName : configurationKeyNames) {
+            String value = loadConfiguration(configurationKeyName);
+            if (value != null) {
+                result.put(configurationKeyName, value);
+            }
+        }
+        
+        return result;
+    }
+
+    
     /**
      * Write the configuration to a source. The configurationKeyName and the value are pure string based.
      * 
@@ -381,6 +565,24 @@ public abstract class AbstractBaseEnumConfigurationStore implements IEnumConfigu
     protected abstract <D> void writeConfiguration(String configurationKeyName, String configurationValue) throws EnumConfigurationStoreException;
 
     
+    /**
+     * Write the already validated configurations to a source in one operation. By default each configuration is written by 
+     * {@link #writeConfiguration(String, String)}, a store can overwrite it to commit all values at once.
+     * 
+     * @param configurations the configurations, the key is the unique configuration key
+     * @throws EnumConfigurationStoreException In case of a write exception
+     */
+    protected void writeConfigurations(Map<String, String> configurations) throws EnumConfigurationStoreException {
+        if (configurations == null) {
+            return;
+        }
+        
+        for (Map.Entry<String, String> e : configurations.entrySet()) {
+            writeConfiguration(e.getKey(), e.getValue());
+        }
+    }
+
+    
     /**
      * Delete the configuration from a source. The configurationKeyName and the value are pure string based.
      * 
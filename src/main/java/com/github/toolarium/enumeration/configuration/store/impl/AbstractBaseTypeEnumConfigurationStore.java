@@ -10,11 +10,15 @@ import com.github.toolarium.enumeration.configuration.dto.SortedProperties;
 import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationValue;
 import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
 import com.github.toolarium.enumeration.configuration.util.EnumUtil;
-import com.github.toolarium.enumeration.configuration.validation.EnumConfigurationValidatorFactory;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyValueConfigurationValueValidatorFactory;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,6 +32,9 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBaseEnumConfigurationStore {
     private static final Logger LOG = LoggerFactory.getLogger(AbstractBaseTypeEnumConfigurationStore.class);
     private Map<Object, EnumKeyValueConfiguration> enumKeyValueConfigurationMap;
+    private ClassValue<EnumKeyValueConfiguration[]> enumKeyValueConfigurationIndex;
+    private volatile ClassValue<EnumConfigurationPrimitiveValue[]> primitiveValueIndex;
+    private volatile EnumConfigurationValueCache valueCache;
 
     
     /**
@@ -36,6 +43,22 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
     public AbstractBaseTypeEnumConfigurationStore() {
         super();
         enumKeyValueConfigurationMap = new ConcurrentHashMap<Object, EnumKeyValueConfiguration>();
+        enumKeyValueConfigurationIndex = new ClassValue<EnumKeyValueConfiguration[]>() {
+            /**
+             * @see java.lang.ClassValue#computeValue(java.lang.Class)
+             */
+            @Override
+            protected EnumKeyValueConfiguration[] computeValue(Class<?> type) {
+                Object[] enumConstants = type.getEnumConstants();
+                if (enumConstants == null) {
+                    return new EnumKeyValueConfiguration[0];
+                }
+                
+                return new EnumKeyValueConfiguration[enumConstants.length];
+            }
+        };
+        primitiveValueIndex = createPrimitiveValueIndex();
+        valueCache = new EnumConfigurationValueCache(0);
     }
 
     
@@ -66,11 +89,107 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
         }
         
         String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
-        String value = prepareValue(getEnumKeyValueConfiguration(configurationKey), loadConfiguration(configurationKeyName), supportReturnDefaultValueIfMissing);
+        return readConfigurationValue(configurationKey, configurationKeyName, loadConfiguration(configurationKeyName), supportReturnDefaultValueIfMissing);
+    }
+
+    
+    /**
+     * Read the configuration values of a list of keys. The values are loaded in bulk by {@link #loadConfigurations(Set)}.
+     *
+     * @param <D> the configuration value type
+     * @param <T> the generic configuration name
+     * @param configurationKeys the configuration keys
+     * @param supportReturnDefaultValueIfMissing true to support default value
+     * @return the read configuration values, keys without a value are not contained
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be read 
+     */
+    protected <D, T extends Enum<T>> Map<T, IEnumConfigurationValue<D>> readConfigurationValues(Collection<T> configurationKeys, boolean supportReturnDefaultValueIfMissing) throws EnumConfigurationStoreException {
+        Map<T, IEnumConfigurationValue<D>> result = null;
+        if (configurationKeys == null || configurationKeys.isEmpty()) {
+            LOG.debug("Invalid input configuration keys!");
+            return new HashMap<T, IEnumConfigurationValue<D>>();
+        }
+
+        Map<T, String> configurationKeyNameMap = null;
+        Set<String> configurationKeyNames = new LinkedHashSet<String>();
+        for (T configurationKey : configurationKeys) {
+            if (configurationKey != null) {
+                if (configurationKeyNameMap == null) {
+                    configurationKeyNameMap = new EnumMap<T, String>(configurationKey.getDeclaringClass());
+                    result = new EnumMap<T, IEnumConfigurationValue<D>>(configurationKey.getDeclaringClass());
+                }
+                
+                String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
+                configurationKeyNameMap.put(configurationKey, configurationKeyName);
+                configurationKeyNames.add(configurationKeyName);
+            }
+        }
+
+        if (configurationKeyNameMap == null) {
+            LOG.debug("Invalid input configuration keys!");
+            return new HashMap<T, IEnumConfigurationValue<D>>();
+        }
+        
+        Map<String, String> loadedConfigurations = loadConfigurations(configurationKeyNames);
+        for (Map.Entry<T, String> e : configurationKeyNameMap.entrySet()) {
+            IEnumConfigurationValue<D> value = readConfigurationValue(e.getKey(), e.getValue(), loadedConfigurations.get(e.getValue()), supportReturnDefaultValueIfMissing);
+            if (value != null) {
+                result.put(e.getKey(), value);
+            }
+        }
+        
+        return result;
+    }
+    
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readConfigurationValues(java.util.Collection)
+     */
+    @Override
+    public <D, T extends Enum<T>> Map<T, IEnumConfigurationValue<D>> readConfigurationValues(Collection<T> configurationKeys) throws EnumConfigurationStoreException {
+        return readConfigurationValues(configurationKeys, true);
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readConfigurationValuesIgnoreDefault(java.util.Collection)
+     */
+    @Override
+    public <D, T extends Enum<T>> Map<T, IEnumConfigurationValue<D>> readConfigurationValuesIgnoreDefault(Collection<T> configurationKeys) throws EnumConfigurationStoreException {
+        return readConfigurationValues(configurationKeys, false);
+    }
+
+    
+    /**
+     * Read a configuration value from an already loaded raw value.
+     *
+     * @param <D> the configuration value type
+     * @param <T> the generic configuration name
+     * @param configurationKey the configuration key
+     * @param configurationKeyName the resolved configuration key name
+     * @param loadedValue the loaded raw value or null
+     * @param supportReturnDefaultValueIfMissing true to support default value
+     * @return value the value
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be read 
+     */
+    private <D, T extends Enum<T>> IEnumConfigurationValue<D> readConfigurationValue(T configurationKey, String configurationKeyName, String loadedValue, boolean supportReturnDefaultValueIfMissing) 
+            throws EnumConfigurationStoreException {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = getEnumKeyValueConfiguration(configurationKey);
+        String value = prepareValue(enumKeyValueConfiguration, loadedValue, supportReturnDefaultValueIfMissing);
         
         IEnumConfigurationValue<D> result = null;
         if (value != null) {
+            EnumConfigurationValueCache cache = valueCache;
+            Collection<D> valueList = cache.get(configurationKeyName, value, getCachedReadPlan(enumKeyValueConfiguration));
+            if (valueList != null) {
+                return prepareResult(value, valueList);
+            }
+
+            long registrationVersion = EnumKeyValueConfigurationValueValidatorFactory.getInstance().getRegistrationVersion();
             result = validate(configurationKey, value);
+            if (result != null && cache.getMaxSize() > 0) {
+                result = prepareResult(value, cache.put(configurationKeyName, value, result.getValueList(), getCachedReadPlan(enumKeyValueConfiguration), registrationVersion));
+            }
         }
 
         return result;
@@ -85,6 +204,106 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
         return readConfigurationValue(configurationKey, false);
     }
 
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readLong(java.lang.Enum)
+     */
+    @Override
+    public <T extends Enum<T>> long readLong(T configurationKey) throws EnumConfigurationStoreException {
+        EnumConfigurationPrimitiveValue value = readPrimitiveValue(configurationKey, true);
+        if (!value.isLong()) {
+            throw new EnumConfigurationStoreException("Invalid data type of configuration [" + getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey) + "], the value [" + value + "] is not a number!");
+        }
+
+        return value.getLong();
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readDouble(java.lang.Enum)
+     */
+    @Override
+    public <T extends Enum<T>> double readDouble(T configurationKey) throws EnumConfigurationStoreException {
+        EnumConfigurationPrimitiveValue value = readPrimitiveValue(configurationKey, true);
+        if (!value.isNumber()) {
+            throw new EnumConfigurationStoreException("Invalid data type of configuration [" + getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey) + "], the value [" + value + "] is not a number!");
+        }
+
+        return value.getDouble();
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readBoolean(java.lang.Enum)
+     */
+    @Override
+    public <T extends Enum<T>> boolean readBoolean(T configurationKey) throws EnumConfigurationStoreException {
+        EnumConfigurationPrimitiveValue value = readPrimitiveValue(configurationKey, true);
+        if (!value.isBoolean()) {
+            throw new EnumConfigurationStoreException("Invalid data type of configuration [" + getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey) + "], the value [" + value + "] is not a boolean!");
+        }
+
+        return value.getBoolean();
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readLongArray(java.lang.Enum)
+     */
+    @Override
+    public <T extends Enum<T>> long[] readLongArray(T configurationKey) throws EnumConfigurationStoreException {
+        EnumConfigurationPrimitiveValue value = readPrimitiveValue(configurationKey, false);
+        if (value == null || value.size() == 0) {
+            return new long[0];
+        }
+        
+        if (!value.isLong()) {
+            throw new EnumConfigurationStoreException("Invalid data type of configuration [" + getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey) + "], the value [" + value + "] is not a number!");
+        }
+
+        return value.getLongArray();
+    }
+
+
+    /**
+     * Read a configuration value as primitive value. The primitive value is kept per configuration key and bound to the raw value,
+     * the read plan of the configuration and the registered validators, as long as they don't change it is returned without validation.
+     * In case of missing value a possible defined default value from the enum configuration annotation will be returned. 
+     *
+     * @param <T> the generic configuration name
+     * @param configurationKey the configuration key
+     * @param isRequired true if a value is required
+     * @return the primitive value or null if there is no value and it is not required
+     * @throws EnumConfigurationStoreException in case the enum configuration cannot be read or a required value is missing
+     */
+    protected <T extends Enum<T>> EnumConfigurationPrimitiveValue readPrimitiveValue(T configurationKey, boolean isRequired) throws EnumConfigurationStoreException {
+        if (configurationKey == null) {
+            throw new EnumConfigurationStoreException("Invalid configuration key!");
+        }
+
+        String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
+        EnumKeyValueConfiguration enumKeyValueConfiguration = getEnumKeyValueConfiguration(configurationKey);
+        String value = prepareValue(enumKeyValueConfiguration, loadConfiguration(configurationKeyName), true);
+        
+        EnumConfigurationPrimitiveValue result = null;
+        if (value != null) {
+            EnumConfigurationPrimitiveValue[] primitiveValues = primitiveValueIndex.get(configurationKey.getDeclaringClass());
+            result = primitiveValues[configurationKey.ordinal()];
+            long registrationVersion = EnumKeyValueConfigurationValueValidatorFactory.getInstance().getRegistrationVersion();
+            if (result == null || !result.isValid(value, getCachedReadPlan(enumKeyValueConfiguration), registrationVersion)) {
+                IEnumConfigurationValue<Object> configurationValue = validate(configurationKey, value);
+                result = EnumConfigurationPrimitiveValue.create(value, configurationValue.getValueList(), getCachedReadPlan(enumKeyValueConfiguration), registrationVersion);
+                primitiveValues[configurationKey.ordinal()] = result;
+            }
+        }
+
+        if (isRequired && (result == null || result.size() == 0)) {
+            throw new EnumConfigurationStoreException("Missing value of configuration [" + configurationKeyName + "]!");
+        }
+        
+        return result;
+    }
+
     
     /**
      * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationStore#readConfigurationValueList(java.lang.Enum[])
@@ -140,7 +359,9 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
         
         IEnumConfigurationValue<D> val = validate(configurationKey, value);
         if (val != null) {
-            writeConfiguration(getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey), val.toString());
+            String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
+            writeConfiguration(configurationKeyName, val.toString());
+            configurationChanged(configurationKeyName);
         }
     }
 
@@ -156,9 +377,10 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
         }
         
         String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
-        String value = convertObjectToString(configurationKeyName, EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(configurationKey), configurationValue);
+        String value = convertObjectToString(configurationKeyName, getEnumKeyValueConfiguration(configurationKey), configurationValue);
         validate(configurationKey, value);
         writeConfiguration(configurationKeyName, value);
+        configurationChanged(configurationKeyName);
     }
 
 
@@ -175,6 +397,7 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
         IEnumConfigurationValue<D> result = readConfigurationValueIgnoreDefault(configurationKey);
         String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
         deleteConfiguration(configurationKeyName);
+        configurationChanged(configurationKeyName);
         return result;
     }
 
@@ -193,12 +416,94 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
         for (T configurationKey : configurationKeys) {
             String configurationKeyName = getEnumConfigurationKeyResolver().resolveConfigurationKeyName(configurationKey);
             result.setProperty(configurationKeyName, handlingNullObject(deleteConfiguration(configurationKeyName)));
+            configurationChanged(configurationKeyName);
         }
         
         return result;
     }
 
     
+    /**
+     * Set the max number of validated values which are cached. The cached values are bound to the raw value of the configuration,
+     * a changed raw value or a newly registered validator leads always to a validation again. The least recently used entries are removed in case the max size is exceeded.
+     * A max size of 0 disables the cache (default).
+     *
+     * @param maxSize the max size of the cache
+     */
+    public void setValueCacheSize(int maxSize) {
+        valueCache = new EnumConfigurationValueCache(maxSize);
+        primitiveValueIndex = createPrimitiveValueIndex();
+    }
+
+
+    /**
+     * Get the max number of validated values which are cached.
+     *
+     * @return the max size of the cache
+     */
+    public int getValueCacheSize() {
+        return valueCache.getMaxSize();
+    }
+
+
+    /**
+     * Get the cache of the validated values
+     *
+     * @return the value cache
+     */
+    protected EnumConfigurationValueCache getValueCache() {
+        return valueCache;
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.impl.AbstractBaseEnumConfigurationStore#configurationChanged(java.lang.String)
+     */
+    @Override
+    protected void configurationChanged(String configurationKeyName) {
+        valueCache.invalidate(configurationKeyName);
+        if (configurationKeyName == null) {
+            return;
+        }
+
+        Enum<?> configurationKey;
+        try {
+            configurationKey = getEnumConfigurationKeyResolver().resolveConfigurationKey(configurationKeyName);
+        } catch (RuntimeException e) {
+            // the changed constant is unknown, all primitive values are validated again
+            primitiveValueIndex = createPrimitiveValueIndex();
+            return;
+        }
+
+        if (configurationKey != null) {
+            primitiveValueIndex.get(configurationKey.getDeclaringClass())[configurationKey.ordinal()] = null;
+        }
+    }
+
+
+    /**
+     * Create the index of the primitive values, they are kept per enum class by the ordinal.
+     *
+     * @return the index of the primitive values
+     */
+    private static ClassValue<EnumConfigurationPrimitiveValue[]> createPrimitiveValueIndex() {
+        return new ClassValue<EnumConfigurationPrimitiveValue[]>() {
+            /**
+             * @see java.lang.ClassValue#computeValue(java.lang.Class)
+             */
+            @Override
+            protected EnumConfigurationPrimitiveValue[] computeValue(Class<?> type) {
+                Object[] enumConstants = type.getEnumConstants();
+                if (enumConstants == null) {
+                    return new EnumConfigurationPrimitiveValue[0];
+                }
+                
+                return new EnumConfigurationPrimitiveValue[enumConstants.length];
+            }
+        };
+    }
+
+
     /**
      * Validate the configuration value
      *
@@ -218,7 +523,7 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
 
         try {
             EnumKeyValueConfiguration enumKeyValueConfiguration = getEnumKeyValueConfiguration(configurationKey);
-            Collection<D> valueList = EnumConfigurationValidatorFactory.getInstance().getValueValidator().validate(enumKeyValueConfiguration, value);
+            Collection<D> valueList = validateValue(enumKeyValueConfiguration, value);
             return prepareResult(value, valueList);
         } catch (ValidationException ex) {
             String msg = "Invalid configuration found for key [" + configurationKeyName + "]: " + ex.getMessage();
@@ -246,8 +551,8 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
     
     /**
      * Get the enum key / value configuration information of an enum configuration name / key. 
-     * It can be get either by interpreting of the annotation of the enum configuration or to 
-     * load the previous generated JSON from internal / external source.
+     * It can be get either from the registry generated by the annotation processor, by interpreting of 
+     * the annotation of the enum configuration or to load the previous generated JSON from internal / external source.
      *
      * @param <T> the generic type
      * @param configurationKey the configuration key
@@ -259,13 +564,16 @@ public abstract class AbstractBaseTypeEnumConfigurationStore extends AbstractBas
             throw new EnumConfigurationStoreException("Invalid configuration key!");
         }
 
-        String cacheKey = getEnumConfigurationKeyResolver().createConfigurationKeyName(configurationKey.getClass().getName(), configurationKey.name());
-        EnumKeyValueConfiguration enumKeyValueConfiguration = enumKeyValueConfigurationMap.get(cacheKey);
+        // the configurations are indexed per enum class by the ordinal
+        EnumKeyValueConfiguration[] enumKeyValueConfigurations = enumKeyValueConfigurationIndex.get(configurationKey.getDeclaringClass());
+        EnumKeyValueConfiguration enumKeyValueConfiguration = enumKeyValueConfigurations[configurationKey.ordinal()];
         if (enumKeyValueConfiguration == null) {
+            String cacheKey = getEnumConfigurationKeyResolver().createConfigurationKeyName(configurationKey.getClass().getName(), configurationKey.name());
             try {
                 enumKeyValueConfiguration = EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(configurationKey);
                 if (enumKeyValueConfiguration != null) {
                     enumKeyValueConfigurationMap.put(cacheKey, enumKeyValueConfiguration);
+                    enumKeyValueConfigurations[configurationKey.ordinal()] = enumKeyValueConfiguration;
                 }
             } catch (IllegalArgumentException e) {
                 if (LOG.isDebugEnabled()) {
@@ -0,0 +1,183 @@
+/*
+ * ClassPathEnumConfigurationResourceResolver.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.store.impl;
+
+import com.github.toolarium.enumeration.configuration.processor.EnumConfigurationProcessor;
+import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationResourceResolver;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+
+/**
+ * Implements a {@link IEnumConfigurationResourceResolver} which resolves the resource of an enum configuration from the class path.
+ * The annotation processor generates one resource per enum configuration and an index of them, therefore only the enum configurations
+ * which are used have to be loaded. The indexes of all modules in the class path are read once, in case an enum configuration is
+ * defined in more than one module the first one wins. In case a module contains the binary resource of the annotation processor it is
+ * preferred to the single resources, the enum configuration is then decoded on access only.
+ * The resolver is not used by default, it has to be passed to the enum configuration store, e.g.
+ * {@code new PropertiesEnumConfigurationStore(new ClassPathEnumConfigurationResourceResolver())}.
+ *
+ * @author patrick
+ */
+public class ClassPathEnumConfigurationResourceResolver implements IEnumConfigurationResourceResolver {
+    private static final Logger LOG = LoggerFactory.getLogger(ClassPathEnumConfigurationResourceResolver.class);
+    private ClassLoader classLoader;
+    private volatile Map<String, URL> resourceIndex;
+    private volatile Map<String, URL> resourceIgnoreCaseIndex;
+
+
+    /**
+     * Constructor for ClassPathEnumConfigurationResourceResolver
+     */
+    public ClassPathEnumConfigurationResourceResolver() {
+        this(null);
+    }
+
+
+    /**
+     * Constructor for ClassPathEnumConfigurationResourceResolver
+     *
+     * @param classLoader the class loader or null to use the context class loader
+     */
+    public ClassPathEnumConfigurationResourceResolver(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        if (this.classLoader == null) {
+            this.classLoader = Thread.currentThread().getContextClassLoader();
+        }
+
+        if (this.classLoader == null) {
+            this.classLoader = ClassPathEnumConfigurationResourceResolver.class.getClassLoader();
+        }
+
+        this.resourceIndex = null;
+        this.resourceIgnoreCaseIndex = null;
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.store.IEnumConfigurationResourceResolver#getEnumConfigurationResourceStream(java.lang.String, boolean)
+     */
+    @Override
+    public InputStream getEnumConfigurationResourceStream(String configurationName, boolean ignoreCase) {
+        if (configurationName == null || configurationName.isBlank()) {
+            return null;
+        }
+
+        loadIndex();
+
+        URL resource;
+        if (ignoreCase) {
+            resource = resourceIgnoreCaseIndex.get(configurationName.trim().toLowerCase(Locale.ROOT));
+        } else {
+            resource = resourceIndex.get(configurationName.trim());
+        }
+
+        if (resource == null) {
+            LOG.debug("No enum configuration resource found for [" + configurationName + "].");
+            return null;
+        }
+
+        try {
+            return resource.openStream();
+        } catch (IOException e) {
+            LOG.warn("Could not open enum configuration resource [" + resource + "]: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+
+    /**
+     * Get the names of all enum configurations which are available in the class path.
+     *
+     * @return the enum configuration names
+     */
+    public Set<String> getEnumConfigurationNames() {
+        loadIndex();
+        return Collections.unmodifiableSet(resourceIndex.keySet());
+    }
+
+
+    /**
+     * Load the indexes of the enum configuration resources once
+     */
+    private void loadIndex() {
+        if (resourceIndex != null) {
+            return;
+        }
+
+        synchronized (this) {
+            if (resourceIndex != null) {
+                return;
+            }
+
+            Map<String, URL> index = new HashMap<String, URL>();
+            Map<String, URL> ignoreCaseIndex = new HashMap<String, URL>();
+            try {
+                Set<String> binaryResources = new HashSet<String>();
+                Enumeration<URL> binaryUrls = classLoader.getResources(EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE);
+                while (binaryUrls.hasMoreElements()) {
+                    binaryResources.add(binaryUrls.nextElement().toExternalForm());
+                }
+
+                Enumeration<URL> urls = classLoader.getResources(EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE);
+                while (urls.hasMoreElements()) {
+                    URL url = urls.nextElement();
+                    Properties properties = new Properties();
+                    try (InputStream inputStream = url.openStream()) {
+                        properties.load(inputStream);
+                    } catch (IOException e) {
+                        LOG.warn("Could not load enum configuration index [" + url + "]: " + e.getMessage(), e);
+                        continue;
+                    }
+
+                    // the resources of a module are resolved relative to its index
+                    String indexResource = url.toExternalForm();
+                    URL binaryResource = null;
+                    if (indexResource.endsWith(EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE)) {
+                        String base = indexResource.substring(0, indexResource.length() - EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE.length());
+                        if (binaryResources.contains(base + EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE)) {
+                            binaryResource = new URL(base + EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE);
+                        }
+                    }
+
+                    for (String name : properties.stringPropertyNames()) {
+                        URL resource = binaryResource;
+                        if (resource == null) {
+                            resource = classLoader.getResource(properties.getProperty(name).trim());
+                        }
+
+                        if (resource == null) {
+                            LOG.debug("Enum configuration resource of [" + name + "] from index [" + url + "] not found, ignore it.");
+                            continue;
+                        }
+
+                        if (index.putIfAbsent(name.trim(), resource) != null) {
+                            LOG.debug("Enum configuration [" + name + "] from index [" + url + "] is already defined, ignore it.");
+                        }
+
+                        ignoreCaseIndex.putIfAbsent(name.trim().toLowerCase(Locale.ROOT), resource);
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("Could not resolve enum configuration indexes: " + e.getMessage(), e);
+            }
+
+            resourceIgnoreCaseIndex = ignoreCaseIndex;
+            resourceIndex = index;
+        }
+    }
+}
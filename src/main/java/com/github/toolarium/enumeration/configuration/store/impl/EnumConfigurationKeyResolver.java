@@ -9,17 +9,21 @@ import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationBinaryReader;
+import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationRegistryFactory;
 import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationResourceFactory;
+import com.github.toolarium.enumeration.configuration.resource.IEnumConfigurationRegistry;
 import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationKeyResolver;
 import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationResourceResolver;
 import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
 import com.github.toolarium.enumeration.configuration.util.ClassPathUtil;
 import com.github.toolarium.enumeration.configuration.util.EnumUtil;
+import com.github.toolarium.enumeration.configuration.util.SegmentedCache;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,16 +37,20 @@ import org.slf4j.LoggerFactory;
 public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolver {
     private static final Logger LOG = LoggerFactory.getLogger(EnumConfigurationKeyResolver.class);
     private static final String CONFIGURATION_KEY_SEPARATOR = "#";
+    private static final int UNRESOLVED_CONFIGURATION_KEY_NAME_CACHE_SIZE = 1024;
     
-    private Map<Object, String> configurationKeyMap;
+    private volatile ClassValue<String[]> configurationKeyNameIndex;
+    private volatile ClassValue<EnumKeyValueConfiguration[]> registryConfigurationIndex;
     private Map<String, Object> configurationKeyNameMap;
+    private SegmentedCache<String, Boolean> unresolvedConfigurationKeyNameCache;
     private Map<String, EnumConfigurations> loadedEnumConfigurationsMap;
     private IEnumConfigurationResourceResolver enumConfigurationResourceResolver;
     private boolean ignoreCase;
 
     
     /**
-     * Constructor for EnumConfigurationKeyResolver
+     * Constructor for EnumConfigurationKeyResolver, the enum configurations are resolved only by the generated registries. To resolve them
+     * from the class path pass a {@link ClassPathEnumConfigurationResourceResolver}.
      */
     public EnumConfigurationKeyResolver() {
         this(null, true);
@@ -66,8 +74,10 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
      * @param ignoreCase true or false
      */
     public EnumConfigurationKeyResolver(IEnumConfigurationResourceResolver enumConfigurationResourceResolver, boolean ignoreCase) {
-        configurationKeyMap = new ConcurrentHashMap<Object, String>();
+        configurationKeyNameIndex = createConfigurationKeyNameIndex();
+        registryConfigurationIndex = createRegistryConfigurationIndex();
         configurationKeyNameMap = new ConcurrentHashMap<String, Object>();
+        unresolvedConfigurationKeyNameCache = new SegmentedCache<String, Boolean>(UNRESOLVED_CONFIGURATION_KEY_NAME_CACHE_SIZE);
         loadedEnumConfigurationsMap = new ConcurrentHashMap<String, EnumConfigurations>();
         this.enumConfigurationResourceResolver = enumConfigurationResourceResolver;
         this.ignoreCase = ignoreCase;
@@ -100,8 +110,9 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
             throw new EnumConfigurationStoreException("Invalid configuration key!");
         }
         
-        // cache converted type
-        String configurationKeyName = configurationKeyMap.get(configurationKey);
+        // the names of all constants of an enum are resolved at once and indexed by the ordinal
+        String[] configurationKeyNames = configurationKeyNameIndex.get(configurationKey.getDeclaringClass());
+        String configurationKeyName = configurationKeyNames[configurationKey.ordinal()];
         if (configurationKeyName == null) {
             configurationKeyName = convertToConfigurationKeyName(configurationKey);
             
@@ -109,7 +120,7 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
                 return null;
             }
             
-            configurationKeyMap.put(configurationKey, configurationKeyName);
+            configurationKeyNames[configurationKey.ordinal()] = configurationKeyName;
             configurationKeyNameMap.put(configurationKeyName, configurationKey);
         }
         
@@ -136,7 +147,6 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
                 return null;
             }
             
-            configurationKeyMap.put(configurationKey, configurationKeyName);
             configurationKeyNameMap.put(configurationKeyName, configurationKey);
         }
         
@@ -151,7 +161,6 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
      * @return the enum key value configuration
      * @throws EnumConfigurationStoreException In case of an enum configuration store exception
      */
-    @SuppressWarnings("unchecked")
     public EnumKeyValueConfiguration getEnumKeyValueConfiguration(String inputConfigurationKeyName) throws EnumConfigurationStoreException {
         if (inputConfigurationKeyName == null) {
             LOG.debug("Invalid input configuration key name!");
@@ -164,20 +173,43 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
             return null;
         }
         
+        // an explicit configured resource resolver takes precedence, the generated registry of the enum is the fallback
+        if (enumConfigurationResourceResolver != null) {
+            EnumKeyValueConfiguration enumKeyValueConfiguration = getResourceEnumKeyValueConfiguration(configurationKeyName, configurationKeyNameSplit);
+            if (enumKeyValueConfiguration != null) {
+                return enumKeyValueConfiguration;
+            }
+        }
+        
+        EnumKeyValueConfiguration enumKeyValueConfiguration = getRegistryEnumKeyValueConfiguration(configurationKeyName);
+        if (enumKeyValueConfiguration == null && enumConfigurationResourceResolver == null) {
+            throw new EnumConfigurationStoreException("Not supported resource input stream!");
+        }
+        
+        return enumKeyValueConfiguration;
+    }
+
+    
+    /**
+     * Get the {@link EnumKeyValueConfiguration} from the JSON resource of the {@link IEnumConfigurationResourceResolver}.
+     * 
+     * @param configurationKeyName the configuration key name
+     * @param configurationKeyNameSplit the split configuration key name
+     * @return the enum key value configuration or null if it can't be found
+     */
+    @SuppressWarnings("unchecked")
+    protected EnumKeyValueConfiguration getResourceEnumKeyValueConfiguration(String configurationKeyName, String[] configurationKeyNameSplit) {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = null;
         EnumConfigurations loadedEnumConfigurations = loadedEnumConfigurationsMap.get(configurationKeyNameSplit[0]);
         if (loadedEnumConfigurations == null) {
             LOG.debug("Try to resolve configuration key [" + configurationKeyNameSplit[0] + "]...");
             
-            if (enumConfigurationResourceResolver == null) {
-                throw new EnumConfigurationStoreException("Not supported resource input stream!");
-            }
-            
             InputStream enumConfigurationResourceInputStream = enumConfigurationResourceResolver.getEnumConfigurationResourceStream(configurationKeyNameSplit[0], ignoreCase);
             if (enumConfigurationResourceInputStream != null) {
                 LOG.debug("Load enum configuration information for key [" + configurationKeyNameSplit[0] + "]...");
 
                 try {
-                    loadedEnumConfigurations = EnumConfigurationResourceFactory.getInstance().load(enumConfigurationResourceInputStream);
+                    loadedEnumConfigurations = loadEnumConfigurations(configurationKeyNameSplit[0], enumConfigurationResourceInputStream);
                     if (loadedEnumConfigurations != null) {
                         LOG.info("Successful load enum configuration [" + loadedEnumConfigurations.getName() + " v" + loadedEnumConfigurations.getVersion() + "].");
                         loadedEnumConfigurationsMap.put(configurationKeyNameSplit[0], loadedEnumConfigurations);
@@ -203,41 +235,26 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
             LOG.debug("Found configuration " + configurationKeyNameSplit[0] + "] in cache.");
         }
         
-        EnumKeyValueConfiguration enumKeyValueConfiguration = null;
         if (loadedEnumConfigurations != null) {
             LOG.debug("Select configuration [" + configurationKeyNameSplit[0] + "]...");
-            EnumConfiguration<EnumKeyValueConfiguration> loadedEnumConfiguration = null;
+            EnumConfiguration<EnumKeyValueConfiguration> loadedEnumConfiguration;
             if (ignoreCase) {
-                Set<EnumConfiguration<? extends EnumKeyConfiguration>> set = loadedEnumConfigurations.getEnumConfigurationList();
-                if (set != null) {
-                    for (EnumConfiguration<? extends EnumKeyConfiguration> e : set) {
-                        if (e.getName().equalsIgnoreCase(configurationKeyNameSplit[0])) {
-                            LOG.debug("Configuration key [" + configurationKeyName + "] found (" + e.getName() + ").");
-                            loadedEnumConfiguration = (EnumConfiguration<EnumKeyValueConfiguration>)e;
-                            break;
-                        }
-                    }
-                }
+                loadedEnumConfiguration = (EnumConfiguration<EnumKeyValueConfiguration>)loadedEnumConfigurations.getIgnoreCase(configurationKeyNameSplit[0]);
             } else {
                 loadedEnumConfiguration = (EnumConfiguration<EnumKeyValueConfiguration>)loadedEnumConfigurations.get(configurationKeyNameSplit[0]);
-                if (loadedEnumConfiguration != null) {
-                    LOG.debug("Configuration key [" + configurationKeyName + "] found.");
-                }
             }
             
             if (loadedEnumConfiguration != null) {
-                for (EnumKeyValueConfiguration restoredEnumKeyValueConfiguration : loadedEnumConfiguration.getKeyList()) {
-                    if ((ignoreCase && configurationKeyNameSplit[1].equalsIgnoreCase(restoredEnumKeyValueConfiguration.getKey())) 
-                        || (!ignoreCase && configurationKeyNameSplit[1].equals(restoredEnumKeyValueConfiguration.getKey()))) {
-                        // found;
-                        LOG.debug("Resolved enum configuration for key [" + configurationKeyName + "].");
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Resolved enum configuration for key [" + configurationKeyName + "]: " + loadedEnumConfiguration);
-                        }
-                        
-                        enumKeyValueConfiguration = restoredEnumKeyValueConfiguration;
-                        break;
-                    }
+                LOG.debug("Configuration key [" + configurationKeyName + "] found (" + loadedEnumConfiguration.getName() + ").");
+
+                if (ignoreCase) {
+                    enumKeyValueConfiguration = loadedEnumConfiguration.getIgnoreCase(configurationKeyNameSplit[1]);
+                } else {
+                    enumKeyValueConfiguration = loadedEnumConfiguration.get(configurationKeyNameSplit[1]);
+                }
+                
+                if (enumKeyValueConfiguration != null && LOG.isDebugEnabled()) {
+                    LOG.debug("Resolved enum configuration for key [" + configurationKeyName + "]: " + loadedEnumConfiguration);
                 }
             }
             
@@ -249,16 +266,156 @@ public class EnumConfigurationKeyResolver implements IEnumConfigurationKeyResolv
         return enumKeyValueConfiguration;
     }
 
+
+    /**
+     * Load the enum configurations of a resource. In case the resource is in the binary format only the enum configuration of the
+     * given name is decoded, otherwise the whole resource is read.
+     *
+     * @param enumConfigurationName the name of the enum configuration
+     * @param inputStream the input stream of the resource
+     * @return the enum configurations or null
+     * @throws IOException In case of an error
+     */
+    protected EnumConfigurations loadEnumConfigurations(String enumConfigurationName, InputStream inputStream) throws IOException {
+        InputStream stream = inputStream;
+        if (!stream.markSupported()) {
+            stream = new BufferedInputStream(stream);
+        }
+
+        if (!EnumConfigurationResourceFactory.getInstance().isBinaryFormat(stream)) {
+            return EnumConfigurationResourceFactory.getInstance().load(stream);
+        }
+
+        EnumConfigurationBinaryReader reader = EnumConfigurationResourceFactory.getInstance().openBinary(stream);
+        EnumConfiguration<EnumKeyConfiguration> enumConfiguration = reader.getEnumConfiguration(enumConfigurationName, ignoreCase);
+        if (enumConfiguration == null) {
+            return null;
+        }
+
+        EnumConfigurations enumConfigurations = new EnumConfigurations();
+        enumConfigurations.setName(reader.getName());
+        enumConfigurations.setVersion(reader.getVersion());
+        enumConfigurations.add(enumConfiguration);
+        return enumConfigurations;
+    }
+
     
     /**
      * Clear cache
      */
     public void clearCache() {
-        configurationKeyMap.clear();
+        configurationKeyNameIndex = createConfigurationKeyNameIndex();
+        registryConfigurationIndex = createRegistryConfigurationIndex();
         configurationKeyNameMap.clear();
+        unresolvedConfigurationKeyNameCache.clear();
         loadedEnumConfigurationsMap.clear();
     }
 
+
+    /**
+     * Get the {@link EnumKeyValueConfiguration} from the generated registry of the enum. The configurations of an enum are taken
+     * once from the registry and kept by the ordinal, like this the same instance is returned for a constant. A configuration key
+     * name which can't be resolved is remembered in a bounded cache to avoid searching the class path again.
+     *
+     * @param configurationKeyName the configuration key name
+     * @return the enum key value configuration or null if the enum or its registry can't be found
+     */
+    protected EnumKeyValueConfiguration getRegistryEnumKeyValueConfiguration(String configurationKeyName) {
+        Object configurationKey = configurationKeyNameMap.get(configurationKeyName);
+        if (configurationKey == null) {
+            if (unresolvedConfigurationKeyNameCache.get(configurationKeyName) != null) {
+                return null;
+            }
+
+            try {
+                configurationKey = resolveConfigurationKey(configurationKeyName);
+            } catch (RuntimeException ex) {
+                LOG.debug("Could not resolve configuration key [" + configurationKeyName + "]: " + ex.getMessage());
+            }
+
+            if (configurationKey == null) {
+                unresolvedConfigurationKeyNameCache.put(configurationKeyName, Boolean.TRUE);
+                return null;
+            }
+        }
+
+        if (!(configurationKey instanceof Enum)) {
+            return null;
+        }
+
+        Enum<?> enumConfigurationKey = (Enum<?>) configurationKey;
+        EnumKeyValueConfiguration[] enumKeyValueConfigurations = registryConfigurationIndex.get(enumConfigurationKey.getDeclaringClass());
+        if (enumConfigurationKey.ordinal() >= enumKeyValueConfigurations.length) {
+            return null;
+        }
+
+        return enumKeyValueConfigurations[enumConfigurationKey.ordinal()];
+    }
+
+
+    /**
+     * Create the registry configuration index. The index contains per enum class the {@link EnumKeyValueConfiguration} of all 
+     * constants by the ordinal; it is filled once from the generated registry the first time an enum class is resolved.
+     *
+     * @return the registry configuration index
+     */
+    protected ClassValue<EnumKeyValueConfiguration[]> createRegistryConfigurationIndex() {
+        return new ClassValue<EnumKeyValueConfiguration[]>() {
+            /**
+             * @see java.lang.ClassValue#computeValue(java.lang.Class)
+             */
+            @Override
+            protected EnumKeyValueConfiguration[] computeValue(Class<?> type) {
+                IEnumConfigurationRegistry registry = EnumConfigurationRegistryFactory.getInstance().getRegistry(type);
+                Object[] enumConstants = type.getEnumConstants();
+                if (registry == null || enumConstants == null) {
+                    return new EnumKeyValueConfiguration[0];
+                }
+                
+                EnumKeyValueConfiguration[] enumKeyValueConfigurations = new EnumKeyValueConfiguration[enumConstants.length];
+                for (int i = 0; i < enumConstants.length; i++) {
+                    enumKeyValueConfigurations[i] = registry.getEnumKeyValueConfiguration(i);
+                }
+                
+                return enumKeyValueConfigurations;
+            }
+        };
+    }
+
+    
+    /**
+     * Create the configuration key name index. The index contains per enum class the configuration key names of
+     * all constants by the ordinal; it is filled once the first time an enum class is resolved.
+     *
+     * @return the configuration key name index
+     */
+    protected ClassValue<String[]> createConfigurationKeyNameIndex() {
+        return new ClassValue<String[]>() {
+            /**
+             * @see java.lang.ClassValue#computeValue(java.lang.Class)
+             */
+            @Override
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            protected String[] computeValue(Class<?> type) {
+                Object[] enumConstants = type.getEnumConstants();
+                if (enumConstants == null) {
+                    return new String[0];
+                }
+                
+                String[] configurationKeyNames = new String[enumConstants.length];
+                for (int i = 0; i < enumConstants.length; i++) {
+                    Enum configurationKey = (Enum) enumConstants[i];
+                    configurationKeyNames[i] = convertToConfigurationKeyName(configurationKey);
+                    if (configurationKeyNames[i] != null) {
+                        configurationKeyNameMap.putIfAbsent(configurationKeyNames[i], configurationKey);
+                    }
+                }
+                
+                return configurationKeyNames;
+            }
+        };
+    }
+
     
     /**
      * Convert the unique configuration key name into an enum configuration key type 
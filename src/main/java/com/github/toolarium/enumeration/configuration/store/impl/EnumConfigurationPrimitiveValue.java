@@ -0,0 +1,208 @@
+/*
+ * EnumConfigurationPrimitiveValue.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.store.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+
+/**
+ * Defines the validated values of a NUMBER, DOUBLE or BOOLEAN configuration as primitives. It is bound to the raw value, the read plan
+ * of the configuration and the registered validators, as long as they are the same the primitives can be returned without validating
+ * and boxing again.
+ *
+ * @author patrick
+ */
+public final class EnumConfigurationPrimitiveValue {
+    private static final long[] EMPTY_LONG_ARRAY = new long[0];
+    private final String value;
+    private final Object readPlan;
+    private final long registrationVersion;
+    private final int size;
+    private final long[] longValues;
+    private final double[] doubleValues;
+    private final boolean isBoolean;
+    private final boolean booleanValue;
+
+
+    /**
+     * Constructor for EnumConfigurationPrimitiveValue
+     *
+     * @param value the raw value
+     * @param readPlan the read plan of the configuration
+     * @param registrationVersion the version of the registered validators
+     * @param size the number of values
+     * @param longValues the long values or null
+     * @param doubleValues the double values or null
+     * @param isBoolean true if it is a boolean value
+     * @param booleanValue the boolean value
+     */
+    private EnumConfigurationPrimitiveValue(String value, Object readPlan, long registrationVersion, int size, long[] longValues, double[] doubleValues, boolean isBoolean, boolean booleanValue) {
+        this.value = value;
+        this.readPlan = readPlan;
+        this.registrationVersion = registrationVersion;
+        this.size = size;
+        this.longValues = longValues;
+        this.doubleValues = doubleValues;
+        this.isBoolean = isBoolean;
+        this.booleanValue = booleanValue;
+    }
+
+
+    /**
+     * Create the primitive value of validated values
+     *
+     * @param value the raw value
+     * @param valueList the validated values
+     * @param readPlan the read plan of the configuration which validated the values
+     * @param registrationVersion the version of the registered validators before the values were validated
+     * @return the primitive value
+     */
+    public static EnumConfigurationPrimitiveValue create(String value, Collection<?> valueList, Object readPlan, long registrationVersion) {
+        if (valueList == null || valueList.isEmpty()) {
+            return new EnumConfigurationPrimitiveValue(value, readPlan, registrationVersion, 0, EMPTY_LONG_ARRAY, null, false, false);
+        }
+
+        int size = valueList.size();
+        long[] longValues = new long[size];
+        double[] doubleValues = new double[size];
+        boolean isLong = true;
+        boolean isDouble = true;
+        boolean isBoolean = size == 1;
+        boolean booleanValue = false;
+        int i = 0;
+        for (Object element : valueList) {
+            isLong = isLong && element instanceof Long;
+            isDouble = isDouble && element instanceof Double;
+            isBoolean = isBoolean && element instanceof Boolean;
+            if (isLong) {
+                longValues[i] = ((Long) element).longValue();
+            } else if (isDouble) {
+                doubleValues[i] = ((Double) element).doubleValue();
+            } else if (isBoolean) {
+                booleanValue = ((Boolean) element).booleanValue();
+            }
+
+            i++;
+        }
+
+        return new EnumConfigurationPrimitiveValue(value, readPlan, registrationVersion, size, isLong ? longValues : null, isDouble ? doubleValues : null, isBoolean, booleanValue);
+    }
+
+
+    /**
+     * Check if this primitive value is still valid. It belongs to the given raw value and is validated by the current read plan of
+     * the configuration, which is reset as soon as the configuration changes, and the current registered validators.
+     *
+     * @param rawValue the raw value
+     * @param currentReadPlan the current read plan of the configuration
+     * @param currentRegistrationVersion the current version of the registered validators
+     * @return true if it is still valid
+     */
+    public boolean isValid(String rawValue, Object currentReadPlan, long currentRegistrationVersion) {
+        return readPlan != null 
+               && readPlan == currentReadPlan 
+               && registrationVersion == currentRegistrationVersion
+               && (value == rawValue || (value != null && value.equals(rawValue)));
+    }
+
+
+    /**
+     * Get the number of values
+     *
+     * @return the number of values
+     */
+    public int size() {
+        return size;
+    }
+
+
+    /**
+     * Check if the values are long values
+     *
+     * @return true if the values are long values
+     */
+    public boolean isLong() {
+        return longValues != null;
+    }
+
+
+    /**
+     * Check if the values are numbers, either long or double values
+     *
+     * @return true if the values are numbers
+     */
+    public boolean isNumber() {
+        return longValues != null || doubleValues != null;
+    }
+
+
+    /**
+     * Check if the value is a boolean value
+     *
+     * @return true if the value is a boolean value
+     */
+    public boolean isBoolean() {
+        return isBoolean;
+    }
+
+
+    /**
+     * Get the first value as long, see {@link #isLong()}
+     *
+     * @return the first value
+     */
+    public long getLong() {
+        return longValues[0];
+    }
+
+
+    /**
+     * Get the first value as double, see {@link #isNumber()}
+     *
+     * @return the first value
+     */
+    public double getDouble() {
+        if (doubleValues != null) {
+            return doubleValues[0];
+        }
+
+        return longValues[0];
+    }
+
+
+    /**
+     * Get the value as boolean, see {@link #isBoolean()}
+     *
+     * @return the value
+     */
+    public boolean getBoolean() {
+        return booleanValue;
+    }
+
+
+    /**
+     * Get a copy of the long values, see {@link #isLong()}
+     *
+     * @return the long values
+     */
+    public long[] getLongArray() {
+        if (size == 0) {
+            return EMPTY_LONG_ARRAY;
+        }
+
+        return Arrays.copyOf(longValues, size);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,352 @@
+/*
+ * EnumConfigurationValueCache.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.store.impl;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyValueConfigurationValueValidatorFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * Defines a bounded cache of validated configuration values. An entry is keyed by the configuration key name and holds the raw
+ * string value together with the validated values. A cache entry is only returned in case the raw value is still the same, the
+ * values were validated by the current read plan of the configuration, which is recreated as soon as the configuration changes,
+ * and no validator was registered in the meantime, see {@link EnumKeyValueConfigurationValueValidatorFactory#getRegistrationVersion()}.
+ *
+ * <p>The entries are spread by the key name over independent segments, each segment has its own lock and removes its least
+ * recently used entry in case it exceeds its part of the max size. Small caches have only one segment.</p>
+ *
+ * @author patrick
+ */
+public class EnumConfigurationValueCache {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 16;
+    private final int maxSize;
+    private final Segment[] segments;
+
+
+    /**
+     * Constructor for EnumConfigurationValueCache
+     *
+     * @param maxSize the max size of the cache
+     */
+    public EnumConfigurationValueCache(int maxSize) {
+        this.maxSize = maxSize;
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && maxSize / (segmentCount * 2) >= MIN_SEGMENT_SIZE) {
+            segmentCount *= 2;
+        }
+
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // the max size is split exactly over the segments
+            segments[i] = new Segment(Math.max(0, maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0)));
+        }
+    }
+
+
+    /**
+     * Get the validated values of a configuration key. They are only returned in case the raw value is the same as
+     * the cached raw value and the values were validated by the given read plan. Mutable values, e.g. binary objects, 
+     * are returned as copy.
+     *
+     * @param <D> the configuration value type
+     * @param configurationKeyName the configuration key name
+     * @param value the raw value
+     * @param readPlan the current read plan of the configuration
+     * @return the validated values or null if there is no valid entry
+     */
+    @SuppressWarnings("unchecked")
+    public <D> Collection<D> get(String configurationKeyName, String value, Object readPlan) {
+        if (configurationKeyName == null || value == null || readPlan == null || maxSize <= 0) {
+            return null;
+        }
+
+        Segment segment = getSegment(configurationKeyName);
+        CacheEntry cacheEntry;
+        synchronized (segment) {
+            cacheEntry = segment.get(configurationKeyName);
+        }
+
+        if (cacheEntry == null || (cacheEntry.value != value && !cacheEntry.value.equals(value))) {
+            return null;
+        }
+
+        if (cacheEntry.readPlan != readPlan) {
+            // validated by the read plan of a configuration which is changed in the meantime
+            synchronized (segment) {
+                segment.remove(configurationKeyName, cacheEntry);
+            }
+
+            return null;
+        }
+
+        if (cacheEntry.registrationVersion != EnumKeyValueConfigurationValueValidatorFactory.getInstance().getRegistrationVersion()) {
+            // validated by a validator which is replaced in the meantime
+            synchronized (segment) {
+                segment.remove(configurationKeyName, cacheEntry);
+            }
+
+            return null;
+        }
+
+        if (cacheEntry.isMutable) {
+            return (Collection<D>) copyValueList(cacheEntry.valueList);
+        }
+
+        return (Collection<D>) cacheEntry.valueList;
+    }
+
+
+    /**
+     * Put the validated values of a configuration key into the cache. They are bound to the current version of the
+     * registered validators.
+     *
+     * @param <D> the configuration value type
+     * @param configurationKeyName the configuration key name
+     * @param value the raw value
+     * @param valueList the validated values
+     * @param readPlan the read plan of the configuration which validated the values
+     * @return the cached validated values which are not modifiable
+     */
+    public <D> Collection<D> put(String configurationKeyName, String value, Collection<D> valueList, Object readPlan) {
+        return put(configurationKeyName, value, valueList, readPlan, EnumKeyValueConfigurationValueValidatorFactory.getInstance().getRegistrationVersion());
+    }
+
+
+    /**
+     * Put the validated values of a configuration key into the cache. The values are kept as copy in case they are mutable.
+     * Values without read plan are not cached.
+     *
+     * @param <D> the configuration value type
+     * @param configurationKeyName the configuration key name
+     * @param value the raw value
+     * @param valueList the validated values
+     * @param readPlan the read plan of the configuration which validated the values
+     * @param registrationVersion the version of the registered validators before the values were validated
+     * @return the cached validated values which are not modifiable
+     */
+    @SuppressWarnings("unchecked")
+    public <D> Collection<D> put(String configurationKeyName, String value, Collection<D> valueList, Object readPlan, long registrationVersion) {
+        if (configurationKeyName == null || value == null || readPlan == null || maxSize <= 0) {
+            return valueList;
+        }
+
+        boolean isMutable = isMutable(valueList);
+        Collection<D> cachedValueList = valueList;
+        if (isMutable) {
+            cachedValueList = (Collection<D>) copyValueList(valueList);
+        } else if (valueList instanceof Set) {
+            cachedValueList = Collections.unmodifiableSet((Set<D>) valueList);
+        } else if (valueList instanceof List) {
+            cachedValueList = Collections.unmodifiableList((List<D>) valueList);
+        } else if (valueList != null) {
+            cachedValueList = Collections.unmodifiableCollection(valueList);
+        }
+
+        Segment segment = getSegment(configurationKeyName);
+        synchronized (segment) {
+            segment.put(configurationKeyName, new CacheEntry(value, cachedValueList, isMutable, readPlan, registrationVersion));
+        }
+
+        if (isMutable) {
+            return (Collection<D>) copyValueList(cachedValueList);
+        }
+
+        return cachedValueList;
+    }
+
+
+    /**
+     * Invalidate the entry of a configuration key.
+     *
+     * @param configurationKeyName the configuration key name
+     */
+    public void invalidate(String configurationKeyName) {
+        if (configurationKeyName == null) {
+            return;
+        }
+
+        Segment segment = getSegment(configurationKeyName);
+        synchronized (segment) {
+            segment.remove(configurationKeyName);
+        }
+    }
+
+
+    /**
+     * Clear the cache
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Get the number of cached entries
+     *
+     * @return the number of cached entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Get the max size of the cache
+     *
+     * @return the max size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+
+    /**
+     * Get the segment of a configuration key
+     *
+     * @param configurationKeyName the configuration key name
+     * @return the segment
+     */
+    private Segment getSegment(String configurationKeyName) {
+        int hash = configurationKeyName.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+
+    /**
+     * Check if the validated values contain mutable values
+     *
+     * @param valueList the validated values
+     * @return true if there are mutable values
+     */
+    private static boolean isMutable(Collection<?> valueList) {
+        if (valueList == null) {
+            return false;
+        }
+
+        for (Object element : valueList) {
+            if (element instanceof IEnumKeyValueConfigurationBinaryObject) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Copy the validated values, the binary objects are copied as well
+     *
+     * @param valueList the validated values
+     * @return the not modifiable copy
+     */
+    private static Collection<?> copyValueList(Collection<?> valueList) {
+        Collection<Object> result;
+        if (valueList instanceof Set) {
+            result = new LinkedHashSet<Object>();
+        } else {
+            result = new ArrayList<Object>(valueList.size());
+        }
+
+        for (Object element : valueList) {
+            if (element instanceof IEnumKeyValueConfigurationBinaryObject) {
+                result.add(new EnumKeyValueConfigurationBinaryObject((IEnumKeyValueConfigurationBinaryObject) element));
+            } else {
+                result.add(element);
+            }
+        }
+
+        if (result instanceof Set) {
+            return Collections.unmodifiableSet((Set<Object>) result);
+        }
+
+        return Collections.unmodifiableList((List<Object>) result);
+    }
+
+
+    /**
+     * Defines a segment of the cache, the least recently used entry is removed in case it exceeds its max size.
+     *
+     * @author patrick
+     */
+    private static final class Segment extends LinkedHashMap<String, CacheEntry> {
+        private static final long serialVersionUID = 4630419843178525377L;
+        private final int segmentMaxSize;
+
+
+        /**
+         * Constructor for Segment
+         *
+         * @param segmentMaxSize the max size of the segment
+         */
+        Segment(int segmentMaxSize) {
+            super(16, 0.75f, true);
+            this.segmentMaxSize = segmentMaxSize;
+        }
+
+
+        /**
+         * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+            return size() > segmentMaxSize;
+        }
+    }
+
+
+    /**
+     * Defines a cache entry
+     *
+     * @author patrick
+     */
+    private static final class CacheEntry {
+        private final String value;
+        private final Collection<?> valueList;
+        private final boolean isMutable;
+        private final Object readPlan;
+        private final long registrationVersion;
+
+
+        /**
+         * Constructor for CacheEntry
+         *
+         * @param value the raw value
+         * @param valueList the validated values
+         * @param isMutable true if the validated values are mutable
+         * @param readPlan the read plan which validated the values
+         * @param registrationVersion the version of the registered validators
+         */
+        CacheEntry(String value, Collection<?> valueList, boolean isMutable, Object readPlan, long registrationVersion) {
+            this.value = value;
+            this.valueList = valueList;
+            this.isMutable = isMutable;
+            this.readPlan = readPlan;
+            this.registrationVersion = registrationVersion;
+        }
+    }
+}
@@ -5,8 +5,9 @@
  */
 package com.github.toolarium.enumeration.configuration.util;
 
+import java.nio.ByteBuffer;
 import java.util.Base64;
-import java.util.regex.Pattern;
+
 
 /**
  * Base64 utility
@@ -14,10 +15,8 @@ import java.util.regex.Pattern;
  * @author patrick
  */
 public final class Base64Util {
-    
-    /** Base64 validation regular expression. */
-    //private static final Pattern BASE64_PATTERN = Pattern.compile("^([A-Za-z0-9+/]{4})*([A-Za-z0-9+/]{4}|[A-Za-z0-9+/]{3}=|[A-Za-z0-9+/]{2}==)?$");
-    private static final Pattern BASE64_PATTERN = Pattern.compile("^([A-Za-z0-9+/]{4})*([A-Za-z0-9+/]{4}|[A-Za-z0-9+/]{3}=|[A-Za-z0-9+/]{2}==)$");
+    private static final char PADDING = '=';
+    private static final int DECODE_CHUNK_SIZE = 8192;
 
     /**
      * Private class, the only instance of the singelton which will be created by accessing the holder class.
@@ -47,7 +46,7 @@ public final class Base64Util {
 
     /**
      * Validates the input string if it is a valid base64 encoding or not. 
-     * An empty string is also considered as valid. All whitespace are ignored.
+     * An empty string is not considered as valid, the leading and trailing whitespace are ignored and the content has to be padded.
      *
      * @param input to validate.
      * @return true if the string is a valid Base64 encoding.
@@ -57,17 +56,163 @@ public final class Base64Util {
             return false;
         }
 
-        String base64Content = input.trim();
-        if (BASE64_PATTERN.matcher(base64Content).matches()) {
-            try {
-                Base64.getDecoder().decode(base64Content);
-                return (base64Content.length() % 4 == 0);
-                
-            } catch (IllegalArgumentException e) {
-                return false;
+        int start = getStart(input);
+        int end = getEnd(input, start);
+        return ((end - start) % 4 == 0) && getDecodedLength(input, start, end) >= 0;
+    }
+
+    
+    /**
+     * Get the length of the decoded content without decoding it. The content is scanned once and validated as the 
+     * {@link java.util.Base64#getDecoder()} does it: only the characters of the Base64 alphabet are allowed, the padding is optional but 
+     * if it is present it has to be correct and it ends the content. The leading and trailing whitespace are ignored.  
+     *
+     * @param input the Base64 encoded content
+     * @return the number of decoded bytes or -1 in case the input is not a valid Base64 encoding
+     */
+    public long getDecodedLength(final CharSequence input) {
+        if (input == null) {
+            return -1;
+        }
+        
+        int start = getStart(input);
+        return getDecodedLength(input, start, getEnd(input, start));
+    }
+
+    
+    /**
+     * Decode the Base64 content. The leading and trailing whitespace are ignored.
+     *
+     * @param input the Base64 encoded content
+     * @param direct true to decode the content into a direct buffer, which is allocated outside of the heap. The caller owns the buffer, the 
+     *        memory is only released after the buffer is unreachable, therefore it should not be kept in a cache, e.g. by a soft reference
+     * @return the decoded content, the buffer is ready to read
+     * @throws IllegalArgumentException In case the input is not a valid Base64 encoding
+     */
+    public ByteBuffer decode(final CharSequence input, final boolean direct) {
+        long length = getDecodedLength(input);
+        if (length < 0) {
+            throw new IllegalArgumentException("Invalid Base64 content!");
+        }
+        
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Base64 content is too big (" + length + " bytes)!");
+        }
+        
+        int start = getStart(input);
+        int end = getEnd(input, start);
+        if (!direct) {
+            return ByteBuffer.wrap(Base64.getDecoder().decode(input.subSequence(start, end).toString()));
+        }
+
+        // decode chunk by chunk to avoid a decoded copy on the heap, only the last chunk can contain the padding
+        ByteBuffer result = ByteBuffer.allocateDirect((int) length);
+        Base64.Decoder decoder = Base64.getDecoder();
+        byte[] encodedChunk = new byte[DECODE_CHUNK_SIZE];
+        byte[] decodedChunk = new byte[DECODE_CHUNK_SIZE / 4 * 3];
+        for (int index = start; index < end; index += DECODE_CHUNK_SIZE) {
+            int chunkLength = Math.min(DECODE_CHUNK_SIZE, end - index);
+            for (int i = 0; i < chunkLength; i++) {
+                encodedChunk[i] = (byte) input.charAt(index + i);
             }
+            
+            byte[] encoded = encodedChunk;
+            if (chunkLength < DECODE_CHUNK_SIZE) {
+                encoded = new byte[chunkLength];
+                System.arraycopy(encodedChunk, 0, encoded, 0, chunkLength);
+            }
+            
+            result.put(decodedChunk, 0, decoder.decode(encoded, decodedChunk));
+        }
+        
+        result.flip();
+        return result;
+    }
+
+    
+    /**
+     * Get the length of the decoded content of a range
+     *
+     * @param input the Base64 encoded content
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the number of decoded bytes or -1 in case the input is not a valid Base64 encoding
+     */
+    private long getDecodedLength(final CharSequence input, final int start, final int end) {
+        int index = start;
+        while (index < end && isBase64Character(input.charAt(index))) {
+            index++;
+        }
+        
+        long characters = index - start;
+        int remainder = (int) (characters % 4);
+        if (remainder == 1) {
+            return -1;
+        }
+        
+        if (index < end) {
+            // only the padding of the last unit may follow
+            int padding = end - index;
+            if (remainder == 0 || padding != 4 - remainder) {
+                return -1;
+            }
+            
+            for (; index < end; index++) {
+                if (input.charAt(index) != PADDING) {
+                    return -1;
+                }
+            }
+        }
+
+        long length = (characters / 4) * 3;
+        if (remainder > 0) {
+            length += remainder - 1;
+        }
+        
+        return length;
+    }
+
+    
+    /**
+     * Check if the character is part of the Base64 alphabet
+     *
+     * @param c the character
+     * @return true if it is part of the Base64 alphabet
+     */
+    private boolean isBase64Character(final char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '+' || c == '/';
+    }
+
+    
+    /**
+     * Get the index of the first character which is not a whitespace, see {@link String#trim()}
+     *
+     * @param input the input
+     * @return the index
+     */
+    private int getStart(final CharSequence input) {
+        int start = 0;
+        while (start < input.length() && input.charAt(start) <= ' ') {
+            start++;
+        }
+        
+        return start;
+    }
+
+    
+    /**
+     * Get the index after the last character which is not a whitespace, see {@link String#trim()}
+     *
+     * @param input the input
+     * @param start the index of the first character which is not a whitespace
+     * @return the index
+     */
+    private int getEnd(final CharSequence input, final int start) {
+        int end = input.length();
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
         }
         
-        return false;
+        return end;
     }
 }
@@ -0,0 +1,86 @@
+/*
+ * ByteBufferInputStream.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+
+/**
+ * Implements an {@link InputStream} which reads the remaining content of a {@link ByteBuffer}. The stream works on a duplicate,
+ * therefore the position of the given buffer is not changed and the content is not copied.
+ *
+ * @author patrick
+ */
+public class ByteBufferInputStream extends InputStream {
+    private final ByteBuffer buffer;
+
+
+    /**
+     * Constructor for ByteBufferInputStream
+     *
+     * @param buffer the buffer
+     */
+    public ByteBufferInputStream(ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+    }
+
+
+    /**
+     * @see java.io.InputStream#read()
+     */
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        return buffer.get() & 0xFF;
+    }
+
+
+    /**
+     * @see java.io.InputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        int length = Math.min(len, buffer.remaining());
+        buffer.get(b, off, length);
+        return length;
+    }
+
+
+    /**
+     * @see java.io.InputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+
+        int length = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + length);
+        return length;
+    }
+
+
+    /**
+     * @see java.io.InputStream#available()
+     */
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
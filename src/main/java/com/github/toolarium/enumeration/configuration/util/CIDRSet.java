@@ -0,0 +1,389 @@
+/*
+ * CIDRSet.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Defines an immutable set of CIDR ranges, e.g. the value of a CIDR configuration. The ranges are compiled once into a binary
+ * prefix trie per address family, therefore the check if an address is part of the set walks at most the prefix length. The
+ * check of a numeric address (see {@link #containsIPv4(long)} and {@link #containsIPv6(long, long)}) needs no allocation.
+ * The nodes of a trie are stored in an array: the node <code>n</code> has its children at the index <code>2n</code> and
+ * <code>2n + 1</code>, where 0 stands for no child since the root can't be a child.
+ *
+ * @author patrick
+ */
+public final class CIDRSet {
+    private static final int IPV4_ADDRESS_LENGTH = 4;
+    private static final int IPV6_ADDRESS_LENGTH = 16;
+    private final List<String> cidrList;
+    private final Trie ipv4Trie;
+    private final Trie ipv6Trie;
+
+
+    /**
+     * Constructor for CIDRSet
+     *
+     * @param cidrList the CIDR list
+     * @param ipv4Trie the IPv4 trie
+     * @param ipv6Trie the IPv6 trie
+     */
+    private CIDRSet(List<String> cidrList, Trie ipv4Trie, Trie ipv6Trie) {
+        this.cidrList = Collections.unmodifiableList(cidrList);
+        this.ipv4Trie = ipv4Trie;
+        this.ipv6Trie = ipv6Trie;
+    }
+
+
+    /**
+     * Parse a CIDR set from a configuration value, which is a single CIDR expression or a JSON array of them
+     *
+     * @param value the value, e.g. <code>10.0.0.0/8</code> or <code>["10.0.0.0/8", "2001:db8::/32"]</code>
+     * @return the CIDR set
+     * @throws UnknownHostException In case of an invalid CIDR expression
+     */
+    public static CIDRSet parse(String value) throws UnknownHostException {
+        List<String> cidrExpressionList = new ArrayList<String>();
+        try {
+            JSONUtil.getInstance().parse(value, element -> {
+                cidrExpressionList.add(element);
+                return true;
+            });
+        } catch (IllegalArgumentException e) {
+            throw new UnknownHostException("Invalid CIDR set: [" + value + "]: " + e.getMessage());
+        }
+
+        return parse(cidrExpressionList);
+    }
+
+
+    /**
+     * Parse a CIDR set, e.g. from the value list of a CIDR configuration. An expression without prefix length stands for a single address.
+     *
+     * @param cidrExpressions the CIDR expressions
+     * @return the CIDR set
+     * @throws UnknownHostException In case of an invalid CIDR expression
+     */
+    public static CIDRSet parse(Collection<String> cidrExpressions) throws UnknownHostException {
+        List<String> cidrList = new ArrayList<String>();
+        Trie ipv4Trie = new Trie(CIDRUtil.IPV4_BITS);
+        Trie ipv6Trie = new Trie(CIDRUtil.IPV6_BITS);
+        if (cidrExpressions != null) {
+            for (String cidrExpression : cidrExpressions) {
+                if (cidrExpression == null || cidrExpression.isBlank()) {
+                    continue;
+                }
+
+                String cidr = cidrExpression.trim();
+
+                // the address has to be a literal, a host name would be resolved
+                CIDRUtil.CIDR range;
+                if (cidr.indexOf('/') >= 0) {
+                    if (!CIDRUtil.getInstance().isValidRange(cidr)) {
+                        throw new UnknownHostException("Invalid CIDR format: [" + cidrExpression + "]!");
+                    }
+                    
+                    range = CIDRUtil.getInstance().parse(cidr);
+                } else if (CIDRUtil.getInstance().isIPv4Address(cidr)) {
+                    range = CIDRUtil.getInstance().parse(cidr + "/" + CIDRUtil.IPV4_BITS);
+                } else if (CIDRUtil.getInstance().isIPv6Address(cidr)) {
+                    range = CIDRUtil.getInstance().parse(cidr + "/" + CIDRUtil.IPV6_BITS);
+                } else {
+                    throw new UnknownHostException("Invalid CIDR format: [" + cidrExpression + "]!");
+                }
+
+                if (range.isIPv6()) {
+                    ipv6Trie.add(range.getNetworkHigh(), range.getNetworkLow(), range.getPrefixLength());
+                } else {
+                    ipv4Trie.add(range.getNetworkHigh(), range.getNetworkLow(), range.getPrefixLength());
+                }
+
+                cidrList.add(cidr);
+            }
+        }
+
+        return new CIDRSet(cidrList, ipv4Trie.compact(), ipv6Trie.compact());
+    }
+
+
+    /**
+     * Check if an IPv4 address is part of this set
+     *
+     * @param address the address in the lower 32 bits, see {@link CIDRUtil#parseIPv4Address(String)}
+     * @return true if it is part of this set
+     */
+    public boolean containsIPv4(long address) {
+        if (address < 0 || address > 0xFFFFFFFFL) {
+            return false;
+        }
+
+        return ipv4Trie.contains(0, address);
+    }
+
+
+    /**
+     * Check if an IPv6 address is part of this set
+     *
+     * @param high the high 64 bits of the address, see {@link CIDRUtil#parseIPv6Address(String, long[])}
+     * @param low the low 64 bits of the address
+     * @return true if it is part of this set
+     */
+    public boolean containsIPv6(long high, long low) {
+        return ipv6Trie.contains(high, low);
+    }
+
+
+    /**
+     * Check if an address is part of this set
+     *
+     * @param address the address in network byte order (4 bytes IPv4, 16 bytes IPv6)
+     * @return true if it is part of this set
+     */
+    public boolean contains(byte[] address) {
+        if (address == null) {
+            return false;
+        }
+
+        if (address.length == IPV4_ADDRESS_LENGTH) {
+            return ipv4Trie.contains(0, toLong(address, 0, 4));
+        } else if (address.length == IPV6_ADDRESS_LENGTH) {
+            return contains(toLong(address, 0, 8), toLong(address, 8, 16));
+        }
+
+        return false;
+    }
+
+
+    /**
+     * Check if an address is part of this set
+     *
+     * @param address the address
+     * @return true if it is part of this set
+     */
+    public boolean contains(InetAddress address) {
+        if (address == null) {
+            return false;
+        }
+
+        return contains(address.getAddress());
+    }
+
+
+    /**
+     * Check if an address is part of this set. Only literal IPv4 and IPv6 addresses are supported, host names are not resolved.
+     * An IPv4-mapped IPv6 address is checked as IPv4 address.
+     *
+     * @param address the address
+     * @return true if it is part of this set
+     */
+    public boolean contains(String address) {
+        if (address == null) {
+            return false;
+        }
+
+        long ipv4Address = CIDRUtil.getInstance().parseIPv4Address(address);
+        if (ipv4Address >= 0) {
+            return ipv4Trie.contains(0, ipv4Address);
+        }
+
+        long[] ipv6Address = new long[2];
+        return CIDRUtil.getInstance().parseIPv6Address(address, ipv6Address) && contains(ipv6Address[0], ipv6Address[1]);
+    }
+
+
+    /**
+     * Check if an IPv6 address is part of this set, an IPv4-mapped address is checked as IPv4 address
+     *
+     * @param high the high 64 bits of the address
+     * @param low the low 64 bits of the address
+     * @return true if it is part of this set
+     */
+    private boolean contains(long high, long low) {
+        if (CIDRUtil.getInstance().isIPv4MappedAddress(high, low)) {
+            return ipv4Trie.contains(0, low & 0xFFFFFFFFL);
+        }
+        
+        return ipv6Trie.contains(high, low);
+    }
+
+
+    /**
+     * Get the CIDR expressions of this set
+     *
+     * @return the CIDR expressions
+     */
+    public List<String> getCIDRList() {
+        return cidrList;
+    }
+
+
+    /**
+     * Check if the set is empty
+     *
+     * @return true if it is empty
+     */
+    public boolean isEmpty() {
+        return cidrList.isEmpty();
+    }
+
+
+    /**
+     * Convert bytes in network byte order into a long
+     *
+     * @param address the address bytes
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the long
+     */
+    private static long toLong(byte[] address, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = (result << 8) | (address[i] & 0xFF);
+        }
+
+        return result;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return cidrList.toString();
+    }
+
+
+    /**
+     * Defines a binary prefix trie of one address family
+     *
+     * @author patrick
+     */
+    private static final class Trie {
+        private final int addressBits;
+        private int[] children;
+        private boolean[] terminals;
+        private int size;
+
+
+        /**
+         * Constructor for Trie
+         *
+         * @param addressBits the number of bits of an address
+         */
+        Trie(int addressBits) {
+            this.addressBits = addressBits;
+            this.children = new int[32];
+            this.terminals = new boolean[16];
+            this.size = 1; // root
+        }
+
+
+        /**
+         * Add a prefix
+         *
+         * @param high the high 64 bits of the address
+         * @param low the low 64 bits of the address
+         * @param prefixLength the prefix length
+         */
+        void add(long high, long low, int prefixLength) {
+            int node = 0;
+            for (int i = 0; i < prefixLength; i++) {
+                if (terminals[node]) {
+                    // already covered by a shorter prefix
+                    return;
+                }
+
+                int slot = 2 * node + bit(high, low, i);
+                int child = children[slot];
+                if (child == 0) {
+                    child = newNode();
+                    children[slot] = child;
+                }
+
+                node = child;
+            }
+
+            terminals[node] = true;
+        }
+
+
+        /**
+         * Check if an address matches a prefix of the trie
+         *
+         * @param high the high 64 bits of the address
+         * @param low the low 64 bits of the address
+         * @return true if it matches
+         */
+        boolean contains(long high, long low) {
+            int node = 0;
+            for (int i = 0; i < addressBits; i++) {
+                if (terminals[node]) {
+                    return true;
+                }
+
+                node = children[2 * node + bit(high, low, i)];
+                if (node == 0) {
+                    return false;
+                }
+            }
+
+            return terminals[node];
+        }
+
+
+        /**
+         * Trim the node arrays to the used size
+         *
+         * @return this trie
+         */
+        Trie compact() {
+            children = Arrays.copyOf(children, 2 * size);
+            terminals = Arrays.copyOf(terminals, size);
+            return this;
+        }
+
+
+        /**
+         * Create a new node
+         *
+         * @return the index of the new node
+         */
+        private int newNode() {
+            if (size == terminals.length) {
+                terminals = Arrays.copyOf(terminals, 2 * size);
+                children = Arrays.copyOf(children, 4 * size);
+            }
+
+            return size++;
+        }
+
+
+        /**
+         * Get a bit of an address, the address is aligned to the lower bits of 128 bits
+         *
+         * @param high the high 64 bits of the address
+         * @param low the low 64 bits of the address
+         * @param index the index of the bit, 0 is the most significant bit of the address
+         * @return the bit
+         */
+        private int bit(long high, long low, int index) {
+            int position = CIDRUtil.IPV6_BITS - addressBits + index;
+            if (position < 64) {
+                return (int) (high >>> (63 - position)) & 1;
+            }
+
+            return (int) (low >>> (127 - position)) & 1;
+        }
+    }
+}
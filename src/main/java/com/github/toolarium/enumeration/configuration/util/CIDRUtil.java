@@ -5,17 +5,15 @@
  */
 package com.github.toolarium.enumeration.configuration.util;
 
-import java.math.BigInteger;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
-import java.nio.ByteBuffer;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Pattern;
 
 
 /**
- * CIDR utility
+ * CIDR utility. Literal IPv4 and IPv6 addresses are parsed numerically into primitive values, an IPv4 address into the lower
+ * 32 bits of a long and an IPv6 address into two longs (high and low 64 bits). Ranges are checked by mask and compare, only
+ * host names are resolved by {@link InetAddress}. As by {@link InetAddress} an IPv4-mapped IPv6 address (e.g. <code>::ffff:1.2.3.4</code>)
+ * is handled as IPv4 address when it is checked against a range.
  *
  * @author patrick
  */
@@ -46,10 +44,15 @@ public final class CIDRUtil {
                                                         + "(:(((:[0-9A-Fa-f]{1,4}){1,7})|((:[0-9A-Fa-f]{1,4}){0,5}:((25[0-5]|2[0-4]d|1dd|[1-9]?d)(.(25[0-5]|2[0-4]d|1dd|[1-9]?d)){3}))|:)))(%.+)?s*"
                                                         + "/([0-9]|[1-9][0-9]|1[0-1][0-9]|12[0-8])$";
 
-    private Pattern ipv4Expression;
-    private Pattern ipv6Expression;
-    private Pattern ipv4RangeExpression;
-    private Pattern ipv6RangeExpression;
+    /** The number of bits of an IPv4 address */
+    public static final int IPV4_BITS = 32;
+
+    /** The number of bits of an IPv6 address */
+    public static final int IPV6_BITS = 128;
+
+    private static final long IPV4_MAPPED_PREFIX = 0xFFFFL;
+    private static final char RANGE_SEPARATOR = '/';
+    private static final char ZONE_SEPARATOR = '%';
 
 
     /**
@@ -64,11 +67,7 @@ public final class CIDRUtil {
      * Constructor
      */
     private CIDRUtil() {
-        ipv4Expression = Pattern.compile(IPV4_EXPRESSION);
-        ipv6Expression = Pattern.compile(IPV6_EXPRESSION);
-        ipv4RangeExpression = Pattern.compile(IPV4_RANGE_EXPRESSION);
-        ipv6RangeExpression = Pattern.compile(IPV6_RANGE_EXPRESSION);
-
+        // NOP
     }
 
 
@@ -145,11 +144,11 @@ public final class CIDRUtil {
      * @return true if it is valid otherwise false
      */
     public boolean isIPv4Address(String host) {
-        if (host == null || host.trim().length() == 0) {
+        if (host == null) {
             return false;
         }
 
-        return ipv4Expression.matcher(host).matches();
+        return parseIPv4Address(host, 0, host.length()) >= 0;
     }
 
 
@@ -160,11 +159,11 @@ public final class CIDRUtil {
      * @return true if it is valid otherwise false
      */
     public boolean isIPv6Address(String host) {
-        if (host == null || host.trim().length() == 0) {
+        if (host == null) {
             return false;
         }
 
-        return ipv6Expression.matcher(host).matches();
+        return parseIPv6Address(host, 0, host.length(), null);
     }
 
 
@@ -190,11 +189,12 @@ public final class CIDRUtil {
      * @return true if it is
      */
     public boolean isIPv4Range(String host) {
-        if (host == null || host.trim().length() == 0) {
+        if (host == null) {
             return false;
         }
 
-        return ipv4RangeExpression.matcher(host).matches();
+        int index = host.indexOf(RANGE_SEPARATOR);
+        return index > 0 && parseIPv4Address(host, 0, index) >= 0 && parsePrefixLength(host, index + 1, IPV4_BITS) >= 0;
     }
 
 
@@ -205,11 +205,12 @@ public final class CIDRUtil {
      * @return true if it is
      */
     public boolean isIPv6Range(String host) {
-        if (host == null || host.trim().length() == 0) {
+        if (host == null) {
             return false;
         }
 
-        return ipv6RangeExpression.matcher(host).matches();
+        int index = host.indexOf(RANGE_SEPARATOR);
+        return index > 0 && parseIPv6Address(host, 0, getAddressEnd(host, index), null) && parsePrefixLength(host, index + 1, IPV6_BITS) >= 0;
     }
 
 
@@ -221,6 +222,26 @@ public final class CIDRUtil {
      * @return true if the host name is belong to given range
      */
     public boolean isInRange(String hostRange, String host) {
+        if (hostRange == null || host == null) {
+            return false;
+        }
+
+        // literal addresses and ranges are compared numerically
+        String hostRangeAddress = hostRange.trim();
+        if (isIPv4Address(host) || isIPv6Address(host)) {
+            try {
+                if (isValidRange(hostRangeAddress)) {
+                    return parse(hostRangeAddress).isInRange(host);
+                }
+
+                if (isIPv4Address(hostRangeAddress) || isIPv6Address(hostRangeAddress)) {
+                    return parseLiteral(hostRangeAddress).isInRange(host);
+                }
+            } catch (UnknownHostException e) {
+                return false;
+            }
+        }
+        
         // check host
         if (!isValidAddress(host)) {
             //log.debug("Invalid host [" + host + "]!");
@@ -239,18 +260,7 @@ public final class CIDRUtil {
             return false;
         }
 
-        if (!remoteAddress.equals(host)) {
-            //log.debug("Resolved host address [" + host + "] as [" + remoteAddress + "].");
-        }
-
-        String hostRangeAddress = hostRange.trim();
         if (hostRange.equals(host) || hostRange.equals(remoteAddress)) {
-            if (hostRange.equals(host)) {
-                //log.debug("Host [" + host + "] and host range [" + hostRange + "] are equals.");
-            } else if (hostRange.equals(remoteAddress)) {
-                //log.debug("Remote host [" + remoteAddress + "] and host range [" + hostRange + "] are equals.");
-            }
-
             return true;
         }
 
@@ -274,8 +284,7 @@ public final class CIDRUtil {
 
         boolean result = false;
         try {
-            CIDR cidr = parse(hostRangeAddress);
-            result = cidr.isInRange(remoteAddress) || cidr.getBroadcastAddress().equals(remoteAddress) || cidr.getNetworkAddress().equals(remoteAddress);
+            result = parse(hostRangeAddress).isInRange(remoteAddress);
         } catch (Exception e) {
             //log.error("Error occured while check address [" + remoteAddress + "] in range [" + hostRangeAddress + "]: " + e.getMessage(), e);
         }
@@ -299,74 +308,366 @@ public final class CIDRUtil {
         }
 
         final String cidr = cidrExpression.trim();
-        int index = cidr.indexOf("/");
-        String addressPart = cidr.substring(0, index);
-        String networkPart = cidr.substring(index + 1);
-        return prepareCIDR(InetAddress.getByName(addressPart), Integer.parseInt(networkPart));
+        int index = cidr.indexOf(RANGE_SEPARATOR);
+        int addressEnd = getAddressEnd(cidr, index);
+        long ipv4Address = parseIPv4Address(cidr, 0, index);
+        if (ipv4Address >= 0) {
+            return new CIDR(false, 0, ipv4Address, parsePrefixLength(cidr, index + 1, IPV4_BITS, cidrExpression));
+        }
+
+        long[] ipv6Address = new long[2];
+        if (parseIPv6Address(cidr, 0, addressEnd, ipv6Address)) {
+            int prefixLength = parsePrefixLength(cidr, index + 1, IPV6_BITS, cidrExpression);
+            if (prefixLength >= IPV6_BITS - IPV4_BITS && isIPv4MappedAddress(ipv6Address[0], ipv6Address[1])) {
+                // the range covers only IPv4-mapped addresses
+                return new CIDR(false, 0, ipv6Address[1] & 0xFFFFFFFFL, prefixLength - (IPV6_BITS - IPV4_BITS));
+            }
+            
+            return new CIDR(true, ipv6Address[0], ipv6Address[1], prefixLength);
+        }
+
+        // it could be a hostname
+        byte[] address = InetAddress.getByName(cidr.substring(0, index)).getAddress();
+        if (address.length == 4) {
+            return new CIDR(false, 0, toLong(address, 0, 4), parsePrefixLength(cidr, index + 1, IPV4_BITS, cidrExpression));
+        }
+
+        return new CIDR(true, toLong(address, 0, 8), toLong(address, 8, 16), parsePrefixLength(cidr, index + 1, IPV6_BITS, cidrExpression));
+    }
+
+
+    /**
+     * Parse a literal IPv4 address in dotted decimal notation, e.g. <code>192.168.0.1</code>
+     *
+     * @param address the address
+     * @return the address in the lower 32 bits or -1 if it is not a valid IPv4 address
+     */
+    public long parseIPv4Address(String address) {
+        if (address == null) {
+            return -1;
+        }
+
+        return parseIPv4Address(address, 0, address.length());
+    }
+
+
+    /**
+     * Parse a literal IPv6 address, e.g. <code>fe80::202:b3ff:fe1e:8329</code>. The compressed form <code>::</code> and an IPv4 
+     * address in the last 32 bits are supported.
+     *
+     * @param address the address
+     * @param result the array which receives the high (index 0) and the low (index 1) 64 bits, can be null to validate only
+     * @return true if it is a valid IPv6 address
+     */
+    public boolean parseIPv6Address(String address, long[] result) {
+        if (address == null) {
+            return false;
+        }
+
+        return parseIPv6Address(address, 0, address.length(), result);
+    }
+
+
+    /**
+     * Check if an IPv6 address is an IPv4-mapped address (<code>::ffff:0:0/96</code>). Like {@link InetAddress} such an address 
+     * is handled as IPv4 address, the IPv4 address is in the lower 32 bits of the low value.
+     *
+     * @param high the high 64 bits of the address
+     * @param low the low 64 bits of the address
+     * @return true if it is an IPv4-mapped address
+     */
+    public boolean isIPv4MappedAddress(long high, long low) {
+        return high == 0 && (low >>> IPV4_BITS) == IPV4_MAPPED_PREFIX;
+    }
+
+
+    /**
+     * Parse a literal IPv4 address in dotted decimal notation
+     *
+     * @param address the address
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the address in the lower 32 bits or -1 if it is not a valid IPv4 address
+     */
+    long parseIPv4Address(String address, int start, int end) {
+        long result = 0;
+        int octets = 0;
+        int i = start;
+        while (true) {
+            int value = 0;
+            int digits = 0;
+            while (i < end && digits <= 3 && address.charAt(i) >= '0' && address.charAt(i) <= '9') {
+                value = value * 10 + (address.charAt(i) - '0');
+                digits++;
+                i++;
+            }
+
+            if (digits == 0 || digits > 3 || value > 255) {
+                return -1;
+            }
+
+            result = (result << 8) | value;
+            octets++;
+            if (i == end) {
+                break;
+            }
+
+            if (address.charAt(i) != '.' || octets == 4) {
+                return -1;
+            }
+
+            i++;
+        }
+
+        if (octets != 4) {
+            return -1;
+        }
+
+        return result;
     }
 
 
     /**
-     * Prepare CIDR
+     * Parse a literal IPv6 address
      *
-     * @param inetAddress the internet address
-     * @param prefixLength the prefix length
+     * @param address the address
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @param result the array which receives the high and the low 64 bits or null
+     * @return true if it is a valid IPv6 address
+     */
+    boolean parseIPv6Address(String address, int start, int end, long[] result) {
+        // the groups before and after the compression are collected separately
+        long headHigh = 0;
+        long headLow = 0;
+        int headCount = 0;
+        long tailHigh = 0;
+        long tailLow = 0;
+        int tailCount = 0;
+        boolean compressed = false;
+
+        int i = start;
+        if (end - start >= 2 && address.charAt(i) == ':' && address.charAt(i + 1) == ':') {
+            compressed = true;
+            i += 2;
+        } else if (i >= end || address.charAt(i) == ':') {
+            return false;
+        }
+
+        while (i < end) {
+            int groupStart = i;
+            int value = 0;
+            int digits = 0;
+            int hex;
+            while (i < end && digits <= 4 && (hex = hexValue(address.charAt(i))) >= 0) {
+                value = (value << 4) | hex;
+                digits++;
+                i++;
+            }
+
+            int groups = 1;
+            long groupValue = value;
+            if (i < end && address.charAt(i) == '.') {
+                // IPv4 address in the last 32 bits
+                groupValue = parseIPv4Address(address, groupStart, end);
+                if (groupValue < 0) {
+                    return false;
+                }
+
+                groups = 2;
+                i = end;
+            } else if (digits == 0 || digits > 4) {
+                return false;
+            }
+
+            if (headCount + tailCount + groups > 8) {
+                return false;
+            }
+
+            int shift = 16 * groups;
+            if (compressed) {
+                tailHigh = (tailHigh << shift) | (tailLow >>> (64 - shift));
+                tailLow = (tailLow << shift) | groupValue;
+                tailCount += groups;
+            } else {
+                headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+                headLow = (headLow << shift) | groupValue;
+                headCount += groups;
+            }
+
+            if (i == end) {
+                break;
+            }
+
+            if (address.charAt(i) != ':') {
+                return false;
+            }
+
+            i++;
+            if (i < end && address.charAt(i) == ':') {
+                if (compressed) {
+                    return false;
+                }
+
+                compressed = true;
+                i++;
+            } else if (i == end) {
+                return false;
+            }
+        }
+
+        if ((compressed && headCount + tailCount > 7) || (!compressed && headCount != 8)) {
+            return false;
+        }
+
+        if (result != null) {
+            // move the groups before the compression to the top
+            int shift = 16 * (8 - headCount);
+            if (shift >= 64) {
+                headHigh = shift < 128 ? headLow << (shift - 64) : 0;
+                headLow = 0;
+            } else if (shift > 0) {
+                headHigh = (headHigh << shift) | (headLow >>> (64 - shift));
+                headLow = headLow << shift;
+            }
+
+            result[0] = headHigh | tailHigh;
+            result[1] = headLow | tailLow;
+        }
+
+        return true;
+    }
+
+
+    /**
+     * Parse a literal address as CIDR of a single address
+     *
+     * @param address the address
      * @return the CIDR
-     * @throws UnknownHostException In case of invalid address
+     * @throws UnknownHostException In case of an invalid address
+     */
+    private CIDR parseLiteral(String address) throws UnknownHostException {
+        long ipv4Address = parseIPv4Address(address, 0, address.length());
+        if (ipv4Address >= 0) {
+            return new CIDR(false, 0, ipv4Address, IPV4_BITS);
+        }
+
+        long[] ipv6Address = new long[2];
+        if (!parseIPv6Address(address, 0, address.length(), ipv6Address)) {
+            throw new UnknownHostException("Invalid address: [" + address + "]!");
+        }
+
+        if (isIPv4MappedAddress(ipv6Address[0], ipv6Address[1])) {
+            return new CIDR(false, 0, ipv6Address[1] & 0xFFFFFFFFL, IPV4_BITS);
+        }
+        
+        return new CIDR(true, ipv6Address[0], ipv6Address[1], IPV6_BITS);
+    }
+
+
+    /**
+     * Parse the prefix length
+     *
+     * @param cidr the CIDR
+     * @param start the start index of the prefix length
+     * @param maxPrefixLength the max prefix length
+     * @param cidrExpression the CIDR expression
+     * @return the prefix length
+     * @throws UnknownHostException In case of an invalid prefix length
      */
-    private CIDR prepareCIDR(InetAddress inetAddress, int prefixLength) throws UnknownHostException {
-        ByteBuffer maskBuffer;
-        int targetSize;
-        if (inetAddress.getAddress().length == 4) {
-            maskBuffer = ByteBuffer.allocate(4).putInt(-1);
-            targetSize = 4;
-        } else {
-            maskBuffer = ByteBuffer.allocate(16).putLong(-1L).putLong(-1L);
-            targetSize = 16;
+    private int parsePrefixLength(String cidr, int start, int maxPrefixLength, String cidrExpression) throws UnknownHostException {
+        int prefixLength = parsePrefixLength(cidr, start, maxPrefixLength);
+        if (prefixLength < 0) {
+            throw new UnknownHostException("Invalid CIDR prefix length: [" + cidrExpression + "]!");
         }
+        
+        return prefixLength;
+    }
 
-        BigInteger mask = (new BigInteger(1, maskBuffer.array())).not().shiftRight(prefixLength);
 
-        ByteBuffer buffer = ByteBuffer.wrap(inetAddress.getAddress());
-        BigInteger ipVal = new BigInteger(1, buffer.array());
+    /**
+     * Parse the prefix length, a leading zero is not supported
+     *
+     * @param cidr the CIDR
+     * @param start the start index of the prefix length
+     * @param maxPrefixLength the max prefix length
+     * @return the prefix length or -1 if it is invalid
+     */
+    private int parsePrefixLength(String cidr, int start, int maxPrefixLength) {
+        int end = cidr.length();
+        if (start >= end || end - start > 3 || (end - start > 1 && cidr.charAt(start) == '0')) {
+            return -1;
+        }
+
+        int prefixLength = 0;
+        for (int i = start; i < end; i++) {
+            char c = cidr.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
 
-        BigInteger startIp = ipVal.and(mask);
-        BigInteger endIp = startIp.add(mask.not());
+            prefixLength = prefixLength * 10 + (c - '0');
+        }
 
-        byte[] startIpArr = toBytes(startIp.toByteArray(), targetSize);
-        byte[] endIpArr = toBytes(endIp.toByteArray(), targetSize);
+        if (prefixLength > maxPrefixLength) {
+            return -1;
+        }
 
-        return new CIDR(InetAddress.getByAddress(startIpArr), InetAddress.getByAddress(endIpArr));
+        return prefixLength;
     }
 
 
     /**
-     * Prepare byte array
+     * Get the end of the address part, a zone index of an IPv6 address is ignored
      *
-     * @param input the input bytes
-     * @param targetSize the target size
-     * @return the prepared byte array
+     * @param cidr the CIDR
+     * @param index the index of the range separator
+     * @return the end of the address
      */
-    private byte[] toBytes(byte[] input, int targetSize) {
-        int counter = 0;
-        List<Byte> newArr = new ArrayList<Byte>();
-        while (counter < targetSize && (input.length - 1 - counter >= 0)) {
-            newArr.add(0, input[input.length - 1 - counter]);
-            counter++;
+    private int getAddressEnd(String cidr, int index) {
+        int zoneIndex = cidr.indexOf(ZONE_SEPARATOR);
+        if (zoneIndex > 0 && zoneIndex < index) {
+            return zoneIndex;
         }
 
-        int size = newArr.size();
-        for (int i = 0; i < (targetSize - size); i++) {
+        return index;
+    }
 
-            newArr.add(0, (byte) 0);
+
+    /**
+     * Get the value of a hex digit
+     *
+     * @param c the character
+     * @return the value or -1 if it is not a hex digit
+     */
+    private static int hexValue(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        } else if (c >= 'a' && c <= 'f') {
+            return c - 'a' + 10;
+        } else if (c >= 'A' && c <= 'F') {
+            return c - 'A' + 10;
         }
 
-        byte[] ret = new byte[newArr.size()];
-        for (int i = 0; i < newArr.size(); i++) {
-            ret[i] = newArr.get(i);
+        return -1;
+    }
+
+
+    /**
+     * Convert bytes in network byte order into a long
+     *
+     * @param address the address bytes
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the long
+     */
+    private static long toLong(byte[] address, int start, int end) {
+        long result = 0;
+        for (int i = start; i < end; i++) {
+            result = (result << 8) | (address[i] & 0xFF);
         }
 
-        return ret;
+        return result;
     }
 
 
@@ -390,19 +691,36 @@ public final class CIDRUtil {
      * @author patrick
      */
     public class CIDR {
-        private final InetAddress startAddress;
-        private final InetAddress endAddress;
+        private final boolean isIPv6;
+        private final int prefixLength;
+        private final long maskHigh;
+        private final long maskLow;
+        private final long networkHigh;
+        private final long networkLow;
 
 
         /**
          * Constructor for CIDR
          *
-         * @param startAddress the start address
-         * @param endAddress the end address
+         * @param isIPv6 true in case of an IPv6 address
+         * @param high the high 64 bits of the address
+         * @param low the low 64 bits of the address
+         * @param prefixLength the prefix length
          */
-        CIDR(InetAddress startAddress, InetAddress endAddress) {
-            this.startAddress = startAddress;
-            this.endAddress = endAddress;
+        CIDR(boolean isIPv6, long high, long low, int prefixLength) {
+            this.isIPv6 = isIPv6;
+            this.prefixLength = prefixLength;
+
+            // an IPv4 address is handled as the lower 32 bits of 128 bits
+            int length = prefixLength;
+            if (!isIPv6) {
+                length += IPV6_BITS - IPV4_BITS;
+            }
+
+            this.maskHigh = mask(length);
+            this.maskLow = mask(length - 64);
+            this.networkHigh = high & maskHigh;
+            this.networkLow = low & maskLow;
         }
 
 
@@ -412,7 +730,7 @@ public final class CIDRUtil {
          * @return the network address
          */
         public String getNetworkAddress() {
-            return this.startAddress.getHostAddress();
+            return format(networkHigh, networkLow);
         }
 
 
@@ -422,27 +740,164 @@ public final class CIDRUtil {
          * @return tThe broadcast address
          */
         public String getBroadcastAddress() {
-            return this.endAddress.getHostAddress();
+            if (isIPv6) {
+                return format(networkHigh | ~maskHigh, networkLow | ~maskLow);
+            }
+
+            return format(0, (networkLow | ~maskLow) & 0xFFFFFFFFL);
+        }
+
+
+        /**
+         * Get the prefix length
+         *
+         * @return the prefix length
+         */
+        public int getPrefixLength() {
+            return prefixLength;
         }
 
 
         /**
-         * Check if a given address is in range
+         * Check if it is an IPv6 range
+         *
+         * @return true in case of IPv6; otherwise false
+         */
+        public boolean isIPv6() {
+            return isIPv6;
+        }
+
+
+        /**
+         * Get the high 64 bits of the network address, 0 in case of IPv4
+         *
+         * @return the high 64 bits of the network address
+         */
+        public long getNetworkHigh() {
+            return networkHigh;
+        }
+
+
+        /**
+         * Get the low 64 bits of the network address, an IPv4 address is in the lower 32 bits
+         *
+         * @return the low 64 bits of the network address
+         */
+        public long getNetworkLow() {
+            return networkLow;
+        }
+
+
+        /**
+         * Check if a given address is in range, an IPv4-mapped IPv6 address is handled as IPv4 address.
          *
          * @param ipAddress the address to check
          * @return true if it is in range.
          * @throws UnknownHostException In case if an invalid address
          */
         public boolean isInRange(String ipAddress) throws UnknownHostException {
-            InetAddress address = InetAddress.getByName(ipAddress);
-            BigInteger start = new BigInteger(1, this.startAddress.getAddress());
-            BigInteger end = new BigInteger(1, this.endAddress.getAddress());
-            BigInteger target = new BigInteger(1, address.getAddress());
+            if (ipAddress == null) {
+                throw new UnknownHostException("Invalid address: [null]!");
+            }
+
+            long ipv4Address = parseIPv4Address(ipAddress, 0, ipAddress.length());
+            if (ipv4Address < 0) {
+                long[] ipv6Address = new long[2];
+                if (parseIPv6Address(ipAddress, 0, ipAddress.length(), ipv6Address)) {
+                    if (!isIPv4MappedAddress(ipv6Address[0], ipv6Address[1])) {
+                        return isIPv6 && isInRange(ipv6Address[0], ipv6Address[1]);
+                    }
+                    
+                    ipv4Address = ipv6Address[1] & 0xFFFFFFFFL;
+                }
+            }
+            
+            if (ipv4Address >= 0) {
+                return !isIPv6 && isInRange(0, ipv4Address);
+            }
+
+            // it could be a hostname
+            byte[] address = InetAddress.getByName(ipAddress).getAddress();
+            if (isIPv6 != (address.length == 16)) {
+                return false;
+            }
+            
+            if (isIPv6) {
+                return isInRange(toLong(address, 0, 8), toLong(address, 8, 16));
+            }
+            
+            return isInRange(0, toLong(address, 0, 4));
+        }
+
 
-            int st = start.compareTo(target);
-            int te = target.compareTo(end);
+        /**
+         * Check if a given address is in range. The address has to be of the same family as the range.
+         *
+         * @param high the high 64 bits of the address, 0 in case of IPv4
+         * @param low the low 64 bits of the address, an IPv4 address is in the lower 32 bits
+         * @return true if it is in range.
+         */
+        public boolean isInRange(long high, long low) {
+            return (high & maskHigh) == networkHigh && (low & maskLow) == networkLow;
+        }
+
+
+        /**
+         * Create the mask of the given number of leading bits of 64 bits
+         *
+         * @param length the number of leading bits
+         * @return the mask
+         */
+        private long mask(int length) {
+            if (length <= 0) {
+                return 0;
+            }
+
+            if (length >= 64) {
+                return -1L;
+            }
+
+            return -1L << (64 - length);
+        }
+
+
+        /**
+         * Format an address like {@link InetAddress#getHostAddress()}
+         *
+         * @param high the high 64 bits
+         * @param low the low 64 bits
+         * @return the formatted address
+         */
+        private String format(long high, long low) {
+            StringBuilder builder = new StringBuilder();
+            if (!isIPv6) {
+                for (int i = 24; i >= 0; i -= 8) {
+                    if (builder.length() > 0) {
+                        builder.append('.');
+                    }
+                    
+                    builder.append((low >>> i) & 0xFF);
+                }
+                
+                return builder.toString();
+            }
+
+            for (int i = 0; i < 8; i++) {
+                if (i > 0) {
+                    builder.append(':');
+                }
+
+                long value;
+                if (i < 4) {
+                    value = high >>> (48 - 16 * i);
+                } else {
+                    value = low >>> (48 - 16 * (i - 4));
+                }
+
+                builder.append(Long.toHexString(value & 0xFFFF));
+            }
 
-            return (st < 0 || st == 0) && (te < 0 || te == 0);
+            return builder.toString();
         }
     }
 }
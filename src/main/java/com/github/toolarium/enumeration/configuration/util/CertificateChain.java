@@ -0,0 +1,161 @@
+/*
+ * CertificateChain.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.security.cert.X509Certificate;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+
+/**
+ * Defines the parsed X.509 certificates of a certificate configuration value, e.g. a certificate or a certificate chain in PEM format.
+ * The validity period of the chain is computed once, therefore the expiry can be checked without touching the certificates.
+ *
+ * @author patrick
+ */
+public final class CertificateChain {
+    private final String fingerprint;
+    private final List<X509Certificate> certificateList;
+    private final Instant notBefore;
+    private final Instant notAfter;
+
+
+    /**
+     * Constructor for CertificateChain
+     *
+     * @param fingerprint the fingerprint of the content
+     * @param certificateList the certificate list, not empty
+     */
+    CertificateChain(String fingerprint, List<X509Certificate> certificateList) {
+        this.fingerprint = fingerprint;
+        this.certificateList = Collections.unmodifiableList(certificateList);
+
+        Instant chainNotBefore = null;
+        Instant chainNotAfter = null;
+        for (X509Certificate certificate : certificateList) {
+            Instant certificateNotBefore = certificate.getNotBefore().toInstant();
+            if (chainNotBefore == null || certificateNotBefore.isAfter(chainNotBefore)) {
+                chainNotBefore = certificateNotBefore;
+            }
+
+            Instant certificateNotAfter = certificate.getNotAfter().toInstant();
+            if (chainNotAfter == null || certificateNotAfter.isBefore(chainNotAfter)) {
+                chainNotAfter = certificateNotAfter;
+            }
+        }
+
+        this.notBefore = chainNotBefore;
+        this.notAfter = chainNotAfter;
+    }
+
+
+    /**
+     * Get the SHA-256 fingerprint of the content as hex string
+     *
+     * @return the fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+
+    /**
+     * Get the first certificate, in case of a chain this is the end entity certificate
+     *
+     * @return the certificate
+     */
+    public X509Certificate getCertificate() {
+        return certificateList.get(0);
+    }
+
+
+    /**
+     * Get the certificates in the order of the content
+     *
+     * @return the certificate list
+     */
+    public List<X509Certificate> getCertificateList() {
+        return certificateList;
+    }
+
+
+    /**
+     * Get the start of the validity period, which is the latest start of all certificates
+     *
+     * @return the start of the validity period
+     */
+    public Instant getNotBefore() {
+        return notBefore;
+    }
+
+
+    /**
+     * Get the end of the validity period, which is the earliest end of all certificates
+     *
+     * @return the end of the validity period
+     */
+    public Instant getNotAfter() {
+        return notAfter;
+    }
+
+
+    /**
+     * Check if all certificates are valid at the given time
+     *
+     * @param time the time
+     * @return true if all certificates are valid
+     */
+    public boolean isValid(Instant time) {
+        return time != null && !time.isBefore(notBefore) && !time.isAfter(notAfter);
+    }
+
+
+    /**
+     * Check if a certificate is expired at the given time
+     *
+     * @param time the time
+     * @return true if a certificate is expired
+     */
+    public boolean isExpired(Instant time) {
+        return time != null && time.isAfter(notAfter);
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return fingerprint.hashCode();
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        return fingerprint.equals(((CertificateChain) obj).fingerprint);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return getCertificate().getSubjectX500Principal().getName() + " (" + certificateList.size() + " certificate(s), not after " + notAfter + ")";
+    }
+}
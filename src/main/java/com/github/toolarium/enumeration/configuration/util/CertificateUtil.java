@@ -0,0 +1,169 @@
+/*
+ * CertificateUtil.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+
+/**
+ * Certificate utility. The parsed {@link CertificateChain} are kept in a bounded {@link SegmentedCache} keyed by the SHA-256 fingerprint
+ * of the exact content, only successfully parsed chains are cached. In case the cache exceeds the max size of the system property {@value #CACHE_SIZE_PROPERTY} the least
+ * recently used chain will be removed.
+ *
+ * @author patrick
+ */
+public final class CertificateUtil {
+    /** Defines the system property of the max number of cached certificate chains, by default 64 */
+    public static final String CACHE_SIZE_PROPERTY = "enumconfiguration.certificate.cacheSize";
+
+    private static final int CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, 64);
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+    private final SegmentedCache<String, CertificateChain> certificateChainCache;
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     */
+    private static final class HOLDER {
+        static final CertificateUtil INSTANCE = new CertificateUtil();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private CertificateUtil() {
+        certificateChainCache = new SegmentedCache<String, CertificateChain>(CACHE_SIZE);
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static CertificateUtil getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Get the parsed certificates of a content, it is parsed only in case it is not cached.
+     *
+     * @param content the content, one or more X.509 certificates in PEM format
+     * @return the certificate chain or null if the content is null
+     * @throws CertificateException In case of an invalid certificate
+     */
+    public CertificateChain getCertificateChain(String content) throws CertificateException {
+        if (content == null) {
+            return null;
+        }
+
+        String fingerprint = getFingerprint(content);
+        CertificateChain certificateChain = getCachedCertificateChain(fingerprint);
+        if (certificateChain != null) {
+            return certificateChain;
+        }
+
+        return certificateChainCache.putIfAbsent(fingerprint, new CertificateChain(fingerprint, parse(content)));
+    }
+
+
+    /**
+     * Get the SHA-256 fingerprint of the UTF-8 bytes of a content. Only the same content has the same fingerprint, therefore 
+     * a cached chain is never returned for a content which the parser would reject.
+     *
+     * @param content the content
+     * @return the fingerprint as hex string or null if the content is null
+     */
+    public String getFingerprint(String content) {
+        if (content == null) {
+            return null;
+        }
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Missing SHA-256 support: " + e.getMessage(), e);
+        }
+
+        byte[] digest = messageDigest.digest(content.getBytes(StandardCharsets.UTF_8));
+        char[] result = new char[2 * digest.length];
+        for (int i = 0; i < digest.length; i++) {
+            result[2 * i] = HEX_CHARS[(digest[i] >> 4) & 0x0F];
+            result[2 * i + 1] = HEX_CHARS[digest[i] & 0x0F];
+        }
+
+        return new String(result);
+    }
+
+
+    /**
+     * Get the cached certificate chain
+     *
+     * @param fingerprint the fingerprint of the content, see {@link #getFingerprint(String)}
+     * @return the certificate chain or null if it is not cached
+     */
+    public CertificateChain getCachedCertificateChain(String fingerprint) {
+        return certificateChainCache.get(fingerprint);
+    }
+
+
+    /**
+     * Clear the certificate chain cache
+     */
+    public void clear() {
+        certificateChainCache.clear();
+    }
+
+
+    /**
+     * Get the number of cached certificate chains
+     *
+     * @return the number of cached certificate chains
+     */
+    public int size() {
+        return certificateChainCache.size();
+    }
+
+
+    /**
+     * Parse the certificates of a content
+     *
+     * @param content the content
+     * @return the certificate list, not empty
+     * @throws CertificateException In case of an invalid certificate
+     */
+    private List<X509Certificate> parse(String content) throws CertificateException {
+        Collection<? extends Certificate> certificates = CertificateFactory.getInstance("X.509")
+                .generateCertificates(new ByteArrayInputStream(content.trim().getBytes(StandardCharsets.US_ASCII)));
+        if (certificates == null || certificates.isEmpty()) {
+            throw new CertificateException("No certificate found!");
+        }
+
+        List<X509Certificate> certificateList = new ArrayList<X509Certificate>(certificates.size());
+        for (Certificate certificate : certificates) {
+            if (!(certificate instanceof X509Certificate)) {
+                throw new CertificateException("Unsupported certificate type [" + certificate.getType() + "]!");
+            }
+
+            certificateList.add((X509Certificate) certificate);
+        }
+
+        return certificateList;
+    }
+}
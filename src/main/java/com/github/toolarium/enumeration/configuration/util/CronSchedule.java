@@ -0,0 +1,411 @@
+/*
+ * CronSchedule.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+
+/**
+ * Defines a compiled cron schedule of the format <code>minute hour day-of-month month day-of-week</code>. Each field is compiled
+ * into a bitmask, therefore the next and previous fire times are computed without parsing the expression again. Supported are
+ * <code>*</code>, <code>?</code>, values, ranges, lists, steps, the names of the months (<code>JAN</code>-<code>DEC</code>) and of
+ * the days of the week (<code>SUN</code>-<code>SAT</code>, <code>0</code> and <code>7</code> are sunday). In case the day of
+ * month and the day of week are both restricted a day matches if one of them matches.
+ *
+ * @author patrick
+ */
+public final class CronSchedule {
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_OF_WEEK_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+    private static final int MAX_SEARCH_YEARS = 10;
+    private final String expression;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+    private final boolean isDayOfMonthRestricted;
+    private final boolean isDayOfWeekRestricted;
+
+
+    /**
+     * Constructor for CronSchedule
+     *
+     * @param expression the expression
+     * @param fields the compiled fields
+     * @param isDayOfMonthRestricted true if the day of month is restricted
+     * @param isDayOfWeekRestricted true if the day of week is restricted
+     */
+    private CronSchedule(String expression, long[] fields, boolean isDayOfMonthRestricted, boolean isDayOfWeekRestricted) {
+        this.expression = expression;
+        this.minutes = fields[0];
+        this.hours = fields[1];
+        this.daysOfMonth = fields[2];
+        this.months = fields[3];
+        this.daysOfWeek = fields[4];
+        this.isDayOfMonthRestricted = isDayOfMonthRestricted;
+        this.isDayOfWeekRestricted = isDayOfWeekRestricted;
+    }
+
+
+    /**
+     * Compile a cron expression, see {@link CronUtil#getSchedule(String)} to get a cached schedule.
+     *
+     * @param expression the cron expression, the fields are separated by a space
+     * @return the compiled schedule
+     * @throws IllegalArgumentException In case of an invalid or not supported expression
+     */
+    public static CronSchedule parse(String expression) throws IllegalArgumentException {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Invalid cron entry [" + expression + "]!");
+        }
+
+        String[] fieldList = expression.split(" ");
+        if (fieldList.length != 5) {
+            throw new IllegalArgumentException("Invalid cron entry [" + expression + "], expected the fields minute, hour, day of month, month and day of week!");
+        }
+
+        long[] fields = new long[5];
+        fields[0] = parseField(expression, fieldList[0], 0, 59, null);
+        fields[1] = parseField(expression, fieldList[1], 0, 23, null);
+        fields[2] = parseField(expression, fieldList[2], 1, 31, null);
+        fields[3] = parseField(expression, fieldList[3], 1, 12, MONTH_NAMES);
+        fields[4] = parseField(expression, fieldList[4], 0, 7, DAY_OF_WEEK_NAMES);
+
+        // 7 is sunday
+        if ((fields[4] & (1L << 7)) != 0) {
+            fields[4] = (fields[4] | 1L) & ~(1L << 7);
+        }
+
+        return new CronSchedule(expression, fields, !isUnrestricted(fieldList[2]), !isUnrestricted(fieldList[4]));
+    }
+
+
+    /**
+     * Get the expression
+     *
+     * @return the expression
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+
+    /**
+     * Check if the schedule fires at the given time, seconds are ignored
+     *
+     * @param dateTime the time
+     * @return true if it fires
+     */
+    public boolean matches(ZonedDateTime dateTime) {
+        if (dateTime == null) {
+            return false;
+        }
+
+        LocalDateTime localDateTime = dateTime.toLocalDateTime();
+        return isSet(months, localDateTime.getMonthValue()) && matchesDay(localDateTime) && isSet(hours, localDateTime.getHour()) && isSet(minutes, localDateTime.getMinute());
+    }
+
+
+    /**
+     * Get the next fire time after the given time
+     *
+     * @param dateTime the time
+     * @return the next fire time or null if there is none within the next years
+     */
+    public ZonedDateTime next(ZonedDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+
+        LocalDateTime time = dateTime.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES).plusMinutes(1);
+        int maxYear = time.getYear() + MAX_SEARCH_YEARS;
+        while (time.getYear() <= maxYear) {
+            if (!isSet(months, time.getMonthValue())) {
+                time = time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).plusMonths(1);
+            } else if (!matchesDay(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+            } else if (!isSet(hours, time.getHour())) {
+                int hour = nextBit(hours, time.getHour());
+                if (hour < 0) {
+                    time = time.truncatedTo(ChronoUnit.DAYS).plusDays(1);
+                } else {
+                    time = time.withHour(hour).withMinute(0);
+                }
+            } else {
+                int minute = nextBit(minutes, time.getMinute());
+                if (minute < 0) {
+                    time = time.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+                } else {
+                    ZonedDateTime result = ZonedDateTime.of(time.withMinute(minute), dateTime.getZone());
+                    if (result.isAfter(dateTime)) {
+                        return result;
+                    }
+
+                    // the local time is in a gap or an overlap of the time zone
+                    time = time.withMinute(minute).plusMinutes(1);
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * Get the previous fire time before the given time
+     *
+     * @param dateTime the time
+     * @return the previous fire time or null if there is none within the last years
+     */
+    public ZonedDateTime previous(ZonedDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+
+        LocalDateTime time = dateTime.toLocalDateTime().truncatedTo(ChronoUnit.MINUTES);
+        if (!time.isBefore(dateTime.toLocalDateTime())) {
+            time = time.minusMinutes(1);
+        }
+
+        int minYear = time.getYear() - MAX_SEARCH_YEARS;
+        while (time.getYear() >= minYear) {
+            if (!isSet(months, time.getMonthValue())) {
+                time = time.withDayOfMonth(1).truncatedTo(ChronoUnit.DAYS).minusMinutes(1);
+            } else if (!matchesDay(time)) {
+                time = time.truncatedTo(ChronoUnit.DAYS).minusMinutes(1);
+            } else if (!isSet(hours, time.getHour())) {
+                int hour = previousBit(hours, time.getHour());
+                if (hour < 0) {
+                    time = time.truncatedTo(ChronoUnit.DAYS).minusMinutes(1);
+                } else {
+                    time = time.withHour(hour).withMinute(59);
+                }
+            } else {
+                int minute = previousBit(minutes, time.getMinute());
+                if (minute < 0) {
+                    time = time.truncatedTo(ChronoUnit.HOURS).minusMinutes(1);
+                } else {
+                    ZonedDateTime result = ZonedDateTime.of(time.withMinute(minute), dateTime.getZone());
+                    if (result.isBefore(dateTime)) {
+                        return result;
+                    }
+
+                    // the local time is in a gap or an overlap of the time zone
+                    time = time.withMinute(minute).minusMinutes(1);
+                }
+            }
+        }
+
+        return null;
+    }
+
+
+    /**
+     * @see java.lang.Object#hashCode()
+     */
+    @Override
+    public int hashCode() {
+        return expression.hashCode();
+    }
+
+
+    /**
+     * @see java.lang.Object#equals(java.lang.Object)
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+
+        return expression.equals(((CronSchedule) obj).expression);
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+
+    /**
+     * Check if the day of a time matches
+     *
+     * @param time the time
+     * @return true if it matches
+     */
+    private boolean matchesDay(LocalDateTime time) {
+        boolean dayOfMonth = isSet(daysOfMonth, time.getDayOfMonth());
+        boolean dayOfWeek = isSet(daysOfWeek, time.getDayOfWeek().getValue() % 7);
+        if (isDayOfMonthRestricted && isDayOfWeekRestricted) {
+            return dayOfMonth || dayOfWeek;
+        }
+
+        return dayOfMonth && dayOfWeek;
+    }
+
+
+    /**
+     * Check if a bit is set
+     *
+     * @param bits the bits
+     * @param index the index
+     * @return true if it is set
+     */
+    private static boolean isSet(long bits, int index) {
+        return (bits & (1L << index)) != 0;
+    }
+
+
+    /**
+     * Get the next set bit
+     *
+     * @param bits the bits
+     * @param index the index to start (inclusive)
+     * @return the index of the next set bit or -1
+     */
+    private static int nextBit(long bits, int index) {
+        long remaining = bits & (-1L << index);
+        if (remaining == 0) {
+            return -1;
+        }
+
+        return Long.numberOfTrailingZeros(remaining);
+    }
+
+
+    /**
+     * Get the previous set bit
+     *
+     * @param bits the bits
+     * @param index the index to start (inclusive)
+     * @return the index of the previous set bit or -1
+     */
+    private static int previousBit(long bits, int index) {
+        long remaining = bits & (-1L >>> (63 - index));
+        if (remaining == 0) {
+            return -1;
+        }
+
+        return 63 - Long.numberOfLeadingZeros(remaining);
+    }
+
+
+    /**
+     * Check if a field is unrestricted, which is the case if it starts with <code>*</code> or <code>?</code>
+     *
+     * @param field the field
+     * @return true if it is unrestricted
+     */
+    private static boolean isUnrestricted(String field) {
+        return field.startsWith("*") || field.startsWith("?");
+    }
+
+
+    /**
+     * Parse a field into a bitmask
+     *
+     * @param expression the expression
+     * @param field the field
+     * @param min the min value
+     * @param max the max value
+     * @param names the names of the values starting with the min value or null
+     * @return the bitmask
+     * @throws IllegalArgumentException In case of an invalid field
+     */
+    private static long parseField(String expression, String field, int min, int max, String[] names) throws IllegalArgumentException {
+        long bits = 0;
+        for (String element : field.split(",", -1)) {
+            int step = 1;
+            String range = element;
+            int stepIndex = element.indexOf('/');
+            if (stepIndex >= 0) {
+                range = element.substring(0, stepIndex);
+                step = parseValue(expression, element.substring(stepIndex + 1), 1, max, null);
+            }
+
+            int start;
+            int end;
+            if ("*".equals(range) || "?".equals(range)) {
+                start = min;
+                end = max;
+            } else {
+                int rangeIndex = range.indexOf('-');
+                if (rangeIndex >= 0) {
+                    start = parseValue(expression, range.substring(0, rangeIndex), min, max, names);
+                    end = parseValue(expression, range.substring(rangeIndex + 1), min, max, names);
+                    if (start > end) {
+                        throw new IllegalArgumentException("Invalid cron entry [" + expression + "], invalid range [" + element + "]!");
+                    }
+                } else {
+                    start = parseValue(expression, range, min, max, names);
+                    end = max;
+                    if (stepIndex < 0) {
+                        end = start;
+                    }
+                }
+            }
+
+            for (int i = start; i <= end; i += step) {
+                bits |= 1L << i;
+            }
+        }
+
+        return bits;
+    }
+
+
+    /**
+     * Parse a value of a field
+     *
+     * @param expression the expression
+     * @param value the value
+     * @param min the min value
+     * @param max the max value
+     * @param names the names of the values starting with the min value or null
+     * @return the value
+     * @throws IllegalArgumentException In case of an invalid value
+     */
+    private static int parseValue(String expression, String value, int min, int max, String[] names) throws IllegalArgumentException {
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equalsIgnoreCase(value)) {
+                    return min + i;
+                }
+            }
+        }
+
+        int result = -1;
+        if (!value.isEmpty() && value.length() <= 2) {
+            result = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < '0' || c > '9') {
+                    result = -1;
+                    break;
+                }
+
+                result = result * 10 + (c - '0');
+            }
+        }
+
+        if (result < min || result > max) {
+            throw new IllegalArgumentException("Invalid cron entry [" + expression + "], invalid or not supported value [" + value + "]!");
+        }
+
+        return result;
+    }
+}
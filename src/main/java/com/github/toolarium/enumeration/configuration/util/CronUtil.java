@@ -0,0 +1,111 @@
+/*
+ * CronUtil.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+
+/**
+ * Cron utility. The compiled {@link CronSchedule} are kept in a bounded {@link SegmentedCache} keyed by the expression, in case the
+ * cache exceeds the max size of the system property {@value #CACHE_SIZE_PROPERTY} the least recently used schedule will be removed.
+ * Only schedules of expressions which passed the CRON validation are added to the cache (see {@link #putSchedule(String, CronSchedule)}),
+ * therefore a cached schedule is returned without validating it again.
+ *
+ * @author patrick
+ */
+public final class CronUtil {
+    /** Defines the system property of the max number of cached schedules, by default 256 */
+    public static final String CACHE_SIZE_PROPERTY = "enumconfiguration.cron.cacheSize";
+
+    private static final int CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, 256);
+    private final SegmentedCache<String, CronSchedule> scheduleCache;
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     */
+    private static final class HOLDER {
+        static final CronUtil INSTANCE = new CronUtil();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private CronUtil() {
+        scheduleCache = new SegmentedCache<String, CronSchedule>(CACHE_SIZE);
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static CronUtil getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Get the compiled schedule of an expression, it is compiled only in case it is not cached. A compiled schedule is not added to the cache.
+     *
+     * @param expression the expression
+     * @return the compiled schedule or null if the expression is null
+     * @throws IllegalArgumentException In case of an invalid or not supported expression
+     */
+    public CronSchedule getSchedule(String expression) throws IllegalArgumentException {
+        if (expression == null) {
+            return null;
+        }
+
+        CronSchedule schedule = getCachedSchedule(expression);
+        if (schedule != null) {
+            return schedule;
+        }
+
+        return CronSchedule.parse(expression);
+    }
+
+
+    /**
+     * Put the compiled schedule of an expression into the cache, the expression has to pass the CRON validation before.
+     *
+     * @param expression the expression
+     * @param schedule the compiled schedule
+     * @return the cached schedule, in case the expression is already cached the cached schedule
+     */
+    public CronSchedule putSchedule(String expression, CronSchedule schedule) {
+        return scheduleCache.putIfAbsent(expression, schedule);
+    }
+
+
+    /**
+     * Get the cached schedule of an expression
+     *
+     * @param expression the expression
+     * @return the compiled schedule or null if it is not cached
+     */
+    public CronSchedule getCachedSchedule(String expression) {
+        return scheduleCache.get(expression);
+    }
+
+
+    /**
+     * Clear the schedule cache
+     */
+    public void clear() {
+        scheduleCache.clear();
+    }
+
+
+    /**
+     * Get the number of cached schedules
+     *
+     * @return the number of cached schedules
+     */
+    public int size() {
+        return scheduleCache.size();
+    }
+}
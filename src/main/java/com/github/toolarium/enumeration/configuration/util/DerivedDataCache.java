@@ -0,0 +1,175 @@
+/*
+ * DerivedDataCache.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+
+/**
+ * Defines a bounded cache of data which is derived from a source object, e.g. the read plan of a configuration. The entries are keyed by
+ * the identity of the source and bound to its modification count, a modified source leads to a cache miss. By default the max size is
+ * defined by the system property {@value #CACHE_SIZE_PROPERTY}.
+ *
+ * @param <S> the source type
+ * @param <V> the derived data type
+ * @author patrick
+ */
+public final class DerivedDataCache<S, V> {
+    /** Defines the system property of the max number of cached derived data per cache, by default 4096 */
+    public static final String CACHE_SIZE_PROPERTY = "enumconfiguration.derivedData.cacheSize";
+
+    private static final int CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, 4096);
+    private final SegmentedCache<IdentityKey, Entry<V>> cache;
+
+
+    /**
+     * Constructor for DerivedDataCache
+     */
+    public DerivedDataCache() {
+        this(CACHE_SIZE);
+    }
+
+
+    /**
+     * Constructor for DerivedDataCache
+     *
+     * @param maxSize the max size of the cache
+     */
+    public DerivedDataCache(int maxSize) {
+        cache = new SegmentedCache<IdentityKey, Entry<V>>(maxSize);
+    }
+
+
+    /**
+     * Get the derived data of a source
+     *
+     * @param source the source
+     * @param modificationCount the current modification count of the source
+     * @return the derived data or null if it is not cached or the source is modified in the meantime
+     */
+    public V get(S source, long modificationCount) {
+        if (source == null) {
+            return null;
+        }
+
+        Entry<V> entry = cache.get(new IdentityKey(source));
+        if (entry == null || entry.modificationCount != modificationCount) {
+            return null;
+        }
+
+        return entry.value;
+    }
+
+
+    /**
+     * Put the derived data of a source into the cache
+     *
+     * @param source the source
+     * @param modificationCount the modification count of the source from which the data is derived
+     * @param value the derived data
+     */
+    public void put(S source, long modificationCount, V value) {
+        if (source == null || value == null) {
+            return;
+        }
+
+        cache.put(new IdentityKey(source), new Entry<V>(modificationCount, value));
+    }
+
+
+    /**
+     * Remove the derived data of a source
+     *
+     * @param source the source
+     */
+    public void remove(S source) {
+        if (source == null) {
+            return;
+        }
+
+        cache.remove(new IdentityKey(source));
+    }
+
+
+    /**
+     * Clear the cache
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+
+    /**
+     * Get the number of cached entries
+     *
+     * @return the number of cached entries
+     */
+    public int size() {
+        return cache.size();
+    }
+
+
+    /**
+     * Defines the key of a source by its identity
+     *
+     * @author patrick
+     */
+    private static final class IdentityKey {
+        private final Object source;
+        private final int hash;
+
+
+        /**
+         * Constructor for IdentityKey
+         *
+         * @param source the source
+         */
+        IdentityKey(Object source) {
+            this.source = source;
+            this.hash = System.identityHashCode(source);
+        }
+
+
+        /**
+         * @see java.lang.Object#hashCode()
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+
+        /**
+         * @see java.lang.Object#equals(java.lang.Object)
+         */
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof IdentityKey && ((IdentityKey) obj).source == source;
+        }
+    }
+
+
+    /**
+     * Defines a cache entry
+     *
+     * @param <V> the derived data type
+     * @author patrick
+     */
+    private static final class Entry<V> {
+        private final long modificationCount;
+        private final V value;
+
+
+        /**
+         * Constructor for Entry
+         *
+         * @param modificationCount the modification count of the source
+         * @param value the derived data
+         */
+        Entry(long modificationCount, V value) {
+            this.modificationCount = modificationCount;
+            this.value = value;
+        }
+    }
+}
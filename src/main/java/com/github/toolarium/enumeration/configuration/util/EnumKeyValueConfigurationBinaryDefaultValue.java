@@ -0,0 +1,176 @@
+/*
+ * EnumKeyValueConfigurationBinaryDefaultValue.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+
+
+/**
+ * Merges the default value of a binary {@link EnumKeyValueConfiguration} into the values which are read from a configuration.
+ * The default value is parsed once and the last merged value is kept together with the raw value, therefore reading an
+ * unchanged value neither parses nor formats it again.
+ *
+ * @author patrick
+ */
+public final class EnumKeyValueConfigurationBinaryDefaultValue {
+    private final String configurationKeyName;
+    private final String defaultValue;
+    private final boolean isBinary;
+    private volatile DefaultValueData defaultValueData;
+    private volatile MergedValue mergedValue;
+
+
+    /**
+     * Constructor for EnumKeyValueConfigurationBinaryDefaultValue
+     *
+     * @param enumKeyValueConfiguration the enum key value configuration
+     */
+    public EnumKeyValueConfigurationBinaryDefaultValue(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+        if (enumKeyValueConfiguration != null) {
+            this.configurationKeyName = enumKeyValueConfiguration.getKey();
+            this.defaultValue = enumKeyValueConfiguration.getDefaultValue();
+            this.isBinary = EnumKeyValueConfigurationDataType.BINARY.equals(enumKeyValueConfiguration.getDataType()) && defaultValue != null;
+        } else {
+            this.configurationKeyName = null;
+            this.defaultValue = null;
+            this.isBinary = false;
+        }
+
+        this.defaultValueData = null;
+        this.mergedValue = null;
+    }
+
+
+    /**
+     * Check if this instance belongs to the given enum key value configuration, which is the case as long as the data type and
+     * the default value are not changed.
+     *
+     * @param enumKeyValueConfiguration the enum key value configuration
+     * @return true if it can be used for the enum key value configuration
+     */
+    public boolean isValid(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+        if (enumKeyValueConfiguration == null) {
+            return !isBinary;
+        }
+
+        String currentDefaultValue = enumKeyValueConfiguration.getDefaultValue();
+        boolean currentIsBinary = EnumKeyValueConfigurationDataType.BINARY.equals(enumKeyValueConfiguration.getDataType()) && currentDefaultValue != null;
+        if (currentIsBinary != isBinary) {
+            return false;
+        }
+
+        return !isBinary || (defaultValue == currentDefaultValue || defaultValue.equals(currentDefaultValue));
+    }
+
+
+    /**
+     * Merge the default value to a binary value which was read from a configuration.
+     *
+     * @param inputValue the value
+     * @return the enhanced value
+     * @throws EnumConfigurationStoreException In case of an invalid value
+     */
+    public String merge(String inputValue) throws EnumConfigurationStoreException {
+        if (!isBinary || inputValue == null || defaultValue.equals(inputValue)) {
+            return inputValue;
+        }
+
+        MergedValue currentMergedValue = mergedValue;
+        if (currentMergedValue != null && (currentMergedValue.value == inputValue || currentMergedValue.value.equals(inputValue))) {
+            return currentMergedValue.mergedValue;
+        }
+
+        String value = inputValue;
+        try {
+            IEnumKeyValueConfigurationBinaryObject valueData = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.BINARY, value);
+            if (valueData != null) {
+                // merge default value and value
+                IEnumKeyValueConfigurationBinaryObject currentDefaultValueData = getDefaultValueData();
+                if (currentDefaultValueData != null) {
+                    EnumKeyValueConfigurationBinaryObject mergedValueData = new EnumKeyValueConfigurationBinaryObject(currentDefaultValueData);
+                    mergedValueData.merge(valueData);
+                    value = EnumKeyValueConfigurationBinaryObjectParser.getInstance().format(mergedValueData);
+                } else {
+                    value = EnumKeyValueConfigurationBinaryObjectParser.getInstance().format(valueData);
+                }
+            }
+        } catch (ValidationException ex) {
+            EnumConfigurationStoreException e = new EnumConfigurationStoreException("Invalid configuration found for key [" + configurationKeyName + "]: " + ex.getMessage(), ex);
+            e.add(configurationKeyName, value, ex.getConvertedValueList());
+            throw e;
+        }
+
+        mergedValue = new MergedValue(inputValue, value);
+        return value;
+    }
+
+
+    /**
+     * Get the parsed default value, it is parsed on first access
+     *
+     * @return the parsed default value or null
+     * @throws ValidationException In case of an invalid default value
+     */
+    private IEnumKeyValueConfigurationBinaryObject getDefaultValueData() throws ValidationException {
+        DefaultValueData currentDefaultValueData = defaultValueData;
+        if (currentDefaultValueData == null) {
+            IEnumKeyValueConfigurationBinaryObject data = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.BINARY, defaultValue);
+            currentDefaultValueData = new DefaultValueData(data);
+            defaultValueData = currentDefaultValueData;
+        }
+
+        return currentDefaultValueData.data;
+    }
+
+
+    /**
+     * Holds the parsed default value, which can be null
+     *
+     * @author patrick
+     */
+    private static final class DefaultValueData {
+        private final IEnumKeyValueConfigurationBinaryObject data;
+
+
+        /**
+         * Constructor for DefaultValueData
+         *
+         * @param data the parsed default value or null
+         */
+        DefaultValueData(IEnumKeyValueConfigurationBinaryObject data) {
+            this.data = data;
+        }
+    }
+
+
+    /**
+     * Holds a raw value and the merged value
+     *
+     * @author patrick
+     */
+    private static final class MergedValue {
+        private final String value;
+        private final String mergedValue;
+
+
+        /**
+         * Constructor for MergedValue
+         *
+         * @param value the raw value
+         * @param mergedValue the merged value
+         */
+        MergedValue(String value, String mergedValue) {
+            this.value = value;
+            this.mergedValue = mergedValue;
+        }
+    }
+}
@@ -5,14 +5,12 @@
  */
 package com.github.toolarium.enumeration.configuration.util;
 
-import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationBinaryObject;
-import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
-import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
-import com.github.toolarium.enumeration.configuration.validation.ValidationException;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeParseException;
 
 
@@ -30,7 +28,9 @@ public final class EnumKeyValueConfigurationBinaryObjectParser {
     
     /** BRACE END */
     public static final String BRACE_END = "}";
-    private static final String ESCAPED_SEPARATOR = "\\" + SEPARATOR;
+    private static final char SEPARATOR_CHAR = '|';
+    private static final char BRACE_START_CHAR = '{';
+    private static final char BRACE_END_CHAR = '}';
 
 
     /**
@@ -87,40 +87,45 @@ public final class EnumKeyValueConfigurationBinaryObjectParser {
             return enumKeyValueConfigurationBinaryObject;
         }
         
-        String[] binaryData = input.trim().split(ESCAPED_SEPARATOR);
+        // the fields are sliced by index, trailing empty fields are ignored
+        int start = trimStart(input, 0, input.length());
+        int end = trimEnd(input, start, input.length());
+        while (end > start && input.charAt(end - 1) == SEPARATOR_CHAR) {
+            end--;
+        }
 
-        if (binaryData.length <= 1) {
+        int firstSeparator = indexOf(input, SEPARATOR_CHAR, start, end);
+        if (firstSeparator < 0) {
             //  {text/plain}VGV4dAo=
             //  {text/plain}  
             //  VGV4dAo=  
-            parseContent(enumKeyValueConfigurationBinaryObject, binaryData[0]);
+            parseContent(enumKeyValueConfigurationBinaryObject, input, start, end);
+            return enumKeyValueConfigurationBinaryObject;
+        }
         
-        } else if (binaryData.length == 2) {
+        int secondSeparator = indexOf(input, SEPARATOR_CHAR, firstSeparator + 1, end);
+        if (secondSeparator < 0) {
             // 2021-03-15T08:59:22.123Z|{text/plain}VGV4dAo=
             // 2021-03-15T08:59:22.123Z|{text/plain}
             // 2021-03-15T08:59:22.123Z|VGV4dAo=
             // myfile.txt|{text/plain}VGV4dAo=
             // myfile.txt|{text/plain}  
             // myfile.txt|VGV4dAo= 
-
-            String s = binaryData[0].trim();
-            Instant timestamp = parseTimestamp(s.trim());
+            Instant timestamp = parseTimestamp(input, start, firstSeparator);
             if (timestamp != null) {
                 enumKeyValueConfigurationBinaryObject.setTimestamp(timestamp);
             } else {
-                enumKeyValueConfigurationBinaryObject.setName(s.trim());
+                enumKeyValueConfigurationBinaryObject.setName(substring(input, start, firstSeparator));
             }
 
-            parseContent(enumKeyValueConfigurationBinaryObject, binaryData[1]);
-
+            parseContent(enumKeyValueConfigurationBinaryObject, input, firstSeparator + 1, end);
         } else {
             // myfile.txt|2021-03-15T08:59:22.123Z|{text/plain}VGV4dAo= 
             // myfile.txt|2021-03-15T08:59:22.123Z|{text/plain} 
             // myfile.txt|2021-03-15T08:59:22.123Z|VGV4dAo= 
-
-            enumKeyValueConfigurationBinaryObject.setName(binaryData[0].trim());
-            enumKeyValueConfigurationBinaryObject.setTimestamp(parseTimestamp(binaryData[1].trim()));
-            parseContent(enumKeyValueConfigurationBinaryObject, binaryData[binaryData.length - 1]);
+            enumKeyValueConfigurationBinaryObject.setName(substring(input, start, firstSeparator));
+            enumKeyValueConfigurationBinaryObject.setTimestamp(parseTimestamp(input, firstSeparator + 1, secondSeparator));
+            parseContent(enumKeyValueConfigurationBinaryObject, input, input.lastIndexOf(SEPARATOR_CHAR, end - 1) + 1, end);
         }        
         
         return enumKeyValueConfigurationBinaryObject;
@@ -187,41 +192,15 @@ public final class EnumKeyValueConfigurationBinaryObjectParser {
 
     
     /**
-     * Merge potential default values to a binary value which was read from a configuration. 
+     * Merge potential default values to a binary value which was read from a configuration. The default value is parsed on 
+     * every call, see {@link EnumKeyValueConfigurationBinaryDefaultValue} to keep it.
      *
      * @param enumKeyValueConfiguration the enum key value configuration
      * @param inputValue the value
      * @return the enhanced value
      */
     public String mergeDefaultValues(EnumKeyValueConfiguration enumKeyValueConfiguration, String inputValue) {
-        String value = inputValue;
-        
-        // special handling for binary types
-        if (enumKeyValueConfiguration != null && EnumKeyValueConfigurationDataType.BINARY.equals(enumKeyValueConfiguration.getDataType()) && enumKeyValueConfiguration.getDefaultValue() != null) {
-            try {
-                if (!enumKeyValueConfiguration.getDefaultValue().equals(value)) {
-                    IEnumKeyValueConfigurationBinaryObject valueData = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(enumKeyValueConfiguration.getDataType(), value);
-                    if (valueData != null) {
-                        // merge default value and value
-                        IEnumKeyValueConfigurationBinaryObject defaultValueData = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(enumKeyValueConfiguration.getDataType(), enumKeyValueConfiguration.getDefaultValue());
-                        if (defaultValueData != null) {
-                            EnumKeyValueConfigurationBinaryObject mergedValueData = new EnumKeyValueConfigurationBinaryObject(defaultValueData);
-                            mergedValueData.merge(valueData);
-                            value = format(mergedValueData);
-                        } else {
-                            value = format(valueData);
-                        }
-                    }
-                }
-            } catch (ValidationException ex) {
-                String configurationKeyName = enumKeyValueConfiguration.getKey();
-                EnumConfigurationStoreException e = new EnumConfigurationStoreException("Invalid configuration found for key [" + configurationKeyName + "]: " + ex.getMessage(), ex);
-                e.add(configurationKeyName, value, ex.getConvertedValueList());
-                throw e;
-            }
-        }
-        
-        return value;
+        return new EnumKeyValueConfigurationBinaryDefaultValue(enumKeyValueConfiguration).merge(inputValue);
     }
 
     
@@ -229,112 +208,248 @@ public final class EnumKeyValueConfigurationBinaryObjectParser {
      * Parse the content, e.g. {text/plain}VGV4dAo=, {text/plain}, VGV4dAo=
      *   
      * @param enumKeyValueConfigurationBinaryObject the {@link EnumKeyValueConfigurationBinaryObject}.
-     * @param inputContent the content
+     * @param input the input
+     * @param inputStart the start index of the content (inclusive)
+     * @param inputEnd the end index of the content (exclusive)
      */
-    private void parseContent(EnumKeyValueConfigurationBinaryObject enumKeyValueConfigurationBinaryObject, String inputContent) {
-        if (inputContent == null || inputContent.isBlank()) {
+    private void parseContent(EnumKeyValueConfigurationBinaryObject enumKeyValueConfigurationBinaryObject, String input, int inputStart, int inputEnd) {
+        int start = trimStart(input, inputStart, inputEnd);
+        int end = trimEnd(input, start, inputEnd);
+        if (start >= end) {
             return;
         }
 
-        String content = inputContent.trim();
-        
-        if (content.startsWith(BRACE_START)) {
-            int idx = content.indexOf(BRACE_END);
+        if (input.charAt(start) == BRACE_START_CHAR) {
+            int idx = indexOf(input, BRACE_END_CHAR, start + 1, end);
             if (idx > 0) {
-                enumKeyValueConfigurationBinaryObject.setMimetype(content.substring(1, idx).trim());
-                
-                if (content.length() > idx) {
-                    content = content.substring(idx + 1).trim();
-                } else {
-                    content = null;
-                }
+                enumKeyValueConfigurationBinaryObject.setMimetype(substring(input, start + 1, idx));
+                start = trimStart(input, idx + 1, end);
             }
         }
 
-        enumKeyValueConfigurationBinaryObject.setData(content);
+        enumKeyValueConfigurationBinaryObject.setData(input.substring(start, end));
     }
 
 
     /**
-     * Parse the timestamp
+     * Parse the timestamp. A field is a timestamp if the date part consists of numbers which are separated by a minus and 
+     * the time part, if present, of numbers which are separated by a colon (fraction of seconds and the time zone are ignored).
+     * A timestamp in the format yyyy-MM-ddTHH:mm:ss[.fraction]Z is parsed directly, any other format by {@link DateUtil#parseTimestamp(String)}.
      * 
-     * @param inputTimestamp the timestamp
+     * @param input the input
+     * @param inputStart the start index of the timestamp (inclusive)
+     * @param inputEnd the end index of the timestamp (exclusive)
      * @return the timestamp or null if it is not a timestamp
      * @throws DateTimeParseException In case of an invalid date format
      */
-    private Instant parseTimestamp(String inputTimestamp) throws DateTimeParseException {
+    private Instant parseTimestamp(String input, int inputStart, int inputEnd) throws DateTimeParseException {
+        int start = trimStart(input, inputStart, inputEnd);
+        int end = trimEnd(input, start, inputEnd);
+        int timeSeparator = start;
+        while (timeSeparator < end && input.charAt(timeSeparator) != 'T') {
+            timeSeparator++;
+        }
+
+        // check date
+        if (!isNumberList(input, start, timeSeparator, '-')) {
+            return null;
+        }
         
-        if (inputTimestamp == null) {
+        // check time (hour, minute, seconds), ignore fraction of seconds and timezone
+        if (timeSeparator < end) {
+            int timeEnd = indexOf(input, '.', timeSeparator + 1, end);
+            if (timeEnd < 0) {
+                timeEnd = end;
+                if (timeEnd > timeSeparator + 1 && (input.charAt(timeEnd - 1) == 'Z' || input.charAt(timeEnd - 1) == 'z')) {
+                    timeEnd--;
+                }
+            }
+            
+            if (!isNumberList(input, timeSeparator + 1, timeEnd, ':')) {
+                return null;
+            }
+        }
+
+        Instant result = parseUtcTimestamp(input, start, end);
+        if (result == null) {
+            result = DateUtil.getInstance().parseTimestamp(input.substring(start, end));
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * Parse a timestamp in the format yyyy-MM-ddTHH:mm:ss[.fraction]Z without creating intermediate strings 
+     *
+     * @param input the input
+     * @param start the start index of the timestamp (inclusive)
+     * @param end the end index of the timestamp (exclusive)
+     * @return the timestamp or null if the format is different or a value is out of range
+     */
+    private Instant parseUtcTimestamp(String input, int start, int end) {
+        // yyyy-MM-ddTHH:mm:ssZ, the seconds are mandatory as by Instant.parse
+        if (end - start < 20 || input.charAt(start + 4) != '-' || input.charAt(start + 7) != '-' || input.charAt(start + 10) != 'T'
+                || input.charAt(start + 13) != ':' || input.charAt(start + 16) != ':' || (input.charAt(end - 1) != 'Z' && input.charAt(end - 1) != 'z')) {
             return null;
         }
         
-        // it could have date and time
-        String[] timestampSplit = inputTimestamp.trim().split("T");
-        if (timestampSplit.length == 0) {
+        int year = parseDigits(input, start, start + 4);
+        int month = parseDigits(input, start + 5, start + 7);
+        int day = parseDigits(input, start + 8, start + 10);
+        int hour = parseDigits(input, start + 11, start + 13);
+        int minute = parseDigits(input, start + 14, start + 16);
+        int second = parseDigits(input, start + 17, start + 19);
+        int nano = 0;
+        int pos = start + 19;
+        int last = end - 1;
+        if (pos < last) {
+            int fractionLength = last - pos - 1;
+            if (input.charAt(pos) != '.' || fractionLength < 1 || fractionLength > 9) {
+                return null;
+            }
+            
+            nano = parseDigits(input, pos + 1, last);
+            for (int i = fractionLength; i < 9; i++) {
+                nano *= 10;
+            }
+        }
+        
+        if (year < 0 || month < 1 || month > 12 || day < 1 || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59 || nano < 0) {
             return null;
         }
-
-        // check date
-        if (!isNumber(timestampSplit[0].split("-"))) {
+        
+        if (day > 28 && day > YearMonth.of(year, month).lengthOfMonth()) {
             return null;
         }
+        
+        long epochSecond = LocalDate.of(year, month, day).toEpochDay() * 86400L + hour * 3600L + minute * 60L + second;
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
 
-        // check time (hour, minute, seconds), ignore milliseconds and timezone
-        if (timestampSplit.length > 1) {
-            String[] simpleTime = timestampSplit[1].split("\\.");
-            if (simpleTime != null && simpleTime.length > 0) {
-                if (!isNumber(simpleTime[0].split(":"))) {
-                    return null;
-                }
+    
+    /**
+     * Parse the digits of a range
+     *
+     * @param input the input
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the number or -1 if the range contains other characters than digits
+     */
+    private int parseDigits(String input, int start, int end) {
+        int result = 0;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
             }
-        }
 
-        try {
-            return DateUtil.getInstance().parseTimestamp(inputTimestamp);
-        } catch (Exception ex) {
-            throw ex;
+            result = result * 10 + (c - '0');
         }
-    }
 
+        return result;
+    }
 
+    
     /**
-     * Check if it are just numbers
+     * Check if a range contains just numbers which are separated by the given separator
      *
-     * @param values the string values
+     * @param input the input
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @param separator the separator
      * @return true if they are just numbers
      */
-    private boolean isNumber(String[] values) {
-        if (values == null || values.length == 0) {
+    private boolean isNumberList(String input, int start, int end, char separator) {
+        if (start >= end) {
             return false;
         }
 
-        for (int i = 0; i < values.length; i++) {
-            if (!isNumber(values[i])) {
+        boolean hasDigit = false;
+        for (int i = start; i < end; i++) {
+            char c = input.charAt(i);
+            if (c == separator) {
+                if (!hasDigit) {
+                    return false;
+                }
+                
+                hasDigit = false;
+            } else if (c >= '0' && c <= '9') {
+                hasDigit = true;
+            } else {
                 return false;
             }
         }
 
-        return true;
+        return hasDigit;
     }
 
     
     /**
-     * Check if it is just a number
+     * Get the trimmed substring of a range
      *
-     * @param value the string value
-     * @return true if it is just number
+     * @param input the input
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the trimmed substring
      */
-    private boolean isNumber(String value) {
-        if (value == null || value.isBlank()) {
-            return false;
+    private String substring(String input, int start, int end) {
+        int trimmedStart = trimStart(input, start, end);
+        return input.substring(trimmedStart, trimEnd(input, trimmedStart, end));
+    }
+
+    
+    /**
+     * Get the index of a character in a range
+     *
+     * @param input the input
+     * @param c the character
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the index or -1
+     */
+    private int indexOf(String input, char c, int start, int end) {
+        int idx = input.indexOf(c, start);
+        if (idx >= end) {
+            return -1;
         }
+        
+        return idx;
+    }
 
-        try {
-            Integer.valueOf(value.trim());
-        } catch (Exception e) {
-            return false;
+    
+    /**
+     * Skip the leading whitespace of a range, see {@link String#trim()}
+     *
+     * @param input the input
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the index of the first character which is not a whitespace
+     */
+    private int trimStart(String input, int start, int end) {
+        int result = start;
+        while (result < end && input.charAt(result) <= ' ') {
+            result++;
+        }
+        
+        return result;
+    }
+
+    
+    /**
+     * Skip the trailing whitespace of a range, see {@link String#trim()}
+     *
+     * @param input the input
+     * @param start the start index (inclusive)
+     * @param end the end index (exclusive)
+     * @return the index after the last character which is not a whitespace
+     */
+    private int trimEnd(String input, int start, int end) {
+        int result = end;
+        while (result > start && input.charAt(result - 1) <= ' ') {
+            result--;
         }
         
-        return true;
+        return result;
     }
 }
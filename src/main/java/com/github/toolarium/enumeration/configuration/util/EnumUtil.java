@@ -8,6 +8,8 @@ package com.github.toolarium.enumeration.configuration.util;
 import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationRegistryFactory;
+import com.github.toolarium.enumeration.configuration.resource.IEnumConfigurationRegistry;
 import java.lang.reflect.Field;
 
 
@@ -44,7 +46,8 @@ public final class EnumUtil {
 
     
     /**
-     * Get the {@link EnumKeyConfiguration} from an enumeration configuration
+     * Get the {@link EnumKeyConfiguration} from an enumeration configuration. In case the annotation processor generated
+     * a registry for the enum a copy of the already parsed instance of the registry is returned.
      *
      * @param <T> the generic type
      * @param e the enumeration value
@@ -56,6 +59,17 @@ public final class EnumUtil {
             return null;
         }
         
+        IEnumConfigurationRegistry registry = EnumConfigurationRegistryFactory.getInstance().getRegistry(e.getDeclaringClass());
+        if (registry != null) {
+            EnumKeyConfiguration enumKeyConfiguration = registry.getEnumKeyConfiguration(e.ordinal());
+            if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+                // same as the annotation, a key / value configuration is not a key configuration
+                return null;
+            }
+            
+            return enumKeyConfiguration;
+        }
+
         try {
             Field field = e.getClass().getField(e.name());
             EnumKeyConfiguration enumKeyConfiguration = AnnotationConvertUtil.getInstance().convert(field.getAnnotation(com.github.toolarium.enumeration.configuration.annotation.EnumKeyConfiguration.class));
@@ -79,7 +93,8 @@ public final class EnumUtil {
 
     
     /**
-     * Get the {@link EnumKeyValueConfiguration} from an enumeration configuration
+     * Get the {@link EnumKeyValueConfiguration} from an enumeration configuration. In case the annotation processor generated
+     * a registry for the enum a copy of the already parsed instance of the registry is returned.
      *
      * @param e the enumeration value
      * @return the parsed content
@@ -90,6 +105,11 @@ public final class EnumUtil {
             return null;
         }
         
+        IEnumConfigurationRegistry registry = EnumConfigurationRegistryFactory.getInstance().getRegistry(e.getDeclaringClass());
+        if (registry != null) {
+            return registry.getEnumKeyValueConfiguration(e.ordinal());
+        }
+
         try {
             Field field = e.getClass().getField(e.name());
             EnumKeyValueConfiguration enumKeyValueConfiguration = AnnotationConvertUtil.getInstance().convert(field.getAnnotation(com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration.class));
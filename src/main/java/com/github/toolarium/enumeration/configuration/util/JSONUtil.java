@@ -5,18 +5,21 @@
  */
 package com.github.toolarium.enumeration.configuration.util;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -28,7 +31,10 @@ import java.util.List;
  * @author patrick
  */
 public final class JSONUtil {
-    private ObjectMapper objectMapper;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter prettyPrintWriter;
+    private final ObjectWriter compactWriter;
+    private final JsonFactory jsonFactory;
 
 
     /**
@@ -43,7 +49,15 @@ public final class JSONUtil {
      * Constructor
      */
     private JSONUtil() {
-        // NOP
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        
+        prettyPrintWriter = objectMapper.writerWithDefaultPrettyPrinter();
+        compactWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        jsonFactory = objectMapper.getFactory();
     }
 
 
@@ -72,7 +86,7 @@ public final class JSONUtil {
         }
 
         try {
-            return getMapper().readValue(inputstream, type);
+            return objectMapper.readValue(inputstream, type);
         } catch (JsonMappingException | JsonParseException e) {
             final String msg = e.getMessage();
 
@@ -103,7 +117,30 @@ public final class JSONUtil {
         }
 
         try {
-            getMapper().writerWithDefaultPrettyPrinter().writeValue(outputStream, type);
+            prettyPrintWriter.writeValue(outputStream, type);
+        } catch (JsonMappingException | JsonParseException e) {
+            IOException ex = new IOException(e.getMessage());
+            ex.setStackTrace(e.getStackTrace());
+            throw ex;
+        }
+    }
+
+
+    /**
+     * Writes an object as compact JSON without indentation to a writer.
+     *
+     * @param <T> the generic type
+     * @param type the object to write
+     * @param writer the writer
+     * @throws IOException In case of an error
+     */
+    public <T> void writeCompact(T type, Writer writer) throws IOException {
+        if (writer == null || type == null) {
+            return;
+        }
+
+        try {
+            compactWriter.writeValue(writer, type);
         } catch (JsonMappingException | JsonParseException e) {
             IOException ex = new IOException(e.getMessage());
             ex.setStackTrace(e.getStackTrace());
@@ -120,23 +157,48 @@ public final class JSONUtil {
      * @throws IllegalArgumentException In case of invalid json format
      */
     public String convert(Collection<String> inputList) throws IllegalArgumentException {
+        if (inputList == null) {
+            throw new IllegalArgumentException("Invalid input list!");
+        }
+        
+        return convert(inputList, new StringBuilder()).toString();
+    }
 
-        try {
-            List<String> list = new ArrayList<String>();
-            for (String str : inputList) {
-                if (str != null) {
-                    list.add(str);
+
+    /**
+     * Append a list of strings as JSON array to a string builder. The null values are ignored and the format is the same 
+     * as the pretty printed JSON array, e.g. <code>[ "a", "b" ]</code>.
+     *
+     * @param inputList the string list
+     * @param builder the string builder
+     * @return the string builder
+     * @throws IllegalArgumentException In case of invalid input list
+     */
+    public StringBuilder convert(Collection<String> inputList, StringBuilder builder) throws IllegalArgumentException {
+        if (inputList == null || builder == null) {
+            throw new IllegalArgumentException("Invalid input list!");
+        }
+
+        JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        builder.append('[');
+        boolean isEmpty = true;
+        for (String str : inputList) {
+            if (str != null) {
+                if (isEmpty) {
+                    builder.append(' ');
+                    isEmpty = false;
+                } else {
+                    builder.append(", ");
                 }
+                
+                builder.append('"');
+                encoder.quoteAsString(str, builder);
+                builder.append('"');
             }
-            
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-            write(list, outputStream);
-            return outputStream.toString(StandardCharsets.UTF_8);
-        } catch (Exception e) {
-            IllegalArgumentException ex = new IllegalArgumentException(e.getMessage());
-            ex.setStackTrace(e.getStackTrace());
-            throw ex;
         }
+        
+        builder.append(" ]");
+        return builder;
     }
 
 
@@ -148,44 +210,96 @@ public final class JSONUtil {
      * @throws IllegalArgumentException In case of invalid json format
      */
     public List<String> convert(String inputJson) throws IllegalArgumentException {
-
         if (inputJson == null || inputJson.isBlank()) {
             return Collections.emptyList();
         }
 
-        try {
-            String json = inputJson.trim();
-            if (!json.startsWith("[") && !json.endsWith("]")) {
-                return Arrays.asList(inputJson);
-            }
+        List<String> result = new ArrayList<String>();
+        parse(inputJson, element -> result.add(element));
+        if (result.isEmpty()) {
+            return Collections.emptyList();
+        }
+        
+        return result;
+    }
+
+
+    /**
+     * Parse a JSON array and pass each element to the handler without building an intermediate array. An input which neither 
+     * starts with <code>[</code> nor ends with <code>]</code> is handled as a single element. The parsing stops as soon as the 
+     * handler returns false.
+     *
+     * @param <E> the exception type of the handler
+     * @param inputJson the json array
+     * @param handler the element handler
+     * @return the number of elements which are passed to the handler
+     * @throws IllegalArgumentException In case of invalid json format
+     * @throws E In case the handler throws an exception
+     */
+    public <E extends Exception> int parse(String inputJson, IArrayElementHandler<E> handler) throws IllegalArgumentException, E {
+        if (inputJson == null || inputJson.isBlank()) {
+            return 0;
+        }
+
+        String json = inputJson.trim();
+        if (!json.startsWith("[") && !json.endsWith("]")) {
+            handler.handle(inputJson);
+            return 1;
+        }
 
-            String[] elements = getMapper().readValue(inputJson, String[].class);
-            if (elements != null && elements.length > 0) {
-                return Arrays.asList(elements);
+        int count = 0;
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Expected a JSON array but found " + token + "!");
             }
-        } catch (Exception e) {
+            
+            token = parser.nextToken();
+            while (token != JsonToken.END_ARRAY) {
+                String element;
+                if (token == null) {
+                    throw new IllegalArgumentException("Unexpected end of the JSON array!");
+                } else if (token == JsonToken.VALUE_NULL) {
+                    element = null;
+                } else if (token.isScalarValue()) {
+                    element = parser.getText();
+                } else {
+                    throw new IllegalArgumentException("Unexpected element " + token + " in JSON array, expected a string!");
+                }
+                
+                count++;
+                if (!handler.handle(element)) {
+                    break;
+                }
+                
+                token = parser.nextToken();
+            }
+        } catch (IOException e) {
             IllegalArgumentException ex = new IllegalArgumentException(e.getMessage());
             ex.setStackTrace(e.getStackTrace());
             throw ex;
         }
-
-        return Collections.emptyList();
+        
+        return count;
     }
 
 
     /**
-     * Get the object mapper
+     * Defines the handler of the elements of a JSON array
      *
-     * @return the object mapper
+     * @param <E> the exception type
+     * @author patrick
      */
-    private ObjectMapper getMapper() {
-        if (objectMapper == null) {
-            objectMapper = new ObjectMapper();
-            objectMapper.registerModule(new JavaTimeModule());
-            objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-            objectMapper.enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
-            objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
-        }
-        return objectMapper;
+    @FunctionalInterface
+    public interface IArrayElementHandler<E extends Exception> {
+        
+        /**
+         * Handle an element of a JSON array
+         *
+         * @param element the element, can be null
+         * @return true to continue; false to stop the parsing
+         * @throws E In case of an error
+         */
+        boolean handle(String element) throws E;
     }
 }
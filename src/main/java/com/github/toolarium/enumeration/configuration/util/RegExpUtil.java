@@ -0,0 +1,114 @@
+/*
+ * RegExpUtil.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+
+/**
+ * Regular expression utility. The compiled patterns are kept in a bounded {@link SegmentedCache} keyed by the expression, in case the
+ * cache exceeds the max size of the system property {@value #CACHE_SIZE_PROPERTY} the least recently used pattern will be removed.
+ * Only patterns which passed the guards of the REGEXP validation are added to the cache (see {@link #putPattern(String, Pattern)}),
+ * therefore a cached pattern is returned without checking it again.
+ *
+ * @author patrick
+ */
+public final class RegExpUtil {
+    /** Defines the system property of the max number of cached patterns, by default 256 */
+    public static final String CACHE_SIZE_PROPERTY = "enumconfiguration.regexp.cacheSize";
+
+    private static final int CACHE_SIZE = Integer.getInteger(CACHE_SIZE_PROPERTY, 256);
+    private final SegmentedCache<String, Pattern> patternCache;
+
+
+    /**
+     * Private class, the only instance of the singelton which will be created by accessing the holder class.
+     */
+    private static final class HOLDER {
+        static final RegExpUtil INSTANCE = new RegExpUtil();
+    }
+
+
+    /**
+     * Constructor
+     */
+    private RegExpUtil() {
+        patternCache = new SegmentedCache<String, Pattern>(CACHE_SIZE);
+    }
+
+
+    /**
+     * Get the instance
+     *
+     * @return the instance
+     */
+    public static RegExpUtil getInstance() {
+        return HOLDER.INSTANCE;
+    }
+
+
+    /**
+     * Get the compiled pattern of an expression, it is compiled only in case it is not cached. A compiled pattern is not added to the cache.
+     *
+     * @param expression the expression
+     * @return the compiled pattern or null if the expression is null
+     * @throws PatternSyntaxException In case of an invalid expression
+     */
+    public Pattern getPattern(String expression) throws PatternSyntaxException {
+        if (expression == null) {
+            return null;
+        }
+
+        Pattern pattern = getCachedPattern(expression);
+        if (pattern != null) {
+            return pattern;
+        }
+
+        return Pattern.compile(expression);
+    }
+
+
+    /**
+     * Put the compiled pattern of an expression into the cache, it has to pass the guards of the REGEXP validation before.
+     *
+     * @param expression the expression
+     * @param pattern the compiled pattern
+     * @return the cached pattern, in case the expression is already cached the cached pattern
+     */
+    public Pattern putPattern(String expression, Pattern pattern) {
+        return patternCache.putIfAbsent(expression, pattern);
+    }
+
+
+    /**
+     * Get the cached pattern of an expression
+     *
+     * @param expression the expression
+     * @return the compiled pattern or null if it is not cached
+     */
+    public Pattern getCachedPattern(String expression) {
+        return patternCache.get(expression);
+    }
+
+
+    /**
+     * Clear the pattern cache
+     */
+    public void clear() {
+        patternCache.clear();
+    }
+
+
+    /**
+     * Get the number of cached patterns
+     *
+     * @return the number of cached patterns
+     */
+    public int size() {
+        return patternCache.size();
+    }
+}
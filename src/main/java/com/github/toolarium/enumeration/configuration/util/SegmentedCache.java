@@ -0,0 +1,210 @@
+/*
+ * SegmentedCache.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * Defines a bounded cache. The entries are spread by the key over independent segments, each segment has its own lock and removes
+ * its least recently used entry in case it exceeds its part of the max size. Small caches have only one segment. A max size of 0
+ * disables the cache.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @author patrick
+ */
+public final class SegmentedCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+    private static final int MIN_SEGMENT_SIZE = 16;
+    private final int maxSize;
+    private final Segment<K, V>[] segments;
+
+
+    /**
+     * Constructor for SegmentedCache
+     *
+     * @param maxSize the max size of the cache
+     */
+    @SuppressWarnings("unchecked")
+    public SegmentedCache(int maxSize) {
+        this.maxSize = maxSize;
+
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && maxSize / (segmentCount * 2) >= MIN_SEGMENT_SIZE) {
+            segmentCount *= 2;
+        }
+
+        // generic array creation is not supported
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // the max size is split exactly over the segments
+            segments[i] = new Segment<K, V>(Math.max(0, maxSize / segmentCount + (i < maxSize % segmentCount ? 1 : 0)));
+        }
+    }
+
+
+    /**
+     * Get a cached value
+     *
+     * @param key the key
+     * @return the value or null if it is not cached
+     */
+    public V get(K key) {
+        if (key == null || maxSize <= 0) {
+            return null;
+        }
+
+        Segment<K, V> segment = getSegment(key);
+        synchronized (segment) {
+            return segment.get(key);
+        }
+    }
+
+
+    /**
+     * Put a value into the cache in case there is no value of the key. Like this concurrent callers get the same value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the cached value, either the already cached or the given value
+     */
+    public V putIfAbsent(K key, V value) {
+        if (key == null || value == null || maxSize <= 0) {
+            return value;
+        }
+
+        Segment<K, V> segment = getSegment(key);
+        synchronized (segment) {
+            V cachedValue = segment.putIfAbsent(key, value);
+            if (cachedValue != null) {
+                return cachedValue;
+            }
+        }
+
+        return value;
+    }
+
+
+    /**
+     * Put a value into the cache, an already cached value of the key is replaced.
+     *
+     * @param key the key
+     * @param value the value
+     */
+    public void put(K key, V value) {
+        if (key == null || value == null || maxSize <= 0) {
+            return;
+        }
+
+        Segment<K, V> segment = getSegment(key);
+        synchronized (segment) {
+            segment.put(key, value);
+        }
+    }
+
+
+    /**
+     * Remove the value of a key.
+     *
+     * @param key the key
+     */
+    public void remove(K key) {
+        if (key == null || maxSize <= 0) {
+            return;
+        }
+
+        Segment<K, V> segment = getSegment(key);
+        synchronized (segment) {
+            segment.remove(key);
+        }
+    }
+
+
+    /**
+     * Clear the cache
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+
+    /**
+     * Get the number of cached entries
+     *
+     * @return the number of cached entries
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+
+    /**
+     * Get the max size of the cache
+     *
+     * @return the max size
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+
+    /**
+     * Get the segment of a key
+     *
+     * @param key the key
+     * @return the segment
+     */
+    private Segment<K, V> getSegment(K key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+
+    /**
+     * Defines a segment of the cache, the least recently used entry is removed in case it exceeds its max size.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @author patrick
+     */
+    private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = -2412651398718523407L;
+        private final int segmentMaxSize;
+
+
+        /**
+         * Constructor for Segment
+         *
+         * @param segmentMaxSize the max size of the segment
+         */
+        Segment(int segmentMaxSize) {
+            super(16, 0.75f, true);
+            this.segmentMaxSize = segmentMaxSize;
+        }
+
+
+        /**
+         * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+         */
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > segmentMaxSize;
+        }
+    }
+}
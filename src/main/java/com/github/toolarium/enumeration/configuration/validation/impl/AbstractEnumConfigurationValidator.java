@@ -113,6 +113,59 @@ public abstract class AbstractEnumConfigurationValidator implements IEnumConfigu
     }
 
 
+    /**
+     * Create the read plan of an {@link EnumKeyValueConfiguration}. The structure is validated once, the value validator
+     * is resolved and the enumeration values are parsed. The plan validates afterwards only the input.
+     *
+     * @param enumKeyValueConfiguration enum key/value configuration
+     * @return the read plan
+     * @throws ValidationException In case of an invalid enum key/value configuration
+     */
+    public EnumKeyValueConfigurationReadPlan createReadPlan(EnumKeyValueConfiguration enumKeyValueConfiguration) throws ValidationException {
+
+        validate(enumKeyValueConfiguration);
+
+        Collection<Object> enumerationValues = validateEnumerationValue(enumKeyValueConfiguration.getDataType(),
+                                                                        enumKeyValueConfiguration.getCardinality(),
+                                                                        enumKeyValueConfiguration.isUniqueness(),
+                                                                        enumKeyValueConfiguration.getValueSize(),
+                                                                        enumKeyValueConfiguration.getEnumerationValue());
+
+        return new EnumKeyValueConfigurationReadPlan(this,
+                                                     enumKeyValueConfiguration,
+                                                     enumerationValues,
+                                                     resolveValueValidator(enumKeyValueConfiguration.getDataType(), enumKeyValueConfiguration.getValueSize()));
+    }
+
+
+    /**
+     * Validate an input against a read plan
+     *
+     * @param <D> the validated data type
+     * @param <T> the size type
+     * @param readPlan the read plan
+     * @param input the input to validate
+     * @return the validated values
+     * @throws ValidationException In case of a validation error
+     */
+    @SuppressWarnings("unchecked")
+    protected <D, T> Collection<D> validate(EnumKeyValueConfigurationReadPlan readPlan, String input) throws ValidationException {
+        try {
+            return validateValue("input",
+                                 (IEnumKeyConfigurationValueValidator<D, T>) readPlan.getValueValidator(),
+                                 readPlan.getCardinality(),
+                                 readPlan.isUniqueness(),
+                                 (EnumKeyValueConfigurationSizing<T>) readPlan.getValueSize(),
+                                 (Collection<D>) readPlan.getEnumerationValues(),
+                                 input);
+        } catch (ValidationException ex) {
+            ValidationException e = ExceptionUtil.getInstance().throwsException(ValidationException.class, "[input] " + ex.getMessage(), ex.getStackTrace());
+            e.setValue(ex.getConfigurationValue(), ex.getConvertedValueList());
+            throw e;
+        }
+    }
+
+
     /**
      * Validate the data type against an input string
      *
@@ -377,13 +430,41 @@ public abstract class AbstractEnumConfigurationValidator implements IEnumConfigu
             throw new ValidationException("Invalid dataType in [" + inputType + "]! ");
         }
 
-        final boolean isMandatory = (cardinality != null && cardinality.getMinSize() != null && cardinality.getMinSize().intValue() > 0);
-        if ((input == null || input.isEmpty()) && isMandatory) {
-            throw new ValidationException("Missing [" + inputType + "], its mandatory and not optional (cardinality: " + cardinality +  ")!");
-        }
+        validateMandatory(inputType, cardinality, input);
         
         // prepare enumeration values
         Collection<D> enumarationValues = validateEnumerationValue(dataType, cardinality, isUniqueness, valueSize, enumerationValue);
+        return validateValue(inputType, resolveValueValidator(dataType, valueSize), cardinality, isUniqueness, valueSize, enumarationValues, input);
+    }
+
+
+    /**
+     * Validate a value with an already resolved value validator and prepared enumeration values
+     *
+     * @param <D> the validated data type
+     * @param <T> the size type
+     * @param inputType the input type
+     * @param validator the resolved value validator
+     * @param cardinality the cardinality
+     * @param isUniqueness True if it is unique; otherwise false, which means that the same value can occur more than once. 
+     * @param valueSize the value size
+     * @param enumarationValues the prepared enumeration values or null
+     * @param input the collection of validated values
+     * @return the validated values
+     * @throws EmptyValueException In case of an empty value
+     * @throws ValidationException In case of a validation violation
+     */
+    protected <D, T> Collection<D> validateValue(String inputType, 
+                                                 IEnumKeyConfigurationValueValidator<D, T> validator, 
+                                                 EnumKeyValueConfigurationSizing<Integer> cardinality,
+                                                 boolean isUniqueness,
+                                                 EnumKeyValueConfigurationSizing<T> valueSize,
+                                                 Collection<D> enumarationValues,
+                                                 String input)
+            throws EmptyValueException, ValidationException {
+        
+        validateMandatory(inputType, cardinality, input);
+
         Collection<D> collection = null;
         if (isUniqueness) {
             collection = new HashSet<D>();
@@ -399,7 +480,7 @@ public abstract class AbstractEnumConfigurationValidator implements IEnumConfigu
             }
 
             try {
-                D value = validateValue(inputType, dataType, valueSize, input);
+                D value = validator.validateValue(valueSize, input);
                 if (enumarationValues != null && !enumarationValues.contains(value)) {
                     String validValues = enumarationValues.toString();
                     if (validValues.startsWith("[") && validValues.length() > 1) {
@@ -422,51 +503,25 @@ public abstract class AbstractEnumConfigurationValidator implements IEnumConfigu
             }
         } else {
             try {
-                int length = 0;
-                List<String> inputList = JSONUtil.getInstance().convert(input);
-                if (inputList != null) {
-                    length = inputList.size();
-                }
+                // the elements are validated while parsing without an intermediate list
+                JSONArrayValueCollector<D, T> valueCollector = new JSONArrayValueCollector<D, T>(validator, cardinality, valueSize, enumarationValues, collection);
+                int length = JSONUtil.getInstance().parse(input, valueCollector);
+                collection = valueCollector.getCollection();
                 
-                if (inputList != null) {
-                    boolean hasUniquenessError = false;
-                    boolean hasEnumerationError = false;
-                    for (String in : inputList) {
-                        try {
-                            D value = validateValue(inputType, dataType, valueSize, in);
-                            if (enumarationValues != null && !enumarationValues.contains(value)) {
-                                hasEnumerationError = true;
-                            }
-                            
-                            if (!collection.add(value)) {
-                                hasUniquenessError = true;
-                                collection = new ArrayList<D>(collection);
-                                collection.add(value);
-                            }
-                        } catch (EmptyValueException ex) {
-                            if (cardinality != null && cardinality.getMinSize() != null && cardinality.getMinSize().intValue() <= 0) {
-                                // empty value is valid
-                            } else {
-                                throw ex;
-                            }
-                        }
-                    }                    
-                    
-                    if (hasEnumerationError) {
-                        String validValues = enumarationValues.toString();
-                        if (validValues.startsWith("[") && validValues.length() > 1) {
-                            validValues = validValues.substring(1);
-                        }
-                        if (validValues.endsWith("]") && validValues.length() > 1) {
-                            validValues = validValues.substring(0, validValues.length() - 1);
-                        }
-                        
-                        throw new ValidationException("Invalid enumeration of [" + inputType + "] for intput [" + input + "], allowed values are: " + validValues, input, collection);
+                if (valueCollector.hasEnumerationError()) {
+                    String validValues = enumarationValues.toString();
+                    if (validValues.startsWith("[") && validValues.length() > 1) {
+                        validValues = validValues.substring(1);
                     }
-                    
-                    if (hasUniquenessError) {
-                        throw new ValidationException("Invalid isUniqueness of [" + inputType + "] for intput [" + input + "]. Value already exist!", input, collection);
+                    if (validValues.endsWith("]") && validValues.length() > 1) {
+                        validValues = validValues.substring(0, validValues.length() - 1);
                     }
+                    
+                    throw new ValidationException("Invalid enumeration of [" + inputType + "] for intput [" + input + "], allowed values are: " + validValues, input, collection);
+                }
+                
+                if (valueCollector.hasUniquenessError()) {
+                    throw new ValidationException("Invalid isUniqueness of [" + inputType + "] for intput [" + input + "]. Value already exist!", input, collection);
                 }
                 
                 if (cardinality.getMinSize() != null && length < cardinality.getMinSize().intValue()) {
@@ -505,13 +560,139 @@ public abstract class AbstractEnumConfigurationValidator implements IEnumConfigu
             throw new ValidationException("Invalid dataType in [" + inputType + "]! ");
         }
 
-        String maxSize = null;
-        if (valueSize != null && valueSize.getMaxSize() != null) {
-            maxSize = valueSize.getMaxSize().toString();
-        }
-        
-        @SuppressWarnings("unchecked")
-        IEnumKeyConfigurationValueValidator<D, T> validator = (IEnumKeyConfigurationValueValidator<D, T>) EnumKeyValueConfigurationValueValidatorFactory.getInstance().createEnumKeyValueConfigurationValueValidator(dataType, maxSize);
+        IEnumKeyConfigurationValueValidator<D, T> validator = resolveValueValidator(dataType, valueSize);
         return validator.validateValue(valueSize, input);
     }    
+
+
+    /**
+     * Resolve the value validator of a data type
+     *
+     * @param <D> the validated data type
+     * @param <T> the size type
+     * @param dataType the data type
+     * @param valueSize the value size
+     * @return the value validator
+     */
+    @SuppressWarnings("unchecked")
+    protected <D, T> IEnumKeyConfigurationValueValidator<D, T> resolveValueValidator(EnumKeyValueConfigurationDataType dataType, EnumKeyValueConfigurationSizing<T> valueSize) {
+        return (IEnumKeyConfigurationValueValidator<D, T>) EnumKeyValueConfigurationValueValidatorFactory.getInstance().getEnumKeyValueConfigurationValueValidator(dataType);
+    }
+
+
+    /**
+     * Validate if a mandatory input is present
+     *
+     * @param inputType the input type
+     * @param cardinality the cardinality
+     * @param input the input
+     * @throws ValidationException In case a mandatory input is missing
+     */
+    private void validateMandatory(String inputType, EnumKeyValueConfigurationSizing<Integer> cardinality, String input) throws ValidationException {
+        final boolean isMandatory = (cardinality != null && cardinality.getMinSize() != null && cardinality.getMinSize().intValue() > 0);
+        if ((input == null || input.isEmpty()) && isMandatory) {
+            throw new ValidationException("Missing [" + inputType + "], its mandatory and not optional (cardinality: " + cardinality +  ")!");
+        }
+    }
+
+
+    
+    /**
+     * Collects and validates the elements of a JSON array.
+     *
+     * @param <D> the validated data type
+     * @param <T> the size type
+     * @author patrick
+     */
+    private static final class JSONArrayValueCollector<D, T> implements JSONUtil.IArrayElementHandler<ValidationException> {
+        private final IEnumKeyConfigurationValueValidator<D, T> validator;
+        private final EnumKeyValueConfigurationSizing<Integer> cardinality;
+        private final EnumKeyValueConfigurationSizing<T> valueSize;
+        private final Collection<D> enumarationValues;
+        private Collection<D> collection;
+        private boolean hasUniquenessError;
+        private boolean hasEnumerationError;
+
+        
+        /**
+         * Constructor for JSONArrayValueCollector
+         *
+         * @param validator the value validator
+         * @param cardinality the cardinality
+         * @param valueSize the value size
+         * @param enumarationValues the prepared enumeration values or null
+         * @param collection the collection of the validated values
+         */
+        JSONArrayValueCollector(IEnumKeyConfigurationValueValidator<D, T> validator, 
+                                EnumKeyValueConfigurationSizing<Integer> cardinality, 
+                                EnumKeyValueConfigurationSizing<T> valueSize, 
+                                Collection<D> enumarationValues, 
+                                Collection<D> collection) {
+            this.validator = validator;
+            this.cardinality = cardinality;
+            this.valueSize = valueSize;
+            this.enumarationValues = enumarationValues;
+            this.collection = collection;
+            this.hasUniquenessError = false;
+            this.hasEnumerationError = false;
+        }
+
+        
+        /**
+         * @see com.github.toolarium.enumeration.configuration.util.JSONUtil.IArrayElementHandler#handle(java.lang.String)
+         */
+        @Override
+        public boolean handle(String in) throws ValidationException {
+            try {
+                D value = validator.validateValue(valueSize, in);
+                if (enumarationValues != null && !enumarationValues.contains(value)) {
+                    hasEnumerationError = true;
+                }
+                
+                if (!collection.add(value)) {
+                    hasUniquenessError = true;
+                    collection = new ArrayList<D>(collection);
+                    collection.add(value);
+                }
+            } catch (EmptyValueException ex) {
+                if (cardinality.getMinSize() != null && cardinality.getMinSize().intValue() <= 0) {
+                    // empty value is valid
+                } else {
+                    throw ex;
+                }
+            }
+            
+            return true;
+        }
+
+        
+        /**
+         * Get the collection of the validated values
+         *
+         * @return the collection
+         */
+        Collection<D> getCollection() {
+            return collection;
+        }
+
+        
+        /**
+         * Check if there was an enumeration error
+         *
+         * @return true if there was an enumeration error
+         */
+        boolean hasEnumerationError() {
+            return hasEnumerationError;
+        }
+
+        
+        /**
+         * Check if there was an uniqueness error
+         *
+         * @return true if there was an uniqueness error
+         */
+        boolean hasUniquenessError() {
+            return hasUniquenessError;
+        }
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * EnumKeyValueConfigurationReadPlan.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.validation.impl;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import com.github.toolarium.enumeration.configuration.validation.value.IEnumKeyConfigurationValueValidator;
+import java.util.Collection;
+import java.util.Collections;
+
+
+/**
+ * Defines the compiled read plan of an {@link EnumKeyValueConfiguration}. The structure of the configuration is validated once
+ * when the plan is created; the value validator is resolved and the enumeration values are parsed in advance.
+ * Afterwards only the input value has to be validated.
+ *
+ * @author patrick
+ */
+public final class EnumKeyValueConfigurationReadPlan {
+    private final AbstractEnumConfigurationValidator enumConfigurationValidator;
+    private final EnumKeyValueConfiguration enumKeyValueConfiguration;
+    private final EnumKeyValueConfigurationDataType dataType;
+    private final EnumKeyValueConfigurationSizing<Integer> cardinality;
+    private final boolean isUniqueness;
+    private final EnumKeyValueConfigurationSizing<?> valueSize;
+    private final Collection<?> enumerationValues;
+    private final IEnumKeyConfigurationValueValidator<?, ?> valueValidator;
+
+
+    /**
+     * Constructor for EnumKeyValueConfigurationReadPlan
+     *
+     * @param enumConfigurationValidator the enum configuration validator which created the plan
+     * @param enumKeyValueConfiguration the validated enum key value configuration
+     * @param enumerationValues the parsed enumeration values or null
+     * @param valueValidator the resolved value validator
+     */
+    EnumKeyValueConfigurationReadPlan(AbstractEnumConfigurationValidator enumConfigurationValidator,
+                                      EnumKeyValueConfiguration enumKeyValueConfiguration,
+                                      Collection<?> enumerationValues,
+                                      IEnumKeyConfigurationValueValidator<?, ?> valueValidator) {
+        this.enumConfigurationValidator = enumConfigurationValidator;
+        this.enumKeyValueConfiguration = enumKeyValueConfiguration;
+        this.dataType = enumKeyValueConfiguration.getDataType();
+        this.cardinality = enumKeyValueConfiguration.getCardinality();
+        this.isUniqueness = enumKeyValueConfiguration.isUniqueness();
+        this.valueSize = enumKeyValueConfiguration.getValueSize();
+
+        if (enumerationValues != null) {
+            this.enumerationValues = Collections.unmodifiableCollection(enumerationValues);
+        } else {
+            this.enumerationValues = null;
+        }
+
+        this.valueValidator = valueValidator;
+    }
+
+
+    /**
+     * Validate an input against the plan
+     *
+     * @param <D> The validated data type
+     * @param input the input to validate
+     * @return the validated values
+     * @throws ValidationException In case of a validation error
+     */
+    public <D> Collection<D> validate(String input) throws ValidationException {
+        return enumConfigurationValidator.validate(this, input);
+    }
+
+
+    /**
+     * Get the enum configuration validator which created this plan
+     *
+     * @return the enum configuration validator
+     */
+    public AbstractEnumConfigurationValidator getEnumConfigurationValidator() {
+        return enumConfigurationValidator;
+    }
+
+
+    /**
+     * Get the enum key value configuration
+     *
+     * @return the enum key value configuration
+     */
+    public EnumKeyValueConfiguration getEnumKeyValueConfiguration() {
+        return enumKeyValueConfiguration;
+    }
+
+
+    /**
+     * Get the data type
+     *
+     * @return the data type
+     */
+    public EnumKeyValueConfigurationDataType getDataType() {
+        return dataType;
+    }
+
+
+    /**
+     * Get the cardinality
+     *
+     * @return the cardinality
+     */
+    public EnumKeyValueConfigurationSizing<Integer> getCardinality() {
+        return cardinality;
+    }
+
+
+    /**
+     * Specifies that the input value is unique.
+     *
+     * @return True if it is unique; otherwise false
+     */
+    public boolean isUniqueness() {
+        return isUniqueness;
+    }
+
+
+    /**
+     * Get the value size
+     *
+     * @return the value size
+     */
+    public EnumKeyValueConfigurationSizing<?> getValueSize() {
+        return valueSize;
+    }
+
+
+    /**
+     * Get the parsed enumeration values
+     *
+     * @return the parsed enumeration values or null
+     */
+    public Collection<?> getEnumerationValues() {
+        return enumerationValues;
+    }
+
+
+    /**
+     * Get the resolved value validator
+     *
+     * @return the value validator
+     */
+    public IEnumKeyConfigurationValueValidator<?, ?> getValueValidator() {
+        return valueValidator;
+    }
+
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "EnumKeyValueConfigurationReadPlan [key=" + enumKeyValueConfiguration.getKey()
+               + ", dataType=" + dataType
+               + ", cardinality=" + cardinality
+               + ", isUniqueness=" + isUniqueness
+               + ", valueSize=" + valueSize
+               + ", enumerationValues=" + enumerationValues + "]";
+    }
+}
@@ -24,8 +24,8 @@ import com.github.toolarium.enumeration.configuration.validation.value.impl.Time
 import com.github.toolarium.enumeration.configuration.validation.value.impl.TimestampEnumKeyValueConfigurationValueValidator;
 import com.github.toolarium.enumeration.configuration.validation.value.impl.URIEnumKeyValueConfigurationValueValidator;
 import com.github.toolarium.enumeration.configuration.validation.value.impl.UUIDEnumKeyValueConfigurationValueValidator;
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,8 +37,8 @@ import org.slf4j.LoggerFactory;
  */
 public final class EnumKeyValueConfigurationValueValidatorFactory {
     private static final Logger LOG = LoggerFactory.getLogger(EnumKeyValueConfigurationValueValidatorFactory.class);
-    private final Map<EnumKeyValueConfigurationDataType, IEnumKeyConfigurationValueValidator<?, ?>> validatorCache =
-            new EnumMap<>(EnumKeyValueConfigurationDataType.class);
+    private final AtomicReference<IEnumKeyConfigurationValueValidator<?, ?>[]> validators;
+    private final AtomicLong registrationVersion;
 
     /**
      * Private class, the only instance of the singelton which will be created by accessing the holder class.
@@ -51,7 +51,14 @@ public final class EnumKeyValueConfigurationValueValidatorFactory {
      * Constructor
      */
     private EnumKeyValueConfigurationValueValidatorFactory() {
-        // NOP
+        EnumKeyValueConfigurationDataType[] dataTypes = EnumKeyValueConfigurationDataType.values();
+        IEnumKeyConfigurationValueValidator<?, ?>[] defaultValidators = new IEnumKeyConfigurationValueValidator<?, ?>[dataTypes.length];
+        for (EnumKeyValueConfigurationDataType dataType : dataTypes) {
+            defaultValidators[dataType.ordinal()] = newValidator(dataType);
+        }
+        
+        validators = new AtomicReference<IEnumKeyConfigurationValueValidator<?, ?>[]>(defaultValidators);
+        registrationVersion = new AtomicLong();
     }
 
     /**
@@ -64,15 +71,76 @@ public final class EnumKeyValueConfigurationValueValidatorFactory {
     }
 
     
+    /**
+     * Get the {@link IEnumKeyConfigurationValueValidator} of a data type. The validators are stateless and shared.
+     *
+     * @param dataType the enum data type
+     * @return the validator or null
+     */
+    public IEnumKeyConfigurationValueValidator<?, ?> getEnumKeyValueConfigurationValueValidator(EnumKeyValueConfigurationDataType dataType) {
+        if (dataType == null) {
+            return null;
+        }
+        
+        return validators.get()[dataType.ordinal()];
+    }
+
+    
     /**
      * Create an {@link IEnumKeyConfigurationValueValidator}.
      *
      * @param dataType the enum data type
      * @param maxValue the max value or null if no max value is available
      * @return the resolved type
+     * @deprecated the validators are stateless and don't depend on the max value, use {@link #getEnumKeyValueConfigurationValueValidator(EnumKeyValueConfigurationDataType)}
      */
+    @Deprecated
     public IEnumKeyConfigurationValueValidator<?, ?> createEnumKeyValueConfigurationValueValidator(EnumKeyValueConfigurationDataType dataType, String maxValue) {
-        return validatorCache.computeIfAbsent(dataType, this::newValidator);
+        return getEnumKeyValueConfigurationValueValidator(dataType);
+    }
+
+    
+    /**
+     * Register a validator for a data type. It replaces the current validator; in case the validator is null the default 
+     * validator of the data type is restored. The validator must be stateless and thread-safe since it is shared.
+     *
+     * @param dataType the enum data type
+     * @param validator the validator or null to restore the default validator
+     * @return the previous validator
+     * @throws IllegalArgumentException In case of an invalid data type
+     */
+    public IEnumKeyConfigurationValueValidator<?, ?> register(EnumKeyValueConfigurationDataType dataType, IEnumKeyConfigurationValueValidator<?, ?> validator) {
+        if (dataType == null) {
+            throw new IllegalArgumentException("Invalid data type!");
+        }
+
+        IEnumKeyConfigurationValueValidator<?, ?> newValidator = validator;
+        if (newValidator == null) {
+            newValidator = newValidator(dataType);
+        }
+        
+        IEnumKeyConfigurationValueValidator<?, ?>[] current;
+        IEnumKeyConfigurationValueValidator<?, ?>[] updated;
+        do {
+            current = validators.get();
+            updated = current.clone();
+            updated[dataType.ordinal()] = newValidator;
+        } while (!validators.compareAndSet(current, updated));
+        registrationVersion.incrementAndGet();
+
+        LOG.debug("Registered validator {} for data type {}.", newValidator.getClass().getName(), dataType);
+        return current[dataType.ordinal()];
+    }
+
+
+    /**
+     * Get the version of the registered validators, it changes on every {@link #register(EnumKeyValueConfigurationDataType, IEnumKeyConfigurationValueValidator)}.
+     * Values which are validated and cached can be bound to it, in case the version changed they have to be validated again.
+     *
+     * @return the version of the registered validators
+     */
+    public long getRegistrationVersion() {
+        return registrationVersion.get();
     }
 
 
@@ -124,7 +192,7 @@ public final class EnumKeyValueConfigurationValueValidatorFactory {
      */
     @SuppressWarnings("unchecked")
     public <D, T> EnumKeyValueConfigurationSizing<T> createEnumKeyValueConfigurationSizing(EnumKeyValueConfigurationDataType dataType, String minValue, String maxValue) throws ValidationException {
-        IEnumKeyConfigurationValueValidator<D, T> type = (IEnumKeyConfigurationValueValidator<D, T>)EnumKeyValueConfigurationValueValidatorFactory.getInstance().createEnumKeyValueConfigurationValueValidator(dataType, maxValue);
+        IEnumKeyConfigurationValueValidator<D, T> type = (IEnumKeyConfigurationValueValidator<D, T>)getEnumKeyValueConfigurationValueValidator(dataType);
         EnumKeyValueConfigurationSizing<T> result = type.createValueSize(minValue, maxValue); 
         return result; 
     }
@@ -8,6 +8,7 @@ package com.github.toolarium.enumeration.configuration.validation.value.impl;
 import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import com.github.toolarium.enumeration.configuration.util.DerivedDataCache;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
 import com.github.toolarium.enumeration.configuration.validation.value.IEnumKeyConfigurationValueValidator;
 import java.io.Serializable;
@@ -23,6 +24,7 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
     private EnumKeyValueConfigurationDataType valueDataType;
     private EnumKeyValueConfigurationDataType sizeDataType;
     private Class<D> valueClass;
+    private transient volatile DerivedDataCache<EnumKeyValueConfigurationSizing<?>, MinMaxValue<?>> validationBoundsCache;
 
     
     /**
@@ -118,18 +120,26 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
 
     
     /**
-     * Prepare min / max value
+     * Prepare min / max value. The min / max value is resolved once per value size and kept by this validator until the value size changes,
+     * see {@link EnumKeyValueConfigurationSizing#getModificationCount()}.
      *
      * @param valueSize the value size
      * @param inputValue The input value
      * @return the MinMaxValue.
      * @throws ValidationException In case of min / max inconsistency.
      */
+    @SuppressWarnings("unchecked")
     protected MinMaxValue<T> preapreMinMaxValue(EnumKeyValueConfigurationSizing<T> valueSize, String inputValue) throws ValidationException {
         if (valueSize == null) {
             return null;
         }
 
+        long modificationCount = valueSize.getModificationCount();
+        MinMaxValue<?> validationBounds = getValidationBoundsCache().get(valueSize, modificationCount);
+        if (validationBounds != null) {
+            return (MinMaxValue<T>) validationBounds;
+        }
+
         T min = getMinSize();
         if (valueSize.getMinSize() != null) {
             min = valueSize.getMinSize();
@@ -150,9 +160,154 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
             throw ex;
         }
         
-        return new MinMaxValue<T>(valueSize.getMinSizeAsString(), min, valueSize.getMaxSizeAsString(), max);
+        MinMaxValue<T> result = createMinMaxValue(valueSize.getMinSizeAsString(), min, valueSize.getMaxSizeAsString(), max);
+        getValidationBoundsCache().put(valueSize, modificationCount, result);
+        return result;
     }     
-    
+
+
+    /**
+     * Prepare min / max value with primitive long bounds, see {@link #createLongMinMaxValue(String, Object, String, Object)}.
+     * In case {@link #createMinMaxValue(String, Object, String, Object)} returns a plain {@link MinMaxValue}, the primitive bounds
+     * are created from its values.
+     *
+     * @param valueSize the value size
+     * @param inputValue The input value
+     * @return the LongMinMaxValue.
+     * @throws ValidationException In case of min / max inconsistency.
+     */
+    protected LongMinMaxValue<T> prepareLongMinMaxValue(EnumKeyValueConfigurationSizing<T> valueSize, String inputValue) throws ValidationException {
+        MinMaxValue<T> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        if (minMaxValue == null || minMaxValue instanceof LongMinMaxValue) {
+            return (LongMinMaxValue<T>) minMaxValue;
+        }
+
+        LongMinMaxValue<T> result = createLongMinMaxValue(minMaxValue.getMinOriginal(), minMaxValue.getMin(), minMaxValue.getMaxOriginal(), minMaxValue.getMax());
+        getValidationBoundsCache().put(valueSize, valueSize.getModificationCount(), result);
+        return result;
+    }
+
+
+    /**
+     * Prepare min / max value with primitive double bounds, see {@link #createDoubleMinMaxValue(String, Object, String, Object)}.
+     * In case {@link #createMinMaxValue(String, Object, String, Object)} returns a plain {@link MinMaxValue}, the primitive bounds
+     * are created from its values.
+     *
+     * @param valueSize the value size
+     * @param inputValue The input value
+     * @return the DoubleMinMaxValue.
+     * @throws ValidationException In case of min / max inconsistency.
+     */
+    protected DoubleMinMaxValue<T> prepareDoubleMinMaxValue(EnumKeyValueConfigurationSizing<T> valueSize, String inputValue) throws ValidationException {
+        MinMaxValue<T> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        if (minMaxValue == null || minMaxValue instanceof DoubleMinMaxValue) {
+            return (DoubleMinMaxValue<T>) minMaxValue;
+        }
+
+        DoubleMinMaxValue<T> result = createDoubleMinMaxValue(minMaxValue.getMinOriginal(), minMaxValue.getMin(), minMaxValue.getMaxOriginal(), minMaxValue.getMax());
+        getValidationBoundsCache().put(valueSize, valueSize.getModificationCount(), result);
+        return result;
+    }
+
+
+    /**
+     * Get the already resolved min / max value of a value size
+     *
+     * @param valueSize the value size
+     * @return the min / max value or null if the current value size is not resolved
+     */
+    MinMaxValue<?> getValidationBounds(EnumKeyValueConfigurationSizing<?> valueSize) {
+        if (valueSize == null) {
+            return null;
+        }
+
+        return getValidationBoundsCache().get(valueSize, valueSize.getModificationCount());
+    }
+
+
+    /**
+     * Get the cache of the resolved min / max values, it is created lazy since it is not serialized.
+     *
+     * @return the cache
+     */
+    private DerivedDataCache<EnumKeyValueConfigurationSizing<?>, MinMaxValue<?>> getValidationBoundsCache() {
+        DerivedDataCache<EnumKeyValueConfigurationSizing<?>, MinMaxValue<?>> cache = validationBoundsCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = validationBoundsCache;
+                if (cache == null) {
+                    cache = new DerivedDataCache<EnumKeyValueConfigurationSizing<?>, MinMaxValue<?>>();
+                    validationBoundsCache = cache;
+                }
+            }
+        }
+
+        return cache;
+    }
+
+
+    /**
+     * Create the min / max value, a validator which checks a range overwrites it to return a {@link LongMinMaxValue} or {@link DoubleMinMaxValue}.
+     *
+     * @param minOriginal the min original
+     * @param min the min
+     * @param maxOriginal the max original
+     * @param max the max
+     * @return the MinMaxValue.
+     */
+    protected MinMaxValue<T> createMinMaxValue(String minOriginal, T min, String maxOriginal, T max) {
+        return new MinMaxValue<T>(minOriginal, min, maxOriginal, max);
+    }
+
+
+    /**
+     * Create the min / max value with primitive long bounds, by default of a number size. A validator with other values 
+     * overwrites it to map the values to a long, e.g. an epoch day.
+     *
+     * @param minOriginal the min original
+     * @param min the min
+     * @param maxOriginal the max original
+     * @param max the max
+     * @return the LongMinMaxValue.
+     * @throws UnsupportedOperationException In case the values are not numbers
+     */
+    protected LongMinMaxValue<T> createLongMinMaxValue(String minOriginal, T min, String maxOriginal, T max) {
+        if ((min != null && !(min instanceof Number)) || (max != null && !(max instanceof Number))) {
+            throw new UnsupportedOperationException("No primitive long bounds for values of type [" + valueClass.getName() + "]!");
+        }
+
+        return createNumberMinMaxValue(minOriginal, (Number) min, maxOriginal, (Number) max);
+    }
+
+
+    /**
+     * Create the min / max value with primitive double bounds of a number size.
+     *
+     * @param minOriginal the min original
+     * @param min the min
+     * @param maxOriginal the max original
+     * @param max the max
+     * @return the DoubleMinMaxValue.
+     * @throws UnsupportedOperationException In case the values are not numbers
+     */
+    protected DoubleMinMaxValue<T> createDoubleMinMaxValue(String minOriginal, T min, String maxOriginal, T max) {
+        if ((min != null && !(min instanceof Number)) || (max != null && !(max instanceof Number))) {
+            throw new UnsupportedOperationException("No primitive double bounds for values of type [" + valueClass.getName() + "]!");
+        }
+
+        double minValue = Double.NEGATIVE_INFINITY;
+        if (min != null) {
+            minValue = ((Number) min).doubleValue();
+        }
+
+        double maxValue = Double.POSITIVE_INFINITY;
+        if (max != null) {
+            maxValue = ((Number) max).doubleValue();
+        }
+
+        return new DoubleMinMaxValue<T>(minOriginal, min, minValue, maxOriginal, max, maxValue);
+    }
+
     
     /**
      * Get the min size.
@@ -204,6 +359,31 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
     }
 
 
+    /**
+     * Create the min / max value with primitive long bounds of a number size
+     *
+     * @param minOriginal the min original
+     * @param min the min
+     * @param maxOriginal the max original
+     * @param max the max
+     * @return the LongMinMaxValue.
+     */
+    @SuppressWarnings("unchecked")
+    protected LongMinMaxValue<T> createNumberMinMaxValue(String minOriginal, Number min, String maxOriginal, Number max) {
+        long minValue = Long.MIN_VALUE;
+        if (min != null) {
+            minValue = min.longValue();
+        }
+
+        long maxValue = Long.MAX_VALUE;
+        if (max != null) {
+            maxValue = max.longValue();
+        }
+
+        return new LongMinMaxValue<T>(minOriginal, (T) min, minValue, maxOriginal, (T) max, maxValue);
+    }
+
+
     /**
      * @see java.lang.Object#hashCode()
      */
@@ -287,10 +467,11 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
     @SuppressWarnings("hiding")
     class MinMaxValue<T> implements Serializable {
         private static final long serialVersionUID = -3107817743258894907L;
-        private String minOriginal;
-        private T min;
-        private String maxOriginal;
-        private T max;
+        private final String minOriginal;
+        private final T min;
+        private final String maxOriginal;
+        private final T max;
+        private final boolean isMinSizeDefault;
         
         
         /**
@@ -305,6 +486,7 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
             this.min = min;
             this.maxOriginal = maxOriginal;
             this.max = max;
+            this.isMinSizeDefault = min == null || min.equals(getMinSize());
         }
 
         
@@ -328,6 +510,16 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
         }
 
         
+        /**
+         * Check if the min value is not defined or the default min value, in this case an empty value is valid
+         *
+         * @return true if the min value is the default
+         */
+        public boolean isMinSizeDefault() {
+            return isMinSizeDefault;
+        }
+
+        
         /**
          * Get the max string value
          *
@@ -459,4 +651,148 @@ public abstract class AbstractEnumKeyValueConfigurationValueValidator<D, T> impl
             return AbstractEnumKeyValueConfigurationValueValidator.this;
         }
     }
+
+
+    /**
+     * The min max value with primitive long bounds, e.g. a size, an epoch day or epoch milliseconds
+     *  
+     * @author patrick
+     */
+    @SuppressWarnings("hiding")
+    class LongMinMaxValue<T> extends MinMaxValue<T> {
+        private static final long serialVersionUID = 4325839364407624474L;
+        private final long minValue;
+        private final long maxValue;
+
+
+        /**
+         * Constructor for LongMinMaxValue
+         * 
+         * @param minOriginal the min original
+         * @param min the min 
+         * @param minValue the min value
+         * @param maxOriginal the max original
+         * @param max the max
+         * @param maxValue the max value
+         */
+        LongMinMaxValue(String minOriginal, T min, long minValue, String maxOriginal, T max, long maxValue) {
+            super(minOriginal, min, maxOriginal, max);
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+        }
+
+
+        /**
+         * Get the min value
+         *
+         * @return the min value
+         */
+        public long getMinValue() {
+            return minValue;
+        }
+
+
+        /**
+         * Get the max value
+         *
+         * @return the max value
+         */
+        public long getMaxValue() {
+            return maxValue;
+        }
+
+
+        /**
+         * Check if a value is smaller than the min value
+         *
+         * @param value the value
+         * @return true if it is too small
+         */
+        public boolean isTooSmall(long value) {
+            return value < minValue;
+        }
+
+
+        /**
+         * Check if a value is bigger than the max value
+         *
+         * @param value the value
+         * @return true if it is too big
+         */
+        public boolean isTooBig(long value) {
+            return value > maxValue;
+        }
+    }
+
+
+    /**
+     * The min max value with primitive double bounds
+     *  
+     * @author patrick
+     */
+    @SuppressWarnings("hiding")
+    class DoubleMinMaxValue<T> extends MinMaxValue<T> {
+        private static final long serialVersionUID = -2297400387049616012L;
+        private final double minValue;
+        private final double maxValue;
+
+
+        /**
+         * Constructor for DoubleMinMaxValue
+         * 
+         * @param minOriginal the min original
+         * @param min the min 
+         * @param minValue the min value
+         * @param maxOriginal the max original
+         * @param max the max
+         * @param maxValue the max value
+         */
+        DoubleMinMaxValue(String minOriginal, T min, double minValue, String maxOriginal, T max, double maxValue) {
+            super(minOriginal, min, maxOriginal, max);
+            this.minValue = minValue;
+            this.maxValue = maxValue;
+        }
+
+
+        /**
+         * Get the min value
+         *
+         * @return the min value
+         */
+        public double getMinValue() {
+            return minValue;
+        }
+
+
+        /**
+         * Get the max value
+         *
+         * @return the max value
+         */
+        public double getMaxValue() {
+            return maxValue;
+        }
+
+
+        /**
+         * Check if a value is smaller than the min value, the order is the one of {@link Double#compare(double, double)}
+         *
+         * @param value the value
+         * @return true if it is too small
+         */
+        public boolean isTooSmall(double value) {
+            return Double.compare(value, minValue) < 0;
+        }
+
+
+        /**
+         * Check if a value is bigger than the max value, the order is the one of {@link Double#compare(double, double)}
+         *
+         * @param value the value
+         * @return true if it is too big
+         */
+        public boolean isTooBig(double value) {
+            return Double.compare(value, maxValue) > 0;
+        }
+    }
 }
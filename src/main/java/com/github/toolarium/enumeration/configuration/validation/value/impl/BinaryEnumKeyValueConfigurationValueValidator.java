@@ -8,10 +8,10 @@ package com.github.toolarium.enumeration.configuration.validation.value.impl;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
 import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.util.Base64Util;
 import com.github.toolarium.enumeration.configuration.validation.EmptyValueException;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
 import com.github.toolarium.enumeration.configuration.validation.value.IEnumKeyConfigurationValueValidator;
-import java.util.Base64;
 
 
 /**
@@ -38,13 +38,13 @@ public class BinaryEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     public IEnumKeyValueConfigurationBinaryObject validateValue(EnumKeyValueConfigurationSizing<Number> valueSize, String inputValue) throws EmptyValueException, ValidationException {
         
         IEnumKeyValueConfigurationBinaryObject inputBinaryObject = parseValue(inputValue);
-        MinMaxValue<Number> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        LongMinMaxValue<Number> minMaxValue = prepareLongMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputBinaryObject;
         }
 
         if (inputBinaryObject == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputBinaryObject;
             }
             
@@ -64,36 +64,18 @@ public class BinaryEnumKeyValueConfigurationValueValidator extends AbstractEnumK
         }
 
 
-        Long length = 0L;
-        try {
-            String base64Data = inputBinaryObject.getData().trim();
-            // Estimate decoded size before allocating memory to prevent memory exhaustion
-            int padding = 0;
-            if (base64Data.endsWith("==")) {
-                padding = 2;
-            } else if (base64Data.endsWith("=")) {
-                padding = 1;
-            }
-            long estimatedSize = (base64Data.length() * 3L) / 4 - padding;
-            if (minMaxValue.getMax() != null && estimatedSize > minMaxValue.getMax().longValue()) {
-                throw new ValidationException("Too big: estimated decoded size (" + estimatedSize
-                    + ") exceeds maximum [" + valueSize.getMaxSizeAsString() + "]!", inputValue, inputBinaryObject);
-            }
-
-            final byte[] decodedBytes = Base64.getDecoder().decode(base64Data);
-            if (decodedBytes != null) {
-                length = Long.valueOf(decodedBytes.length);
-            }
-        } catch (IllegalArgumentException ex) {
-            throw new ValidationException("Could not decode file content: " + ex.getMessage() + "\n -> [" + inputValue + "]!", inputValue, null);
+        // the decoded length is computed by scanning the content once, the payload is not decoded
+        long decodedLength = Base64Util.getInstance().getDecodedLength(inputBinaryObject.getData());
+        if (decodedLength < 0) {
+            throw new ValidationException("Could not decode file content: invalid Base64 content\n -> [" + inputValue + "]!", inputValue, null);
         }
         
-        if (isGreaterThan(minMaxValue.getMin(), length)) {
+        if (minMaxValue.isTooSmall(decodedLength)) {
             throw new ValidationException("Too small: invalid size of file, should be at least [" + valueSize.getMinSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputBinaryObject);
         }
         
-        if (isGreaterThan(length, minMaxValue.getMax())) {
-            throw new ValidationException("Too big: invalid size of file, should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ", encoded size: " + length + ")!", 
+        if (minMaxValue.isTooBig(decodedLength)) {
+            throw new ValidationException("Too big: invalid size of file, should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ", encoded size: " + decodedLength + ")!", 
                                           inputValue, inputBinaryObject);
         }
 
@@ -135,4 +117,13 @@ public class BinaryEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     protected boolean isGreaterThan(Number first, Number second) {
         return isGreaterThanValue(first, second);
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<Number> createMinMaxValue(String minOriginal, Number min, String maxOriginal, Number max) {
+        return createLongMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
 }
@@ -38,24 +38,25 @@ public class DateEnumKeyValueConfigurationValueValidator extends AbstractEnumKey
     public LocalDate validateValue(EnumKeyValueConfigurationSizing<LocalDate> valueSize, String inputValue) throws EmptyValueException, ValidationException {
 
         LocalDate inputDate = parseValue(inputValue);
-        MinMaxValue<LocalDate> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        LongMinMaxValue<LocalDate> minMaxValue = prepareLongMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputDate;
         }
         
         if (inputDate == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputDate;
             }
             
             throw new EmptyValueException("Empty value: invalid date, should be at least [" + valueSize.getMinSizeAsString() + "]!");
         }
         
-        if (inputDate.compareTo(minMaxValue.getMin()) < 0) {
+        long epochDay = inputDate.toEpochDay();
+        if (minMaxValue.isTooSmall(epochDay)) {
             throw new ValidationException("Too small: invalid date of [" + inputValue + "], should be at least [" + valueSize.getMinSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputDate);
         }
     
-        if (inputDate.compareTo(minMaxValue.getMax()) > 0) {
+        if (minMaxValue.isTooBig(epochDay)) {
             throw new ValidationException("Too big: invalid date of [" + inputValue + "], should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputDate);
         }
         
@@ -107,4 +108,32 @@ public class DateEnumKeyValueConfigurationValueValidator extends AbstractEnumKey
         
         return first.isAfter(second);
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<LocalDate> createMinMaxValue(String minOriginal, LocalDate min, String maxOriginal, LocalDate max) {
+        return createLongMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createLongMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected LongMinMaxValue<LocalDate> createLongMinMaxValue(String minOriginal, LocalDate min, String maxOriginal, LocalDate max) {
+        long minValue = Long.MIN_VALUE;
+        if (min != null) {
+            minValue = min.toEpochDay();
+        }
+
+        long maxValue = Long.MAX_VALUE;
+        if (max != null) {
+            maxValue = max.toEpochDay();
+        }
+
+        return new LongMinMaxValue<LocalDate>(minOriginal, min, minValue, maxOriginal, max, maxValue);
+    }
 }
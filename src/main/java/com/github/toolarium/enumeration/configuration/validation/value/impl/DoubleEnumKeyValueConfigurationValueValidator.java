@@ -36,24 +36,25 @@ public class DoubleEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     public Double validateValue(EnumKeyValueConfigurationSizing<Double> valueSize, String inputValue) throws EmptyValueException, ValidationException {
         
         Double inputDouble = parseValue(inputValue);
-        MinMaxValue<Double> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        DoubleMinMaxValue<Double> minMaxValue = prepareDoubleMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputDouble;
         }
         
         if (inputDouble == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputDouble;
             }
             
             throw new EmptyValueException("Empty value: invalid size, should be at least [" + valueSize.getMinSizeAsString() + "]!");
         }
 
-        if (inputDouble.compareTo(minMaxValue.getMin()) < 0) {
+        double value = inputDouble.doubleValue();
+        if (minMaxValue.isTooSmall(value)) {
             throw new ValidationException("Too small: invalid size of [" + inputValue + "], should be at least [" + valueSize.getMinSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputDouble);
         }
     
-        if (inputDouble.compareTo(minMaxValue.getMax()) > 0) {
+        if (minMaxValue.isTooBig(value)) {
             throw new ValidationException("Too big: invalid size of [" + inputValue + "], should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputDouble);
         }
         
@@ -105,4 +106,13 @@ public class DoubleEnumKeyValueConfigurationValueValidator extends AbstractEnumK
         
         return first.compareTo(second) > 0;
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<Double> createMinMaxValue(String minOriginal, Double min, String maxOriginal, Double max) {
+        return createDoubleMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
 }
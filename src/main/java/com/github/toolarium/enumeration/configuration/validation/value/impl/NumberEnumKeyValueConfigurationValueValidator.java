@@ -36,24 +36,25 @@ public class NumberEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     public Long validateValue(EnumKeyValueConfigurationSizing<Number> valueSize, String inputValue) throws EmptyValueException, ValidationException {
     
         Long inputNumber = parseValue(inputValue);
-        MinMaxValue<Number> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        LongMinMaxValue<Number> minMaxValue = prepareLongMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputNumber;
         }
 
         if (inputNumber == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputNumber;
             }
             
             throw new EmptyValueException("Empty value: invalid size, should be at least [" + valueSize.getMinSizeAsString() + "]!");
         }
 
-        if (inputNumber.compareTo(minMaxValue.getMin().longValue()) < 0) {
+        long number = inputNumber.longValue();
+        if (minMaxValue.isTooSmall(number)) {
             throw new ValidationException("Too small: invalid size of [" + inputValue + "], should be at least [" + valueSize.getMinSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputNumber);
         }
     
-        if (inputNumber.compareTo(minMaxValue.getMax().longValue()) > 0) {
+        if (minMaxValue.isTooBig(number)) {
             throw new ValidationException("Too big: invalid size of [" + inputValue + "], should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputNumber);
         }
         
@@ -95,4 +96,13 @@ public class NumberEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     protected boolean isGreaterThan(Number first, Number second) {
         return isGreaterThanValue(first, second);
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<Number> createMinMaxValue(String minOriginal, Number min, String maxOriginal, Number max) {
+        return createLongMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
 }
@@ -47,13 +47,13 @@ public class StringEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     public String validateValue(EnumKeyValueConfigurationSizing<Number> valueSize, String inputValue) throws EmptyValueException, ValidationException {
         
         String inputString = parseValue(inputValue);        
-        MinMaxValue<Number> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        LongMinMaxValue<Number> minMaxValue = prepareLongMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputString;
         }
 
         if (inputString == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputString;
             }
             
@@ -61,11 +61,11 @@ public class StringEnumKeyValueConfigurationValueValidator extends AbstractEnumK
         }
 
         long inputLength = inputString.length();
-        if (inputLength < minMaxValue.getMin().longValue()) {
+        if (minMaxValue.isTooSmall(inputLength)) {
             throw new ValidationException("Too short: invalid length of [" + inputValue + "], should be at least [" + minMaxValue.getMin() + "] (now " + inputLength + ")!", inputValue, inputString);
         }
 
-        if (inputLength > minMaxValue.getMax().longValue()) {
+        if (minMaxValue.isTooBig(inputLength)) {
             throw new ValidationException("Too long: invalid length of [" + inputValue + "], should be in range of [" + minMaxValue.getMin() + ".." + minMaxValue.getMax() + "] (now " + inputLength + ")!", inputValue, inputString);
         }
         
@@ -107,4 +107,13 @@ public class StringEnumKeyValueConfigurationValueValidator extends AbstractEnumK
     protected boolean isGreaterThan(Number first, Number second) {
         return isGreaterThanValue(first, second);
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<Number> createMinMaxValue(String minOriginal, Number min, String maxOriginal, Number max) {
+        return createLongMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
 }
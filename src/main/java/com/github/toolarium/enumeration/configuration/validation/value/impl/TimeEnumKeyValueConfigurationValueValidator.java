@@ -37,24 +37,25 @@ public class TimeEnumKeyValueConfigurationValueValidator extends AbstractEnumKey
     public LocalTime validateValue(EnumKeyValueConfigurationSizing<LocalTime> valueSize, String inputValue) throws EmptyValueException, ValidationException {
 
         LocalTime inputTime = parseValue(inputValue);
-        MinMaxValue<LocalTime> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        LongMinMaxValue<LocalTime> minMaxValue = prepareLongMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputTime;
         }
         
         if (inputTime == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputTime;
             }
             
             throw new EmptyValueException("Empty value: invalid time, should be at least [" + valueSize.getMinSizeAsString() + "]!");
         }
         
-        if (inputTime.compareTo(minMaxValue.getMin()) < 0) {
+        long nanoOfDay = inputTime.toNanoOfDay();
+        if (minMaxValue.isTooSmall(nanoOfDay)) {
             throw new ValidationException("Too small: invalid date of [" + inputValue + "], should be at least [" + valueSize.getMinSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputTime);
         }
     
-        if (inputTime.compareTo(minMaxValue.getMax()) > 0) {
+        if (minMaxValue.isTooBig(nanoOfDay)) {
             throw new ValidationException("Too big: invalid date of [" + inputValue + "], should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputTime);
         }
         
@@ -106,4 +107,32 @@ public class TimeEnumKeyValueConfigurationValueValidator extends AbstractEnumKey
         
         return first.isAfter(second);
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<LocalTime> createMinMaxValue(String minOriginal, LocalTime min, String maxOriginal, LocalTime max) {
+        return createLongMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createLongMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected LongMinMaxValue<LocalTime> createLongMinMaxValue(String minOriginal, LocalTime min, String maxOriginal, LocalTime max) {
+        long minValue = Long.MIN_VALUE;
+        if (min != null) {
+            minValue = min.toNanoOfDay();
+        }
+
+        long maxValue = Long.MAX_VALUE;
+        if (max != null) {
+            maxValue = max.toNanoOfDay();
+        }
+
+        return new LongMinMaxValue<LocalTime>(minOriginal, min, minValue, maxOriginal, max, maxValue);
+    }
 }
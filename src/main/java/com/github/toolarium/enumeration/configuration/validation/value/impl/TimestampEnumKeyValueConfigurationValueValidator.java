@@ -39,13 +39,13 @@ public class TimestampEnumKeyValueConfigurationValueValidator extends AbstractEn
     public Instant validateValue(EnumKeyValueConfigurationSizing<Instant> valueSize, String inputValue) throws EmptyValueException, ValidationException {
 
         Instant inputTimestamp = parseValue(inputValue);
-        MinMaxValue<Instant> minMaxValue = preapreMinMaxValue(valueSize, inputValue);
+        LongMinMaxValue<Instant> minMaxValue = prepareLongMinMaxValue(valueSize, inputValue);
         if (minMaxValue == null) {
             return inputTimestamp;
         }
         
         if (inputTimestamp == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputTimestamp;
             }
             
@@ -53,11 +53,12 @@ public class TimestampEnumKeyValueConfigurationValueValidator extends AbstractEn
         }
 
         inputTimestamp = inputTimestamp.truncatedTo(ChronoUnit.MILLIS);
-        if (inputTimestamp.compareTo(minMaxValue.getMin()) < 0) {
+        long epochMilli = toEpochMilli(inputTimestamp, false);
+        if (minMaxValue.isTooSmall(epochMilli)) {
             throw new ValidationException("Too small: invalid timestamp of [" + inputValue + "], should be at least [" + valueSize.getMinSizeAsString() + "] (now " + inputValue + ")!", inputValue, inputTimestamp);
         }
     
-        if (inputTimestamp.compareTo(minMaxValue.getMax()) > 0) {
+        if (minMaxValue.isTooBig(epochMilli)) {
             throw new ValidationException("Too big: invalid timestamp of [" + inputValue + "], should be in range of [" + valueSize.getMinSizeAsString() + ".." + valueSize.getMaxSizeAsString() + "] (now " + inputValue + ")!", 
                                           inputValue, inputTimestamp);
         }
@@ -110,4 +111,56 @@ public class TimestampEnumKeyValueConfigurationValueValidator extends AbstractEn
         
         return first.isAfter(second);
     }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected MinMaxValue<Instant> createMinMaxValue(String minOriginal, Instant min, String maxOriginal, Instant max) {
+        return createLongMinMaxValue(minOriginal, min, maxOriginal, max);
+    }
+
+
+    /**
+     * @see com.github.toolarium.enumeration.configuration.validation.value.impl.AbstractEnumKeyValueConfigurationValueValidator#createLongMinMaxValue(java.lang.String, java.lang.Object, java.lang.String, java.lang.Object)
+     */
+    @Override
+    protected LongMinMaxValue<Instant> createLongMinMaxValue(String minOriginal, Instant min, String maxOriginal, Instant max) {
+        long minValue = Long.MIN_VALUE;
+        if (min != null) {
+            // the value is truncated to milliseconds, therefore a min with a fraction of a millisecond is rounded up
+            minValue = toEpochMilli(min, true);
+        }
+
+        long maxValue = Long.MAX_VALUE;
+        if (max != null) {
+            maxValue = toEpochMilli(max, false);
+        }
+
+        return new LongMinMaxValue<Instant>(minOriginal, min, minValue, maxOriginal, max, maxValue);
+    }
+
+
+    /**
+     * Get the epoch milliseconds of a timestamp, saturated to the range of a long
+     *
+     * @param timestamp the timestamp
+     * @param roundUp true to round up a fraction of a millisecond, otherwise it is rounded down
+     * @return the epoch milliseconds
+     */
+    private static long toEpochMilli(Instant timestamp, boolean roundUp) {
+        long epochMilli;
+        try {
+            epochMilli = timestamp.toEpochMilli();
+        } catch (ArithmeticException e) {
+            return timestamp.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+
+        if (roundUp && timestamp.getNano() % 1_000_000 != 0 && epochMilli < Long.MAX_VALUE) {
+            epochMilli++;
+        }
+
+        return epochMilli;
+    }
 }
@@ -42,7 +42,7 @@ public class URIEnumKeyValueConfigurationValueValidator extends AbstractEnumKeyV
         }
         
         if (inputURI == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputURI;
             }
             
@@ -43,7 +43,7 @@ public class UUIDEnumKeyValueConfigurationValueValidator extends AbstractEnumKey
         }
 
         if (inputUUID == null) {
-            if (minMaxValue.getMin() == null || minMaxValue.getMin().equals(getMinSize())) {
+            if (minMaxValue.isMinSizeDefault()) {
                 return inputUUID;
             }
             
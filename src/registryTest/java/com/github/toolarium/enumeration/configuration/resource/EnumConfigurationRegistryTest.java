@@ -0,0 +1,85 @@
+/*
+ * EnumConfigurationRegistryTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.toolarium.enumeration.configuration.annotation.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.util.EnumUtil;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link IEnumConfigurationRegistry} which is generated by the annotation processor.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationRegistryTest {
+
+    /**
+     * Test the registry which is generated by the annotation processor when the registry tests are compiled
+     */
+    @Test
+    public void testGeneratedRegistry() {
+        IEnumConfigurationRegistry registry = EnumConfigurationRegistryFactory.getInstance().getRegistry(MyRegistryConfiguration.class);
+        assertNotNull(registry);
+        assertEquals(EnumConfigurationRegistryFactory.getInstance().getRegistryClassName(MyRegistryConfiguration.class.getName()), registry.getClass().getName());
+        assertSame(registry, EnumConfigurationRegistryFactory.getInstance().getRegistry(MyRegistryConfiguration.class));
+        assertEquals(MyRegistryConfiguration.class.getName(), registry.getEnumConfiguration().getName());
+
+        com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration hostname = registry.getEnumKeyValueConfiguration(MyRegistryConfiguration.HOSTNAME.ordinal());
+        assertEquals("HOSTNAME", hostname.getKey());
+        assertEquals("The hostname.", hostname.getDescription());
+        assertEquals("hostname", hostname.getDefaultValue());
+        assertEquals(hostname, EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(MyRegistryConfiguration.HOSTNAME));
+        assertNull(registry.getEnumKeyValueConfiguration(MyRegistryConfiguration.DD.ordinal()));
+        assertNull(EnumUtil.getInstance().getEnumKeyConfigurationAnnotationInformation(MyRegistryConfiguration.HOSTNAME));
+        assertEquals("DD", EnumUtil.getInstance().getEnumKeyConfigurationAnnotationInformation(MyRegistryConfiguration.DD).getKey());
+        assertNull(registry.getEnumKeyConfiguration(-1));
+        assertNull(registry.getEnumKeyConfiguration(MyRegistryConfiguration.values().length));
+
+        // the registry returns copies, a modification doesn't change the registry
+        assertNotSame(hostname, registry.getEnumKeyValueConfiguration(MyRegistryConfiguration.HOSTNAME.ordinal()));
+        hostname.setDescription("The changed hostname");
+        hostname.getValueSize().setMaxSizeAsString("20");
+        EnumKeyConfiguration dd = registry.getEnumKeyConfiguration(MyRegistryConfiguration.DD.ordinal());
+        dd.setDescription("The changed configuration");
+        registry.getEnumConfiguration().setDescription("The changed configuration");
+        assertEquals("The hostname.", registry.getEnumKeyValueConfiguration(MyRegistryConfiguration.HOSTNAME.ordinal()).getDescription());
+        assertEquals("10", registry.getEnumKeyValueConfiguration(MyRegistryConfiguration.HOSTNAME.ordinal()).getValueSize().getMaxSizeAsString());
+        assertEquals("The system configuration.", registry.getEnumKeyConfiguration(MyRegistryConfiguration.DD.ordinal()).getDescription());
+        assertEquals("The system configuration.", registry.getEnumConfiguration().getDescription());
+        assertEquals("The hostname.", EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(MyRegistryConfiguration.HOSTNAME).getDescription());
+    }
+
+
+    /**
+     * Test the registry of a nested enum
+     */
+    @Test
+    public void testGeneratedNestedRegistry() {
+        IEnumConfigurationRegistry registry = EnumConfigurationRegistryFactory.getInstance().getRegistry(NestedConfiguration.class);
+        assertNotNull(registry);
+        assertEquals(getClass().getPackageName() + ".EnumConfigurationRegistryTest_0NestedConfigurationEnumConfigurationRegistry", registry.getClass().getName());
+        assertEquals("The nested value.", registry.getEnumKeyValueConfiguration(NestedConfiguration.VALUE.ordinal()).getDescription());
+    }
+
+
+    /**
+     * Defines a nested enum with generated registry
+     */
+    @EnumConfiguration(description = "The nested configuration.")
+    enum NestedConfiguration {
+        @EnumKeyValueConfiguration(description = "The nested value.", exampleValue = "value")
+        VALUE;
+    }
+}
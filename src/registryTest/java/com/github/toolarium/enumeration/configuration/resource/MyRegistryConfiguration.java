@@ -0,0 +1,29 @@
+/*
+ * MyRegistryConfiguration.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import com.github.toolarium.enumeration.configuration.annotation.EnumConfiguration;
+import com.github.toolarium.enumeration.configuration.annotation.EnumKeyConfiguration;
+import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration.DataType;
+
+
+/**
+ * Sample configuration which is compiled with the annotation processor, therefore it has a generated registry.
+ *  
+ * @author patrick
+ */
+@EnumConfiguration(description = "The system configuration.")
+public enum MyRegistryConfiguration {
+    @EnumKeyValueConfiguration(description = "The hostname.", dataType = DataType.STRING, defaultValue = "hostname", exampleValue = "myhost.com", minValue = "0", maxValue = "10")
+    HOSTNAME,
+
+    @EnumKeyValueConfiguration(description = "The port.", exampleValue = "8080")
+    PORT,
+
+    @EnumKeyConfiguration(description = "The system configuration.")
+    DD;
+}
@@ -0,0 +1,91 @@
+/*
+ * EnumConfigurationKeyResolverRegistryTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationRegistryFactory;
+import com.github.toolarium.enumeration.configuration.resource.MyRegistryConfiguration;
+import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
+import com.github.toolarium.enumeration.configuration.store.impl.EnumConfigurationKeyResolver;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link EnumConfigurationKeyResolver} with the generated registry of an enum.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationKeyResolverRegistryTest extends AbstractEnumConfigurationStoreTest {
+
+    /**
+     * Test the generated registry is used first and the JSON resource is the fallback
+     *
+     * @throws IOException In case of an I/O error 
+     * @throws ValidationException In case of a validation error
+     */
+    @Test
+    public void testRegistryEnumKeyValueConfiguration() throws ValidationException, IOException {
+        String hostnameConfigurationKeyName = "com.github.toolarium.enumeration.configuration.resource.myregistryconfiguration#hostname";
+        String ddConfigurationKeyName = "com.github.toolarium.enumeration.configuration.resource.myregistryconfiguration#dd";
+
+        // the enum is not resolved before and there is no resource resolver
+        EnumConfigurationKeyResolver resolver = new EnumConfigurationKeyResolver();
+        com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration result = resolver.getEnumKeyValueConfiguration(hostnameConfigurationKeyName);
+        assertEquals("HOSTNAME", result.getKey());
+        assertEquals("The hostname.", result.getDescription());
+        
+        // the resolver keeps one copy of the registry per constant
+        assertSame(result, resolver.getEnumKeyValueConfiguration(hostnameConfigurationKeyName));
+        assertNotSame(result, EnumConfigurationRegistryFactory.getInstance().getRegistry(MyRegistryConfiguration.class).getEnumKeyValueConfiguration(MyRegistryConfiguration.HOSTNAME.ordinal()));
+        assertNotSame(result, new EnumConfigurationKeyResolver().getEnumKeyValueConfiguration(hostnameConfigurationKeyName));
+        result.setDescription("The changed hostname");
+        assertEquals("The hostname.", new EnumConfigurationKeyResolver().getEnumKeyValueConfiguration(hostnameConfigurationKeyName).getDescription());
+        resolver.clearCache();
+        assertEquals("The hostname.", resolver.getEnumKeyValueConfiguration(hostnameConfigurationKeyName).getDescription());
+
+        // the registry has no key / value configuration of DD, therefore the resource is used
+        assertThrows(EnumConfigurationStoreException.class, () -> new EnumConfigurationKeyResolver().getEnumKeyValueConfiguration(ddConfigurationKeyName));
+        com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration enumKeyValueConfiguration = createEnumKeyValueConfiguration("DD", EnumKeyValueConfigurationDataType.NUMBER, "0", "10", "0", "0"); 
+        resolver = new EnumConfigurationKeyResolver(createEnumConfigurationMock(MyRegistryConfiguration.class.getName().toLowerCase(), enumKeyValueConfiguration));
+        for (int i = 0; i < 2; i++) {
+            result = resolver.getEnumKeyValueConfiguration(ddConfigurationKeyName);
+            assertEquals("DD", result.getKey());
+            assertEquals(EnumKeyValueConfigurationDataType.NUMBER, result.getDataType());
+            assertEquals("The hostname.", resolver.getEnumKeyValueConfiguration(hostnameConfigurationKeyName).getDescription());
+        }
+    }
+
+
+    /**
+     * Test an explicit configured resource resolver takes precedence over the generated registry
+     *
+     * @throws ValidationException In case of a validation error 
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testResourceBeforeRegistry() throws ValidationException, IOException {
+        String hostnameConfigurationKeyName = "com.github.toolarium.enumeration.configuration.resource.myregistryconfiguration#hostname";
+        com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration enumKeyValueConfiguration = createEnumKeyValueConfiguration("HOSTNAME", EnumKeyValueConfigurationDataType.STRING, "1", "20", "myhost", "host"); 
+        EnumConfigurationKeyResolver resolver = new EnumConfigurationKeyResolver(createEnumConfigurationMock(MyRegistryConfiguration.class.getName().toLowerCase(), enumKeyValueConfiguration));
+        com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration result = resolver.getEnumKeyValueConfiguration(hostnameConfigurationKeyName);
+        assertEquals("HOSTNAME", result.getKey());
+        assertEquals("The description.", result.getDescription());
+        assertEquals("myhost", result.getDefaultValue());
+        assertSame(result, resolver.getEnumKeyValueConfiguration(hostnameConfigurationKeyName));
+        
+        // the key is not part of the resource, therefore the registry is used
+        result = resolver.getEnumKeyValueConfiguration("com.github.toolarium.enumeration.configuration.resource.myregistryconfiguration#port");
+        assertEquals("PORT", result.getKey());
+        assertSame(result, resolver.getEnumKeyValueConfiguration("com.github.toolarium.enumeration.configuration.resource.myregistryconfiguration#port"));
+    }
+}
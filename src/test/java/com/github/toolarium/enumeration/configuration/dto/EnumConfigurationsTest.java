@@ -0,0 +1,117 @@
+/*
+ * EnumConfigurationsTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.toolarium.enumeration.configuration.util.JSONUtil;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test {@link EnumConfigurations}.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationsTest {
+    private static final String CONFIGURATION_NAME = "com.github.toolarium.MyConfig";
+    private static final String KEY = "DELAY";
+
+
+    /**
+     * Test the case insensitive lookup.
+     */
+    @Test
+    public void testGetIgnoreCase() {
+        EnumConfigurations enumConfigurations = createEnumConfigurations();
+        EnumConfiguration<? extends EnumKeyConfiguration> enumConfiguration = enumConfigurations.get(CONFIGURATION_NAME);
+        assertSame(enumConfiguration, enumConfigurations.getIgnoreCase(CONFIGURATION_NAME.toLowerCase()));
+        assertSame(enumConfiguration, enumConfigurations.getIgnoreCase(" " + CONFIGURATION_NAME.toUpperCase() + " "));
+        assertNull(enumConfigurations.get(CONFIGURATION_NAME.toLowerCase()));
+        assertNull(enumConfigurations.getIgnoreCase("com.github.toolarium.OtherConfig"));
+        assertNull(enumConfigurations.getIgnoreCase(null));
+
+        EnumKeyConfiguration enumKeyConfiguration = enumConfiguration.get(KEY);
+        assertSame(enumKeyConfiguration, enumConfiguration.getIgnoreCase(KEY.toLowerCase()));
+        assertNull(enumConfiguration.get(KEY.toLowerCase()));
+        assertNull(enumConfiguration.getIgnoreCase("OTHER"));
+    }
+
+
+    /**
+     * Test the case insensitive lookup after deserialization.
+     *
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testGetIgnoreCaseAfterDeserialization() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JSONUtil.getInstance().write(createEnumConfigurations(), outputStream);
+        EnumConfigurations enumConfigurations = JSONUtil.getInstance().read(EnumConfigurations.class, new ByteArrayInputStream(outputStream.toByteArray()));
+
+        EnumConfiguration<? extends EnumKeyConfiguration> enumConfiguration = enumConfigurations.getIgnoreCase(CONFIGURATION_NAME.toLowerCase());
+        assertSame(enumConfigurations.get(CONFIGURATION_NAME), enumConfiguration);
+        assertSame(enumConfiguration.get(KEY), enumConfiguration.getIgnoreCase(KEY.toLowerCase()));
+    }
+
+
+    /**
+     * Test the key list snapshots are shared until an entry is added.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testListSnapshot() {
+        EnumConfigurations enumConfigurations = createEnumConfigurations();
+        Set<EnumConfiguration<? extends EnumKeyConfiguration>> enumConfigurationList = enumConfigurations.getEnumConfigurationList();
+        assertSame(enumConfigurationList, enumConfigurations.getEnumConfigurationList());
+        assertThrows(UnsupportedOperationException.class, () -> enumConfigurationList.clear());
+
+        enumConfigurations.add(new EnumConfiguration<EnumKeyValueConfiguration>("com.github.toolarium.OtherConfig"));
+        assertNotSame(enumConfigurationList, enumConfigurations.getEnumConfigurationList());
+        assertEquals(1, enumConfigurationList.size());
+        assertEquals(2, enumConfigurations.getEnumConfigurationList().size());
+
+        EnumConfiguration<EnumKeyValueConfiguration> enumConfiguration = (EnumConfiguration<EnumKeyValueConfiguration>) enumConfigurations.get(CONFIGURATION_NAME);
+        Set<EnumKeyValueConfiguration> keyList = enumConfiguration.getKeyList();
+        assertSame(keyList, enumConfiguration.getKeyList());
+        assertThrows(UnsupportedOperationException.class, () -> keyList.clear());
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration = new EnumKeyValueConfiguration();
+        enumKeyValueConfiguration.setKey("PORT");
+        enumConfiguration.add(enumKeyValueConfiguration);
+        assertEquals(1, keyList.size());
+        assertEquals(2, enumConfiguration.getKeyList().size());
+    }
+
+
+    /**
+     * Create the enum configurations
+     *
+     * @return the enum configurations
+     */
+    private EnumConfigurations createEnumConfigurations() {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = new EnumKeyValueConfiguration();
+        enumKeyValueConfiguration.setKey(KEY);
+        enumKeyValueConfiguration.setDescription("The delay.");
+        enumKeyValueConfiguration.setDataType(EnumKeyValueConfigurationDataType.NUMBER);
+
+        EnumConfiguration<EnumKeyValueConfiguration> enumConfiguration = new EnumConfiguration<EnumKeyValueConfiguration>(CONFIGURATION_NAME);
+        enumConfiguration.setDescription("My configuration.");
+        enumConfiguration.add(enumKeyValueConfiguration);
+
+        EnumConfigurations enumConfigurations = new EnumConfigurations();
+        enumConfigurations.add(enumConfiguration);
+        return enumConfigurations;
+    }
+}
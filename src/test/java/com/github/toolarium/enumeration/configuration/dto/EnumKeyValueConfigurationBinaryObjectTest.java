@@ -0,0 +1,107 @@
+/*
+ * EnumKeyValueConfigurationBinaryObjectTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.dto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the decoded content of the {@link EnumKeyValueConfigurationBinaryObject}.
+ *
+ * @author patrick
+ */
+public class EnumKeyValueConfigurationBinaryObjectTest {
+    private static final String MESSAGE = "Text";
+    private static final String MESSAGE_ENCODED = Base64.getEncoder().encodeToString(MESSAGE.getBytes(StandardCharsets.UTF_8));
+
+
+    /**
+     * Test the decoded content
+     */
+    @Test
+    public void testContent() {
+        EnumKeyValueConfigurationBinaryObject binaryObject = new EnumKeyValueConfigurationBinaryObject("name", null, "text/plain", MESSAGE_ENCODED);
+        ByteBuffer content = binaryObject.getContent();
+        assertTrue(content.isReadOnly());
+        assertEquals(MESSAGE, StandardCharsets.UTF_8.decode(content).toString());
+        
+        // the cached content is not affected by a consumer which reads the buffer
+        assertEquals(MESSAGE.length(), content.position());
+        assertEquals(0, binaryObject.getContent().position());
+        assertEquals(MESSAGE, StandardCharsets.UTF_8.decode(binaryObject.getContent()).toString());
+
+        // the cache is bound to the data
+        String otherMessage = "Other text";
+        binaryObject.setData(Base64.getEncoder().encodeToString(otherMessage.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(otherMessage, StandardCharsets.UTF_8.decode(binaryObject.getContent()).toString());
+
+        binaryObject.merge(new EnumKeyValueConfigurationBinaryObject(null, null, null, MESSAGE_ENCODED));
+        assertEquals(MESSAGE, StandardCharsets.UTF_8.decode(binaryObject.getContent()).toString());
+    }
+
+
+    /**
+     * Test a large decoded content is cached on the heap
+     */
+    @Test
+    public void testLargeContent() {
+        byte[] data = new byte[1024 * 1024];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        EnumKeyValueConfigurationBinaryObject binaryObject = new EnumKeyValueConfigurationBinaryObject("name", null, "application/octet-stream", Base64.getEncoder().encodeToString(data));
+        ByteBuffer content = binaryObject.getContent();
+        assertFalse(content.isDirect());
+        assertEquals(ByteBuffer.wrap(data), content);
+    }
+
+
+    /**
+     * Test the decoded content as stream
+     *
+     * @throws IOException In case of an error
+     */
+    @Test
+    public void testContentStream() throws IOException {
+        EnumKeyValueConfigurationBinaryObject binaryObject = new EnumKeyValueConfigurationBinaryObject(null, null, null, MESSAGE_ENCODED);
+        try (InputStream inputStream = binaryObject.getContentStream()) {
+            assertEquals(MESSAGE.length(), inputStream.available());
+            assertArrayEquals(MESSAGE.getBytes(StandardCharsets.UTF_8), inputStream.readAllBytes());
+            assertEquals(-1, inputStream.read());
+        }
+
+        try (InputStream inputStream = binaryObject.getContentStream()) {
+            assertEquals('T', inputStream.read());
+            assertEquals(2, inputStream.skip(2));
+            assertEquals('t', inputStream.read());
+        }
+    }
+
+
+    /**
+     * Test empty or invalid data
+     */
+    @Test
+    public void testEmptyOrInvalidContent() {
+        assertNull(new EnumKeyValueConfigurationBinaryObject().getContent());
+        assertNull(new EnumKeyValueConfigurationBinaryObject().getContentStream());
+        assertNull(new EnumKeyValueConfigurationBinaryObject(null, null, null, "  ").getContent());
+        assertThrows(IllegalArgumentException.class, () -> new EnumKeyValueConfigurationBinaryObject(null, null, null, "V").getContent());
+    }
+}
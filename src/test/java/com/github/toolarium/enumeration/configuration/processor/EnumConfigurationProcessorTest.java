@@ -10,9 +10,11 @@ import static com.google.testing.compile.CompilationSubject.assertThat;
 import static com.google.testing.compile.Compiler.javac;
 import static com.google.testing.compile.JavaFileObjects.forSourceString;
 import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
@@ -26,7 +28,11 @@ import com.google.testing.compile.Compiler;
 import com.google.testing.compile.JavaFileObjects;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
 import org.junit.jupiter.api.Test;
 
 
@@ -117,6 +123,121 @@ public class EnumConfigurationProcessorTest {
     }
 
     
+    /**
+     * Test the generated registry
+     */
+    @Test
+    public void generateRegistryTest() {
+        JavaFileObject source = JavaFileObjects.forSourceString("test.MyEnumConfiguration", ""
+               + "package test;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumConfiguration;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration.DataType;\n"
+               + ""
+               + "@EnumConfiguration(description = \"The system configuration.\")\n"
+               + "enum MyEnumConfiguration {\n"
+               + "@EnumKeyValueConfiguration(description = \"The \\\"hostname\\\"\", dataType = DataType.STRING, defaultValue = \"localhost\", minValue = \"1\", maxValue = \"10\", exampleValue = \"myhost\")\n"
+               + "HOSTNAME,\n"
+               + "NOT_ANNOTATED,\n"
+               + "@EnumKeyValueConfiguration(description = \"The ports\", dataType = DataType.NUMBER, cardinality = \"1..*\", exampleValue = \"[\\\"8080\\\"]\")\n"
+               + "PORTS;\n"
+               + "}");
+        
+        Compilation compilation = compilerWithGenerator().compile(source);
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.MyEnumConfigurationEnumConfigurationRegistry").contentsAsUtf8String().contains("enumKeyConfiguration.setDescription(\"The \\\"hostname\\\"\");");
+        assertThat(compilation).generatedSourceFile("test.MyEnumConfigurationEnumConfigurationRegistry").contentsAsUtf8String().contains("ENUM_KEY_CONFIGURATIONS[2] = ENUM_CONFIGURATION.add(createEnumKeyConfiguration2());");
+        assertThat(compilation).generatedSourceFile("test.MyEnumConfigurationEnumConfigurationRegistry").contentsAsUtf8String().doesNotContain("createEnumKeyConfiguration1()");
+        assertThat(compilation).generatedSourceFile("test.MyEnumConfigurationEnumConfigurationRegistry").contentsAsUtf8String()
+            .contains("new EnumKeyValueConfigurationSizing<Integer>(\"1\", Integer.valueOf(1), \"*\", Integer.valueOf(2147483647))");
+        
+        compilation = javac().withProcessors(new EnumConfigurationProcessor()).withOptions("-A" + EnumConfigurationProcessor.GENERATE_REGISTRY_OPTION + "=false").compile(source);
+        assertThat(compilation).succeeded();
+        assertFalse(compilation.generatedSourceFile("test.MyEnumConfigurationEnumConfigurationRegistry").isPresent());
+    }
+
+
+    
+    /**
+     * Test the marker interfaces of the generated registry
+     */
+    @Test
+    public void generateRegistryMarkerInterfaceTest() {
+        EnumConfiguration<EnumKeyConfiguration> enumConfiguration = new EnumConfiguration<EnumKeyConfiguration>("test.MyEnumConfiguration");
+        enumConfiguration.setMarkerInterfaceList(new LinkedHashSet<String>(Arrays.asList("test.IMyMarker", "test.IMyOtherMarker")));
+        String registrySource = new EnumConfigurationRegistryGenerator().generate("test.MyEnumConfigurationEnumConfigurationRegistry", "test.MyEnumConfiguration", enumConfiguration, Collections.emptyList());
+        assertTrue(registrySource.contains("ENUM_CONFIGURATION.setMarkerInterfaceList(new LinkedHashSet<String>());"));
+        assertTrue(registrySource.contains("ENUM_CONFIGURATION.getMarkerInterfaceList().add(\"test.IMyOtherMarker\");"));
+
+        Compilation compilation = javac().compile(JavaFileObjects.forSourceString("test.MyEnumConfigurationEnumConfigurationRegistry", registrySource));
+        assertThat(compilation).succeeded();
+    }
+    
+    /**
+     * Test the generated resource per enum configuration and the index
+     */
+    @Test
+    public void generateResourcesTest() {
+        Compilation compilation = compilerWithGenerator().compile(JavaFileObjects.forSourceString("test.MyEnumConfiguration", ""
+               + "package test;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumConfiguration;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;\n"
+               + ""
+               + "@EnumConfiguration(description = \"The system configuration.\")\n"
+               + "enum MyEnumConfiguration {\n"
+               + "@EnumKeyValueConfiguration(description = \"The hint\", exampleValue = \"hint\")\n"
+               + "HINT;\n"
+               + "}"));
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_PATH + "test.MyEnumConfiguration.json")
+            .contentsAsUtf8String().contains("\"test.MyEnumConfiguration\"");
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE)
+            .contentsAsUtf8String().contains("test.MyEnumConfiguration=" + EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_PATH + "test.MyEnumConfiguration.json");
+        assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE)
+            .contentsAsUtf8String().contains("test.MyEnumConfiguration");
+    }
+
+    
+    /**
+     * Test the aggregated resources contain the enum configurations of all rounds, the second enum configuration is generated in the first round
+     */
+    @Test
+    public void generateResourcesOfAllRoundsTest() {
+        TestSourceGeneratorProcessor sourceGeneratorProcessor = new TestSourceGeneratorProcessor("test.MyGeneratedEnumConfiguration", ""
+               + "package test;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumConfiguration;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;\n"
+               + ""
+               + "@EnumConfiguration(description = \"The generated configuration.\")\n"
+               + "enum MyGeneratedEnumConfiguration {\n"
+               + "@EnumKeyValueConfiguration(description = \"The generated hint.\", exampleValue = \"hint\")\n"
+               + "HINT;\n"
+               + "}");
+        
+        Compilation compilation = javac().withProcessors(sourceGeneratorProcessor, new EnumConfigurationProcessor()).compile(JavaFileObjects.forSourceString("test.MyEnumConfiguration", ""
+               + "package test;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumConfiguration;\n"
+               + "import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;\n"
+               + ""
+               + "@EnumConfiguration(description = \"The system configuration.\")\n"
+               + "enum MyEnumConfiguration {\n"
+               + "@EnumKeyValueConfiguration(description = \"The hint.\", exampleValue = \"hint\")\n"
+               + "HINT;\n"
+               + "}"));
+        assertThat(compilation).succeeded();
+        assertTrue(compilation.generatedSourceFile("test.MyGeneratedEnumConfigurationEnumConfigurationRegistry").isPresent());
+        
+        for (String name : Arrays.asList("test.MyEnumConfiguration", "test.MyGeneratedEnumConfiguration")) {
+            assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_JSON_OUTPUT_FILE)
+                .contentsAsUtf8String().contains("\"" + name + "\"");
+            assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE)
+                .contentsAsUtf8String().contains(name + "=" + EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_PATH + name + ".json");
+            assertThat(compilation).generatedFile(StandardLocation.CLASS_OUTPUT, "", EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE)
+                .contentsAsUtf8String().contains(name);
+        }
+    }
+
+    
     /**
      * Test invalid cardinality
      */
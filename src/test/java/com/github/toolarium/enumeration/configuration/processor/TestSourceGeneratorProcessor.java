@@ -0,0 +1,78 @@
+/*
+ * TestSourceGeneratorProcessor.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+
+
+/**
+ * Annotation processor which generates a source in the first round, like this the generated source is processed in a later round.
+ *
+ * @author patrick
+ */
+public class TestSourceGeneratorProcessor extends AbstractProcessor {
+    private final String sourceName;
+    private final String source;
+    private boolean generated;
+
+
+    /**
+     * Constructor for TestSourceGeneratorProcessor
+     *
+     * @param sourceName the qualified name of the source to generate
+     * @param source the source to generate
+     */
+    public TestSourceGeneratorProcessor(String sourceName, String source) {
+        this.sourceName = sourceName;
+        this.source = source;
+        this.generated = false;
+    }
+
+
+    /**
+     * @see javax.annotation.processing.AbstractProcessor#getSupportedAnnotationTypes()
+     */
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton("*");
+    }
+
+
+    /**
+     * @see javax.annotation.processing.AbstractProcessor#getSupportedSourceVersion()
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+
+    /**
+     * @see javax.annotation.processing.AbstractProcessor#process(java.util.Set, javax.annotation.processing.RoundEnvironment)
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || roundEnv.processingOver()) {
+            return false;
+        }
+
+        generated = true;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(sourceName).openWriter()) {
+            writer.write(source);
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not generate source [" + sourceName + "]: " + e.getMessage(), e);
+        }
+
+        return false;
+    }
+}
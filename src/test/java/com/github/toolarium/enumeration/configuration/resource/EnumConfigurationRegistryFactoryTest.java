@@ -0,0 +1,58 @@
+/*
+ * EnumConfigurationRegistryFactoryTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.DayOfWeek;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link EnumConfigurationRegistryFactory}.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationRegistryFactoryTest {
+
+    /**
+     * Test the registry class name
+     */
+    @Test
+    public void testRegistryClassName() {
+        assertEquals("my.sample.SampleEnumEnumConfigurationRegistry", EnumConfigurationRegistryFactory.getInstance().getRegistryClassName("my.sample.SampleEnum"));
+        assertEquals("my.sample.Outer_0SampleEnumEnumConfigurationRegistry", EnumConfigurationRegistryFactory.getInstance().getRegistryClassName("my.sample.Outer$SampleEnum"));
+        assertEquals("my.sample.Outer__SampleEnumEnumConfigurationRegistry", EnumConfigurationRegistryFactory.getInstance().getRegistryClassName("my.sample.Outer_SampleEnum"));
+        assertEquals("my.sample_x.A__0_0BEnumConfigurationRegistry", EnumConfigurationRegistryFactory.getInstance().getRegistryClassName("my.sample_x.A_0$B"));
+        assertEquals("my.sample_x.A_0__0BEnumConfigurationRegistry", EnumConfigurationRegistryFactory.getInstance().getRegistryClassName("my.sample_x.A$_0B"));
+        assertEquals("SampleEnumEnumConfigurationRegistry", EnumConfigurationRegistryFactory.getInstance().getRegistryClassName("SampleEnum"));
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistryClassName(" "));
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistryClassName(null));
+    }
+
+
+    /**
+     * Test there is no registry without generated class
+     */
+    @Test
+    public void testMissingRegistry() {
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistry(NotAnnotatedEnum.class));
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistry(NotAnnotatedEnum.class));
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistry(DayOfWeek.class));
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistry(String.class));
+        assertNull(EnumConfigurationRegistryFactory.getInstance().getRegistry(null));
+    }
+
+
+    /**
+     * Defines an enum without generated registry
+     */
+    enum NotAnnotatedEnum {
+        A,
+        B;
+    }
+}
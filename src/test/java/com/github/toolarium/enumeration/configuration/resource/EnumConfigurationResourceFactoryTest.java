@@ -6,6 +6,9 @@
 package com.github.toolarium.enumeration.configuration.resource;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.github.toolarium.enumeration.configuration.dto.EnumConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
@@ -24,8 +27,13 @@ import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.file.Paths;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -502,6 +510,182 @@ public class EnumConfigurationResourceFactoryTest {
     }
 
     
+    /**
+     * Test the binary format
+     * 
+     * @throws IOException in case of an error
+     */
+    @Test
+    public void testBinaryFormat() throws IOException {
+        EnumConfigurations e = createBinaryTestEnumConfigurations();
+        EnumConfigurations result = writeAndReadBinary(e);
+        assertEquals(e, result);
+        assertEquals(e.getName(), result.getName());
+        assertEquals(e.getVersion(), result.getVersion());
+        
+        // the type of the size is kept
+        for (EnumConfiguration<? extends EnumKeyConfiguration> enumConfiguration : e.getEnumConfigurationList()) {
+            EnumConfiguration<? extends EnumKeyConfiguration> resultEnumConfiguration = result.get(enumConfiguration.getName());
+            assertEquals(enumConfiguration.getTag(), resultEnumConfiguration.getTag());
+            for (EnumKeyConfiguration enumKeyConfiguration : enumConfiguration.getKeyList()) {
+                EnumKeyConfiguration resultEnumKeyConfiguration = resultEnumConfiguration.get(enumKeyConfiguration.getKey());
+                assertEquals(enumKeyConfiguration.getClass(), resultEnumKeyConfiguration.getClass());
+                if (enumKeyConfiguration instanceof EnumKeyValueConfiguration) {
+                    EnumKeyValueConfigurationSizing<?> valueSize = ((EnumKeyValueConfiguration) enumKeyConfiguration).getValueSize();
+                    EnumKeyValueConfigurationSizing<?> resultValueSize = ((EnumKeyValueConfiguration) resultEnumKeyConfiguration).getValueSize();
+                    if (valueSize != null) {
+                        assertEquals(valueSize.getMinSize().getClass(), resultValueSize.getMinSize().getClass());
+                        assertEquals(valueSize.getMinSizeAsString(), resultValueSize.getMinSizeAsString());
+                        assertEquals(valueSize.getMaxSizeAsString(), resultValueSize.getMaxSizeAsString());
+                    }
+                }
+            }
+        }
+        
+        // JSON and binary format contain the same
+        assertEquals(writeAndRead(e), writeAndReadBinary(writeAndRead(e)));
+        
+        Assert.assertNull(writeAndReadBinary(new EnumConfigurations()));
+        Assertions.assertThrows(IOException.class, () -> {
+            EnumConfigurationResourceFactory.getInstance().load(ByteBuffer.wrap("{ \"name\" : \"toolarium-enum-configuration\" }".getBytes()));
+        });
+    }
+
+    
+    /**
+     * Test the memory mapped binary format
+     * 
+     * @throws IOException in case of an error
+     */
+    @Test
+    public void testMemoryMappedBinaryFormat() throws IOException {
+        EnumConfigurations e = createBinaryTestEnumConfigurations();
+        
+        String testPath = "build";
+        File file = Paths.get(testPath, EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_FILENAME).toFile();
+        try (FileOutputStream outputStream = new FileOutputStream(file)) {
+            EnumConfigurationResourceFactory.getInstance().storeBinary(e, outputStream);
+        }
+        
+        try {
+            assertEquals(e, EnumConfigurationResourceFactory.getInstance().load(testPath, EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_FILENAME));
+            
+            EnumConfigurationBinaryReader reader = EnumConfigurationResourceFactory.getInstance().openBinary(testPath, null);
+            assertEquals(2, reader.size());
+            assertEquals(e.getVersion(), reader.getVersion());
+            assertEquals("[myName1, myName2]", reader.getEnumConfigurationNames().toString());
+            assertEquals(e.get("myName2"), reader.getEnumConfiguration("myName2"));
+            assertEquals(reader.getEnumConfiguration("myName2"), reader.getEnumConfiguration("MYNAME2", true));
+
+            // the decoded enum configurations are cached, a copy is returned
+            EnumConfiguration<EnumKeyConfiguration> enumConfiguration = reader.getEnumConfiguration("myName1");
+            assertNotSame(enumConfiguration, reader.getEnumConfiguration("myName1"));
+            enumConfiguration.setDescription("changed");
+            ((EnumKeyValueConfiguration) enumConfiguration.get("myKey1")).getValueSize().setMaxSizeAsString("1000");
+            assertEquals(e.get("myName1"), reader.getEnumConfiguration("myName1"));
+            assertEquals(e, reader.readEnumConfigurations());
+            Assert.assertNull(reader.getEnumConfiguration("MYNAME2"));
+            Assert.assertNull(reader.getEnumConfiguration("myName3"));
+            assertEquals(e, reader.readEnumConfigurations());
+        } finally {
+            file.delete();
+        }
+    }
+
+    
+    /**
+     * Test the binary format read from an input stream
+     * 
+     * @throws IOException in case of an error
+     */
+    @Test
+    public void testInputStreamBinaryFormat() throws IOException {
+        EnumConfigurations e = createBinaryTestEnumConfigurations();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        EnumConfigurationResourceFactory.getInstance().storeBinary(e, outputStream);
+
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
+        assertTrue(EnumConfigurationResourceFactory.getInstance().isBinaryFormat(inputStream));
+        
+        // the check resets the input stream
+        EnumConfigurationBinaryReader reader = EnumConfigurationResourceFactory.getInstance().openBinary(inputStream);
+        assertEquals(e.getVersion(), reader.getVersion());
+        assertEquals(e.get("myName2"), reader.getEnumConfiguration("myName2"));
+        assertEquals(e, reader.readEnumConfigurations());
+        
+        outputStream = new ByteArrayOutputStream();
+        EnumConfigurationResourceFactory.getInstance().store(e, outputStream);
+        assertFalse(EnumConfigurationResourceFactory.getInstance().isBinaryFormat(new ByteArrayInputStream(outputStream.toByteArray())));
+        Assert.assertNull(EnumConfigurationResourceFactory.getInstance().openBinary(null));
+    }
+
+    
+    /**
+     * Create the enum configurations to test the binary format
+     *
+     * @return the enum configurations
+     */
+    private EnumConfigurations createBinaryTestEnumConfigurations() {
+        EnumConfiguration<? super EnumKeyConfiguration> ec1 = new EnumConfiguration<>("myName1");
+        ec1.setDescription("My description 1 with umlaut ä");
+        ec1.setTag("myTag");
+        ec1.setInterfaceList(Set.of("this.is.my.interface"));
+        ec1.setMarkerInterfaceList(Set.of("this.is.my.markerinterface"));
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration1 = create("myKey1", true, "My key 1 description", null, "example value 1", OPTIONAL_CARDINALITY, null, null);
+        enumKeyValueConfiguration1.setDataType(EnumKeyValueConfigurationDataType.NUMBER);
+        enumKeyValueConfiguration1.setValueSize(new EnumKeyValueConfigurationSizing<Long>(1L, 100L));
+        ec1.add(enumKeyValueConfiguration1);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration2 = create("myKey2", false, "My key 2 description", "1.5", null, null, null, null);
+        enumKeyValueConfiguration2.setDataType(EnumKeyValueConfigurationDataType.DOUBLE);
+        enumKeyValueConfiguration2.setValueSize(new EnumKeyValueConfigurationSizing<Double>(0.5, 2.5));
+        enumKeyValueConfiguration2.setUniqueness(true);
+        ec1.add(enumKeyValueConfiguration2);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration3 = create("myKey3", false, "My key 3 description", "2021-01-01", null, null, Instant.now().plus(24, ChronoUnit.HOURS), DateUtil.MAX_TIMESTAMP.minus(24, ChronoUnit.HOURS));
+        enumKeyValueConfiguration3.setDataType(EnumKeyValueConfigurationDataType.DATE);
+        enumKeyValueConfiguration3.setValueSize(new EnumKeyValueConfigurationSizing<LocalDate>(LocalDate.of(2000, 1, 1), LocalDate.of(2099, 12, 31)));
+        ec1.add(enumKeyValueConfiguration3);
+
+        EnumKeyConfiguration enumKeyConfiguration1 = create("myKeyOnly", true, "My key only description", Instant.now().minus(24, ChronoUnit.HOURS), DateUtil.MAX_TIMESTAMP.plus(1, ChronoUnit.HOURS));
+        ec1.add(enumKeyConfiguration1);
+
+        EnumConfiguration<? super EnumKeyConfiguration> ec2 = new EnumConfiguration<>("myName2");
+        ec2.setDescription("My description 2");
+        ec2.setInterfaceList(null);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration4 = create("myKey4", false, "My key 4 description", "12:00", null, "1..*", null, null);
+        enumKeyValueConfiguration4.setDataType(EnumKeyValueConfigurationDataType.TIME);
+        enumKeyValueConfiguration4.setValueSize(new EnumKeyValueConfigurationSizing<LocalTime>(LocalTime.of(8, 0), LocalTime.of(18, 30, 15, 100)));
+        enumKeyValueConfiguration4.setEnumerationValue("[08:00, 12:00]");
+        ec2.add(enumKeyValueConfiguration4);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration5 = create("myKey5", false, "My key 5 description", null, null, null, null, null);
+        enumKeyValueConfiguration5.setDataType(EnumKeyValueConfigurationDataType.TIMESTAMP);
+        enumKeyValueConfiguration5.setValueSize(new EnumKeyValueConfigurationSizing<Instant>(Instant.ofEpochSecond(0, 1), DateUtil.MAX_TIMESTAMP));
+        ec2.add(enumKeyValueConfiguration5);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration6 = create("myKey6", false, "My key 6 description", "123456789012345678901234567890", null, null, null, null);
+        enumKeyValueConfiguration6.setValueSize(new EnumKeyValueConfigurationSizing<Number>(BigInteger.ONE, new BigDecimal("12345678901234567890.5")));
+        ec2.add(enumKeyValueConfiguration6);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration7 = create("myKey7", false, "My key 7 description", "true", null, null, null, null);
+        enumKeyValueConfiguration7.setDataType(EnumKeyValueConfigurationDataType.BOOLEAN);
+        enumKeyValueConfiguration7.setValueSize(new EnumKeyValueConfigurationSizing<Boolean>(Boolean.FALSE, Boolean.TRUE));
+        ec2.add(enumKeyValueConfiguration7);
+
+        EnumKeyValueConfiguration enumKeyValueConfiguration8 = create("myKey8", false, "My key 8 description", "value", null, null, null, null);
+        enumKeyValueConfiguration8.setValueSize(new EnumKeyValueConfigurationSizing<Object>("a", "z"));
+        ec2.add(enumKeyValueConfiguration8);
+
+        EnumConfigurations e = new EnumConfigurations();
+        e.add(ec1);
+        e.add(ec2);
+        return e;
+    }
+
+    
     /**
      * Read and write 
      *
@@ -519,6 +703,24 @@ public class EnumConfigurationResourceFactoryTest {
     }
 
     
+    /**
+     * Read and write in the binary format
+     *
+     * @param inputEnumConfigurations the input enum configurations
+     * @return the read input configuration
+     * @throws IOException In case of an error
+     */
+    protected EnumConfigurations writeAndReadBinary(EnumConfigurations inputEnumConfigurations) throws IOException {
+        ByteArrayOutputStream outputstream = new ByteArrayOutputStream();
+        EnumConfigurationResourceFactory.getInstance().storeBinary(inputEnumConfigurations, outputstream);
+        if (outputstream.size() == 0) {
+            return null;
+        }
+
+        return EnumConfigurationResourceFactory.getInstance().load(new ByteArrayInputStream(outputstream.toByteArray()));
+    }
+
+    
     /**
      * Create an enumeration key configuration
      *
@@ -7,8 +7,11 @@ package com.github.toolarium.enumeration.configuration.store;
 
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.processor.MyEnumConfiguration;
+import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
 import com.github.toolarium.enumeration.configuration.store.impl.EnumConfigurationKeyResolver;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
 import java.io.IOException;
@@ -71,4 +74,26 @@ public class EnumConfigurationKeyResolverTest extends AbstractEnumConfigurationS
         result = resolver.getEnumKeyValueConfiguration(PACKAGENAME + DOT + "enumconfigurationstoretest$simpleconfigtest");
         assertNull(result);
     }
+
+
+    
+    /**
+     * Test the configuration key names of all constants of an enum are resolved once
+     */
+    @Test
+    public void testResolveConfigurationKeyNameIndex() {
+        EnumConfigurationKeyResolver resolver = new EnumConfigurationKeyResolver();
+        String configurationKeyName = resolver.resolveConfigurationKeyName(MyEnumConfiguration.DELAY);
+        assertEquals("com.github.toolarium.enumeration.configuration.processor.myenumconfiguration#delay", configurationKeyName);
+        assertSame(configurationKeyName, resolver.resolveConfigurationKeyName(MyEnumConfiguration.DELAY));
+        
+        for (MyEnumConfiguration configurationKey : MyEnumConfiguration.values()) {
+            String name = resolver.resolveConfigurationKeyName(configurationKey);
+            assertEquals(resolver.createConfigurationKeyName(MyEnumConfiguration.class.getName(), configurationKey.name()), name);
+            assertSame(configurationKey, resolver.resolveConfigurationKey(name));
+        }
+
+        resolver.clearCache();
+        assertEquals(configurationKeyName, resolver.resolveConfigurationKeyName(MyEnumConfiguration.DELAY));
+    }
 }
@@ -14,19 +14,31 @@ import com.github.toolarium.enumeration.configuration.dto.EnumConfigurations;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import com.github.toolarium.enumeration.configuration.processor.EnumConfigurationProcessor;
 import com.github.toolarium.enumeration.configuration.processor.MyEnumConfiguration;
 import com.github.toolarium.enumeration.configuration.resource.EnumConfigurationResourceFactory;
 import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
+import com.github.toolarium.enumeration.configuration.store.impl.ClassPathEnumConfigurationResourceResolver;
 import com.github.toolarium.enumeration.configuration.store.impl.EnumConfigurationResourceResolver;
 import com.github.toolarium.enumeration.configuration.store.impl.PropertiesEnumConfigurationStore;
 import com.github.toolarium.enumeration.configuration.util.JSONUtil;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.TreeSet;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
@@ -95,6 +107,60 @@ public class EnumConfigurationStoreExternalDefinitionTest extends AbstractEnumCo
     }
 
     
+    /**
+     * Test the enum configurations are resolved by the class path index from the binary resource of the module
+     *
+     * @throws ValidationException In case of a validation error
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void readWriteDataWithClassPathBinaryEnumConfigurations() throws ValidationException, IOException {
+        Path path = Files.createTempDirectory("enum-configuration");
+        try {
+            Properties index = new Properties();
+            EnumConfigurations enumConfigurations = new EnumConfigurations();
+            for (int i = 1; i <= 2; i++) {
+                EnumConfiguration<EnumKeyValueConfiguration> enumConfiguration = new EnumConfiguration<EnumKeyValueConfiguration>(CLASSNAME + i);
+                enumConfiguration.add(createEnumKeyValueConfiguration(ENUM_CONFIGURATION_KEY_NAME, EnumKeyValueConfigurationDataType.NUMBER, ZERO, TEN, "" + i, DEFAULT_VALUE));
+                enumConfigurations.add(enumConfiguration);
+                
+                // the single resources are not available, the binary resource is used
+                index.setProperty(CLASSNAME + i, EnumConfigurationResourceFactory.getInstance().getResourceName(CLASSNAME + i));
+            }
+            
+            Path indexPath = path.resolve(EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE);
+            Files.createDirectories(indexPath.getParent());
+            try (OutputStream outputStream = Files.newOutputStream(indexPath)) {
+                index.store(outputStream, null);
+            }
+
+            try (OutputStream outputStream = Files.newOutputStream(path.resolve(EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_BINARY_OUTPUT_FILE))) {
+                EnumConfigurationResourceFactory.getInstance().storeBinary(enumConfigurations, outputStream);
+            }
+
+            try (URLClassLoader classLoader = new URLClassLoader(new URL[] {path.toUri().toURL()}, null)) {
+                ClassPathEnumConfigurationResourceResolver resolver = new ClassPathEnumConfigurationResourceResolver(classLoader);
+                assertEquals("[" + CLASSNAME + "1, " + CLASSNAME + "2]", new TreeSet<String>(resolver.getEnumConfigurationNames()).toString());
+                try (InputStream inputStream = resolver.getEnumConfigurationResourceStream(CLASSNAME + 1, false)) {
+                    assertNotNull(inputStream);
+                }
+                
+                PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore(resolver);
+                String configurationKeyName1 = configurationStore.getEnumConfigurationKeyResolver().createConfigurationKeyName(CLASSNAME + 1, ENUM_CONFIGURATION_KEY_NAME);
+                String configurationKeyName2 = configurationStore.getEnumConfigurationKeyResolver().createConfigurationKeyName(CLASSNAME + 2, ENUM_CONFIGURATION_KEY_NAME);
+                assertEquals("1", configurationStore.readConfigurationValue(configurationKeyName1).toString());
+                assertEquals("2", configurationStore.readConfigurationValue(configurationKeyName2).toString());
+                configurationStore.writeConfigurationValue(configurationKeyName2, "8");
+                assertEquals(Long.valueOf(8), configurationStore.readConfigurationValue(configurationKeyName2).getValue());
+            }
+        } finally {
+            try (Stream<Path> stream = Files.walk(path)) {
+                stream.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    
     /**
      * Test invalid class of the enum configuration 
      *
@@ -352,6 +418,64 @@ public class EnumConfigurationStoreExternalDefinitionTest extends AbstractEnumCo
     }
 
     
+    /**
+     * Test the enum configurations are resolved by the class path index, one resource per enum configuration
+     *
+     * @throws ValidationException In case of a validation error
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void readWriteDataWithClassPathEnumConfigurations() throws ValidationException, IOException {
+        Path path = Files.createTempDirectory("enum-configuration");
+        try {
+            Properties index = new Properties();
+            for (int i = 1; i <= 2; i++) {
+                EnumConfiguration<EnumKeyValueConfiguration> enumConfiguration = new EnumConfiguration<EnumKeyValueConfiguration>(CLASSNAME + i);
+                enumConfiguration.add(createEnumKeyValueConfiguration(ENUM_CONFIGURATION_KEY_NAME, EnumKeyValueConfigurationDataType.NUMBER, ZERO, TEN, "" + i, DEFAULT_VALUE));
+                EnumConfigurations enumConfigurations = new EnumConfigurations();
+                enumConfigurations.add(enumConfiguration);
+                
+                String resourceName = EnumConfigurationResourceFactory.getInstance().getResourceName(CLASSNAME + i);
+                Path resourcePath = path.resolve(resourceName);
+                Files.createDirectories(resourcePath.getParent());
+                try (OutputStream outputStream = Files.newOutputStream(resourcePath)) {
+                    EnumConfigurationResourceFactory.getInstance().store(enumConfigurations, outputStream);
+                }
+                
+                index.setProperty(CLASSNAME + i, resourceName);
+            }
+            
+            try (OutputStream outputStream = Files.newOutputStream(path.resolve(EnumConfigurationProcessor.TOOLARIUM_ENUM_CONFIGURATION_RESOURCE_INDEX_FILE))) {
+                index.store(outputStream, null);
+            }
+
+            try (URLClassLoader classLoader = new URLClassLoader(new URL[] {path.toUri().toURL()}, null)) {
+                ClassPathEnumConfigurationResourceResolver resolver = new ClassPathEnumConfigurationResourceResolver(classLoader);
+                assertEquals("[" + CLASSNAME + "1, " + CLASSNAME + "2]", new TreeSet<String>(resolver.getEnumConfigurationNames()).toString());
+                assertNull(resolver.getEnumConfigurationResourceStream(CLASSNAME + 3, true));
+                assertNull(resolver.getEnumConfigurationResourceStream(CLASSNAME.toLowerCase() + 1, false));
+                try (InputStream inputStream = resolver.getEnumConfigurationResourceStream(CLASSNAME.toLowerCase() + 1, true)) {
+                    EnumConfigurations enumConfigurations = EnumConfigurationResourceFactory.getInstance().load(inputStream);
+                    assertEquals(1, enumConfigurations.getEnumConfigurationList().size());
+                    assertNotNull(enumConfigurations.get(CLASSNAME + 1));
+                }
+                
+                PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore(resolver);
+                String configurationKeyName1 = configurationStore.getEnumConfigurationKeyResolver().createConfigurationKeyName(CLASSNAME + 1, ENUM_CONFIGURATION_KEY_NAME);
+                String configurationKeyName2 = configurationStore.getEnumConfigurationKeyResolver().createConfigurationKeyName(CLASSNAME + 2, ENUM_CONFIGURATION_KEY_NAME);
+                assertEquals("1", configurationStore.readConfigurationValue(configurationKeyName1).toString());
+                assertEquals("2", configurationStore.readConfigurationValue(configurationKeyName2).toString());
+                configurationStore.writeConfigurationValue(configurationKeyName2, "8");
+                assertEquals(Long.valueOf(8), configurationStore.readConfigurationValue(configurationKeyName2).getValue());
+            }
+        } finally {
+            try (Stream<Path> stream = Files.walk(path)) {
+                stream.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    
     /**
      * Test invalid class of the enum configuration 
      *
@@ -14,6 +14,7 @@ import com.github.toolarium.enumeration.configuration.annotation.EnumConfigurati
 import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration;
 import com.github.toolarium.enumeration.configuration.annotation.EnumKeyValueConfiguration.DataType;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
 import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
 import com.github.toolarium.enumeration.configuration.processor.MyEnumConfiguration;
 import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
@@ -21,11 +22,19 @@ import com.github.toolarium.enumeration.configuration.store.impl.EnumConfigurati
 import com.github.toolarium.enumeration.configuration.store.impl.PropertiesEnumConfigurationStore;
 import com.github.toolarium.enumeration.configuration.util.EnumKeyValueConfigurationBinaryObjectParser;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyValueConfigurationValueValidatorFactory;
+import com.github.toolarium.enumeration.configuration.validation.value.impl.NumberEnumKeyValueConfigurationValueValidator;
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -646,6 +655,274 @@ public class EnumConfigurationStoreTest extends AbstractEnumConfigurationStoreTe
     }
 
 
+    /**
+     * Test the batch read
+     */
+    @Test
+    public void readConfigurationValues() {
+        final AtomicInteger loadCounter = new AtomicInteger();
+        PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.store.impl.AbstractBaseEnumConfigurationStore#loadConfigurations(java.util.Set)
+             */
+            @Override
+            protected Map<String, String> loadConfigurations(Set<String> configurationKeyNames) throws EnumConfigurationStoreException {
+                loadCounter.incrementAndGet();
+                return super.loadConfigurations(configurationKeyNames);
+            }
+        };
+        configurationStore.writeConfigurationValue(SimpleConfigTest.SECOND, 33);
+
+        Map<SimpleConfigTest, IEnumConfigurationValue<Object>> result = configurationStore.readConfigurationValues(Arrays.asList(SimpleConfigTest.SECOND, SimpleConfigTest.FIRST, SimpleConfigTest.THIRD));
+        assertEquals(1, loadCounter.get());
+        assertTrue(result instanceof EnumMap);
+        assertEquals("[FIRST, SECOND]", result.keySet().toString());
+        assertEquals(Long.valueOf(11), result.get(SimpleConfigTest.FIRST).getValue());
+        assertEquals(Long.valueOf(33), result.get(SimpleConfigTest.SECOND).getValue());
+
+        result = configurationStore.readConfigurationValuesIgnoreDefault(Arrays.asList(SimpleConfigTest.SECOND, SimpleConfigTest.FIRST));
+        assertEquals(2, loadCounter.get());
+        assertEquals("[SECOND]", result.keySet().toString());
+        assertTrue(configurationStore.readConfigurationValues(new ArrayList<SimpleConfigTest>()).isEmpty());
+        
+        configurationStore.writeConfigurationValue(SimpleConfigTest.FIRST, 1);
+        Properties properties = configurationStore.getProperties();
+        properties.setProperty(FIRST, "invalid");
+        configurationStore.setProperties(properties);
+        EnumConfigurationStoreException exception = Assertions.assertThrows(EnumConfigurationStoreException.class, () -> {
+            configurationStore.readConfigurationValues(Arrays.asList(SimpleConfigTest.FIRST, SimpleConfigTest.SECOND));
+        });
+        assertEquals("[" + FIRST + "]", exception.keySet().toString());
+    }
+
+
+    /**
+     * Test the batch write is validated before anything is written
+     */
+    @Test
+    public void writeConfigurationValueListAtomic() {
+        final AtomicInteger writeCounter = new AtomicInteger();
+        PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.store.impl.AbstractBaseEnumConfigurationStore#writeConfigurations(java.util.Map)
+             */
+            @Override
+            protected void writeConfigurations(Map<String, String> configurations) throws EnumConfigurationStoreException {
+                writeCounter.incrementAndGet();
+                super.writeConfigurations(configurations);
+            }
+        };
+        configurationStore.readConfigurationValueList(new SimpleConfigTest[] {SimpleConfigTest.FIRST, SimpleConfigTest.SECOND, SimpleConfigTest.DATE});
+        
+        Properties properties = new Properties();
+        properties.setProperty(FIRST, "1");
+        properties.setProperty(SECOND, "invalid");
+        properties.setProperty(DATE, "invalid");
+        EnumConfigurationStoreException exception = Assertions.assertThrows(EnumConfigurationStoreException.class, () -> {
+            configurationStore.writeConfigurationValueList(properties);
+        });
+        assertEquals(0, writeCounter.get());
+        assertTrue(exception.getMessage().startsWith("Invalid configurations found (2): "));
+        assertEquals(2, exception.keySet().size());
+        assertEquals("invalid", exception.getInvalidConfigurationValue(SECOND).toString());
+        assertEquals("invalid", exception.getInvalidConfigurationValue(DATE).toString());
+        assertTrue(configurationStore.getProperties().isEmpty());
+        
+        properties.setProperty(SECOND, "2");
+        properties.remove(DATE);
+        configurationStore.writeConfigurationValueList(properties);
+        assertEquals(1, writeCounter.get());
+        assertEquals(Long.valueOf(1), configurationStore.readConfigurationValue(SimpleConfigTest.FIRST).getValue());
+        assertEquals(Long.valueOf(2), configurationStore.readConfigurationValue(SimpleConfigTest.SECOND).getValue());
+    }
+
+
+    /**
+     * Test all entries of a batch write are reported as changed even if the write fails after a part of the entries is written
+     */
+    @Test
+    public void writeConfigurationValueListPartial() {
+        final Set<String> changedConfigurationKeyNames = new LinkedHashSet<String>();
+        PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.store.impl.AbstractBaseEnumConfigurationStore#writeConfigurations(java.util.Map)
+             */
+            @Override
+            protected void writeConfigurations(Map<String, String> configurations) throws EnumConfigurationStoreException {
+                writeConfiguration(FIRST, configurations.get(FIRST));
+                throw new EnumConfigurationStoreException("Could not write [" + SECOND + "]!");
+            }
+
+            
+            /**
+             * @see com.github.toolarium.enumeration.configuration.store.impl.AbstractBaseTypeEnumConfigurationStore#configurationChanged(java.lang.String)
+             */
+            @Override
+            protected void configurationChanged(String configurationKeyName) {
+                changedConfigurationKeyNames.add(configurationKeyName);
+                super.configurationChanged(configurationKeyName);
+            }
+        };
+        configurationStore.setValueCacheSize(10);
+        configurationStore.readConfigurationValueList(new SimpleConfigTest[] {SimpleConfigTest.FIRST, SimpleConfigTest.SECOND});
+        assertEquals(Long.valueOf(11), configurationStore.readConfigurationValue(SimpleConfigTest.FIRST).getValue());
+        assertEquals(11L, configurationStore.readLong(SimpleConfigTest.FIRST));
+        
+        Properties properties = new Properties();
+        properties.setProperty(FIRST, "1");
+        properties.setProperty(SECOND, "2");
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> {
+            configurationStore.writeConfigurationValueList(properties);
+        });
+        assertEquals(Set.of(FIRST, SECOND), changedConfigurationKeyNames);
+        assertEquals(Long.valueOf(1), configurationStore.readConfigurationValue(SimpleConfigTest.FIRST).getValue());
+        assertEquals(1L, configurationStore.readLong(SimpleConfigTest.FIRST));
+        assertEquals(Long.valueOf(22), configurationStore.readConfigurationValue(SimpleConfigTest.SECOND).getValue());
+    }
+
+
+    /**
+     * Test the primitive read
+     */
+    @Test
+    public void readPrimitiveValues() {
+        PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore();
+        assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+        assertEquals(30.0, configurationStore.readDouble(PrimitiveConfigTest.TIMEOUT));
+        assertEquals(0.75, configurationStore.readDouble(PrimitiveConfigTest.RATIO));
+        assertTrue(configurationStore.readBoolean(PrimitiveConfigTest.ENABLED));
+        assertTrue(Arrays.equals(new long[] {80L, 443L}, configurationStore.readLongArray(PrimitiveConfigTest.PORTS)));
+        assertEquals(80L, configurationStore.readLong(PrimitiveConfigTest.PORTS));
+        assertEquals(0, configurationStore.readLongArray(PrimitiveConfigTest.LIMIT).length);
+
+        // the returned array is a copy
+        configurationStore.readLongArray(PrimitiveConfigTest.PORTS)[0] = 1L;
+        assertEquals(80L, configurationStore.readLong(PrimitiveConfigTest.PORTS));
+
+        // the value is validated again as soon as it changes
+        configurationStore.writeConfigurationValue(PrimitiveConfigTest.TIMEOUT, "45");
+        assertEquals(45L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+        configurationStore.writeConfigurationValue(PrimitiveConfigTest.ENABLED, "false");
+        assertEquals(false, configurationStore.readBoolean(PrimitiveConfigTest.ENABLED));
+        configurationStore.writeConfigurationValue(PrimitiveConfigTest.LIMIT, "7");
+        assertEquals(7L, configurationStore.readLong(PrimitiveConfigTest.LIMIT));
+        configurationStore.deleteConfigurationValue(PrimitiveConfigTest.TIMEOUT);
+        assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.writeConfigurationValue(PrimitiveConfigTest.TIMEOUT, "100"));
+        assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+
+        // invalid data type or missing value
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readLong(PrimitiveConfigTest.RATIO));
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readBoolean(PrimitiveConfigTest.PORTS));
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readDouble(PrimitiveConfigTest.NAME));
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readLongArray(PrimitiveConfigTest.NAME));
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readLong(PrimitiveConfigTest.MISSING));
+        Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readLong(null));
+    }
+
+
+    /**
+     * Test the primitive values are validated again after a validator is registered or the configuration changed
+     */
+    @Test
+    public void readPrimitiveValuesAfterChange() throws ValidationException {
+        PrimitiveEnumConfigurationStore configurationStore = new PrimitiveEnumConfigurationStore();
+        assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+
+        try {
+            EnumKeyValueConfigurationValueValidatorFactory.getInstance().register(EnumKeyValueConfigurationDataType.NUMBER, new NumberEnumKeyValueConfigurationValueValidator() {
+                /**
+                 * @see com.github.toolarium.enumeration.configuration.validation.value.impl.NumberEnumKeyValueConfigurationValueValidator#validateValue(com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing, java.lang.String)
+                 */
+                @Override
+                public Long validateValue(EnumKeyValueConfigurationSizing<Number> valueSize, String inputValue) throws ValidationException {
+                    return super.validateValue(valueSize, inputValue) + 1;
+                }
+            });
+            assertEquals(31L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+        } finally {
+            EnumKeyValueConfigurationValueValidatorFactory.getInstance().register(EnumKeyValueConfigurationDataType.NUMBER, null);
+        }
+        assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+
+        com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration enumKeyValueConfiguration = configurationStore.getConfiguration(PrimitiveConfigTest.TIMEOUT);
+        EnumKeyValueConfigurationSizing<?> valueSize = enumKeyValueConfiguration.getValueSize();
+        try {
+            enumKeyValueConfiguration.setValueSize(EnumKeyValueConfigurationValueValidatorFactory.getInstance().createEnumKeyValueConfigurationSizing(EnumKeyValueConfigurationDataType.NUMBER, "0", "20"));
+            Assertions.assertThrows(EnumConfigurationStoreException.class, () -> configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+        } finally {
+            enumKeyValueConfiguration.setValueSize(valueSize);
+        }
+        assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+    }
+
+
+    /**
+     * Test a change of a configuration value validates only the primitive value of the changed constant again
+     */
+    @Test
+    public void readPrimitiveValuesAfterWrite() {
+        PrimitiveEnumConfigurationStore configurationStore = new PrimitiveEnumConfigurationStore();
+        AtomicInteger validationCounter = new AtomicInteger();
+        try {
+            EnumKeyValueConfigurationValueValidatorFactory.getInstance().register(EnumKeyValueConfigurationDataType.NUMBER, new NumberEnumKeyValueConfigurationValueValidator() {
+                /**
+                 * @see com.github.toolarium.enumeration.configuration.validation.value.impl.NumberEnumKeyValueConfigurationValueValidator#validateValue(com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing, java.lang.String)
+                 */
+                @Override
+                public Long validateValue(EnumKeyValueConfigurationSizing<Number> valueSize, String inputValue) throws ValidationException {
+                    validationCounter.incrementAndGet();
+                    return super.validateValue(valueSize, inputValue);
+                }
+            });
+
+            assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+            configurationStore.writeConfigurationValue(PrimitiveConfigTest.LIMIT, "7");
+            int validations = validationCounter.get();
+            assertEquals(30L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+            assertEquals(validations, validationCounter.get());
+            
+            assertEquals(7L, configurationStore.readLong(PrimitiveConfigTest.LIMIT));
+            assertEquals(validations + 1, validationCounter.get());
+            assertEquals(7L, configurationStore.readLong(PrimitiveConfigTest.LIMIT));
+            assertEquals(validations + 1, validationCounter.get());
+
+            configurationStore.writeConfigurationValue(PrimitiveConfigTest.TIMEOUT, "45");
+            validations = validationCounter.get();
+            assertEquals(45L, configurationStore.readLong(PrimitiveConfigTest.TIMEOUT));
+            assertEquals(7L, configurationStore.readLong(PrimitiveConfigTest.LIMIT));
+            assertEquals(validations + 1, validationCounter.get());
+        } finally {
+            EnumKeyValueConfigurationValueValidatorFactory.getInstance().register(EnumKeyValueConfigurationDataType.NUMBER, null);
+        }
+    }
+
+
+    @EnumConfiguration(description = "The primitive description")
+    public enum PrimitiveConfigTest {
+        @EnumKeyValueConfiguration(description =  "The timeout.", dataType = DataType.NUMBER, defaultValue = "30", exampleValue = "60", maxValue = "60")
+        TIMEOUT,
+        
+        @EnumKeyValueConfiguration(description =  "The ratio.", dataType = DataType.DOUBLE, defaultValue = "0.75", exampleValue = "0.5")
+        RATIO,
+
+        @EnumKeyValueConfiguration(description =  "The enabled flag.", dataType = DataType.BOOLEAN, defaultValue = "true", exampleValue = "false")
+        ENABLED,
+
+        @EnumKeyValueConfiguration(description =  "The ports.", dataType = DataType.NUMBER, defaultValue = "[\"80\", \"443\"]", exampleValue = "[\"8080\"]", cardinality = "1..*")
+        PORTS,
+
+        @EnumKeyValueConfiguration(description =  "The limit.", dataType = DataType.NUMBER, exampleValue = "5", cardinality = "0..1")
+        LIMIT,
+
+        @EnumKeyValueConfiguration(description =  "The missing value.", dataType = DataType.NUMBER, exampleValue = "5", cardinality = "0..1")
+        MISSING,
+
+        @EnumKeyValueConfiguration(description =  "The name.", defaultValue = "name", exampleValue = "my name")
+        NAME;
+    }
+
+
     @EnumConfiguration(description = "The description")
     public enum SimpleConfigTest {
         @EnumKeyValueConfiguration(description =  "First description.", dataType = DataType.NUMBER, defaultValue = "11", exampleValue = "42")
@@ -676,4 +953,21 @@ public class EnumConfigurationStoreTest extends AbstractEnumConfigurationStoreTe
                                    enumerationValue = "MONDAY, TUESDAY, WEDNESDAY, THURSDAY, FRIDAY, SATURDAY, SUNDAY")
         WORKING_DAYS;
     }
+
+
+    /**
+     * Gives access to the enum key value configuration of the store
+     */
+    private static class PrimitiveEnumConfigurationStore extends PropertiesEnumConfigurationStore {
+        /**
+         * Get the enum key value configuration
+         *
+         * @param <T> the generic type
+         * @param configurationKey the configuration key
+         * @return the enum key value configuration
+         */
+        <T extends Enum<T>> com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration getConfiguration(T configurationKey) {
+            return getEnumKeyValueConfiguration(configurationKey);
+        }
+    }
 }
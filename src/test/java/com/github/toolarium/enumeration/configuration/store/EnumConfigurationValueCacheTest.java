@@ -0,0 +1,199 @@
+/*
+ * EnumConfigurationValueCacheTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.dto.IEnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.processor.MyEnumConfiguration;
+import com.github.toolarium.enumeration.configuration.store.impl.EnumConfigurationValueCache;
+import com.github.toolarium.enumeration.configuration.store.impl.PropertiesEnumConfigurationStore;
+import com.github.toolarium.enumeration.configuration.validation.value.EnumKeyValueConfigurationValueValidatorFactory;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link EnumConfigurationValueCache}.
+ *
+ * @author patrick
+ */
+public class EnumConfigurationValueCacheTest {
+    private static final Object READ_PLAN = new Object();
+
+    /**
+     * Test the cache is bound to the raw value
+     */
+    @Test
+    public void testRawValue() {
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(10);
+        Collection<Long> valueList = cache.put("key", "[\"1\", \"2\"]", Arrays.asList(1L, 2L), READ_PLAN);
+        assertSame(valueList, cache.get("key", "[\"1\", \"2\"]", READ_PLAN));
+        assertNull(cache.get("key", "[\"1\", \"3\"]", READ_PLAN));
+        assertNull(cache.get("otherKey", "[\"1\", \"2\"]", READ_PLAN));
+        assertThrows(UnsupportedOperationException.class, () -> valueList.add(3L));
+
+        cache.invalidate("key");
+        assertNull(cache.get("key", "[\"1\", \"2\"]", READ_PLAN));
+        assertEquals(0, cache.size());
+    }
+
+
+    /**
+     * Test the cache is bound to the read plan
+     */
+    @Test
+    public void testReadPlan() {
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(10);
+        Collection<Long> valueList = cache.put("key", "1", List.of(1L), READ_PLAN);
+        assertSame(valueList, cache.get("key", "1", READ_PLAN));
+        assertNull(cache.get("key", "1", null));
+
+        // validated by the read plan of a changed configuration
+        assertNull(cache.get("key", "1", new Object()));
+        assertEquals(0, cache.size());
+        assertNull(cache.get("key", "1", READ_PLAN));
+
+        // values without read plan are not cached
+        cache.put("key", "1", List.of(1L), null);
+        assertEquals(0, cache.size());
+    }
+
+
+    /**
+     * Test the least recently used entry is removed
+     */
+    @Test
+    public void testLeastRecentlyUsed() {
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(2);
+        cache.put("a", "1", List.of(1L), READ_PLAN);
+        cache.put("b", "2", List.of(2L), READ_PLAN);
+        cache.get("a", "1", READ_PLAN);
+        cache.put("c", "3", List.of(3L), READ_PLAN);
+        assertEquals(2, cache.size());
+        assertEquals(List.of(1L), cache.get("a", "1", READ_PLAN));
+        assertNull(cache.get("b", "2", READ_PLAN));
+        assertEquals(List.of(3L), cache.get("c", "3", READ_PLAN));
+    }
+
+
+    /**
+     * Test a bigger cache which is split into segments
+     */
+    @Test
+    public void testSegments() {
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(1000);
+        for (int i = 0; i < 3000; i++) {
+            cache.put("key" + i, "" + i, List.of((long) i), READ_PLAN);
+        }
+
+        assertEquals(1000, cache.getMaxSize());
+        assertTrue(cache.size() <= 1000);
+        assertTrue(cache.size() > 0);
+        assertEquals(List.of(2999L), cache.get("key2999", "2999", READ_PLAN));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+
+    /**
+     * Test mutable values are not shared
+     */
+    @Test
+    public void testMutableValue() {
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(10);
+        EnumKeyValueConfigurationBinaryObject binaryObject = new EnumKeyValueConfigurationBinaryObject("name", Instant.parse("2021-03-15T08:59:22.123Z"), "text/plain", "VGV4dAo=");
+        Collection<IEnumKeyValueConfigurationBinaryObject> valueList = cache.put("key", "value", List.of(binaryObject), READ_PLAN);
+        binaryObject.setName("changed");
+
+        Collection<IEnumKeyValueConfigurationBinaryObject> cachedValueList = cache.get("key", "value", READ_PLAN);
+        assertNotSame(valueList, cachedValueList);
+        assertEquals("name", cachedValueList.iterator().next().getName());
+        ((EnumKeyValueConfigurationBinaryObject) cachedValueList.iterator().next()).setName("changed");
+        Collection<IEnumKeyValueConfigurationBinaryObject> otherCachedValueList = cache.get("key", "value", READ_PLAN);
+        assertEquals("name", otherCachedValueList.iterator().next().getName());
+        assertEquals("name", valueList.iterator().next().getName());
+        assertThrows(UnsupportedOperationException.class, () -> cachedValueList.add(binaryObject));
+    }
+
+
+    /**
+     * Test the cached values are validated again after a validator is registered
+     */
+    @Test
+    public void testRegisteredValidator() {
+        PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore();
+        configurationStore.setValueCacheSize(10);
+        IEnumConfigurationValue<Long> value = configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F);
+        assertSame(value.getValueList(), configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F).getValueList());
+
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(10);
+        cache.put("key", "1", List.of(1L), READ_PLAN);
+        try {
+            EnumKeyValueConfigurationValueValidatorFactory.getInstance().register(EnumKeyValueConfigurationDataType.NUMBER, null);
+            assertNull(cache.get("key", "1", READ_PLAN));
+            assertEquals(0, cache.size());
+
+            IEnumConfigurationValue<Long> validatedValue = configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F);
+            assertNotSame(value.getValueList(), validatedValue.getValueList());
+            assertEquals(value.getValueList(), validatedValue.getValueList());
+        } finally {
+            EnumKeyValueConfigurationValueValidatorFactory.getInstance().register(EnumKeyValueConfigurationDataType.NUMBER, null);
+        }
+    }
+
+
+    /**
+     * Test the disabled cache
+     */
+    @Test
+    public void testDisabled() {
+        EnumConfigurationValueCache cache = new EnumConfigurationValueCache(0);
+        cache.put("a", "1", List.of(1L), READ_PLAN);
+        assertEquals(0, cache.size());
+        assertNull(cache.get("a", "1", READ_PLAN));
+    }
+
+
+    /**
+     * Test the store with enabled value cache
+     */
+    @Test
+    public void testStore() {
+        PropertiesEnumConfigurationStore configurationStore = new PropertiesEnumConfigurationStore();
+        configurationStore.setValueCacheSize(10);
+        assertEquals(10, configurationStore.getValueCacheSize());
+
+        IEnumConfigurationValue<Long> value = configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F);
+        IEnumConfigurationValue<Long> cachedValue = configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F);
+        assertNotSame(value, cachedValue);
+        assertSame(value.getValueList(), cachedValue.getValueList());
+        assertEquals(Long.valueOf(1), cachedValue.getValue());
+        assertEquals(Long.valueOf(2), cachedValue.getValue());
+
+        configurationStore.writeConfigurationValue(MyEnumConfiguration.VALUE_F, "[\"3\", \"4\"]");
+        assertEquals("[3, 4]", configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F).getValueList().toString());
+
+        String configurationKeyName = configurationStore.getEnumConfigurationKeyResolver().resolveConfigurationKeyName(MyEnumConfiguration.VALUE_F);
+        configurationStore.writeConfigurationValue(configurationKeyName, "[\"5\", \"6\"]");
+        assertEquals("[5, 6]", configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F).getValueList().toString());
+
+        configurationStore.deleteConfigurationValue(MyEnumConfiguration.VALUE_F);
+        assertEquals("[1, 2]", configurationStore.readConfigurationValue(MyEnumConfiguration.VALUE_F).getValueList().toString());
+        assertNull(configurationStore.readConfigurationValueIgnoreDefault(MyEnumConfiguration.VALUE_F));
+    }
+}
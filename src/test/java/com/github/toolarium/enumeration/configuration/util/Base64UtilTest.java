@@ -5,9 +5,13 @@
  */
 package com.github.toolarium.enumeration.configuration.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -26,5 +30,73 @@ public class Base64UtilTest {
         assertFalse(Base64Util.getInstance().isValidBase64(""));
         assertFalse(Base64Util.getInstance().isValidBase64("    "));
         assertTrue(Base64Util.getInstance().isValidBase64("name"));
+        assertTrue(Base64Util.getInstance().isValidBase64(" bmFtZQ== "));
+        assertTrue(Base64Util.getInstance().isValidBase64("bmFtZTE="));
+        assertFalse(Base64Util.getInstance().isValidBase64("bmFtZQ"));
+        assertFalse(Base64Util.getInstance().isValidBase64("bmFtZQ="));
+        assertFalse(Base64Util.getInstance().isValidBase64("bm Ft"));
+        assertFalse(Base64Util.getInstance().isValidBase64("bmFt-Q=="));
+    }
+
+    
+    /**
+     * Test the decoded length is the same as the length of the decoded content
+     */
+    @Test
+    public void testDecodedLength() {
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength(null));
+        assertEquals(0, Base64Util.getInstance().getDecodedLength(""));
+        assertEquals(0, Base64Util.getInstance().getDecodedLength("   "));
+        assertEquals(4, Base64Util.getInstance().getDecodedLength("bmFtZQ=="));
+        assertEquals(4, Base64Util.getInstance().getDecodedLength("bmFtZQ"));
+        assertEquals(5, Base64Util.getInstance().getDecodedLength("\tbmFtZTE=\n"));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("b"));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmFtZ"));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmFtZQ="));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmFtZQ==="));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmFt===="));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmFtZQ==bmFt"));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmF tZQ=="));
+        assertEquals(-1, Base64Util.getInstance().getDecodedLength("bmFtZQ_-"));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 200; i++) {
+            byte[] content = new byte[random.nextInt(100)];
+            random.nextBytes(content);
+            assertEquals(content.length, Base64Util.getInstance().getDecodedLength(Base64.getEncoder().encodeToString(content)));
+            assertEquals(content.length, Base64Util.getInstance().getDecodedLength(Base64.getEncoder().withoutPadding().encodeToString(content)));
+        }
+        
+        String[] inputs = {"QQ", "QQ=", "QQ==", "QUI", "QUI=", "QUI==", "QUJD", "QUJD=", "Q", "=", "==", "QQ==QQ==", "Q=Q=", "QUJD\n"};
+        for (String input : inputs) {
+            long expected;
+            try {
+                expected = Base64.getDecoder().decode(input.trim()).length;
+            } catch (IllegalArgumentException e) {
+                expected = -1;
+            }
+            
+            assertEquals(expected, Base64Util.getInstance().getDecodedLength(input));
+        }
+    }
+
+
+    /**
+     * Test the decoding into a heap or direct buffer
+     */
+    @Test
+    public void testDecode() {
+        Random random = new Random(42);
+        for (int size : new int[] {0, 1, 2, 3, 6143, 6144, 6145, 100000}) {
+            byte[] content = new byte[size];
+            random.nextBytes(content);
+            String encoded = " " + Base64.getEncoder().encodeToString(content) + "\n";
+            assertEquals(ByteBuffer.wrap(content), Base64Util.getInstance().decode(encoded, false));
+
+            ByteBuffer direct = Base64Util.getInstance().decode(encoded, true);
+            assertTrue(direct.isDirect());
+            assertEquals(ByteBuffer.wrap(content), direct);
+            assertEquals(ByteBuffer.wrap(content), Base64Util.getInstance().decode(Base64.getEncoder().withoutPadding().encodeToString(content), true));
+        }
     }
 }
@@ -0,0 +1,93 @@
+/*
+ * CIDRSetTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link CIDRSet}.
+ *
+ * @author patrick
+ */
+public class CIDRSetTest {
+
+    /**
+     * Test IPv4
+     *
+     * @throws UnknownHostException In case of an invalid address
+     */
+    @Test
+    public void testIPv4() throws UnknownHostException {
+        CIDRSet cidrSet = CIDRSet.parse("[\"10.0.0.0/8\", \"192.168.1.0/24\", \"172.16.5.4\"]");
+        assertEquals(Arrays.asList("10.0.0.0/8", "192.168.1.0/24", "172.16.5.4"), cidrSet.getCIDRList());
+        assertTrue(cidrSet.contains("10.0.0.0"));
+        assertTrue(cidrSet.contains("10.255.255.255"));
+        assertTrue(cidrSet.contains("192.168.1.17"));
+        assertTrue(cidrSet.contains("172.16.5.4"));
+        assertTrue(cidrSet.contains(InetAddress.getByName("10.1.2.3")));
+        assertTrue(cidrSet.contains(new byte[] {(byte) 192, (byte) 168, 1, (byte) 255}));
+        assertFalse(cidrSet.contains("11.0.0.0"));
+        assertFalse(cidrSet.contains("192.168.2.1"));
+        assertFalse(cidrSet.contains("172.16.5.5"));
+        assertFalse(cidrSet.contains("::1"));
+        assertFalse(cidrSet.contains("localhost"));
+        assertFalse(cidrSet.contains((String) null));
+        assertFalse(cidrSet.contains(new byte[3]));
+
+        // the shorter prefix covers the longer one
+        cidrSet = CIDRSet.parse(Arrays.asList("10.1.0.0/16", "10.0.0.0/8", "10.2.3.0/24"));
+        assertTrue(cidrSet.contains("10.200.0.1"));
+        assertTrue(cidrSet.contains("10.2.3.4"));
+
+        assertTrue(CIDRSet.parse("0.0.0.0/0").contains("8.8.8.8"));
+        assertFalse(CIDRSet.parse("0.0.0.0/0").contains("::1"));
+    }
+
+
+    /**
+     * Test IPv6
+     *
+     * @throws UnknownHostException In case of an invalid address
+     */
+    @Test
+    public void testIPv6() throws UnknownHostException {
+        CIDRSet cidrSet = CIDRSet.parse("[\"2001:db8::/32\", \"fe80::/10\", \"::1/128\"]");
+        assertTrue(cidrSet.contains("2001:db8::1"));
+        assertTrue(cidrSet.contains("2001:0db8:ffff:ffff:ffff:ffff:ffff:ffff"));
+        assertTrue(cidrSet.contains("febf::1"));
+        assertTrue(cidrSet.contains("::1"));
+        assertFalse(cidrSet.contains("2001:db9::1"));
+        assertFalse(cidrSet.contains("fec0::1"));
+        assertFalse(cidrSet.contains("::2"));
+        assertFalse(cidrSet.contains("10.0.0.1"));
+    }
+
+
+    /**
+     * Test invalid
+     *
+     * @throws UnknownHostException In case of an invalid address
+     */
+    @Test
+    public void testInvalid() throws UnknownHostException {
+        assertTrue(CIDRSet.parse((String) null).isEmpty());
+        assertTrue(CIDRSet.parse("[]").isEmpty());
+        assertFalse(CIDRSet.parse("[]").contains("10.0.0.1"));
+        assertThrows(UnknownHostException.class, () -> CIDRSet.parse("10.0.0.0/33"));
+        assertThrows(UnknownHostException.class, () -> CIDRSet.parse("localhost/8"));
+        assertThrows(UnknownHostException.class, () -> CIDRSet.parse("localhost"));
+        assertThrows(UnknownHostException.class, () -> CIDRSet.parse("[\"10.0.0.0/8\""));
+    }
+}
@@ -7,6 +7,7 @@ package com.github.toolarium.enumeration.configuration.util;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.net.UnknownHostException;
 import org.junit.jupiter.api.Assertions;
@@ -97,4 +98,137 @@ public class CIDRUtilExtendedTest {
             CIDRUtil.getInstance().parse("invalid");
         });
     }
+
+
+    /**
+     * Test the numeric IPv4 parser
+     */
+    @Test
+    public void testParseIPv4Address() {
+        assertEquals(0xC0A80001L, CIDRUtil.getInstance().parseIPv4Address("192.168.0.1"));
+        assertEquals(0L, CIDRUtil.getInstance().parseIPv4Address("0.0.0.0"));
+        assertEquals(0xFFFFFFFFL, CIDRUtil.getInstance().parseIPv4Address("255.255.255.255"));
+        assertEquals(0x0A000001L, CIDRUtil.getInstance().parseIPv4Address("010.000.000.001"));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address(null));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address(""));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address("256.0.0.1"));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address("1.2.3"));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address("1.2.3.4.5"));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address("1.2.3.4."));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address("1..3.4"));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address("0001.2.3.4"));
+        assertEquals(-1L, CIDRUtil.getInstance().parseIPv4Address(" 1.2.3.4"));
+    }
+
+
+    /**
+     * Test the numeric IPv6 parser
+     */
+    @Test
+    public void testParseIPv6Address() {
+        long[] address = new long[2];
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("::1", address));
+        assertEquals(0L, address[0]);
+        assertEquals(1L, address[1]);
+
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("::", address));
+        assertEquals(0L, address[0]);
+        assertEquals(0L, address[1]);
+
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("FE80:0000:0000:0000:0202:B3FF:FE1E:8329", address));
+        assertEquals(0xFE80000000000000L, address[0]);
+        assertEquals(0x0202B3FFFE1E8329L, address[1]);
+
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("fe80::202:b3ff:fe1e:8329", address));
+        assertEquals(0xFE80000000000000L, address[0]);
+        assertEquals(0x0202B3FFFE1E8329L, address[1]);
+
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("2001:db8::", address));
+        assertEquals(0x20010DB800000000L, address[0]);
+        assertEquals(0L, address[1]);
+
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("1:2:3:4::5:6:7", address));
+        assertEquals(0x0001000200030004L, address[0]);
+        assertEquals(0x0000000500060007L, address[1]);
+
+        assertTrue(CIDRUtil.getInstance().parseIPv6Address("::ffff:192.168.0.1", address));
+        assertEquals(0L, address[0]);
+        assertEquals(0x0000FFFFC0A80001L, address[1]);
+
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address(null, address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address(":1", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("1:", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("1::2::3", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("1:2:3:4:5:6:7", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("1:2:3:4:5:6:7:8:9", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("1:2:3:4::5:6:7:8", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("12345::", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("g::", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("::1.2.3", address));
+        assertFalse(CIDRUtil.getInstance().parseIPv6Address("1.2.3.4", address));
+    }
+
+
+    /**
+     * Test numeric range checks
+     *
+     * @throws UnknownHostException in case of invalid host
+     */
+    @Test
+    public void testNumericRange() throws UnknownHostException {
+        assertTrue(CIDRUtil.getInstance().isIPv6Range("fe80::1%eth0/64"));
+        assertFalse(CIDRUtil.getInstance().isIPv6Range("fe80::1/129"));
+        assertFalse(CIDRUtil.getInstance().isIPv4Range("10.0.0.1/08"));
+        assertFalse(CIDRUtil.getInstance().isIPv4Range("10.0.0.1/"));
+
+        assertTrue(CIDRUtil.getInstance().parse("2001:db8::/32").isInRange(0x20010DB8FFFFFFFFL, -1L));
+        assertFalse(CIDRUtil.getInstance().parse("2001:db8::/32").isInRange(0x20010DB900000000L, 0L));
+        assertTrue(CIDRUtil.getInstance().parse("::/0").isInRange("ffff::1"));
+        assertFalse(CIDRUtil.getInstance().parse("::/0").isInRange("10.0.0.1"));
+        assertFalse(CIDRUtil.getInstance().parse("10.0.0.0/8").isInRange("::1"));
+        assertEquals("10.255.255.255", CIDRUtil.getInstance().parse("10.1.2.3/8").getBroadcastAddress());
+        assertEquals("2001:db8:0:0:0:0:0:0", CIDRUtil.getInstance().parse("2001:db8::1/32").getNetworkAddress());
+        assertTrue(CIDRUtil.getInstance().isInRange("2001:db8::/32", "2001:db8::1"));
+        assertFalse(CIDRUtil.getInstance().isInRange("2001:db8::/32", "10.0.0.1"));
+        
+        Assertions.assertThrows(UnknownHostException.class, () -> {
+            CIDRUtil.getInstance().parse("10.0.0.0/33");
+        });
+    }
+
+
+    /**
+     * Test that an IPv4-mapped IPv6 address is handled as IPv4 address, as {@link java.net.InetAddress} does
+     *
+     * @throws UnknownHostException in case of invalid host
+     */
+    @Test
+    public void testIPv4MappedAddress() throws UnknownHostException {
+        assertTrue(CIDRUtil.getInstance().isIPv6Address("::ffff:1.2.3.4"));
+        assertTrue(CIDRUtil.getInstance().isInRange("1.2.3.0/24", "::ffff:1.2.3.4"));
+        assertTrue(CIDRUtil.getInstance().isInRange("1.2.3.0/24", "::ffff:102:304"));
+        assertTrue(CIDRUtil.getInstance().isInRange("1.2.3.4", "::ffff:1.2.3.4"));
+        assertTrue(CIDRUtil.getInstance().isInRange("::ffff:1.2.3.4", "1.2.3.4"));
+        assertFalse(CIDRUtil.getInstance().isInRange("1.2.4.0/24", "::ffff:1.2.3.4"));
+        assertTrue(CIDRUtil.getInstance().parse("1.2.3.0/24").isInRange("::FFFF:1.2.3.255"));
+        assertTrue(CIDRUtil.getInstance().parse("::ffff:0:0/96").isInRange("1.2.3.4")); // all IPv4 addresses
+
+        // an IPv4-compatible address is not mapped
+        assertFalse(CIDRUtil.getInstance().isInRange("1.2.3.0/24", "::1.2.3.4"));
+        assertTrue(CIDRUtil.getInstance().isInRange("::/96", "::1.2.3.4"));
+
+        // a range of IPv4-mapped addresses is an IPv4 range
+        CIDRUtil.CIDR cidr = CIDRUtil.getInstance().parse("::ffff:10.0.0.0/104");
+        assertFalse(cidr.isIPv6());
+        assertEquals(8, cidr.getPrefixLength());
+        assertTrue(cidr.isInRange("10.1.2.3"));
+        assertTrue(cidr.isInRange("::ffff:10.1.2.3"));
+
+        CIDRSet cidrSet = CIDRSet.parse("[\"1.2.3.0/24\", \"::ffff:10.0.0.1\"]");
+        assertTrue(cidrSet.contains("::ffff:1.2.3.4"));
+        assertTrue(cidrSet.contains("10.0.0.1"));
+        assertFalse(cidrSet.contains("::1.2.3.4"));
+        assertTrue(cidrSet.contains(new byte[] {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF, 1, 2, 3, 4}));
+    }
 }
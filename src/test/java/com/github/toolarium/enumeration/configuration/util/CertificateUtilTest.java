@@ -0,0 +1,150 @@
+/*
+ * CertificateUtilTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationValue;
+import com.github.toolarium.enumeration.configuration.store.dto.EnumConfigurationValue;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.cert.CertificateException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link CertificateUtil}.
+ *
+ * @author patrick
+ */
+public class CertificateUtilTest {
+
+    /**
+     * Test a single certificate
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testCertificate() throws Exception {
+        String leaf = readResource("leaf.pem");
+        CertificateChain certificateChain = CertificateUtil.getInstance().getCertificateChain(leaf);
+        assertEquals(1, certificateChain.getCertificateList().size());
+        assertEquals("CN=leaf", certificateChain.getCertificate().getSubjectX500Principal().getName());
+        assertEquals(certificateChain.getCertificate().getNotAfter().toInstant(), certificateChain.getNotAfter());
+        assertTrue(certificateChain.isValid(Instant.now()));
+        assertFalse(certificateChain.isExpired(Instant.now()));
+        assertTrue(certificateChain.isExpired(certificateChain.getNotAfter().plusSeconds(1)));
+        assertFalse(certificateChain.isValid(certificateChain.getNotBefore().minusSeconds(1)));
+
+        // cached by the fingerprint of the exact content
+        assertSame(certificateChain, CertificateUtil.getInstance().getCertificateChain(new String(leaf)));
+        CertificateChain otherCertificateChain = CertificateUtil.getInstance().getCertificateChain("  " + leaf.replace("\n", "\r\n") + "\n");
+        assertEquals(certificateChain.getCertificate(), otherCertificateChain.getCertificate());
+        assertNotEquals(certificateChain.getFingerprint(), otherCertificateChain.getFingerprint());
+        assertSame(certificateChain, CertificateUtil.getInstance().getCachedCertificateChain(CertificateUtil.getInstance().getFingerprint(leaf)));
+        assertEquals(64, certificateChain.getFingerprint().length());
+    }
+
+
+    /**
+     * Test a certificate chain
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testCertificateChain() throws Exception {
+        String leaf = readResource("leaf.pem");
+        String ca = readResource("ca.pem");
+        CertificateChain certificateChain = CertificateUtil.getInstance().getCertificateChain(leaf + ca);
+        assertEquals(2, certificateChain.getCertificateList().size());
+        assertEquals("CN=leaf", certificateChain.getCertificate().getSubjectX500Principal().getName());
+        assertEquals("CN=Test CA", certificateChain.getCertificateList().get(1).getSubjectX500Principal().getName());
+        assertNotEquals(CertificateUtil.getInstance().getCertificateChain(leaf), certificateChain);
+
+        Instant notAfter = certificateChain.getCertificateList().get(0).getNotAfter().toInstant();
+        Instant caNotAfter = certificateChain.getCertificateList().get(1).getNotAfter().toInstant();
+        assertEquals(notAfter.isBefore(caNotAfter) ? notAfter : caNotAfter, certificateChain.getNotAfter());
+    }
+
+
+    /**
+     * Test invalid certificates
+     */
+    @Test
+    public void testInvalid() {
+        assertThrows(CertificateException.class, () -> CertificateUtil.getInstance().getCertificateChain("-- my certificate --"));
+        assertThrows(CertificateException.class, () -> CertificateUtil.getInstance().getCertificateChain(""));
+        assertNull(CertificateUtil.getInstance().getCachedCertificateChain(CertificateUtil.getInstance().getFingerprint("-- my certificate --")));
+    }
+
+
+    /**
+     * Test that a malformed content is still rejected in case a similar content is cached
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testInvalidAfterCacheHit() throws Exception {
+        String leaf = readResource("leaf.pem");
+        CertificateChain certificateChain = CertificateUtil.getInstance().getCertificateChain(leaf);
+        assertSame(certificateChain, CertificateUtil.getInstance().getCertificateChain(leaf));
+
+        String malformed = leaf.replace("-----BEGIN CERTIFICATE-----", "-----BEGINCERTIFICATE-----");
+        assertThrows(CertificateException.class, () -> CertificateUtil.getInstance().getCertificateChain(malformed));
+        assertThrows(CertificateException.class, () -> CertificateUtil.getInstance().getCertificateChain(malformed));
+
+        // a non ASCII character which is equal to the first character after truncation to a byte
+        String nonAscii = (char) (leaf.charAt(0) + 0x100) + leaf.substring(1);
+        assertNotEquals(CertificateUtil.getInstance().getFingerprint(leaf), CertificateUtil.getInstance().getFingerprint(nonAscii));
+        assertThrows(CertificateException.class, () -> CertificateUtil.getInstance().getCertificateChain(nonAscii));
+    }
+
+
+    /**
+     * Test the typed access of a configuration value
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testConfigurationValue() throws Exception {
+        String leaf = readResource("leaf.pem");
+        String ca = readResource("ca.pem");
+        CertificateChain certificateChain = CertificateUtil.getInstance().getCertificateChain(leaf);
+
+        IEnumConfigurationValue<String> configurationValue = new EnumConfigurationValue<String>(leaf, Arrays.asList(leaf, ca));
+        assertSame(certificateChain, configurationValue.getCertificateChain());
+
+        List<CertificateChain> certificateChainList = configurationValue.getCertificateChainList();
+        assertEquals(2, certificateChainList.size());
+        assertSame(certificateChain, certificateChainList.get(0));
+        assertEquals("CN=Test CA", certificateChainList.get(1).getCertificate().getSubjectX500Principal().getName());
+        assertNull(new EnumConfigurationValue<String>(null, null).getCertificateChain());
+    }
+
+
+    /**
+     * Read a test certificate
+     *
+     * @param name the name
+     * @return the content
+     * @throws IOException In case of an I/O error
+     */
+    private String readResource(String name) throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/certificate/" + name)) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * CronScheduleTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
+import com.github.toolarium.enumeration.configuration.converter.impl.DefaultStringTypConverter;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.store.dto.EnumConfigurationValue;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link CronSchedule} and {@link CronUtil}.
+ *
+ * @author patrick
+ */
+public class CronScheduleTest {
+
+    /**
+     * Test the next and previous fire time
+     */
+    @Test
+    public void testNextAndPrevious() {
+        CronSchedule schedule = CronSchedule.parse("*/15 * * * *");
+        assertEquals(time(2024, 3, 1, 10, 15), schedule.next(time(2024, 3, 1, 10, 0)));
+        assertEquals(time(2024, 3, 1, 11, 0), schedule.next(time(2024, 3, 1, 10, 59)));
+        assertEquals(time(2024, 3, 1, 10, 0), schedule.previous(time(2024, 3, 1, 10, 15)));
+        assertEquals(time(2024, 3, 1, 10, 15), schedule.previous(time(2024, 3, 1, 10, 15).plusSeconds(1)));
+        assertEquals(time(2025, 1, 1, 0, 0), schedule.next(time(2024, 12, 31, 23, 45)));
+        assertEquals(time(2024, 12, 31, 23, 45), schedule.previous(time(2025, 1, 1, 0, 0)));
+        assertTrue(schedule.matches(time(2024, 3, 1, 10, 30)));
+        assertFalse(schedule.matches(time(2024, 3, 1, 10, 31)));
+
+        schedule = CronSchedule.parse("0 9 * * MON-FRI");
+        assertEquals(time(2024, 3, 4, 9, 0), schedule.next(time(2024, 3, 1, 9, 0))); // friday -> monday
+        assertEquals(time(2024, 3, 1, 9, 0), schedule.previous(time(2024, 3, 4, 8, 59)));
+
+        schedule = CronSchedule.parse("30 8,17 1-5 jan,jul ?");
+        assertEquals(time(2024, 7, 1, 8, 30), schedule.next(time(2024, 1, 5, 17, 30)));
+        assertEquals(time(2024, 1, 5, 17, 30), schedule.previous(time(2024, 7, 1, 8, 30)));
+    }
+
+
+    /**
+     * Test the day of month and day of week
+     */
+    @Test
+    public void testDays() {
+        CronSchedule schedule = CronSchedule.parse("0 0 29 2 *");
+        assertEquals(time(2028, 2, 29, 0, 0), schedule.next(time(2024, 2, 29, 0, 0)));
+        assertEquals(time(2024, 2, 29, 0, 0), schedule.previous(time(2028, 2, 29, 0, 0)));
+
+        // the day of month or the day of week
+        schedule = CronSchedule.parse("0 0 13 * 5");
+        assertEquals(time(2024, 9, 6, 0, 0), schedule.next(time(2024, 9, 1, 0, 0))); // friday
+        assertEquals(time(2024, 9, 13, 0, 0), schedule.next(time(2024, 9, 6, 0, 0)));
+        assertEquals(time(2024, 9, 20, 0, 0), schedule.next(time(2024, 9, 13, 0, 0)));
+
+        // 0 and 7 are sunday
+        assertEquals(CronSchedule.parse("0 0 * * 0").next(time(2024, 9, 2, 0, 0)), CronSchedule.parse("0 0 * * 7").next(time(2024, 9, 2, 0, 0)));
+        assertEquals(time(2024, 9, 8, 0, 0), CronSchedule.parse("0 0 * * SUN").next(time(2024, 9, 2, 0, 0)));
+
+        // never
+        assertNull(CronSchedule.parse("0 0 31 2 *").next(time(2024, 1, 1, 0, 0)));
+        assertNull(CronSchedule.parse("0 0 30 2 *").previous(time(2024, 1, 1, 0, 0)));
+    }
+
+
+    /**
+     * Test the time zone
+     */
+    @Test
+    public void testTimeZone() {
+        ZoneId zone = ZoneId.of("Europe/Zurich");
+        CronSchedule schedule = CronSchedule.parse("30 2 * * *");
+
+        // 2:30 doesn't exist at the 31.3.2024
+        ZonedDateTime next = schedule.next(ZonedDateTime.of(2024, 3, 31, 0, 0, 0, 0, zone));
+        assertNotNull(next);
+        assertTrue(next.isAfter(ZonedDateTime.of(2024, 3, 31, 0, 0, 0, 0, zone)));
+        assertEquals(ZonedDateTime.of(2024, 4, 1, 2, 30, 0, 0, zone), schedule.next(next));
+    }
+
+
+    /**
+     * Test invalid expressions
+     */
+    @Test
+    public void testInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse(null));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("* * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 * * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse(" * * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("60 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("* 24 * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("* * 0 * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("* * * 13 *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("* * * * 8"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("5-1 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("*/0 * * * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("1,,2 * * * *"));
+
+        // valid entries, which can't be compiled
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 0 L * ?"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 0 15W * *"));
+        assertThrows(IllegalArgumentException.class, () -> CronSchedule.parse("0 0 * * 5#3"));
+    }
+
+
+    /**
+     * Test the schedule cache
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testCache() throws Exception {
+        assertNull(CronUtil.getInstance().getSchedule(null));
+        assertNull(CronUtil.getInstance().getCachedSchedule("0 12 * * *"));
+
+        // a compiled schedule is only cached by put
+        CronSchedule schedule = CronUtil.getInstance().getSchedule("0 12 * * *");
+        assertNull(CronUtil.getInstance().getCachedSchedule("0 12 * * *"));
+        assertSame(schedule, CronUtil.getInstance().putSchedule("0 12 * * *", schedule));
+        assertSame(schedule, CronUtil.getInstance().putSchedule("0 12 * * *", CronSchedule.parse("0 12 * * *")));
+        assertSame(schedule, CronUtil.getInstance().getSchedule(new String("0 12 * * *")));
+        assertSame(schedule, CronUtil.getInstance().getCachedSchedule("0 12 * * *"));
+        assertEquals(CronSchedule.parse("0 12 * * *"), schedule);
+        assertThrows(IllegalArgumentException.class, () -> CronUtil.getInstance().getSchedule("0 0 L * ?"));
+        assertNull(CronUtil.getInstance().getCachedSchedule("0 0 L * ?"));
+
+        assertEquals("0 12 * * *", StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.CRON, "0 12 * * *"));
+        assertEquals("0 0 L * ?", StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.CRON, "0 0 L * ?"));
+
+        assertSame(schedule, new EnumConfigurationValue<String>("0 12 * * *", Arrays.asList("0 12 * * *")).getCronSchedule());
+        assertNull(new EnumConfigurationValue<String>(null, null).getCronSchedule());
+        
+        // the schedule is compiled from the trimmed expression
+        assertEquals(CronSchedule.parse("1 * * * *"), new EnumConfigurationValue<String>("  1 * * * *  ", Arrays.asList("  1 * * * *  ")).getCronSchedule());
+    }
+
+
+    /**
+     * Test that only the schedule of a validated expression is cached
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testCachedScheduleValidation() throws Exception {
+        assertNotNull(CronUtil.getInstance().getSchedule("*/5 * * * *"));
+        assertNull(CronUtil.getInstance().getCachedSchedule("*/5 * * * *"));
+        CronSchedule schedule = new EnumConfigurationValue<String>("*/5 * * * *", Arrays.asList("*/5 * * * *")).getCronSchedule();
+        assertSame(schedule, CronUtil.getInstance().getCachedSchedule("*/5 * * * *"));
+        assertSame(schedule, new EnumConfigurationValue<String>("*/5 * * * *", Arrays.asList("*/5 * * * *")).getCronSchedule());
+
+        DefaultStringTypConverter converter = new DefaultStringTypConverter() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.converter.impl.AbstractStringTypeConverter#getCronFieldPattern()
+             */
+            @Override
+            protected Pattern getCronFieldPattern() {
+                return Pattern.compile("[0-9*]+");
+            }
+        };
+        
+        assertEquals("0 * * * *", converter.convert(EnumKeyValueConfigurationDataType.CRON, "0 * * * *"));
+        assertThrows(ValidationException.class, () -> converter.convert(EnumKeyValueConfigurationDataType.CRON, "*/5 * * * *"));
+
+        // the typed access validates an expression which is not cached
+        assertThrows(IllegalArgumentException.class, () -> new EnumConfigurationValue<String>("* *", Arrays.asList("* *")).getCronSchedule());
+        assertNull(CronUtil.getInstance().getCachedSchedule("* *"));
+    }
+
+
+    /**
+     * Create a time in UTC
+     *
+     * @param year the year
+     * @param month the month
+     * @param day the day
+     * @param hour the hour
+     * @param minute the minute
+     * @return the time
+     */
+    private static ZonedDateTime time(int year, int month, int day, int hour, int minute) {
+        return ZonedDateTime.of(year, month, day, hour, minute, 0, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * DerivedDataCacheTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link DerivedDataCache}.
+ *
+ * @author patrick
+ */
+public class DerivedDataCacheTest {
+
+    /**
+     * Test the derived data is bound to the identity and the modification count of the source
+     */
+    @Test
+    public void testDerivedData() {
+        DerivedDataCache<EnumKeyValueConfiguration, String> cache = new DerivedDataCache<EnumKeyValueConfiguration, String>(10);
+        EnumKeyValueConfiguration enumKeyValueConfiguration = new EnumKeyValueConfiguration();
+        enumKeyValueConfiguration.setKey("KEY");
+        String derivedData = "derived";
+        cache.put(enumKeyValueConfiguration, enumKeyValueConfiguration.getModificationCount(), derivedData);
+        assertSame(derivedData, cache.get(enumKeyValueConfiguration, enumKeyValueConfiguration.getModificationCount()));
+
+        // an equal configuration is a different source
+        EnumKeyValueConfiguration copy = new EnumKeyValueConfiguration(enumKeyValueConfiguration);
+        assertEquals(enumKeyValueConfiguration, copy);
+        assertNull(cache.get(copy, copy.getModificationCount()));
+
+        // a change of the source or of its sizing changes the modification count
+        long modificationCount = enumKeyValueConfiguration.getModificationCount();
+        enumKeyValueConfiguration.setDefaultValue("default");
+        assertNotEquals(modificationCount, enumKeyValueConfiguration.getModificationCount());
+        assertNull(cache.get(enumKeyValueConfiguration, enumKeyValueConfiguration.getModificationCount()));
+        modificationCount = enumKeyValueConfiguration.getModificationCount();
+        enumKeyValueConfiguration.getCardinality().setMaxSize(2);
+        assertNotEquals(modificationCount, enumKeyValueConfiguration.getModificationCount());
+
+        cache.remove(enumKeyValueConfiguration);
+        assertEquals(0, cache.size());
+    }
+
+
+    /**
+     * Test the cache is bounded
+     */
+    @Test
+    public void testMaxSize() {
+        // a small cache has only one segment
+        DerivedDataCache<Object, String> cache = new DerivedDataCache<Object, String>(10);
+        Object[] sources = new Object[200];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = new Object();
+            cache.put(sources[i], 0, "" + i);
+        }
+
+        assertEquals(10, cache.size());
+        assertEquals("199", cache.get(sources[199], 0));
+        assertNull(cache.get(sources[0], 0));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertNull(new DerivedDataCache<Object, String>(0).get(sources[0], 0));
+    }
+}
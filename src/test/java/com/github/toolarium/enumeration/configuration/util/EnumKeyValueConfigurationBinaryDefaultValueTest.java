@@ -0,0 +1,143 @@
+/*
+ * EnumKeyValueConfigurationBinaryDefaultValueTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationBinaryObject;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.store.exception.EnumConfigurationStoreException;
+import com.github.toolarium.enumeration.configuration.store.impl.PropertiesEnumConfigurationStore;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link EnumKeyValueConfigurationBinaryDefaultValue}.
+ *
+ * @author patrick
+ */
+public class EnumKeyValueConfigurationBinaryDefaultValueTest {
+    private static final String DEFAULT_VALUE = "refName|2036-03-15T08:59:22.123Z|{refMime-type}VGV4dAo=";
+    private static final String VALUE = "{mime-type}ICBteSBmaWxlIGNvbnRlbnQgIA==";
+
+
+    /**
+     * Test merge
+     */
+    @Test
+    public void testMerge() {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, DEFAULT_VALUE);
+        EnumKeyValueConfigurationBinaryDefaultValue binaryDefaultValue = new EnumKeyValueConfigurationBinaryDefaultValue(enumKeyValueConfiguration);
+
+        String mergedValue = binaryDefaultValue.merge(VALUE);
+        assertEquals(new EnumKeyValueConfigurationBinaryObject("refName", Instant.parse("2036-03-15T08:59:22.123Z"), "mime-type", "ICBteSBmaWxlIGNvbnRlbnQgIA=="),
+                     EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(mergedValue));
+        assertEquals(mergedValue, EnumKeyValueConfigurationBinaryObjectParser.getInstance().mergeDefaultValues(enumKeyValueConfiguration, VALUE));
+
+        // the merged value is kept as long as the raw value is the same
+        assertSame(mergedValue, binaryDefaultValue.merge(VALUE));
+        assertSame(mergedValue, binaryDefaultValue.merge(new String(VALUE)));
+
+        String otherMergedValue = binaryDefaultValue.merge("name|" + VALUE);
+        assertEquals(new EnumKeyValueConfigurationBinaryObject("name", Instant.parse("2036-03-15T08:59:22.123Z"), "mime-type", "ICBteSBmaWxlIGNvbnRlbnQgIA=="),
+                     EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(otherMergedValue));
+        assertEquals(mergedValue, binaryDefaultValue.merge(VALUE));
+
+        // the default value and null are not merged
+        assertSame(DEFAULT_VALUE, binaryDefaultValue.merge(DEFAULT_VALUE));
+        assertNull(binaryDefaultValue.merge(null));
+    }
+
+
+    /**
+     * Test valid
+     */
+    @Test
+    public void testValid() {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, DEFAULT_VALUE);
+        EnumKeyValueConfigurationBinaryDefaultValue binaryDefaultValue = new EnumKeyValueConfigurationBinaryDefaultValue(enumKeyValueConfiguration);
+        assertTrue(binaryDefaultValue.isValid(enumKeyValueConfiguration));
+        assertTrue(binaryDefaultValue.isValid(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, new String(DEFAULT_VALUE))));
+        assertFalse(binaryDefaultValue.isValid(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, VALUE)));
+        assertFalse(binaryDefaultValue.isValid(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, null)));
+        assertFalse(binaryDefaultValue.isValid(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.STRING, DEFAULT_VALUE)));
+        assertFalse(binaryDefaultValue.isValid(null));
+
+        // no binary configuration: the value is not changed
+        binaryDefaultValue = new EnumKeyValueConfigurationBinaryDefaultValue(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.STRING, DEFAULT_VALUE));
+        assertTrue(binaryDefaultValue.isValid(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.STRING, VALUE)));
+        assertSame(VALUE, binaryDefaultValue.merge(VALUE));
+    }
+
+
+    /**
+     * Test invalid value
+     */
+    @Test
+    public void testInvalidValue() {
+        EnumKeyValueConfigurationBinaryDefaultValue binaryDefaultValue = new EnumKeyValueConfigurationBinaryDefaultValue(createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, DEFAULT_VALUE));
+        assertThrows(EnumConfigurationStoreException.class, () -> binaryDefaultValue.merge("name|2021-02-30T08:59:22Z|" + VALUE));
+    }
+
+
+    /**
+     * Test the binary default value is kept by the store and recreated as soon as the default value changes
+     */
+    @Test
+    public void testChangedDefaultValue() {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType.BINARY, DEFAULT_VALUE);
+        BinaryDefaultValueEnumConfigurationStore store = new BinaryDefaultValueEnumConfigurationStore();
+        EnumKeyValueConfigurationBinaryDefaultValue binaryDefaultValue = store.binaryDefaultValue(enumKeyValueConfiguration);
+        assertSame(binaryDefaultValue, store.binaryDefaultValue(enumKeyValueConfiguration));
+        assertNotSame(binaryDefaultValue, store.binaryDefaultValue(new EnumKeyValueConfiguration(enumKeyValueConfiguration)));
+
+        enumKeyValueConfiguration.setDefaultValue("otherName|2036-03-15T08:59:22.123Z|{refMime-type}VGV4dAo=");
+        EnumKeyValueConfigurationBinaryDefaultValue changedBinaryDefaultValue = store.binaryDefaultValue(enumKeyValueConfiguration);
+        assertNotSame(binaryDefaultValue, changedBinaryDefaultValue);
+        assertEquals(new EnumKeyValueConfigurationBinaryObject("otherName", Instant.parse("2036-03-15T08:59:22.123Z"), "mime-type", "ICBteSBmaWxlIGNvbnRlbnQgIA=="),
+                     EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(changedBinaryDefaultValue.merge(VALUE)));
+    }
+
+
+    /**
+     * Create an enum key value configuration
+     *
+     * @param dataType the data type
+     * @param defaultValue the default value
+     * @return the enum key value configuration
+     */
+    private EnumKeyValueConfiguration createEnumKeyValueConfiguration(EnumKeyValueConfigurationDataType dataType, String defaultValue) {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = new EnumKeyValueConfiguration();
+        enumKeyValueConfiguration.setKey("KEY");
+        enumKeyValueConfiguration.setDataType(dataType);
+        enumKeyValueConfiguration.setDefaultValue(defaultValue);
+        return enumKeyValueConfiguration;
+    }
+
+
+    /**
+     * Gives access to the binary default value of the store
+     */
+    private static class BinaryDefaultValueEnumConfigurationStore extends PropertiesEnumConfigurationStore {
+        /**
+         * Get the binary default value
+         *
+         * @param enumKeyValueConfiguration the enum key value configuration
+         * @return the binary default value
+         */
+        EnumKeyValueConfigurationBinaryDefaultValue binaryDefaultValue(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+            return getBinaryDefaultValue(enumKeyValueConfiguration);
+        }
+    }
+}
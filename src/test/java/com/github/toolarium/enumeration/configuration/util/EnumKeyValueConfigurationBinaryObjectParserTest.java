@@ -7,11 +7,13 @@ package com.github.toolarium.enumeration.configuration.util;
 
 import static org.junit.Assert.assertNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationBinaryObject;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import org.junit.jupiter.api.Test;
 
 
@@ -198,6 +200,48 @@ public class EnumKeyValueConfigurationBinaryObjectParserTest {
     }
 
     
+    /**
+     * Test timestamp formats
+     */
+    @Test
+    public void testTimestamp() {
+        Instant timestamp = Instant.parse("2021-03-15T08:59:22Z");
+        assertEqualsBinaryObject(null, timestamp, MIME_TYPE, MESSAGE_ENCODED, "2021-03-15T08:59:22Z" + PIPE + BRACE_START + MIME_TYPE + BRACE_END + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(NAME, timestamp, null, MESSAGE_ENCODED, NAME + PIPE + SPACE + "2021-03-15T08:59:22z" + SPACE + PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(NAME, Instant.parse("2020-02-29T23:59:59.000000001Z"), null, MESSAGE_ENCODED, NAME + PIPE + "2020-02-29T23:59:59.000000001Z" + PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(NAME, null, null, MESSAGE_ENCODED, NAME + PIPE + PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject("2021-03-15.txt", null, null, MESSAGE_ENCODED, "2021-03-15.txt" + PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(NAME, null, null, MESSAGE_ENCODED, NAME + PIPE + "Tuesday" + PIPE + MESSAGE_ENCODED);
+
+        EnumKeyValueConfigurationBinaryObject o = new EnumKeyValueConfigurationBinaryObject(NAME, timestamp, MIME_TYPE, MESSAGE_ENCODED);
+        assertEquals(o, EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(EnumKeyValueConfigurationBinaryObjectParser.getInstance().format(o)));
+        
+        assertThrows(DateTimeParseException.class, () -> EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(NAME + PIPE + "2021-02-30T08:59:22Z" + PIPE + MESSAGE_ENCODED));
+        assertThrows(DateTimeParseException.class, () -> EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(NAME + PIPE + "2021-03-15" + PIPE + MESSAGE_ENCODED));
+
+        // the seconds are mandatory as by Instant.parse
+        assertThrows(DateTimeParseException.class, () -> EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse(NAME + PIPE + "2021-03-15T08:59Z" + PIPE + MESSAGE_ENCODED));
+        assertThrows(DateTimeParseException.class, () -> EnumKeyValueConfigurationBinaryObjectParser.getInstance().parse("2021-03-15T08:59Z" + PIPE + MESSAGE_ENCODED));
+        
+        // only an upper case T separates date and time
+        assertEqualsBinaryObject("2021-03-15t08:59:22Z", null, null, MESSAGE_ENCODED, "2021-03-15t08:59:22Z" + PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(NAME, null, null, MESSAGE_ENCODED, NAME + PIPE + "2021-03-15t08:59:22Z" + PIPE + MESSAGE_ENCODED);
+    }
+
+
+    /**
+     * Test separators
+     */
+    @Test
+    public void testSeparator() {
+        assertEqualsBinaryObject(null, null, null, null, PIPE);
+        assertEqualsBinaryObject(null, null, null, null, SPACE + PIPE + PIPE + SPACE);
+        assertEqualsBinaryObject("", null, null, MESSAGE_ENCODED, PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(NAME, TIMESTAMP, null, MESSAGE_ENCODED, NAME + PIPE + TIMESTAMP_STRING + PIPE + MIME_TYPE + PIPE + MESSAGE_ENCODED);
+        assertEqualsBinaryObject(null, null, null, BRACE_START + MIME_TYPE + MESSAGE_ENCODED, BRACE_START + MIME_TYPE + MESSAGE_ENCODED);
+    }
+
+    
     /**
      * Assert
      *
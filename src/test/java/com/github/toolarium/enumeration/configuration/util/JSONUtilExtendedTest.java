@@ -10,6 +10,11 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.jupiter.api.Test;
@@ -110,4 +115,56 @@ public class JSONUtilExtendedTest {
         assertNotNull(result);
         assertTrue(result.isEmpty());
     }
+
+
+    /**
+     * Test the streaming parse of a JSON array
+     */
+    @Test
+    public void testParse() {
+        List<String> result = new ArrayList<String>();
+        assertEquals(4, JSONUtil.getInstance().parse(" [\"a\", 1, null, true] ", e -> result.add(e)));
+        assertEquals(Arrays.asList("a", "1", null, "true"), result);
+
+        result.clear();
+        assertEquals(2, JSONUtil.getInstance().parse("[\"a\", \"b\", \"c\"]", e -> result.add(e) && result.size() < 2));
+        assertEquals(Arrays.asList("a", "b"), result);
+
+        result.clear();
+        assertEquals(1, JSONUtil.getInstance().parse("single value", e -> result.add(e)));
+        assertEquals(Arrays.asList("single value"), result);
+        assertEquals(0, JSONUtil.getInstance().parse("  ", e -> result.add(e)));
+
+        assertThrows(IllegalArgumentException.class, () -> JSONUtil.getInstance().parse("[\"a\", [\"b\"]]", e -> true));
+        assertThrows(IllegalArgumentException.class, () -> JSONUtil.getInstance().parse("[\"a\", ", e -> true));
+        assertThrows(IllegalArgumentException.class, () -> JSONUtil.getInstance().parse("{\"a\": 1}]", e -> true));
+    }
+
+
+    /**
+     * Test the converted JSON array is the same as the pretty printed JSON
+     *
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testConvertSameAsPrettyPrinted() throws IOException {
+        List<String> list = Arrays.asList("hello \"world\"", "back\\slash", "new\nline", "tab\t", "\u00e4\u20ac", "</script>");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        JSONUtil.getInstance().write(list, outputStream);
+        assertEquals(outputStream.toString(StandardCharsets.UTF_8), JSONUtil.getInstance().convert(list));
+        assertEquals("prefix:[ \"a\" ]", JSONUtil.getInstance().convert(Arrays.asList("a", null), new StringBuilder("prefix:")).toString());
+    }
+
+
+    /**
+     * Test the compact write
+     *
+     * @throws IOException In case of an I/O error
+     */
+    @Test
+    public void testWriteCompact() throws IOException {
+        StringWriter writer = new StringWriter();
+        JSONUtil.getInstance().writeCompact(Arrays.asList("a", "b"), writer);
+        assertEquals("[\"a\",\"b\"]", writer.toString());
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * RegExpUtilTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.converter.StringTypeConverterFactory;
+import com.github.toolarium.enumeration.configuration.converter.impl.DefaultStringTypConverter;
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
+import com.github.toolarium.enumeration.configuration.store.IEnumConfigurationValue;
+import com.github.toolarium.enumeration.configuration.store.dto.EnumConfigurationValue;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link RegExpUtil}.
+ *
+ * @author patrick
+ */
+public class RegExpUtilTest {
+
+    /**
+     * Test the pattern cache
+     */
+    @Test
+    public void testPattern() {
+        assertNull(RegExpUtil.getInstance().getPattern(null));
+        assertNull(RegExpUtil.getInstance().getCachedPattern("^[a-c]+[0-9]$"));
+
+        // a compiled pattern is only cached by put
+        Pattern pattern = RegExpUtil.getInstance().getPattern("^[a-c]+[0-9]$");
+        assertTrue(pattern.matcher("abc1").matches());
+        assertNull(RegExpUtil.getInstance().getCachedPattern("^[a-c]+[0-9]$"));
+        assertSame(pattern, RegExpUtil.getInstance().putPattern("^[a-c]+[0-9]$", pattern));
+        assertSame(pattern, RegExpUtil.getInstance().putPattern("^[a-c]+[0-9]$", Pattern.compile("^[a-c]+[0-9]$")));
+        assertSame(pattern, RegExpUtil.getInstance().getPattern(new String("^[a-c]+[0-9]$")));
+        assertSame(pattern, RegExpUtil.getInstance().getCachedPattern("^[a-c]+[0-9]$"));
+        assertThrows(PatternSyntaxException.class, () -> RegExpUtil.getInstance().getPattern("[b-"));
+        assertNull(RegExpUtil.getInstance().getCachedPattern("[b-"));
+    }
+
+
+    /**
+     * Test that a validated expression is cached
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testConvert() throws Exception {
+        String value = StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.REGEXP, "^[d-f]*$");
+        assertEquals("^[d-f]*$", value);
+        Pattern pattern = RegExpUtil.getInstance().getCachedPattern("^[d-f]*$");
+        assertNotNull(pattern);
+
+        IEnumConfigurationValue<String> configurationValue = new EnumConfigurationValue<String>("[\"^[d-f]*$\", \"^x$\"]", Arrays.asList("^[d-f]*$", "^x$"));
+        assertSame(pattern, configurationValue.getPattern());
+
+        List<Pattern> patternList = configurationValue.getPatternList();
+        assertEquals(2, patternList.size());
+        assertSame(pattern, patternList.get(0));
+        assertTrue(patternList.get(1).matcher("x").matches());
+        assertNull(new EnumConfigurationValue<String>(null, null).getPattern());
+    }
+
+
+    /**
+     * Test that an unsafe expression is never cached
+     */
+    @Test
+    public void testUnsafeExpression() {
+        assertNotNull(RegExpUtil.getInstance().getPattern("(a+)+$"));
+        assertNull(RegExpUtil.getInstance().getCachedPattern("(a+)+$"));
+
+        assertThrows(ValidationException.class, 
+            () -> StringTypeConverterFactory.getInstance().getStringTypeConverter().convert(EnumKeyValueConfigurationDataType.REGEXP, "(a+)+$"));
+        assertNull(RegExpUtil.getInstance().getCachedPattern("(a+)+$"));
+
+        IEnumConfigurationValue<String> configurationValue = new EnumConfigurationValue<String>("(a+)+$", Arrays.asList("(a+)+$"));
+        assertThrows(PatternSyntaxException.class, () -> configurationValue.getPattern());
+        assertThrows(PatternSyntaxException.class, () -> configurationValue.getPatternList());
+        assertNull(RegExpUtil.getInstance().getCachedPattern("(a+)+$"));
+    }
+
+
+    /**
+     * Test that the guards run only until the pattern is cached
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testCachedExpression() throws Exception {
+        AtomicInteger guardCounter = new AtomicInteger();
+        DefaultStringTypConverter converter = new DefaultStringTypConverter() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.converter.impl.AbstractStringTypeConverter#getNestedQuantifierPattern()
+             */
+            @Override
+            protected Pattern getNestedQuantifierPattern() {
+                guardCounter.incrementAndGet();
+                return super.getNestedQuantifierPattern();
+            }
+        };
+
+        assertEquals("^[g-i]{2}$", converter.convert(EnumKeyValueConfigurationDataType.REGEXP, "^[g-i]{2}$"));
+        assertEquals(1, guardCounter.get());
+        Pattern pattern = RegExpUtil.getInstance().getCachedPattern("^[g-i]{2}$");
+        assertNotNull(pattern);
+
+        assertEquals("^[g-i]{2}$", converter.convert(EnumKeyValueConfigurationDataType.REGEXP, " ^[g-i]{2}$ "));
+        assertEquals(1, guardCounter.get());
+        assertSame(pattern, RegExpUtil.getInstance().getCachedPattern("^[g-i]{2}$"));
+        assertSame(pattern, new EnumConfigurationValue<String>("^[g-i]{2}$", Arrays.asList("^[g-i]{2}$")).getPattern());
+    }
+}
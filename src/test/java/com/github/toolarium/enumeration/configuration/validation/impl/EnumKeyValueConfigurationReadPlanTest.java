@@ -0,0 +1,139 @@
+/*
+ * EnumKeyValueConfigurationReadPlanTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.validation.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfiguration;
+import com.github.toolarium.enumeration.configuration.processor.MyEnumConfiguration;
+import com.github.toolarium.enumeration.configuration.store.impl.PropertiesEnumConfigurationStore;
+import com.github.toolarium.enumeration.configuration.util.EnumUtil;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import java.util.Collection;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the {@link EnumKeyValueConfigurationReadPlan}.
+ *
+ * @author patrick
+ */
+public class EnumKeyValueConfigurationReadPlanTest {
+    private DefaultEnumConfigurationValidator validator = new DefaultEnumConfigurationValidator();
+
+
+    /**
+     * Test the read plan validates as the validator
+     */
+    @Test
+    public void testReadPlan() throws ValidationException {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(MyEnumConfiguration.ARRAY_SAMPLE);
+        EnumKeyValueConfigurationReadPlan readPlan = validator.createReadPlan(enumKeyValueConfiguration);
+        assertNotNull(readPlan);
+
+        Collection<Long> expected = validator.validate(enumKeyValueConfiguration, "[\"1\", \"2\", \"3\"]");
+        Collection<Long> result = readPlan.validate("[\"1\", \"2\", \"3\"]");
+        assertEquals(expected, result);
+
+        ValidationException expectedException = assertThrows(ValidationException.class, () -> validator.validate(enumKeyValueConfiguration, "[\"1\"]"));
+        ValidationException exception = assertThrows(ValidationException.class, () -> readPlan.validate("[\"1\"]"));
+        assertEquals(expectedException.getMessage(), exception.getMessage());
+    }
+
+
+    /**
+     * Test the read plan with enumeration values
+     */
+    @Test
+    public void testReadPlanEnumeration() throws ValidationException {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(MyEnumConfiguration.DELAY_PRECISION_B);
+        EnumKeyValueConfigurationReadPlan readPlan = validator.createReadPlan(enumKeyValueConfiguration);
+        assertEquals(2, readPlan.getEnumerationValues().size());
+        assertEquals("[SECONDS]", readPlan.validate("SECONDS").toString());
+
+        ValidationException exception = assertThrows(ValidationException.class, () -> readPlan.validate("MINUTES"));
+        assertEquals("[input] Invalid enumeration of [input] for intput [\"MINUTES\"], allowed values are: " + readPlan.getEnumerationValues().toString().replace("[", "").replace("]", ""),
+                     exception.getMessage());
+    }
+
+
+    /**
+     * Test the structure is validated by creating the read plan
+     */
+    @Test
+    public void testInvalidStructure() {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(MyEnumConfiguration.DELAY);
+        enumKeyValueConfiguration.setDescription("invalid");
+        assertThrows(ValidationException.class, () -> validator.createReadPlan(enumKeyValueConfiguration));
+    }
+
+
+    /**
+     * Test the read plan is kept by the store and reset as soon as the configuration changes
+     */
+    @Test
+    public void testReadPlanOfChangedConfiguration() throws ValidationException {
+        EnumKeyValueConfiguration enumKeyValueConfiguration = EnumUtil.getInstance().getEnumKeyValueConfigurationAnnotationInformation(MyEnumConfiguration.ARRAY_SAMPLE);
+        ReadPlanEnumConfigurationStore store = new ReadPlanEnumConfigurationStore();
+        EnumKeyValueConfigurationReadPlan readPlan = store.readPlan(validator, enumKeyValueConfiguration);
+        assertSame(readPlan, store.cachedReadPlan(enumKeyValueConfiguration));
+        assertSame(readPlan, store.readPlan(validator, enumKeyValueConfiguration));
+        assertNull(store.cachedReadPlan(new EnumKeyValueConfiguration(enumKeyValueConfiguration)));
+        assertFalse(readPlan.isUniqueness());
+
+        enumKeyValueConfiguration.setUniqueness(true);
+        assertNull(store.cachedReadPlan(enumKeyValueConfiguration));
+        EnumKeyValueConfigurationReadPlan changedReadPlan = store.readPlan(validator, enumKeyValueConfiguration);
+        assertNotSame(readPlan, changedReadPlan);
+        assertTrue(changedReadPlan.isUniqueness());
+
+        // a change of the sizing changes the configuration as well
+        assertSame(changedReadPlan, store.readPlan(validator, enumKeyValueConfiguration));
+        enumKeyValueConfiguration.getCardinality().setMaxSize(4);
+        assertNull(store.cachedReadPlan(enumKeyValueConfiguration));
+        assertNotSame(changedReadPlan, store.readPlan(validator, enumKeyValueConfiguration));
+
+        enumKeyValueConfiguration.setDescription("invalid");
+        assertNull(store.cachedReadPlan(enumKeyValueConfiguration));
+        assertThrows(ValidationException.class, () -> store.readPlan(validator, enumKeyValueConfiguration));
+    }
+
+
+    /**
+     * Gives access to the read plan of the store
+     */
+    private static class ReadPlanEnumConfigurationStore extends PropertiesEnumConfigurationStore {
+        /**
+         * Get the read plan
+         *
+         * @param enumConfigurationValidator the enum configuration validator
+         * @param enumKeyValueConfiguration the enum key value configuration
+         * @return the read plan
+         * @throws ValidationException In case of an invalid enum key value configuration
+         */
+        EnumKeyValueConfigurationReadPlan readPlan(AbstractEnumConfigurationValidator enumConfigurationValidator, EnumKeyValueConfiguration enumKeyValueConfiguration) throws ValidationException {
+            return getReadPlan(enumConfigurationValidator, enumKeyValueConfiguration);
+        }
+
+
+        /**
+         * Get the cached read plan
+         *
+         * @param enumKeyValueConfiguration the enum key value configuration
+         * @return the read plan or null
+         */
+        EnumKeyValueConfigurationReadPlan cachedReadPlan(EnumKeyValueConfiguration enumKeyValueConfiguration) {
+            return getCachedReadPlan(enumKeyValueConfiguration);
+        }
+    }
+}
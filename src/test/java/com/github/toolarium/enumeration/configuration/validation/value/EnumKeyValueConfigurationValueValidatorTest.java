@@ -6,14 +6,23 @@
 package com.github.toolarium.enumeration.configuration.validation.value;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.github.toolarium.enumeration.configuration.dto.EnumConfigurationComplianceResult;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationDataType;
 import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
 import com.github.toolarium.enumeration.configuration.validation.EmptyValueException;
 import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import com.github.toolarium.enumeration.configuration.validation.value.impl.CertificateEnumKeyValueConfigurationValueValidator;
+import com.github.toolarium.enumeration.configuration.validation.value.impl.DateEnumKeyValueConfigurationValueValidator;
+import com.github.toolarium.enumeration.configuration.validation.value.impl.DoubleEnumKeyValueConfigurationValueValidator;
+import com.github.toolarium.enumeration.configuration.validation.value.impl.NumberEnumKeyValueConfigurationValueValidator;
 import com.github.toolarium.enumeration.configuration.validation.value.impl.StringEnumKeyValueConfigurationValueValidator;
+import com.github.toolarium.enumeration.configuration.validation.value.impl.TimestampEnumKeyValueConfigurationValueValidator;
+import java.time.Instant;
+import java.time.LocalDate;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -66,6 +75,52 @@ public class EnumKeyValueConfigurationValueValidatorTest {
     }
     
 
+    /**
+     * Test the bounds which are resolved once per value size
+     * 
+     * @throws EmptyValueException In case of an empty value
+     * @throws ValidationException In case of a validation error 
+     */
+    @Test
+    public void testValidationBounds() throws EmptyValueException, ValidationException {
+        NumberEnumKeyValueConfigurationValueValidator numberValidator = new NumberEnumKeyValueConfigurationValueValidator();
+        EnumKeyValueConfigurationSizing<Number> numberSize = numberValidator.createValueSize("-5", "10");
+        assertEquals(Long.valueOf(-5L), numberValidator.validateValue(numberSize, "-5"));
+        assertEquals(Long.valueOf(10L), numberValidator.validateValue(numberSize, "10"));
+        Assertions.assertThrows(ValidationException.class, () -> numberValidator.validateValue(numberSize, "-6"));
+        Assertions.assertThrows(ValidationException.class, () -> numberValidator.validateValue(numberSize, "11"));
+
+        // a change resets the bounds
+        numberSize.setMaxSize(20L);
+        assertEquals(Long.valueOf(20L), numberValidator.validateValue(numberSize, "20"));
+
+        // the bounds are bound to the validator
+        EnumKeyValueConfigurationSizing<Number> stringSize = new EnumKeyValueConfigurationSizing<Number>(2L, 3L);
+        assertEquals("abc", new StringEnumKeyValueConfigurationValueValidator().validateValue(stringSize, "abc"));
+        Assertions.assertThrows(ValidationException.class, () -> new CertificateEnumKeyValueConfigurationValueValidator().validateValue(stringSize, "-- my certificate --"));
+
+        DoubleEnumKeyValueConfigurationValueValidator doubleValidator = new DoubleEnumKeyValueConfigurationValueValidator();
+        EnumKeyValueConfigurationSizing<Double> doubleSize = doubleValidator.createValueSize("0.5", "1.5");
+        assertEquals(Double.valueOf(1.5), doubleValidator.validateValue(doubleSize, "1.5"));
+        Assertions.assertThrows(ValidationException.class, () -> doubleValidator.validateValue(doubleSize, "0.4"));
+        Assertions.assertThrows(ValidationException.class, () -> doubleValidator.validateValue(doubleSize, "1.6"));
+
+        // the value is truncated to milliseconds
+        TimestampEnumKeyValueConfigurationValueValidator timestampValidator = new TimestampEnumKeyValueConfigurationValueValidator();
+        EnumKeyValueConfigurationSizing<Instant> timestampSize = new EnumKeyValueConfigurationSizing<Instant>(Instant.parse("2021-03-15T10:00:00.0005Z"), Instant.parse("2021-03-15T11:00:00.0005Z"));
+        Assertions.assertThrows(ValidationException.class, () -> timestampValidator.validateValue(timestampSize, "2021-03-15T10:00:00.000Z"));
+        assertEquals(Instant.parse("2021-03-15T10:00:00.001Z"), timestampValidator.validateValue(timestampSize, "2021-03-15T10:00:00.001Z"));
+        assertEquals(Instant.parse("2021-03-15T11:00:00.000Z"), timestampValidator.validateValue(timestampSize, "2021-03-15T11:00:00.000Z"));
+        Assertions.assertThrows(ValidationException.class, () -> timestampValidator.validateValue(timestampSize, "2021-03-15T11:00:00.001Z"));
+        assertNotNull(timestampValidator.validateValue(timestampValidator.createValueSize(null, "2021-03-15T11:00:00.000Z"), "2021-03-15T11:00:00.000Z"));
+        
+        DateEnumKeyValueConfigurationValueValidator dateValidator = new DateEnumKeyValueConfigurationValueValidator();
+        EnumKeyValueConfigurationSizing<LocalDate> dateSize = dateValidator.createValueSize("2021-03-15", "2021-03-16");
+        assertEquals(LocalDate.of(2021, 3, 16), dateValidator.validateValue(dateSize, "2021-03-16"));
+        Assertions.assertThrows(ValidationException.class, () -> dateValidator.validateValue(dateSize, "2021-03-17"));
+    }
+    
+
     /**
      * Test compliance of sizing
      *
@@ -120,4 +175,30 @@ public class EnumKeyValueConfigurationValueValidatorTest {
             assertEquals(value, result.isValid(), str + ":" + result.getReason());
         }
     }
+
+
+    /**
+     * Test the registration of a validator
+     */
+    @Test
+    public void testRegister() {
+        EnumKeyValueConfigurationValueValidatorFactory factory = EnumKeyValueConfigurationValueValidatorFactory.getInstance();
+        for (EnumKeyValueConfigurationDataType dataType : EnumKeyValueConfigurationDataType.values()) {
+            assertNotNull(factory.getEnumKeyValueConfigurationValueValidator(dataType));
+            assertSame(factory.getEnumKeyValueConfigurationValueValidator(dataType), factory.getEnumKeyValueConfigurationValueValidator(dataType));
+        }
+        assertNull(factory.getEnumKeyValueConfigurationValueValidator(null));
+        
+        IEnumKeyConfigurationValueValidator<?, ?> defaultValidator = factory.getEnumKeyValueConfigurationValueValidator(EnumKeyValueConfigurationDataType.STRING);
+        StringEnumKeyValueConfigurationValueValidator validator = new StringEnumKeyValueConfigurationValueValidator();
+        try {
+            assertSame(defaultValidator, factory.register(EnumKeyValueConfigurationDataType.STRING, validator));
+            assertSame(validator, factory.getEnumKeyValueConfigurationValueValidator(EnumKeyValueConfigurationDataType.STRING));
+        } finally {
+            assertSame(validator, factory.register(EnumKeyValueConfigurationDataType.STRING, null));
+        }
+
+        assertEquals(defaultValidator.getClass(), factory.getEnumKeyValueConfigurationValueValidator(EnumKeyValueConfigurationDataType.STRING).getClass());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factory.register(null, validator));
+    }
 }
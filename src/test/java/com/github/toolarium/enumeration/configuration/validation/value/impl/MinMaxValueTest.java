@@ -0,0 +1,123 @@
+/*
+ * MinMaxValueTest.java
+ *
+ * Copyright by toolarium, all rights reserved.
+ */
+package com.github.toolarium.enumeration.configuration.validation.value.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.toolarium.enumeration.configuration.dto.EnumKeyValueConfigurationSizing;
+import com.github.toolarium.enumeration.configuration.validation.ValidationException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Test the min / max value of the validators, also in case a subclass returns a plain {@link AbstractEnumKeyValueConfigurationValueValidator.MinMaxValue}.
+ *
+ * @author patrick
+ */
+public class MinMaxValueTest {
+
+    /**
+     * Test the min / max value is resolved once per value size and validator
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testValidationBounds() throws Exception {
+        NumberEnumKeyValueConfigurationValueValidator numberValidator = new NumberEnumKeyValueConfigurationValueValidator();
+        EnumKeyValueConfigurationSizing<Number> numberSize = numberValidator.createValueSize("-5", "10");
+        assertNull(numberValidator.getValidationBounds(numberSize));
+        assertEquals(Long.valueOf(-5L), numberValidator.validateValue(numberSize, "-5"));
+        Object validationBounds = numberValidator.getValidationBounds(numberSize);
+        assertNotNull(validationBounds);
+        assertEquals(Long.valueOf(10L), numberValidator.validateValue(numberSize, "10"));
+        assertSame(validationBounds, numberValidator.getValidationBounds(numberSize));
+
+        // a change of the value size resolves the bounds again
+        numberSize.setMaxSize(20L);
+        assertNull(numberValidator.getValidationBounds(numberSize));
+        assertEquals(Long.valueOf(20L), numberValidator.validateValue(numberSize, "20"));
+        assertNotSame(validationBounds, numberValidator.getValidationBounds(numberSize));
+
+        // the bounds are bound to the validator
+        EnumKeyValueConfigurationSizing<Number> stringSize = new EnumKeyValueConfigurationSizing<Number>(2L, 3L);
+        StringEnumKeyValueConfigurationValueValidator stringValidator = new StringEnumKeyValueConfigurationValueValidator();
+        assertEquals("abc", stringValidator.validateValue(stringSize, "abc"));
+        assertNotNull(stringValidator.getValidationBounds(stringSize));
+        assertNull(new StringEnumKeyValueConfigurationValueValidator().getValidationBounds(stringSize));
+    }
+
+
+    /**
+     * Test a date validator with plain min / max values
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testPlainDateMinMaxValue() throws Exception {
+        DateEnumKeyValueConfigurationValueValidator dateValidator = new DateEnumKeyValueConfigurationValueValidator() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.validation.value.impl.DateEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.time.LocalDate, java.lang.String, java.time.LocalDate)
+             */
+            @Override
+            protected MinMaxValue<LocalDate> createMinMaxValue(String minOriginal, LocalDate min, String maxOriginal, LocalDate max) {
+                return new MinMaxValue<LocalDate>(minOriginal, min, maxOriginal, max);
+            }
+        };
+
+        EnumKeyValueConfigurationSizing<LocalDate> dateSize = dateValidator.createValueSize("2021-03-15", "2021-03-16");
+        assertEquals(LocalDate.of(2021, 3, 16), dateValidator.validateValue(dateSize, "2021-03-16"));
+        assertTrue(dateValidator.getValidationBounds(dateSize) instanceof AbstractEnumKeyValueConfigurationValueValidator.LongMinMaxValue);
+        Object validationBounds = dateValidator.getValidationBounds(dateSize);
+        assertThrows(ValidationException.class, () -> dateValidator.validateValue(dateSize, "2021-03-17"));
+        assertThrows(ValidationException.class, () -> dateValidator.validateValue(dateSize, "2021-03-14"));
+        assertSame(validationBounds, dateValidator.getValidationBounds(dateSize));
+    }
+
+
+    /**
+     * Test a number and double validator with plain min / max values
+     *
+     * @throws Exception In case of an error
+     */
+    @Test
+    public void testPlainNumberMinMaxValue() throws Exception {
+        NumberEnumKeyValueConfigurationValueValidator numberValidator = new NumberEnumKeyValueConfigurationValueValidator() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.validation.value.impl.NumberEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Number, java.lang.String, java.lang.Number)
+             */
+            @Override
+            protected MinMaxValue<Number> createMinMaxValue(String minOriginal, Number min, String maxOriginal, Number max) {
+                return new MinMaxValue<Number>(minOriginal, min, maxOriginal, max);
+            }
+        };
+
+        EnumKeyValueConfigurationSizing<Number> numberSize = numberValidator.createValueSize("1", "10");
+        assertEquals(Long.valueOf(10L), numberValidator.validateValue(numberSize, "10"));
+        assertThrows(ValidationException.class, () -> numberValidator.validateValue(numberSize, "11"));
+
+        DoubleEnumKeyValueConfigurationValueValidator doubleValidator = new DoubleEnumKeyValueConfigurationValueValidator() {
+            /**
+             * @see com.github.toolarium.enumeration.configuration.validation.value.impl.DoubleEnumKeyValueConfigurationValueValidator#createMinMaxValue(java.lang.String, java.lang.Double, java.lang.String, java.lang.Double)
+             */
+            @Override
+            protected MinMaxValue<Double> createMinMaxValue(String minOriginal, Double min, String maxOriginal, Double max) {
+                return new MinMaxValue<Double>(minOriginal, min, maxOriginal, max);
+            }
+        };
+
+        EnumKeyValueConfigurationSizing<Double> doubleSize = doubleValidator.createValueSize("0.5", "1.5");
+        assertEquals(Double.valueOf(1.5), doubleValidator.validateValue(doubleSize, "1.5"));
+        assertThrows(ValidationException.class, () -> doubleValidator.validateValue(doubleSize, "1.6"));
+        assertTrue(doubleValidator.getValidationBounds(doubleSize) instanceof AbstractEnumKeyValueConfigurationValueValidator.DoubleMinMaxValue);
+    }
+}